@@ -0,0 +1,10 @@
+package me.namila.service.auth.common.domain;
+
+/**
+ * Kind of change carried by an aggregate change event.
+ */
+public enum ChangeType {
+    CREATED,
+    UPDATED,
+    DELETED
+}
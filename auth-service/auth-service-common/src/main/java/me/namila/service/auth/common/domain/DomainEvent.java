@@ -0,0 +1,33 @@
+package me.namila.service.auth.common.domain;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Base interface for all domain events raised by aggregates.
+ * Events are registered on the aggregate and dispatched after the surrounding
+ * transaction commits.
+ */
+public interface DomainEvent {
+    
+    /**
+     * Get the type of aggregate that raised the event (e.g., "User", "Role").
+     * 
+     * @return the aggregate type
+     */
+    String aggregateType();
+    
+    /**
+     * Get the identifier of the aggregate that raised the event.
+     * 
+     * @return the aggregate ID
+     */
+    UUID aggregateId();
+    
+    /**
+     * Get the time at which the event occurred.
+     * 
+     * @return the event timestamp
+     */
+    Instant occurredAt();
+}
@@ -0,0 +1,47 @@
+package me.namila.service.auth.common.domain;
+
+import me.namila.service.auth.common.json.LazyJsonMap;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Helpers for building the immutable collections held by frozen read views.
+ * Collections that are already immutable are returned unchanged, so freezing
+ * a view twice, or building one view from another, does not copy again.
+ */
+public final class FrozenCollections {
+    
+    private FrozenCollections() {
+    }
+    
+    /**
+     * @param values The values to freeze, may be null
+     * @return A compact immutable set, never null
+     */
+    public static <T> Set<T> set(Collection<T> values) {
+        return values == null || values.isEmpty() ? Set.of() : Set.copyOf(values);
+    }
+    
+    /**
+     * @param values The values to freeze, may be null
+     * @return A compact immutable list, never null
+     */
+    public static <T> List<T> list(Collection<T> values) {
+        return values == null || values.isEmpty() ? List.of() : List.copyOf(values);
+    }
+    
+    /**
+     * Freeze a JSON attribute map, the same way domain objects store them.
+     * Lazy JSON maps are already immutable and are kept undecoded.
+     *
+     * @param values The map to freeze, may be null
+     * @return An immutable map, never null
+     * @see LazyJsonMap#copyOf(Map)
+     */
+    public static Map<String, Object> map(Map<String, Object> values) {
+        return LazyJsonMap.copyOf(values);
+    }
+}
@@ -0,0 +1,45 @@
+package me.namila.service.auth.common.dto;
+
+import java.util.Locale;
+
+/**
+ * How a paginated query reports the total number of elements.
+ * Exact counts cost a full {@code COUNT(*)} per page; large tables should use
+ * {@link #ESTIMATED} or {@link #NONE} for interactive listings.
+ */
+public enum CountMode {
+    
+    /**
+     * Run an exact count query alongside the page query.
+     */
+    EXACT,
+    
+    /**
+     * Report the database planner's row estimate instead of counting.
+     */
+    ESTIMATED,
+    
+    /**
+     * Skip counting; fetch one extra row to tell whether a next page exists.
+     */
+    NONE;
+    
+    /**
+     * Parse a count mode, case-insensitively.
+     * 
+     * @param value the mode name, may be null or blank
+     * @return the matching mode, EXACT when no value is given
+     * @throws IllegalArgumentException if the value names no mode
+     */
+    public static CountMode from(String value) {
+        if (value == null || value.isBlank()) {
+            return EXACT;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("Unsupported count mode: " + value
+                    + " (expected exact, estimated or none)", ex);
+        }
+    }
+}
@@ -2,6 +2,7 @@ package me.namila.service.auth.common.dto;
 
 import java.util.List;
 import java.util.function.Function;
+import java.util.function.LongSupplier;
 
 /**
  * Utility class for mapping Spring Data Page objects to PagedResponse.
@@ -46,7 +47,7 @@ public final class PageMapper {
                 .map(mapper)
                 .toList();
         
-        return new PagedResponse<>(
+        PagedResponse<T> mapped = new PagedResponse<>(
                 mappedContent,
                 source.getPage(),
                 source.getSize(),
@@ -56,6 +57,44 @@ public final class PageMapper {
                 source.isLast(),
                 source.isEmpty()
         );
+        mapped.setHasNext(source.isHasNext());
+        mapped.setCountMode(source.getCountMode());
+        return mapped;
+    }
+    
+    /**
+     * Resolve the total to report for a page fetched with one extra probe row, according to
+     * the count mode. Only the supplier the mode needs is invoked, and neither is invoked once
+     * the last page has been reached, because its items already give the exact total. An
+     * estimate is raised to at least what the current page proves exists.
+     * 
+     * @param pageNumber the current page number (0-based)
+     * @param pageSize the size of the page
+     * @param pageItems the number of items on the current page, excluding the probe row
+     * @param hasNext whether the probe row showed a next page
+     * @param countMode how the total is reported, EXACT when null
+     * @param exactCount supplies the exact total, used for EXACT
+     * @param estimatedCount supplies the estimated total, used for ESTIMATED
+     * @return the total, or {@link PagedResponse#UNKNOWN_TOTAL} for NONE
+     */
+    public static long resolveTotal(
+            int pageNumber,
+            int pageSize,
+            int pageItems,
+            boolean hasNext,
+            CountMode countMode,
+            LongSupplier exactCount,
+            LongSupplier estimatedCount) {
+        boolean lastPageReached = !hasNext && (pageNumber == 0 || pageItems > 0);
+        long seen = (long) pageNumber * pageSize + pageItems;
+        
+        return switch (countMode != null ? countMode : CountMode.EXACT) {
+            case EXACT -> lastPageReached ? seen : exactCount.getAsLong();
+            case ESTIMATED -> lastPageReached
+                    ? seen
+                    : Math.max(estimatedCount.getAsLong(), hasNext ? seen + 1 : 0);
+            case NONE -> PagedResponse.UNKNOWN_TOTAL;
+        };
     }
     
     /**
@@ -13,6 +13,7 @@ public class PageRequest {
     private int page;
     private int size;
     private String sort;
+    private CountMode countMode = CountMode.EXACT;
     
     /**
      * Default constructor with default values.
@@ -45,6 +46,19 @@ public class PageRequest {
         this.sort = sort;
     }
     
+    /**
+     * Constructor with page, size, sort, and count mode.
+     * 
+     * @param page the page number (0-based)
+     * @param size the page size
+     * @param sort the sort specification (e.g., "createdAt,desc")
+     * @param countMode how the total number of elements is reported
+     */
+    public PageRequest(int page, int size, String sort, CountMode countMode) {
+        this(page, size, sort);
+        setCountMode(countMode);
+    }
+    
     /**
      * Create a PageRequest with default values.
      * 
@@ -77,6 +91,19 @@ public class PageRequest {
         return new PageRequest(page, size, sort);
     }
     
+    /**
+     * Create a PageRequest with specified page, size, sort, and count mode.
+     * 
+     * @param page the page number
+     * @param size the page size
+     * @param sort the sort specification
+     * @param countMode how the total number of elements is reported
+     * @return a new PageRequest
+     */
+    public static PageRequest of(int page, int size, String sort, CountMode countMode) {
+        return new PageRequest(page, size, sort, countMode);
+    }
+    
     // Getters and Setters
     
     public int getPage() {
@@ -103,6 +130,14 @@ public class PageRequest {
         this.sort = sort;
     }
     
+    public CountMode getCountMode() {
+        return countMode;
+    }
+    
+    public void setCountMode(CountMode countMode) {
+        this.countMode = countMode != null ? countMode : CountMode.EXACT;
+    }
+    
     /**
      * Check if sorting is specified.
      * 
@@ -118,6 +153,7 @@ public class PageRequest {
                 "page=" + page +
                 ", size=" + size +
                 ", sort='" + sort + '\'' +
+                ", countMode=" + countMode +
                 '}';
     }
 }
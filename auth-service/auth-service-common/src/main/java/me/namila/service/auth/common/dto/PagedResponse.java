@@ -10,6 +10,11 @@ import java.util.List;
  */
 public class PagedResponse<T> {
     
+    /**
+     * Value of totalElements and totalPages when the page was fetched without counting.
+     */
+    public static final int UNKNOWN_TOTAL = -1;
+    
     private List<T> content;
     private int page;
     private int size;
@@ -18,6 +23,8 @@ public class PagedResponse<T> {
     private boolean first;
     private boolean last;
     private boolean empty;
+    private boolean hasNext;
+    private CountMode countMode = CountMode.EXACT;
     
     /**
      * Default constructor.
@@ -47,6 +54,7 @@ public class PagedResponse<T> {
         this.first = first;
         this.last = last;
         this.empty = empty;
+        this.hasNext = !last;
     }
     
     /**
@@ -144,6 +152,22 @@ public class PagedResponse<T> {
         this.empty = empty;
     }
     
+    public boolean isHasNext() {
+        return hasNext;
+    }
+    
+    public void setHasNext(boolean hasNext) {
+        this.hasNext = hasNext;
+    }
+    
+    public CountMode getCountMode() {
+        return countMode;
+    }
+    
+    public void setCountMode(CountMode countMode) {
+        this.countMode = countMode;
+    }
+    
     @Override
     public String toString() {
         return "PagedResponse{" +
@@ -154,6 +178,8 @@ public class PagedResponse<T> {
                 ", first=" + first +
                 ", last=" + last +
                 ", empty=" + empty +
+                ", hasNext=" + hasNext +
+                ", countMode=" + countMode +
                 ", contentSize=" + (content != null ? content.size() : 0) +
                 '}';
     }
@@ -0,0 +1,130 @@
+package me.namila.service.auth.common.json;
+
+import java.util.AbstractMap;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Read-only map over a raw JSON document that is only parsed on first access.
+ * JSON columns are loaded into this type so request paths that never touch
+ * metadata never pay for parsing it. The map is immutable, so domain getters and
+ * setters share it as-is (see {@link #copyOf(Map)}) and it is only decoded when
+ * an entry is actually read. Maps that did not come from the database are frozen
+ * on the same path, so a JSON attribute is read-only whether it was loaded or set.
+ */
+public final class LazyJsonMap extends AbstractMap<String, Object> {
+    
+    private final String rawJson;
+    private final Function<String, Map<String, Object>> decoder;
+    private volatile Map<String, Object> decoded;
+    
+    public LazyJsonMap(String rawJson, Function<String, Map<String, Object>> decoder) {
+        this.rawJson = Objects.requireNonNull(rawJson, "rawJson");
+        this.decoder = Objects.requireNonNull(decoder, "decoder");
+    }
+    
+    /**
+     * Copy a map for storage in a domain object.
+     * Lazy maps are immutable and returned unchanged so they stay undecoded;
+     * any other map is copied into an immutable map. JSON documents may hold null
+     * values, which {@link Map#copyOf(Map)} rejects, so those are wrapped in an
+     * unmodifiable copy instead.
+     *
+     * @param map The map to copy, may be null
+     * @return An immutable map safe to store, never null
+     */
+    public static Map<String, Object> copyOf(Map<String, Object> map) {
+        if (map instanceof LazyJsonMap) {
+            return map;
+        }
+        if (map == null || map.isEmpty()) {
+            return Map.of();
+        }
+        if (hasNullValue(map)) {
+            return Collections.unmodifiableMap(new HashMap<>(map));
+        }
+        return Map.copyOf(map);
+    }
+    
+    // containsValue(null) throws on the JDK immutable maps, so scan explicitly
+    private static boolean hasNullValue(Map<String, Object> map) {
+        for (Object value : map.values()) {
+            if (value == null) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    /**
+     * @return The JSON document exactly as loaded
+     */
+    public String rawJson() {
+        return rawJson;
+    }
+    
+    public boolean isDecoded() {
+        return decoded != null;
+    }
+    
+    private Map<String, Object> decoded() {
+        Map<String, Object> result = decoded;
+        if (result == null) {
+            synchronized (this) {
+                result = decoded;
+                if (result == null) {
+                    Map<String, Object> parsed = decoder.apply(rawJson);
+                    result = parsed != null ? Collections.unmodifiableMap(parsed) : Map.of();
+                    decoded = result;
+                }
+            }
+        }
+        return result;
+    }
+    
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        return decoded().entrySet();
+    }
+    
+    @Override
+    public Object get(Object key) {
+        return decoded().get(key);
+    }
+    
+    @Override
+    public boolean containsKey(Object key) {
+        return decoded().containsKey(key);
+    }
+    
+    @Override
+    public int size() {
+        return decoded().size();
+    }
+    
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        // Two undecoded documents with the same text are equal without parsing either
+        if (other instanceof LazyJsonMap lazy && !isDecoded() && !lazy.isDecoded() && rawJson.equals(lazy.rawJson)) {
+            return true;
+        }
+        return super.equals(other);
+    }
+    
+    @Override
+    public int hashCode() {
+        return super.hashCode();
+    }
+    
+    @Override
+    public String toString() {
+        return isDecoded() ? decoded.toString() : rawJson;
+    }
+}
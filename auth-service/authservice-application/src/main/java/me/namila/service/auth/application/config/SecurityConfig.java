@@ -4,6 +4,7 @@ import lombok.RequiredArgsConstructor;
 import me.namila.service.auth.application.security.JwtAuthenticationFilter;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
@@ -19,12 +20,31 @@ import java.util.List;
 
 /**
  * Spring Security configuration for JWT authentication and CORS.
+ * Endpoints that need more than an authenticated caller guard themselves with {@code @PreAuthorize}.
  */
 @Configuration
 @EnableWebSecurity
+@EnableMethodSecurity
 @RequiredArgsConstructor
 public class SecurityConfig {
     
+    /**
+     * Expression for endpoints reserved to administrators; role names are granted as {@code ROLE_<name>}.
+     */
+    public static final String ADMIN = "hasRole('admin')";
+    
+    /**
+     * Expression for endpoints a user may call on themselves, and an administrator on anyone;
+     * the guarded method must take the target user as a {@code userId} parameter.
+     */
+    public static final String SELF_OR_ADMIN = ADMIN + " or #userId == authentication.principal";
+    
+    /**
+     * Expression for RFC 7662 introspection, open to protected resources holding a client
+     * credentials token with the {@code introspect} scope.
+     */
+    public static final String INTROSPECTION = "hasAuthority('SCOPE_introspect')";
+    
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
     
     @Bean
@@ -36,6 +56,7 @@ public class SecurityConfig {
             .authorizeHttpRequests(auth -> auth
                 .requestMatchers(
                     "/api/v1/auth/**",
+                    "/oauth2/token",
                     "/swagger-ui/**",
                     "/swagger-ui.html",
                     "/v3/api-docs/**",
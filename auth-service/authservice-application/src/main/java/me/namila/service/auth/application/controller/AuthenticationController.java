@@ -1,19 +1,34 @@
 package me.namila.service.auth.application.controller;
 
+import java.util.UUID;
+
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import jakarta.servlet.http.HttpServletRequest;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import me.namila.service.auth.domain.application.auth.dto.request.OIDCCallbackRequest;
 import me.namila.service.auth.domain.application.auth.dto.request.OIDCInitiateRequest;
+import me.namila.service.auth.domain.application.auth.dto.request.PasswordLoginRequest;
+import me.namila.service.auth.domain.application.auth.dto.request.RefreshTokenRequest;
+import me.namila.service.auth.domain.application.auth.dto.request.RevokeTokenRequest;
 import me.namila.service.auth.domain.application.auth.dto.response.AuthenticationResponse;
+import me.namila.service.auth.domain.application.auth.dto.response.ClaimDictionarySetResponse;
+import me.namila.service.auth.domain.application.auth.dto.response.TokenResponse;
+import me.namila.service.auth.domain.application.auth.service.ClaimDictionaryService;
 import me.namila.service.auth.domain.application.auth.service.OIDCAuthenticationService;
+import me.namila.service.auth.domain.application.auth.service.PasswordAuthenticationService;
+import me.namila.service.auth.domain.application.auth.service.TokenRevocationService;
+import me.namila.service.auth.domain.application.auth.service.TokenService;
+import me.namila.service.auth.application.security.DPoPProofValidator;
+import me.namila.service.auth.application.security.JwtTokenProvider;
 import me.namila.service.auth.common.api.ApiResponse;
 
 @RestController
@@ -23,6 +38,12 @@ import me.namila.service.auth.common.api.ApiResponse;
 public class AuthenticationController {
 
     private final OIDCAuthenticationService authenticationService;
+    private final PasswordAuthenticationService passwordAuthenticationService;
+    private final TokenService tokenService;
+    private final TokenRevocationService tokenRevocationService;
+    private final ClaimDictionaryService claimDictionaryService;
+    private final JwtTokenProvider tokenProvider;
+    private final DPoPProofValidator proofValidator;
 
     @PostMapping("/oidc/initiate")
     @Operation(summary = "Initiate OIDC authentication", description = "Generates the authorization URL for the specified provider")
@@ -32,10 +53,55 @@ public class AuthenticationController {
     }
 
     @PostMapping("/oidc/callback")
-    @Operation(summary = "Handle OIDC callback", description = "Exchanges authorization code for tokens and performs JIT provisioning")
+    @Operation(summary = "Handle OIDC callback", description = "Exchanges authorization code for tokens and performs JIT provisioning; with a DPoP proof the tokens are bound to its key")
     public ResponseEntity<ApiResponse<AuthenticationResponse>> handleOIDCCallback(
-            @Valid @RequestBody OIDCCallbackRequest request) {
-        AuthenticationResponse response = authenticationService.handleCallback(request);
+            @Valid @RequestBody OIDCCallbackRequest request, HttpServletRequest httpRequest) {
+        AuthenticationResponse response = authenticationService.handleCallback(request,
+            proofValidator.confirmationKey(httpRequest));
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    @PostMapping("/password/login")
+    @Operation(summary = "Password login", description = "Authenticates a user with a local password; for break-glass and service users without an identity provider")
+    public ResponseEntity<ApiResponse<AuthenticationResponse>> passwordLogin(
+            @Valid @RequestBody PasswordLoginRequest request, HttpServletRequest httpRequest) {
+        AuthenticationResponse response = passwordAuthenticationService.login(request,
+            proofValidator.confirmationKey(httpRequest));
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    @PostMapping("/token/refresh")
+    @Operation(summary = "Refresh access token", description = "Exchanges a refresh token for a new access and refresh token; the presented refresh token can not be used again")
+    public ResponseEntity<ApiResponse<TokenResponse>> refreshToken(@Valid @RequestBody RefreshTokenRequest request,
+                                                                   HttpServletRequest httpRequest) {
+        TokenResponse response = tokenService.refresh(request.refreshToken(),
+            proofValidator.confirmationKey(httpRequest));
         return ResponseEntity.ok(ApiResponse.success(response));
     }
+
+    @PostMapping("/token/revoke")
+    @Operation(summary = "Revoke access token", description = "Revokes an access token before it expires; invalid or unknown tokens are accepted and ignored")
+    public ResponseEntity<ApiResponse<Void>> revokeToken(@Valid @RequestBody RevokeTokenRequest request) {
+        tokenProvider.parseClaims(request.token()).ifPresent(claims -> {
+            UUID jti = JwtTokenProvider.getTokenId(claims);
+            if (jti != null) {
+                tokenRevocationService.revokeToken(jti, UUID.fromString(claims.getSubject()),
+                    claims.getExpiration().toInstant(), null);
+            }
+        });
+        return ResponseEntity.ok(ApiResponse.success(null, "Token revoked"));
+    }
+
+    @PostMapping("/logout")
+    @Operation(summary = "Logout", description = "Revokes the refresh token and every token rotated from the same login")
+    public ResponseEntity<ApiResponse<Void>> logout(@Valid @RequestBody RefreshTokenRequest request) {
+        tokenService.logout(request.refreshToken());
+        return ResponseEntity.ok(ApiResponse.success(null, "Logged out"));
+    }
+
+    @GetMapping("/claim-dictionaries")
+    @Operation(summary = "Get claim dictionaries", description = "Publishes the role and permission dictionaries compact entitlement claims are encoded with, newest first")
+    public ResponseEntity<ApiResponse<ClaimDictionarySetResponse>> getClaimDictionaries() {
+        return ResponseEntity.ok(ApiResponse.success(claimDictionaryService.getDictionaries()));
+    }
 }
@@ -0,0 +1,155 @@
+package me.namila.service.auth.application.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import jakarta.servlet.http.HttpServletRequest;
+import me.namila.service.auth.application.config.SecurityConfig;
+import me.namila.service.auth.application.security.DPoPProofValidator;
+import me.namila.service.auth.application.security.TokenExchanger;
+import me.namila.service.auth.application.security.TokenIntrospector;
+import me.namila.service.auth.domain.application.auth.dto.request.BatchIntrospectionRequest;
+import me.namila.service.auth.domain.application.auth.dto.response.BatchIntrospectionResponse;
+import me.namila.service.auth.domain.application.auth.dto.response.ClientTokenResponse;
+import me.namila.service.auth.domain.application.auth.dto.response.IntrospectionResponse;
+import me.namila.service.auth.domain.application.auth.dto.response.TokenExchangeResponse;
+import me.namila.service.auth.domain.application.auth.service.ClientCredentialsService;
+import me.namila.service.auth.domain.core.exception.DomainException;
+import me.namila.service.auth.domain.core.exception.InvalidClientException;
+import me.namila.service.auth.domain.core.identity.model.ServiceAccountAggregate;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * OAuth 2.0 protocol endpoints. Responses follow the RFCs and are not wrapped in
+ * {@code ApiResponse}. The token endpoint authenticates clients by their credentials for
+ * every grant, with HTTP Basic or client_id/client_secret form parameters; the introspection
+ * endpoints expect a client token carrying the {@code introspect} scope. A token request carrying a DPoP proof is issued a token bound to the proof's key.
+ */
+@RestController
+@RequestMapping("/oauth2")
+@RequiredArgsConstructor
+@Tag(name = "OAuth 2.0", description = "OAuth 2.0 protocol endpoints")
+public class OAuth2Controller {
+
+    private static final String CLIENT_CREDENTIALS = "client_credentials";
+    private static final String TOKEN_EXCHANGE = "urn:ietf:params:oauth:grant-type:token-exchange";
+    private static final String BASIC_PREFIX = "Basic ";
+    
+    private final TokenIntrospector tokenIntrospector;
+    private final ClientCredentialsService clientCredentialsService;
+    private final TokenExchanger tokenExchanger;
+    private final DPoPProofValidator proofValidator;
+    
+    @PostMapping(value = "/token", consumes = MediaType.APPLICATION_FORM_URLENCODED_VALUE,
+        params = "grant_type=" + CLIENT_CREDENTIALS)
+    @Operation(summary = "Issue client token", description = "RFC 6749 client credentials grant; the client authenticates with HTTP Basic or client_id/client_secret form parameters")
+    public ResponseEntity<ClientTokenResponse> clientCredentials(
+            @RequestParam(value = "scope", required = false) String scope,
+            @RequestParam(value = "client_id", required = false) String clientId,
+            @RequestParam(value = "client_secret", required = false) String clientSecret,
+            @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization,
+            HttpServletRequest request) {
+        String[] credentials = clientCredentials(authorization, clientId, clientSecret);
+        return ResponseEntity.ok()
+            .cacheControl(CacheControl.noStore())
+            .header(HttpHeaders.PRAGMA, "no-cache")
+            .body(clientCredentialsService.issueToken(credentials[0], credentials[1], scope,
+                proofValidator.confirmationKey(request)));
+    }
+    
+    @PostMapping(value = "/token", consumes = MediaType.APPLICATION_FORM_URLENCODED_VALUE,
+        params = "grant_type=" + TOKEN_EXCHANGE)
+    @Operation(summary = "Exchange token", description = "RFC 8693 token exchange; the client authenticates like the client credentials grant and is issued a token restricted to one of its allowed audiences and a subset of the subject token's scopes")
+    public ResponseEntity<TokenExchangeResponse> tokenExchange(
+            @RequestParam("subject_token") String subjectToken,
+            @RequestParam("subject_token_type") String subjectTokenType,
+            @RequestParam(value = "audience", required = false) String audience,
+            @RequestParam(value = "scope", required = false) String scope,
+            @RequestParam(value = "requested_token_type", required = false) String requestedTokenType,
+            @RequestParam(value = "client_id", required = false) String clientId,
+            @RequestParam(value = "client_secret", required = false) String clientSecret,
+            @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization,
+            HttpServletRequest request) {
+        String[] credentials = clientCredentials(authorization, clientId, clientSecret);
+        ServiceAccountAggregate client = clientCredentialsService.authenticateClient(credentials[0], credentials[1]);
+        if (requestedTokenType != null && !TokenExchanger.ACCESS_TOKEN_TYPE.equals(requestedTokenType)) {
+            throw new DomainException("INVALID_REQUEST", "Unsupported requested token type: " + requestedTokenType);
+        }
+        return ResponseEntity.ok()
+            .cacheControl(CacheControl.noStore())
+            .header(HttpHeaders.PRAGMA, "no-cache")
+            .body(tokenExchanger.exchange(client, subjectToken, subjectTokenType, audience, scope,
+                proofValidator.confirmationKey(request)));
+    }
+    
+    @PostMapping(value = "/token", consumes = MediaType.APPLICATION_FORM_URLENCODED_VALUE)
+    @Operation(summary = "Unsupported grant", description = "Rejects grant types this endpoint does not implement")
+    public ResponseEntity<Void> unsupportedGrant(@RequestParam("grant_type") String grantType) {
+        throw new DomainException("UNSUPPORTED_GRANT_TYPE", "Unsupported grant type: " + grantType);
+    }
+    
+    @PostMapping(value = "/introspect", consumes = MediaType.APPLICATION_FORM_URLENCODED_VALUE)
+    @PreAuthorize(SecurityConfig.INTROSPECTION)
+    @Operation(summary = "Introspect token", description = "RFC 7662 token introspection; invalid, expired, revoked or blocked tokens are reported as inactive")
+    public ResponseEntity<IntrospectionResponse> introspect(
+            @RequestParam("token") String token,
+            @RequestParam(value = "token_type_hint", required = false) String tokenTypeHint) {
+        return ResponseEntity.ok()
+            .cacheControl(CacheControl.noStore())
+            .body(tokenIntrospector.introspect(token));
+    }
+
+    @PostMapping("/introspect/batch")
+    @PreAuthorize(SecurityConfig.INTROSPECTION)
+    @Operation(summary = "Introspect tokens in batch", description = "Introspects up to 100 tokens; results are returned in request order")
+    public ResponseEntity<BatchIntrospectionResponse> introspectBatch(@Valid @RequestBody BatchIntrospectionRequest request) {
+        return ResponseEntity.ok()
+            .cacheControl(CacheControl.noStore())
+            .body(BatchIntrospectionResponse.builder()
+                .results(tokenIntrospector.introspectAll(request.tokens()))
+                .build());
+    }
+    
+    /**
+     * Take the client credentials from HTTP Basic if present, otherwise from the form parameters.
+     */
+    private static String[] clientCredentials(String authorization, String clientId, String clientSecret) {
+        return authorization != null && authorization.startsWith(BASIC_PREFIX)
+            ? basicCredentials(authorization.substring(BASIC_PREFIX.length()))
+            : new String[] {clientId, clientSecret};
+    }
+    
+    /**
+     * Decode HTTP Basic client credentials; RFC 6749 form-encodes both parts before base64.
+     */
+    private static String[] basicCredentials(String encoded) {
+        try {
+            String decoded = new String(Base64.getDecoder().decode(encoded.trim()), StandardCharsets.UTF_8);
+            int separator = decoded.indexOf(':');
+            if (separator <= 0) {
+                throw new InvalidClientException();
+            }
+            return new String[] {
+                URLDecoder.decode(decoded.substring(0, separator), StandardCharsets.UTF_8),
+                URLDecoder.decode(decoded.substring(separator + 1), StandardCharsets.UTF_8)
+            };
+        } catch (IllegalArgumentException ex) {
+            throw new InvalidClientException();
+        }
+    }
+}
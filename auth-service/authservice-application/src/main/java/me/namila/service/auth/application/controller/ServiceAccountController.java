@@ -0,0 +1,102 @@
+package me.namila.service.auth.application.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import me.namila.service.auth.application.config.SecurityConfig;
+import me.namila.service.auth.domain.application.identity.dto.request.CreateServiceAccountRequest;
+import me.namila.service.auth.domain.application.identity.dto.response.ServiceAccountResponse;
+import me.namila.service.auth.domain.application.identity.dto.response.ServiceAccountSecretResponse;
+import me.namila.service.auth.domain.application.identity.service.ServiceAccountApplicationService;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.UUID;
+
+/**
+ * REST controller for service account management.
+ * Responses carrying a client secret are marked no-store; the secret is never shown again.
+ * Every endpoint is reserved to administrators, since a rotated secret hands over the account.
+ */
+@RestController
+@RequestMapping("/api/v1/service-accounts")
+@RequiredArgsConstructor
+@PreAuthorize(SecurityConfig.ADMIN)
+@Tag(name = "Service Accounts", description = "APIs for managing machine clients of the client credentials grant")
+public class ServiceAccountController {
+
+    private final ServiceAccountApplicationService serviceAccountService;
+
+    /**
+     * Register a new service account.
+     */
+    @PostMapping
+    @Operation(
+        summary = "Create service account",
+        description = "Registers a service account and returns its client secret once"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "201",
+            description = "Service account created successfully",
+            content = @Content(schema = @Schema(implementation = ServiceAccountSecretResponse.class))
+        ),
+        @ApiResponse(responseCode = "400", description = "Invalid input"),
+        @ApiResponse(responseCode = "409", description = "Client ID already exists")
+    })
+    public ResponseEntity<ServiceAccountSecretResponse> createServiceAccount(
+        @Valid @RequestBody CreateServiceAccountRequest request) {
+        return ResponseEntity.status(HttpStatus.CREATED)
+            .cacheControl(CacheControl.noStore())
+            .body(serviceAccountService.createServiceAccount(request));
+    }
+
+    /**
+     * Get a service account by ID.
+     */
+    @GetMapping("/{accountId}")
+    @Operation(summary = "Get service account", description = "Retrieves a service account; the secret is never returned")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Service account found"),
+        @ApiResponse(responseCode = "404", description = "Service account not found")
+    })
+    public ResponseEntity<ServiceAccountResponse> getServiceAccount(@PathVariable UUID accountId) {
+        return ResponseEntity.ok(serviceAccountService.getServiceAccount(accountId));
+    }
+
+    /**
+     * Rotate a service account's client secret.
+     */
+    @PostMapping("/{accountId}/secret")
+    @Operation(summary = "Rotate client secret", description = "Generates a new client secret; the previous secret stops working")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Secret rotated"),
+        @ApiResponse(responseCode = "404", description = "Service account not found")
+    })
+    public ResponseEntity<ServiceAccountSecretResponse> rotateSecret(@PathVariable UUID accountId) {
+        return ResponseEntity.ok()
+            .cacheControl(CacheControl.noStore())
+            .body(serviceAccountService.rotateSecret(accountId));
+    }
+
+    /**
+     * Disable a service account.
+     */
+    @PostMapping("/{accountId}/disable")
+    @Operation(summary = "Disable service account", description = "Disables the account and revokes every token issued to it")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Service account disabled"),
+        @ApiResponse(responseCode = "404", description = "Service account not found")
+    })
+    public ResponseEntity<ServiceAccountResponse> disableServiceAccount(@PathVariable UUID accountId) {
+        return ResponseEntity.ok(serviceAccountService.disableServiceAccount(accountId));
+    }
+}
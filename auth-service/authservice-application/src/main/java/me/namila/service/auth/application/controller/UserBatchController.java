@@ -0,0 +1,42 @@
+package me.namila.service.auth.application.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import me.namila.service.auth.domain.application.identity.dto.request.BatchGetUsersRequest;
+import me.namila.service.auth.domain.application.identity.dto.response.BatchGetUsersResponse;
+import me.namila.service.auth.domain.application.identity.service.UserApplicationService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST controller for custom-method user endpoints ({@code /api/v1/users:<method>}).
+ * Kept apart from {@link UserController} because its class-level prefix would turn
+ * the colon-suffixed path into a sub-resource.
+ */
+@RestController
+@RequiredArgsConstructor
+@Tag(name = "User Management", description = "APIs for managing users")
+public class UserBatchController {
+    
+    private final UserApplicationService userApplicationService;
+    
+    @PostMapping("/api/v1/users:batchGet")
+    @Operation(summary = "Get users by ID in batch",
+        description = "Resolves up to 500 user IDs with a single query; unknown IDs are reported in notFound")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Lookup completed",
+            content = @Content(schema = @Schema(implementation = BatchGetUsersResponse.class))),
+        @ApiResponse(responseCode = "400", description = "Invalid input")
+    })
+    public ResponseEntity<BatchGetUsersResponse> batchGetUsers(@Valid @RequestBody BatchGetUsersRequest request) {
+        return ResponseEntity.ok(userApplicationService.batchGetUsers(request.getUserIds()));
+    }
+}
@@ -9,20 +9,42 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import me.namila.service.auth.application.config.SecurityConfig;
+import me.namila.service.auth.common.dto.PageRequest;
+import me.namila.service.auth.domain.application.auth.service.TokenRevocationService;
+import me.namila.service.auth.domain.application.common.PageableMapper;
 import me.namila.service.auth.domain.application.dto.response.PagedResponse;
 import me.namila.service.auth.domain.application.identity.dto.request.CreateUserRequest;
+import me.namila.service.auth.domain.application.identity.dto.request.SetPasswordRequest;
 import me.namila.service.auth.domain.application.identity.dto.request.UpdateUserRequest;
 import me.namila.service.auth.domain.application.identity.dto.response.UserDetailResponse;
+import me.namila.service.auth.domain.application.identity.dto.response.UserImportResponse;
 import me.namila.service.auth.domain.application.identity.dto.response.UserResponse;
+import me.namila.service.auth.domain.application.identity.dto.response.UserStatusCountsResponse;
 import me.namila.service.auth.domain.application.identity.dto.response.UserSummaryResponse;
+import me.namila.service.auth.domain.application.identity.exporter.UserExportFormat;
+import me.namila.service.auth.domain.application.identity.service.PasswordCredentialApplicationService;
 import me.namila.service.auth.domain.application.identity.service.UserApplicationService;
-import org.springframework.data.domain.PageRequest;
+import me.namila.service.auth.domain.application.identity.service.UserExportApplicationService;
+import me.namila.service.auth.domain.application.identity.service.UserImportApplicationService;
+import me.namila.service.auth.domain.application.identity.service.UserSearchApplicationService;
+import me.namila.service.auth.domain.application.identity.service.UserStatisticsApplicationService;
+import me.namila.service.auth.domain.core.identity.valueobject.UserStatus;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.InputStream;
+import java.time.LocalDate;
 import java.util.UUID;
 
 /**
@@ -35,6 +57,12 @@ import java.util.UUID;
 public class UserController {
     
     private final UserApplicationService userApplicationService;
+    private final UserImportApplicationService userImportApplicationService;
+    private final UserExportApplicationService userExportApplicationService;
+    private final UserStatisticsApplicationService userStatisticsApplicationService;
+    private final UserSearchApplicationService userSearchApplicationService;
+    private final TokenRevocationService tokenRevocationService;
+    private final PasswordCredentialApplicationService passwordCredentialService;
     
     @PostMapping
     @Operation(summary = "Create a new user", description = "Creates a new user with the provided information")
@@ -80,7 +108,7 @@ public class UserController {
     }
     
     @GetMapping
-    @Operation(summary = "List users", description = "Retrieves a paginated list of users")
+    @Operation(summary = "List users", description = "Retrieves a paginated list of users, optionally filtered by status")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Users retrieved successfully",
             content = @Content(schema = @Schema(implementation = PagedResponse.class)))
@@ -91,19 +119,52 @@ public class UserController {
         @Parameter(description = "Page size", example = "20")
         @RequestParam(defaultValue = "20") int size,
         @Parameter(description = "Sort field and direction", example = "createdAt,desc")
-        @RequestParam(defaultValue = "createdAt,desc") String sort) {
+        @RequestParam(defaultValue = "createdAt,desc") String sort,
+        @Parameter(description = "Only return users in this status", example = "LOCKED")
+        @RequestParam(required = false) UserStatus status,
+        @Parameter(description = "How totals are reported: exact, estimated (planner statistics) or none (hasNext only)",
+            example = "estimated")
+        @RequestParam(defaultValue = "exact") String count) {
         
-        // Parse sort parameter
-        String[] sortParams = sort.split(",");
-        String sortField = sortParams[0];
-        Sort.Direction direction = sortParams.length > 1 && "desc".equalsIgnoreCase(sortParams[1])
-            ? Sort.Direction.DESC : Sort.Direction.ASC;
-        
-        Pageable pageable = PageRequest.of(page, size, Sort.by(direction, sortField));
-        PagedResponse<UserSummaryResponse> response = userApplicationService.listUsers(pageable);
+        PageRequest pageRequest = PageRequest.of(page, size, sort, PageableMapper.toCountMode(count));
+        Pageable pageable = PageableMapper.toPageable(pageRequest);
+        PagedResponse<UserSummaryResponse> response = status != null
+            ? userApplicationService.listUsersByStatus(status, pageable, pageRequest.getCountMode())
+            : userApplicationService.listUsers(pageable, pageRequest.getCountMode());
         return ResponseEntity.ok(response);
     }
     
+    @GetMapping("/search")
+    @Operation(summary = "Search users",
+        description = "Typeahead search over username, email and display name. Matches prefixes, and from three "
+            + "characters also substrings and near spellings, best matches first. Totals are not counted; "
+            + "use hasNext to page.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Matches retrieved successfully",
+            content = @Content(schema = @Schema(implementation = PagedResponse.class))),
+        @ApiResponse(responseCode = "400", description = "Blank or too long query, or invalid page")
+    })
+    public ResponseEntity<PagedResponse<UserSummaryResponse>> searchUsers(
+        @Parameter(description = "Search text", required = true, example = "ali")
+        @RequestParam("q") String query,
+        @Parameter(description = "Page number (0-based)", example = "0")
+        @RequestParam(defaultValue = "0") int page,
+        @Parameter(description = "Page size (at most 100)", example = "10")
+        @RequestParam(defaultValue = "10") int size) {
+        return ResponseEntity.ok(userSearchApplicationService.searchUsers(query, page, size));
+    }
+    
+    @GetMapping("/status-counts")
+    @Operation(summary = "Count users by status",
+        description = "Returns the number of users in each status; results may be up to a few seconds old")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Counts retrieved successfully",
+            content = @Content(schema = @Schema(implementation = UserStatusCountsResponse.class)))
+    })
+    public ResponseEntity<UserStatusCountsResponse> getStatusCounts() {
+        return ResponseEntity.ok(userStatisticsApplicationService.getStatusCounts());
+    }
+    
     @DeleteMapping("/{userId}")
     @Operation(summary = "Delete user", description = "Deletes or deactivates a user")
     @ApiResponses(value = {
@@ -117,6 +178,49 @@ public class UserController {
         return ResponseEntity.noContent().build();
     }
     
+    @PutMapping("/{userId}/password")
+    @PreAuthorize(SecurityConfig.SELF_OR_ADMIN)
+    @Operation(summary = "Set local password",
+        description = "Sets or replaces the user's local password for username and password login; replacing it ends "
+            + "the user's sessions. Users changing their own password must present their current one; "
+            + "administrators may set anyone else's.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "204", description = "Password set"),
+        @ApiResponse(responseCode = "400", description = "Invalid password"),
+        @ApiResponse(responseCode = "401", description = "Current password is wrong"),
+        @ApiResponse(responseCode = "403", description = "Not the user and not an administrator"),
+        @ApiResponse(responseCode = "404", description = "User not found"),
+        @ApiResponse(responseCode = "503", description = "Password hashing is saturated")
+    })
+    public ResponseEntity<Void> setPassword(
+        @Parameter(description = "User ID", required = true)
+        @PathVariable UUID userId,
+        @Valid @RequestBody SetPasswordRequest request,
+        @AuthenticationPrincipal UUID actorId) {
+        if (userId.equals(actorId)) {
+            passwordCredentialService.changeOwnPassword(userId, request);
+        } else {
+            passwordCredentialService.setPassword(userId, request);
+        }
+        return ResponseEntity.noContent().build();
+    }
+    
+    @DeleteMapping("/{userId}/password")
+    @PreAuthorize(SecurityConfig.ADMIN)
+    @Operation(summary = "Remove local password",
+        description = "Removes the user's local password and ends the user's sessions; administrators only")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "204", description = "Password removed"),
+        @ApiResponse(responseCode = "403", description = "Not an administrator"),
+        @ApiResponse(responseCode = "404", description = "User not found")
+    })
+    public ResponseEntity<Void> removePassword(
+        @Parameter(description = "User ID", required = true)
+        @PathVariable UUID userId) {
+        passwordCredentialService.removePassword(userId);
+        return ResponseEntity.noContent().build();
+    }
+    
     @PostMapping("/{userId}/activate")
     @Operation(summary = "Activate user", description = "Activates a user account")
     @ApiResponses(value = {
@@ -130,5 +234,88 @@ public class UserController {
         UserResponse response = userApplicationService.activateUser(userId);
         return ResponseEntity.ok(response);
     }
+    
+    @PostMapping("/{userId}/revoke-tokens")
+    @PreAuthorize(SecurityConfig.SELF_OR_ADMIN)
+    @Operation(summary = "Revoke all tokens of a user",
+        description = "Rejects every access token issued to the user so far and ends all of the user's sessions")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "204", description = "Tokens revoked"),
+        @ApiResponse(responseCode = "403", description = "Not the user and not an administrator")
+    })
+    public ResponseEntity<Void> revokeUserTokens(
+        @Parameter(description = "User ID", required = true)
+        @PathVariable UUID userId,
+        @AuthenticationPrincipal UUID actorId) {
+        tokenRevocationService.revokeAllForUser(userId, actorId);
+        return ResponseEntity.noContent().build();
+    }
+    
+    @PostMapping(value = "/import", consumes = {"application/x-ndjson", "text/csv"})
+    @PreAuthorize(SecurityConfig.ADMIN)
+    @Operation(summary = "Bulk import users",
+        description = "Streams users from NDJSON (one CreateUserRequest per line) or CSV (header with username, "
+            + "email, first_name, last_name, display_name). Invalid and existing users are skipped and listed "
+            + "in a downloadable error report.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Import finished",
+            content = @Content(schema = @Schema(implementation = UserImportResponse.class))),
+        @ApiResponse(responseCode = "400", description = "Unreadable input"),
+        @ApiResponse(responseCode = "403", description = "Not an administrator"),
+        @ApiResponse(responseCode = "415", description = "Unsupported content type")
+    })
+    public ResponseEntity<UserImportResponse> importUsers(
+        @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+        InputStream body) {
+        UserImportResponse response = userImportApplicationService.importUsers(body, contentType);
+        if (response.getInvalid() + response.getDuplicates() > 0) {
+            response.setErrorReportUrl("/api/v1/users/import/" + response.getImportId() + "/errors");
+        }
+        return ResponseEntity.ok(response);
+    }
+    
+    @GetMapping(value = "/import/{importId}/errors", produces = "text/csv")
+    @PreAuthorize(SecurityConfig.ADMIN)
+    @Operation(summary = "Download import error report", description = "Per-row errors of a bulk import as CSV")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Report found"),
+        @ApiResponse(responseCode = "403", description = "Not an administrator"),
+        @ApiResponse(responseCode = "404", description = "Import had no errors or the report has expired")
+    })
+    public ResponseEntity<Resource> getImportErrorReport(
+        @Parameter(description = "Import ID", required = true)
+        @PathVariable UUID importId) {
+        Resource report = new FileSystemResource(userImportApplicationService.getErrorReport(importId));
+        return ResponseEntity.ok()
+            .contentType(MediaType.parseMediaType("text/csv"))
+            .header(HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.attachment().filename("user-import-" + importId + "-errors.csv").build().toString())
+            .body(report);
+    }
+    
+    @GetMapping("/export")
+    @PreAuthorize(SecurityConfig.ADMIN)
+    @Operation(summary = "Export users",
+        description = "Streams every user with profile, federated identities and active roles as NDJSON or CSV, "
+            + "optionally gzipped")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Export streamed"),
+        @ApiResponse(responseCode = "400", description = "Unsupported format"),
+        @ApiResponse(responseCode = "403", description = "Not an administrator")
+    })
+    public ResponseEntity<StreamingResponseBody> exportUsers(
+        @Parameter(description = "Export format (ndjson or csv)", example = "ndjson")
+        @RequestParam(defaultValue = "ndjson") String format,
+        @Parameter(description = "Gzip the export on the fly", example = "false")
+        @RequestParam(defaultValue = "false") boolean gzip) {
+        
+        UserExportFormat exportFormat = UserExportFormat.fromName(format);
+        String filename = "users-" + LocalDate.now() + "." + exportFormat.getFileExtension() + (gzip ? ".gz" : "");
+        StreamingResponseBody body = output -> userExportApplicationService.exportUsers(output, exportFormat, gzip);
+        
+        return ResponseEntity.ok()
+            .contentType(MediaType.parseMediaType(gzip ? "application/gzip" : exportFormat.getContentType()))
+            .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build().toString())
+            .body(body);
+    }
 }
-
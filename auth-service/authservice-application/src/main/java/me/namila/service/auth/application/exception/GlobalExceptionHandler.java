@@ -2,10 +2,17 @@ package me.namila.service.auth.application.exception;
 
 import me.namila.service.auth.domain.core.exception.DomainException;
 import me.namila.service.auth.domain.core.exception.DuplicateEntityException;
+import me.namila.service.auth.domain.core.exception.InvalidClientException;
+import me.namila.service.auth.domain.core.exception.InvalidCredentialsException;
+import me.namila.service.auth.domain.core.exception.InvalidTokenException;
+import me.namila.service.auth.domain.core.exception.ResourceNotFoundException;
 import me.namila.service.auth.domain.core.exception.RoleNotFoundException;
+import me.namila.service.auth.domain.core.exception.ServiceOverloadedException;
 import me.namila.service.auth.domain.core.exception.UserNotFoundException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.AccessDeniedException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -42,6 +49,16 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
     }
     
+    @ExceptionHandler(ResourceNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleResourceNotFoundException(ResourceNotFoundException ex) {
+        ErrorResponse error = ErrorResponse.builder()
+            .errorCode(ex.getErrorCode())
+            .message(ex.getMessage())
+            .timestamp(Instant.now())
+            .build();
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
+    }
+    
     @ExceptionHandler(DuplicateEntityException.class)
     public ResponseEntity<ErrorResponse> handleDuplicateEntityException(DuplicateEntityException ex) {
         ErrorResponse error = ErrorResponse.builder()
@@ -52,6 +69,60 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
     }
     
+    @ExceptionHandler(InvalidTokenException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidTokenException(InvalidTokenException ex) {
+        ErrorResponse error = ErrorResponse.builder()
+            .errorCode(ex.getErrorCode())
+            .message(ex.getMessage())
+            .timestamp(Instant.now())
+            .build();
+        return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(error);
+    }
+    
+    @ExceptionHandler(InvalidCredentialsException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidCredentialsException(InvalidCredentialsException ex) {
+        ErrorResponse error = ErrorResponse.builder()
+            .errorCode(ex.getErrorCode())
+            .message(ex.getMessage())
+            .timestamp(Instant.now())
+            .build();
+        return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(error);
+    }
+    
+    @ExceptionHandler(InvalidClientException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidClientException(InvalidClientException ex) {
+        ErrorResponse error = ErrorResponse.builder()
+            .errorCode(ex.getErrorCode())
+            .message(ex.getMessage())
+            .timestamp(Instant.now())
+            .build();
+        return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+            .header(HttpHeaders.WWW_AUTHENTICATE, "Basic realm=\"oauth2\"")
+            .body(error);
+    }
+    
+    @ExceptionHandler(AccessDeniedException.class)
+    public ResponseEntity<ErrorResponse> handleAccessDeniedException(AccessDeniedException ex) {
+        ErrorResponse error = ErrorResponse.builder()
+            .errorCode("ACCESS_DENIED")
+            .message("Access denied")
+            .timestamp(Instant.now())
+            .build();
+        return ResponseEntity.status(HttpStatus.FORBIDDEN).body(error);
+    }
+    
+    @ExceptionHandler(ServiceOverloadedException.class)
+    public ResponseEntity<ErrorResponse> handleServiceOverloadedException(ServiceOverloadedException ex) {
+        ErrorResponse error = ErrorResponse.builder()
+            .errorCode(ex.getErrorCode())
+            .message(ex.getMessage())
+            .timestamp(Instant.now())
+            .build();
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+            .header(HttpHeaders.RETRY_AFTER, "1")
+            .body(error);
+    }
+    
     @ExceptionHandler(DomainException.class)
     public ResponseEntity<ErrorResponse> handleDomainException(DomainException ex) {
         ErrorResponse error = ErrorResponse.builder()
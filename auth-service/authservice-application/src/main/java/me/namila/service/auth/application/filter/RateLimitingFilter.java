@@ -0,0 +1,273 @@
+package me.namila.service.auth.application.filter;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import me.namila.service.auth.application.exception.ErrorResponse;
+import me.namila.service.auth.domain.application.auth.token.RefreshTokens;
+import me.namila.service.auth.domain.application.port.auth.RateLimiterPort;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * Throttles the login and token endpoints before any authentication work is done.
+ * Every login request is counted against its client IP; OIDC logins are also counted against
+ * their identity provider, and password logins and refreshes against their subject (the
+ * username or the refresh token family), so credential stuffing spread over many addresses
+ * is still slowed down per account. Token endpoint grants are machine traffic that fans out
+ * per downstream call, so they are counted in their own, larger per-IP and per-client buckets.
+ * Keys are read from the first few kilobytes of a JSON body, which are replayed to the
+ * controller; larger bodies are only counted per IP.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+@Slf4j
+public class RateLimitingFilter extends OncePerRequestFilter {
+
+    private static final String AUTH_PATH = "/api/v1/auth/";
+    private static final String TOKEN_PATH = "/oauth2/token";
+    private static final String BASIC_PREFIX = "Basic ";
+    private static final int MAX_INSPECTED_BODY = 8 * 1024;
+
+    private final RateLimiterPort rateLimiter;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final Limit ipLimit;
+    private final Limit providerLimit;
+    private final Limit subjectLimit;
+    private final Limit tokenIpLimit;
+    private final Limit tokenClientLimit;
+
+    public RateLimitingFilter(
+            RateLimiterPort rateLimiter,
+            ObjectMapper objectMapper,
+            @Value("${auth.rate-limit.enabled:true}") boolean enabled,
+            @Value("${auth.rate-limit.ip.limit:60}") int ipLimit,
+            @Value("${auth.rate-limit.ip.window:1m}") Duration ipWindow,
+            @Value("${auth.rate-limit.provider.limit:600}") int providerLimit,
+            @Value("${auth.rate-limit.provider.window:1m}") Duration providerWindow,
+            @Value("${auth.rate-limit.subject.limit:10}") int subjectLimit,
+            @Value("${auth.rate-limit.subject.window:1m}") Duration subjectWindow,
+            @Value("${auth.rate-limit.token.ip.limit:1200}") int tokenIpLimit,
+            @Value("${auth.rate-limit.token.ip.window:1m}") Duration tokenIpWindow,
+            @Value("${auth.rate-limit.token.client.limit:600}") int tokenClientLimit,
+            @Value("${auth.rate-limit.token.client.window:1m}") Duration tokenClientWindow) {
+        this.rateLimiter = rateLimiter;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.ipLimit = new Limit(ipLimit, ipWindow);
+        this.providerLimit = new Limit(providerLimit, providerWindow);
+        this.subjectLimit = new Limit(subjectLimit, subjectWindow);
+        this.tokenIpLimit = new Limit(tokenIpLimit, tokenIpWindow);
+        this.tokenClientLimit = new Limit(tokenClientLimit, tokenClientWindow);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return !enabled
+            || !"POST".equals(request.getMethod())
+            || !(path.startsWith(AUTH_PATH) || path.equals(TOKEN_PATH));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        HttpServletRequest forwarded = request;
+        long retryAfter;
+        if (path.equals(TOKEN_PATH)) {
+            retryAfter = acquire("token:ip:", request.getRemoteAddr(), tokenIpLimit);
+            if (retryAfter == 0) {
+                retryAfter = acquire("token:client:", clientIdOf(request), tokenClientLimit);
+            }
+        } else {
+            retryAfter = rateLimiter.tryAcquire("ip:" + request.getRemoteAddr(), ipLimit.limit(), ipLimit.window());
+            if (retryAfter == 0 && isJson(request)) {
+                CachedBodyRequest cached = new CachedBodyRequest(request);
+                forwarded = cached;
+                JsonNode body = cached.inspect(objectMapper);
+                if (path.startsWith(AUTH_PATH + "oidc/")) {
+                    retryAfter = acquire("provider:", text(body, "providerId"), providerLimit);
+                } else if (path.equals(AUTH_PATH + "password/login")) {
+                    retryAfter = acquire("subject:user:", text(body, "username"), subjectLimit);
+                } else if (path.equals(AUTH_PATH + "token/refresh")) {
+                    retryAfter = acquire("subject:family:", RefreshTokens.familyIdOf(text(body, "refreshToken"))
+                        .map(Object::toString).orElse(null), subjectLimit);
+                }
+            }
+        }
+
+        if (retryAfter > 0) {
+            reject(response, retryAfter);
+            return;
+        }
+        filterChain.doFilter(forwarded, response);
+    }
+
+    private long acquire(String prefix, String value, Limit limit) {
+        if (!StringUtils.hasText(value)) {
+            return 0;
+        }
+        return rateLimiter.tryAcquire(prefix + value.trim().toLowerCase(), limit.limit(), limit.window());
+    }
+
+    private void reject(HttpServletResponse response, long retryAfterMillis) throws IOException {
+        log.debug("Rate limited request, retry after {} ms", retryAfterMillis);
+        ErrorResponse error = ErrorResponse.builder()
+            .errorCode("RATE_LIMITED")
+            .message("Too many requests, please retry later")
+            .timestamp(Instant.now())
+            .build();
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(Math.max(1, (retryAfterMillis + 999) / 1000)));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), error);
+    }
+
+    private static String clientIdOf(HttpServletRequest request) {
+        String authorization = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (authorization != null && authorization.regionMatches(true, 0, BASIC_PREFIX, 0, BASIC_PREFIX.length())) {
+            try {
+                byte[] decoded = Base64.getDecoder().decode(authorization.substring(BASIC_PREFIX.length()).trim());
+                String credentials = new String(decoded, StandardCharsets.UTF_8);
+                int separator = credentials.indexOf(':');
+                return separator >= 0 ? credentials.substring(0, separator) : credentials;
+            } catch (IllegalArgumentException ex) {
+                return null;
+            }
+        }
+        return request.getParameter("client_id");
+    }
+
+    private static boolean isJson(HttpServletRequest request) {
+        String contentType = request.getContentType();
+        return contentType != null && contentType.toLowerCase().contains("json");
+    }
+
+    private static String text(JsonNode body, String field) {
+        JsonNode value = body != null ? body.get(field) : null;
+        return value != null && value.isTextual() ? value.asText() : null;
+    }
+
+    private record Limit(int limit, Duration window) {
+    }
+
+    /**
+     * Holds on to the start of the body so it can be inspected, then hands the controller
+     * the held bytes followed by whatever is left of the original stream, for blocking
+     * and non-blocking reads alike.
+     */
+    private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private byte[] head;
+        private boolean complete;
+        private ServletInputStream replay;
+
+        private CachedBodyRequest(HttpServletRequest request) {
+            super(request);
+        }
+
+        private JsonNode inspect(ObjectMapper objectMapper) throws IOException {
+            head = super.getInputStream().readNBytes(MAX_INSPECTED_BODY + 1);
+            complete = head.length <= MAX_INSPECTED_BODY;
+            if (!complete) {
+                return null;
+            }
+            try {
+                return objectMapper.readTree(head);
+            } catch (IOException ex) {
+                // Malformed bodies are left for the controller to reject
+                return null;
+            }
+        }
+
+        @Override
+        public ServletInputStream getInputStream() throws IOException {
+            if (replay == null) {
+                replay = replayStream();
+            }
+            return replay;
+        }
+
+        private ServletInputStream replayStream() throws IOException {
+            ByteArrayInputStream held = new ByteArrayInputStream(head);
+            ServletInputStream rest = complete ? null : super.getInputStream();
+            return new ServletInputStream() {
+                @Override
+                public int read() throws IOException {
+                    int value = held.read();
+                    return value < 0 && rest != null ? rest.read() : value;
+                }
+
+                @Override
+                public int read(byte[] buffer, int offset, int length) throws IOException {
+                    int count = held.read(buffer, offset, length);
+                    return count < 0 && rest != null ? rest.read(buffer, offset, length) : count;
+                }
+
+                @Override
+                public boolean isFinished() {
+                    return held.available() == 0 && (rest == null || rest.isFinished());
+                }
+
+                @Override
+                public boolean isReady() {
+                    return held.available() > 0 || rest == null || rest.isReady();
+                }
+
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    if (rest != null) {
+                        // The rest of the body is still on the original stream; let the container drive the listener
+                        rest.setReadListener(readListener);
+                        return;
+                    }
+                    // The whole body is held, so it is all available now
+                    try {
+                        if (held.available() > 0) {
+                            readListener.onDataAvailable();
+                        }
+                        if (held.available() == 0) {
+                            readListener.onAllDataRead();
+                        }
+                    } catch (IOException ex) {
+                        readListener.onError(ex);
+                    }
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() throws IOException {
+            String encoding = getCharacterEncoding();
+            return new BufferedReader(new InputStreamReader(getInputStream(),
+                encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8));
+        }
+    }
+}
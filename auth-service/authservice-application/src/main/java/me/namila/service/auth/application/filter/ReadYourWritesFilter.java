@@ -0,0 +1,73 @@
+package me.namila.service.auth.application.filter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import me.namila.service.auth.data.config.ReadYourWritesContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+
+/**
+ * Propagates the read-your-writes consistency token between the client and the data layer.
+ * The token is the commit timestamp of the caller's last write; it is returned in a response
+ * header after a write and echoed back by the client so follow-up reads stay on the primary.
+ * The token is client-controlled, so it is clamped to the last window: a token from the
+ * future would otherwise pin every read of the caller to the primary indefinitely.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@Slf4j
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    public static final String CONSISTENCY_TOKEN_HEADER = "X-Consistency-Token";
+
+    private final long windowMillis;
+    private final Clock clock;
+
+    @Autowired
+    public ReadYourWritesFilter(@Value("${auth.datasource.read-your-writes.window:2s}") Duration window) {
+        this(window, Clock.systemUTC());
+    }
+
+    ReadYourWritesFilter(Duration window, Clock clock) {
+        this.windowMillis = window.toMillis();
+        this.clock = clock;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        String token = request.getHeader(CONSISTENCY_TOKEN_HEADER);
+        if (StringUtils.hasText(token)) {
+            try {
+                long now = clock.millis();
+                long lastWriteAt = Math.min(Long.parseLong(token.trim()), now);
+                if (lastWriteAt > now - windowMillis) {
+                    ReadYourWritesContext.setLastWriteAt(lastWriteAt);
+                }
+            } catch (NumberFormatException ex) {
+                log.debug("Ignoring malformed consistency token: {}", token);
+            }
+        }
+        ReadYourWritesContext.onWrite(committedAt ->
+            response.setHeader(CONSISTENCY_TOKEN_HEADER, Long.toString(committedAt)));
+
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ReadYourWritesContext.clear();
+        }
+    }
+}
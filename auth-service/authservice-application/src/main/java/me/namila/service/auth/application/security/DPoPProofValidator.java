@@ -0,0 +1,167 @@
+package me.namila.service.auth.application.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.LocatorAdapter;
+import io.jsonwebtoken.MalformedJwtException;
+import io.jsonwebtoken.security.PublicJwk;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import me.namila.service.auth.domain.application.port.auth.ProofReplayCachePort;
+import me.namila.service.auth.domain.core.exception.InvalidTokenException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Optional;
+
+/**
+ * RFC 9449 DPoP proof validation. A proof is a JWT signed by the client's own key, which
+ * travels in its jwk header; it names the request it was made for (htm, htu), when it was
+ * made (iat) and, when presented with an access token, that token's hash (ath). Each proof
+ * is accepted once: its jti, qualified by the key's thumbprint, is recorded in the
+ * {@link ProofReplayCachePort} for as long as the proof's iat is inside the window.
+ */
+@Component
+@Slf4j
+public class DPoPProofValidator {
+    
+    /** Request header carrying the proof. */
+    public static final String DPOP_HEADER = "DPoP";
+    
+    private static final String PROOF_TYPE = "dpop+jwt";
+    private static final int MAX_JTI_LENGTH = 256;
+    private static final Base64.Encoder BASE64_URL = Base64.getUrlEncoder().withoutPadding();
+    
+    private final ProofReplayCachePort replayCache;
+    private final Duration proofLifetime;
+    private final Duration clockSkew;
+    private final Clock clock = Clock.systemUTC();
+    private final JwtParser parser;
+    
+    public DPoPProofValidator(
+            ProofReplayCachePort replayCache,
+            @Value("${auth.tokens.dpop.proof-lifetime:60s}") Duration proofLifetime,
+            @Value("${auth.tokens.dpop.clock-skew:5s}") Duration clockSkew) {
+        this.replayCache = replayCache;
+        this.proofLifetime = proofLifetime;
+        this.clockSkew = clockSkew;
+        // The proof is verified with the public key it carries; jjwt rejects a private or symmetric jwk
+        this.parser = Jwts.parser()
+            .keyLocator(new LocatorAdapter<Key>() {
+                @Override
+                protected Key locate(JwsHeader header) {
+                    PublicJwk<?> jwk = header.getJwk();
+                    if (jwk == null) {
+                        throw new MalformedJwtException("DPoP proof has no jwk header");
+                    }
+                    return jwk.toKey();
+                }
+            })
+            .build();
+    }
+    
+    /**
+     * Validate the DPoP proof sent to a token endpoint, if any.
+     * @param request The HTTP request
+     * @return The thumbprint of the proof's key to bind the issued tokens to, or null when no proof was sent
+     * @throws InvalidTokenException if a proof was sent and is not valid for this request
+     */
+    public String confirmationKey(HttpServletRequest request) {
+        String proof = request.getHeader(DPOP_HEADER);
+        if (proof == null) {
+            return null;
+        }
+        return validate(proof, request.getMethod(), request.getRequestURL().toString(), null)
+            .orElseThrow(() -> new InvalidTokenException("DPoP proof"));
+    }
+    
+    /**
+     * Validate a DPoP proof for a request and record it as used.
+     * @param proof The proof JWT
+     * @param method The request method
+     * @param url The request URL without query or fragment
+     * @param accessToken The access token presented with the proof, or null at the token endpoint
+     * @return The JWK SHA-256 thumbprint of the proof's key, or empty if the proof is invalid or replayed
+     */
+    public Optional<String> validate(String proof, String method, String url, String accessToken) {
+        if (proof == null || proof.isBlank()) {
+            return Optional.empty();
+        }
+        Jws<Claims> jws;
+        try {
+            jws = parser.parseSignedClaims(proof);
+        } catch (JwtException | IllegalArgumentException ex) {
+            log.debug("Rejected DPoP proof: {}", ex.getMessage());
+            return Optional.empty();
+        }
+        
+        Claims claims = jws.getPayload();
+        String jti = claims.getId();
+        if (!PROOF_TYPE.equalsIgnoreCase(jws.getHeader().getType())
+                || jti == null || jti.isEmpty() || jti.length() > MAX_JTI_LENGTH
+                || !method.equals(claims.get("htm", String.class))
+                || !url.equals(withoutQuery(claims.get("htu", String.class)))
+                || claims.getIssuedAt() == null) {
+            log.debug("Rejected DPoP proof {} not made for {} {}", jti, method, url);
+            return Optional.empty();
+        }
+        
+        Instant issuedAt = claims.getIssuedAt().toInstant();
+        Instant now = clock.instant();
+        if (issuedAt.isBefore(now.minus(proofLifetime).minus(clockSkew)) || issuedAt.isAfter(now.plus(clockSkew))) {
+            log.debug("Rejected DPoP proof {} issued at {}", jti, issuedAt);
+            return Optional.empty();
+        }
+        if (accessToken != null && !MessageDigest.isEqual(
+                accessTokenHash(accessToken).getBytes(StandardCharsets.US_ASCII),
+                String.valueOf(claims.get("ath")).getBytes(StandardCharsets.US_ASCII))) {
+            log.debug("Rejected DPoP proof {} made for another access token", jti);
+            return Optional.empty();
+        }
+        
+        String thumbprint = jws.getHeader().getJwk().thumbprint().toString();
+        if (!replayCache.markUsed(thumbprint + ":" + jti, issuedAt)) {
+            log.debug("Rejected replayed DPoP proof {}", jti);
+            return Optional.empty();
+        }
+        return Optional.of(thumbprint);
+    }
+    
+    private static String withoutQuery(String htu) {
+        if (htu == null) {
+            return null;
+        }
+        int end = htu.length();
+        int query = htu.indexOf('?');
+        int fragment = htu.indexOf('#');
+        if (query >= 0) {
+            end = query;
+        }
+        if (fragment >= 0 && fragment < end) {
+            end = fragment;
+        }
+        return htu.substring(0, end);
+    }
+    
+    private static String accessTokenHash(String accessToken) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                .digest(accessToken.getBytes(StandardCharsets.US_ASCII));
+            return BASE64_URL.encodeToString(digest);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package me.namila.service.auth.application.security;
+
+import io.jsonwebtoken.Claims;
+import lombok.extern.slf4j.Slf4j;
+import me.namila.service.auth.domain.application.auth.service.ClaimDictionaryService;
+import me.namila.service.auth.domain.application.auth.token.CompactClaims;
+import me.namila.service.auth.domain.application.auth.token.DecodedEntitlements;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Turns the entitlement claims of an access token into Spring Security authorities.
+ * Authorities are interned, and the authority list for a compact claim is cached by
+ * dictionary version and bitmap, so tokens sharing a role set share one immutable list
+ * instead of allocating and decoding it on every request.
+ */
+@Component
+@Slf4j
+public class GrantedAuthorityResolver {
+
+    private static final String ROLE_PREFIX = "ROLE_";
+    private static final String SCOPE_PREFIX = "SCOPE_";
+    private static final String ROLES_CLAIM = "roles";
+
+    private final ClaimDictionaryService claimDictionaryService;
+    private final int maxEntries;
+    private final Map<String, List<GrantedAuthority>> authoritySets = new ConcurrentHashMap<>();
+    private final Map<String, GrantedAuthority> authorities = new ConcurrentHashMap<>();
+
+    public GrantedAuthorityResolver(
+            ClaimDictionaryService claimDictionaryService,
+            @Value("${auth.tokens.compact-claims.authority-cache-size:10000}") int maxEntries) {
+        this.claimDictionaryService = claimDictionaryService;
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * Resolve the authorities granted by a token.
+     * @param claims The validated token claims
+     * @return The authorities; empty if the claims can not be decoded
+     */
+    public List<GrantedAuthority> resolve(Claims claims) {
+        String encoded = claims.get(CompactClaims.ENTITLEMENTS_CLAIM, String.class);
+        if (encoded != null) {
+            return resolveCompact(claims.get(CompactClaims.DICTIONARY_VERSION_CLAIM, String.class), encoded);
+        }
+        Object roles = claims.get(ROLES_CLAIM);
+        if (roles instanceof Collection<?> roleNames) {
+            return resolveRoles(roleNames);
+        }
+        return List.of();
+    }
+
+    /**
+     * Resolve the authorities for a set of role names.
+     * @param roleNames The role names
+     * @return One role authority per name
+     */
+    public List<GrantedAuthority> resolveRoles(Collection<?> roleNames) {
+        List<GrantedAuthority> granted = new ArrayList<>(roleNames.size());
+        roleNames.forEach(role -> granted.add(intern(ROLE_PREFIX + role)));
+        return granted;
+    }
+
+    /**
+     * Resolve the authorities for the scopes of a client credentials token.
+     * @param scope The space separated scopes
+     * @return One scope authority per scope
+     */
+    public List<GrantedAuthority> resolveScopes(String scope) {
+        if (scope == null || scope.isBlank()) {
+            return List.of();
+        }
+        String[] scopes = scope.trim().split("\\s+");
+        List<GrantedAuthority> granted = new ArrayList<>(scopes.length);
+        for (String name : scopes) {
+            granted.add(intern(SCOPE_PREFIX + name));
+        }
+        return granted;
+    }
+    
+    private List<GrantedAuthority> resolveCompact(String version, String encoded) {
+        if (version == null) {
+            return List.of();
+        }
+        String key = version + "." + encoded;
+        List<GrantedAuthority> cached = authoritySets.get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        Optional<DecodedEntitlements> decoded;
+        try {
+            decoded = claimDictionaryService.decode(version, encoded);
+        } catch (IllegalArgumentException ex) {
+            log.warn("Could not decode entitlement claim: {}", ex.getMessage());
+            return List.of();
+        }
+        if (decoded.isEmpty()) {
+            // Not cached: the dictionary may become known on a later reload
+            log.warn("Token names unknown claim dictionary {}", version);
+            return List.of();
+        }
+
+        List<GrantedAuthority> granted = new ArrayList<>();
+        decoded.get().roles().forEach(role -> granted.add(intern(ROLE_PREFIX + role)));
+        decoded.get().permissions().forEach(permission -> granted.add(intern(permission)));
+        List<GrantedAuthority> resolved = List.copyOf(granted);
+        if (authoritySets.size() >= maxEntries) {
+            authoritySets.clear();
+        }
+        authoritySets.put(key, resolved);
+        return resolved;
+    }
+
+    private GrantedAuthority intern(String authority) {
+        GrantedAuthority interned = authorities.get(authority);
+        if (interned != null) {
+            return interned;
+        }
+        if (authorities.size() >= maxEntries) {
+            authorities.clear();
+        }
+        return authorities.computeIfAbsent(authority, SimpleGrantedAuthority::new);
+    }
+}
@@ -4,10 +4,14 @@ import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import me.namila.service.auth.domain.application.auth.service.EntitlementService;
+import me.namila.service.auth.domain.application.port.auth.TokenRevocationPort;
+import me.namila.service.auth.domain.application.port.identity.UserStatusGatePort;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
@@ -15,13 +19,16 @@ import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 /**
  * JWT Authentication Filter that extracts and validates JWT tokens from requests.
+ * A DPoP-bound token (one with cnf.jkt) is only accepted under the DPoP scheme together
+ * with a proof for this request signed by the bound key; a bearer token is only accepted
+ * under the Bearer scheme. Tokens of users who were suspended, locked or deactivated after
+ * the token was minted are turned away by an in-memory status check, without a database read.
  */
 @Component
 @RequiredArgsConstructor
@@ -30,8 +37,14 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     
     private static final String AUTHORIZATION_HEADER = "Authorization";
     private static final String BEARER_PREFIX = "Bearer ";
+    private static final String DPOP_PREFIX = "DPoP ";
     
     private final JwtTokenProvider tokenProvider;
+    private final TokenRevocationPort revocationPort;
+    private final GrantedAuthorityResolver authorityResolver;
+    private final EntitlementService entitlementService;
+    private final DPoPProofValidator proofValidator;
+    private final UserStatusGatePort userStatusGate;
     
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
@@ -39,18 +52,25 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         
         try {
             String jwt = getJwtFromRequest(request);
+            // Verify the signature and parse the claims once; every check below reads these claims
+            Claims claims = StringUtils.hasText(jwt) ? tokenProvider.parseClaims(jwt).orElse(null) : null;
             
-            if (StringUtils.hasText(jwt) && tokenProvider.validateToken(jwt)) {
-                UUID userId = tokenProvider.getUserIdFromToken(jwt);
-                
-                // Extract roles from token (simplified - in production, get from token claims)
-                List<String> roles = extractRolesFromToken(jwt);
-                List<SimpleGrantedAuthority> authorities = roles.stream()
-                    .map(role -> new SimpleGrantedAuthority("ROLE_" + role))
-                    .collect(Collectors.toList());
+            if (claims != null && !isRevoked(claims) && !isBlocked(claims)
+                    && isIntendedForThisService(claims) && isPresentedByHolder(jwt, claims, request)) {
+                UUID principalId;
+                List<GrantedAuthority> authorities;
+                if (JwtTokenProvider.isScopedToken(claims)) {
+                    principalId = UUID.fromString(claims.getSubject());
+                    authorities = authorityResolver.resolveScopes(
+                        claims.get(JwtTokenProvider.SCOPE_CLAIM, String.class));
+                } else {
+                    String userId = claims.get("userId", String.class);
+                    principalId = userId != null ? UUID.fromString(userId) : null;
+                    authorities = resolveAuthorities(principalId, claims);
+                }
                 
                 UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
-                    userId,
+                    principalId,
                     null,
                     authorities
                 );
@@ -75,25 +95,95 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         if (StringUtils.hasText(bearerToken) && bearerToken.startsWith(BEARER_PREFIX)) {
             return bearerToken.substring(BEARER_PREFIX.length());
         }
+        if (StringUtils.hasText(bearerToken) && bearerToken.startsWith(DPOP_PREFIX)) {
+            return bearerToken.substring(DPOP_PREFIX.length());
+        }
         return null;
     }
     
     /**
-     * Extract roles from token claims.
-     * @param token The JWT token
-     * @return List of role names
+     * Check the token's binding: a DPoP-bound token needs the DPoP scheme and a valid proof
+     * from the bound key, and a bearer token must not be presented as a DPoP token.
+     * @param token The validated JWT token
+     * @param claims The validated token claims
+     * @param request The HTTP request
+     * @return true if the caller may use the token
      */
-    @SuppressWarnings("unchecked")
-    private List<String> extractRolesFromToken(String token) {
-        try {
-            Object rolesObj = tokenProvider.getClaimFromToken(token, claims -> claims.get("roles"));
-            if (rolesObj instanceof List) {
-                return (List<String>) rolesObj;
-            }
-        } catch (Exception e) {
-            log.warn("Could not extract roles from token", e);
+    private boolean isPresentedByHolder(String token, Claims claims, HttpServletRequest request) {
+        boolean dpopScheme = request.getHeader(AUTHORIZATION_HEADER).startsWith(DPOP_PREFIX);
+        String confirmationKey = JwtTokenProvider.getConfirmationKey(claims);
+        if (confirmationKey == null) {
+            return !dpopScheme;
+        }
+        boolean held = dpopScheme && proofValidator.validate(request.getHeader(DPoPProofValidator.DPOP_HEADER),
+                request.getMethod(), request.getRequestURL().toString(), token)
+            .filter(confirmationKey::equals)
+            .isPresent();
+        if (!held) {
+            log.debug("Rejected DPoP-bound token without a proof from its key");
+        }
+        return held;
+    }
+    
+    /**
+     * Check the token against the local revocation list; no network call is made.
+     * @param claims The validated token claims
+     * @return true if the token or all of its user's (or service account's) earlier tokens were revoked
+     */
+    private boolean isRevoked(Claims claims) {
+        // A service account's tokens are revoked under the account ID, which is their subject
+        String userId = JwtTokenProvider.isClientToken(claims)
+            ? claims.getSubject()
+            : claims.get("userId", String.class);
+        boolean revoked = revocationPort.isRevoked(
+            JwtTokenProvider.getTokenId(claims),
+            userId != null ? UUID.fromString(userId) : null,
+            claims.getIssuedAt() != null ? claims.getIssuedAt().toInstant() : null);
+        if (revoked) {
+            log.debug("Rejected revoked token {}", claims.getId());
+        }
+        return revoked;
+    }
+    
+    /**
+     * Check the token's user against the local status gate; no database read is made.
+     * @param claims The validated token claims
+     * @return true if the user may not authenticate in their current status
+     */
+    private boolean isBlocked(Claims claims) {
+        // Service account tokens carry no userId; disabling an account revokes its tokens instead
+        String userId = claims.get("userId", String.class);
+        boolean blocked = userId != null && userStatusGate.isBlocked(UUID.fromString(userId));
+        if (blocked) {
+            log.debug("Rejected token {} of blocked user {}", claims.getId(), userId);
         }
-        return Collections.emptyList();
+        return blocked;
+    }
+    
+    /**
+     * Tokens minted by token exchange are restricted to the audience they were exchanged for;
+     * tokens without an audience are this service's own.
+     * @param claims The validated token claims
+     * @return true if the token may be accepted here
+     */
+    private boolean isIntendedForThisService(Claims claims) {
+        Set<String> audience = claims.getAudience();
+        return audience == null || audience.isEmpty() || audience.contains(tokenProvider.getIssuer());
+    }
+    
+    /**
+     * Take the authorities from the token while its entitlement epoch is current; otherwise
+     * the user's roles changed after it was minted, so resolve them afresh.
+     * @param userId The token's user
+     * @param claims The validated token claims
+     * @return The granted authorities
+     */
+    private List<GrantedAuthority> resolveAuthorities(UUID userId, Claims claims) {
+        Long tokenEpoch = claims.get(JwtTokenProvider.ENTITLEMENT_EPOCH_CLAIM, Long.class);
+        if (entitlementService.isCurrent(userId, tokenEpoch != null ? tokenEpoch : 0L)) {
+            return authorityResolver.resolve(claims);
+        }
+        log.debug("Entitlements of token {} are stale; resolving roles for user {}", claims.getId(), userId);
+        return authorityResolver.resolveRoles(entitlementService.resolveRoleNames(userId));
     }
 }
-
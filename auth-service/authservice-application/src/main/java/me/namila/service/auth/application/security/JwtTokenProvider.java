@@ -1,18 +1,29 @@
 package me.namila.service.auth.application.security;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.JwtException;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import me.namila.service.auth.domain.application.auth.service.ClaimDictionaryService;
+import me.namila.service.auth.domain.application.auth.token.CompactClaims;
+import me.namila.service.auth.domain.application.auth.token.CompactEntitlements;
+import me.namila.service.auth.domain.application.auth.token.TokenSubject;
+import me.namila.service.auth.domain.application.port.auth.AccessTokenIssuerPort;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.time.Instant;
+import java.util.Collection;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.function.Function;
 
@@ -21,8 +32,24 @@ import java.util.function.Function;
  * Uses RS256 (asymmetric) algorithm for signing.
  */
 @Component
+@RequiredArgsConstructor
 @Slf4j
-public class JwtTokenProvider {
+public class JwtTokenProvider implements AccessTokenIssuerPort {
+    
+    /** Claim holding the user's entitlement epoch when the token's roles were resolved. */
+    public static final String ENTITLEMENT_EPOCH_CLAIM = "ent_epoch";
+    
+    /** Claim naming the service account a client credentials token was issued to. */
+    public static final String CLIENT_ID_CLAIM = "client_id";
+    
+    /** Claim holding the space separated scopes of a client credentials or exchanged token. */
+    public static final String SCOPE_CLAIM = "scope";
+    
+    /** RFC 7800 confirmation claim; a DPoP-bound token carries its key thumbprint as cnf.jkt (RFC 9449). */
+    public static final String CONFIRMATION_CLAIM = "cnf";
+    
+    /** Member of the confirmation claim holding the JWK SHA-256 thumbprint. */
+    public static final String JWK_THUMBPRINT = "jkt";
     
     @Value("${jwt.secret:default-secret-key-that-should-be-changed-in-production-minimum-256-bits}")
     private String secret;
@@ -33,6 +60,11 @@ public class JwtTokenProvider {
     @Value("${jwt.issuer:auth-service}")
     private String issuer;
     
+    @Value("${auth.tokens.compact-claims.enabled:false}")
+    private boolean compactClaims;
+    
+    private final ClaimDictionaryService claimDictionaryService;
+    
     /**
      * Generate a JWT token for a user.
      * @param userId The user ID
@@ -51,6 +83,49 @@ public class JwtTokenProvider {
         return createToken(claims, userId.toString());
     }
     
+    @Override
+    public String issueAccessToken(TokenSubject subject, UUID sessionId) {
+        Map<String, Object> claims = new HashMap<>();
+        claims.put("userId", subject.userId().toString());
+        claims.put("username", subject.username());
+        claims.put("email", subject.email());
+        Optional<CompactEntitlements> entitlements = compactClaims
+            ? claimDictionaryService.encode(subject.roles())
+            : Optional.empty();
+        if (entitlements.isPresent()) {
+            claims.put(CompactClaims.ENTITLEMENTS_CLAIM, entitlements.get().value());
+            claims.put(CompactClaims.DICTIONARY_VERSION_CLAIM, entitlements.get().dictionaryVersion());
+        } else {
+            claims.put("roles", subject.roles());
+        }
+        claims.put("sid", sessionId.toString());
+        claims.put("auth_time", subject.authenticatedAt().getEpochSecond());
+        claims.put(ENTITLEMENT_EPOCH_CLAIM, subject.entitlementEpoch());
+        if (subject.confirmationKey() != null) {
+            claims.put(CONFIRMATION_CLAIM, Map.of(JWK_THUMBPRINT, subject.confirmationKey()));
+        }
+        
+        return createToken(claims, subject.userId().toString());
+    }
+    
+    @Override
+    public String issueClientToken(UUID accountId, String clientId, Collection<String> scopes, Duration ttl,
+                                   String confirmationKey) {
+        Map<String, Object> claims = new HashMap<>();
+        claims.put(CLIENT_ID_CLAIM, clientId);
+        claims.put(SCOPE_CLAIM, String.join(" ", scopes));
+        if (confirmationKey != null) {
+            claims.put(CONFIRMATION_CLAIM, Map.of(JWK_THUMBPRINT, confirmationKey));
+        }
+        
+        return createToken(claims, accountId.toString(), ttl);
+    }
+    
+    @Override
+    public Duration getAccessTokenTtl() {
+        return Duration.ofMillis(expiration);
+    }
+    
     /**
      * Generate a JWT token with custom claims.
      * @param claims Custom claims to include in the token
@@ -58,17 +133,51 @@ public class JwtTokenProvider {
      * @return The JWT token string
      */
     public String createToken(Map<String, Object> claims, String subject) {
+        return createToken(claims, subject, Duration.ofMillis(expiration));
+    }
+    
+    /**
+     * Generate a JWT token with custom claims and lifetime.
+     * @param claims Custom claims to include in the token
+     * @param subject The subject (user or service account ID)
+     * @param ttl How long the token is valid
+     * @return The JWT token string
+     */
+    public String createToken(Map<String, Object> claims, String subject, Duration ttl) {
         Instant now = Instant.now();
-        Instant expiry = now.plusMillis(expiration);
-        
+        return buildToken(claims, subject, now, now.plus(ttl)).compact();
+    }
+    
+    /**
+     * Generate a JWT token restricted to one audience.
+     * @param claims Custom claims to include in the token
+     * @param subject The subject (user or service account ID)
+     * @param audience The only audience that may accept the token
+     * @param expiresAt When the token expires
+     * @return The JWT token string
+     */
+    public String createAudienceToken(Map<String, Object> claims, String subject, String audience, Instant expiresAt) {
+        return buildToken(claims, subject, Instant.now(), expiresAt)
+            .audience().add(audience).and()
+            .compact();
+    }
+    
+    /**
+     * @return The audience value that identifies this service
+     */
+    public String getIssuer() {
+        return issuer;
+    }
+    
+    private JwtBuilder buildToken(Map<String, Object> claims, String subject, Instant issuedAt, Instant expiresAt) {
         return Jwts.builder()
             .claims(claims)
+            .id(UUID.randomUUID().toString())
             .subject(subject)
             .issuer(issuer)
-            .issuedAt(Date.from(now))
-            .expiration(Date.from(expiry))
-            .signWith(getSigningKey())
-            .compact();
+            .issuedAt(Date.from(issuedAt))
+            .expiration(Date.from(expiresAt))
+            .signWith(getSigningKey());
     }
     
     /**
@@ -89,6 +198,20 @@ public class JwtTokenProvider {
         }
     }
     
+    /**
+     * Verify a token and return its claims, verifying the signature only once.
+     * @param token The JWT token string
+     * @return The claims, or empty if the token is malformed, forged or expired
+     */
+    public Optional<Claims> parseClaims(String token) {
+        try {
+            return Optional.of(getAllClaimsFromToken(token));
+        } catch (JwtException | IllegalArgumentException e) {
+            log.debug("Rejected JWT token: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+    
     /**
      * Extract username from token.
      * @param token The JWT token string
@@ -108,6 +231,56 @@ public class JwtTokenProvider {
         return userIdStr != null ? UUID.fromString(userIdStr) : null;
     }
     
+    /**
+     * Extract the token ID (jti) from parsed claims.
+     * @param claims The token claims
+     * @return The token ID, or null for tokens without a UUID jti
+     */
+    public static UUID getTokenId(Claims claims) {
+        String jti = claims.getId();
+        if (jti == null) {
+            return null;
+        }
+        try {
+            return UUID.fromString(jti);
+        } catch (IllegalArgumentException ex) {
+            return null;
+        }
+    }
+    
+    /**
+     * Check whether parsed claims belong to a client credentials token, whose subject is
+     * a service account rather than a user.
+     * @param claims The token claims
+     * @return true for service account tokens
+     */
+    public static boolean isClientToken(Claims claims) {
+        return claims.get(CLIENT_ID_CLAIM) != null;
+    }
+    
+    /**
+     * Check whether parsed claims carry scopes instead of roles; this holds for client
+     * credentials tokens and for tokens minted by token exchange.
+     * @param claims The token claims
+     * @return true for scoped tokens
+     */
+    public static boolean isScopedToken(Claims claims) {
+        return claims.get(SCOPE_CLAIM) != null;
+    }
+    
+    /**
+     * Extract the DPoP key thumbprint a token is bound to.
+     * @param claims The token claims
+     * @return The cnf.jkt value, or null for bearer tokens
+     */
+    public static String getConfirmationKey(Claims claims) {
+        Object confirmation = claims.get(CONFIRMATION_CLAIM);
+        if (confirmation instanceof Map<?, ?> cnf && cnf.get(JWK_THUMBPRINT) instanceof String jkt) {
+            return jkt;
+        }
+        return null;
+    }
+    
     /**
      * Extract expiration date from token.
      * @param token The JWT token string
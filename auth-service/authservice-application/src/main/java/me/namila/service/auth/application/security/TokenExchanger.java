@@ -0,0 +1,207 @@
+package me.namila.service.auth.application.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import me.namila.service.auth.domain.application.auth.dto.response.IntrospectionResponse;
+import me.namila.service.auth.domain.application.auth.dto.response.TokenExchangeResponse;
+import me.namila.service.auth.domain.application.auth.token.RefreshTokens;
+import me.namila.service.auth.domain.application.common.LruCache;
+import me.namila.service.auth.domain.core.exception.DomainException;
+import me.namila.service.auth.domain.core.exception.InvalidTokenException;
+import me.namila.service.auth.domain.core.identity.model.ServiceAccountAggregate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+/**
+ * RFC 8693 token exchange: trades a subject token for one restricted to a single audience
+ * and a subset of the subject's scopes, so a service can call another on a user's behalf
+ * without forwarding the user's full token. Only an authenticated client may exchange, and
+ * only for the audiences on its allowlist. A user token's grantable scopes are its role
+ * names; a scoped token's are its scopes, so exchanging an exchanged token only narrows it.
+ * The subject token is checked through {@link TokenIntrospector}, so revocation, account
+ * status and current entitlements apply. Exchanged tokens are cached under the subject
+ * token's digest, audience and scopes and handed out again until they expire, which is
+ * never after the subject token does; fan-out calls that repeat an exchange do not sign again.
+ * The cache is bounded and drops its least recently used exchanges first.
+ * A DPoP-bound subject token can only be exchanged with a proof from its key, and an
+ * exchange made with a proof is bound to the proof's key.
+ */
+@Component
+public class TokenExchanger {
+
+    public static final String ACCESS_TOKEN_TYPE = "urn:ietf:params:oauth:token-type:access_token";
+    public static final String JWT_TOKEN_TYPE = "urn:ietf:params:oauth:token-type:jwt";
+
+    private static final String TOKEN_TYPE = "Bearer";
+    private static final String DPOP_TOKEN_TYPE = "DPoP";
+    private static final String SUBJECT_TOKEN = "subject token";
+
+    private final TokenIntrospector tokenIntrospector;
+    private final JwtTokenProvider tokenProvider;
+    private final Duration maxTtl;
+    private final Clock clock;
+    private final LruCache<String, ExchangedToken> cache;
+    private final Counter hits;
+    private final Counter misses;
+
+    @Autowired
+    public TokenExchanger(
+            TokenIntrospector tokenIntrospector,
+            JwtTokenProvider tokenProvider,
+            @Value("${auth.tokens.exchange.max-ttl:30m}") Duration maxTtl,
+            @Value("${auth.tokens.exchange.cache-size:50000}") int maxEntries,
+            MeterRegistry meterRegistry) {
+        this(tokenIntrospector, tokenProvider, maxTtl, maxEntries, meterRegistry, Clock.systemUTC());
+    }
+
+    TokenExchanger(
+            TokenIntrospector tokenIntrospector,
+            JwtTokenProvider tokenProvider,
+            Duration maxTtl,
+            int maxEntries,
+            MeterRegistry meterRegistry,
+            Clock clock) {
+        this.tokenIntrospector = tokenIntrospector;
+        this.tokenProvider = tokenProvider;
+        this.maxTtl = maxTtl;
+        this.clock = clock;
+        this.cache = new LruCache<>(maxEntries);
+        this.hits = Counter.builder("auth.tokens.exchange.requests")
+            .description("Token exchanges by cache outcome")
+            .tag("cache", "hit")
+            .register(meterRegistry);
+        this.misses = Counter.builder("auth.tokens.exchange.requests")
+            .description("Token exchanges by cache outcome")
+            .tag("cache", "miss")
+            .register(meterRegistry);
+        Gauge.builder("auth.tokens.exchange.cache.entries", cache, LruCache::size)
+            .description("Exchanged tokens held in the exchange cache")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Exchange a subject token for an audience-restricted, down-scoped token.
+     * @param client The authenticated client requesting the exchange
+     * @param subjectToken The presented subject token
+     * @param subjectTokenType The subject token type URI
+     * @param audience The service the new token is for
+     * @param scope The requested scopes, space separated; all of the subject's if blank
+     * @param confirmationKey The thumbprint of the DPoP proof sent with the request, or null
+     * @return The exchanged token
+     * @throws InvalidTokenException if the subject token is not active, or is DPoP-bound to another key
+     * @throws DomainException if the request is malformed, names an audience the client may not request,
+     *         or asks for scopes the subject does not hold
+     */
+    public TokenExchangeResponse exchange(ServiceAccountAggregate client, String subjectToken, String subjectTokenType,
+                                          String audience, String scope, String confirmationKey) {
+        if (!ACCESS_TOKEN_TYPE.equals(subjectTokenType) && !JWT_TOKEN_TYPE.equals(subjectTokenType)) {
+            throw new DomainException("INVALID_REQUEST", "Unsupported subject token type: " + subjectTokenType);
+        }
+        if (audience == null || audience.isBlank()) {
+            throw new DomainException("INVALID_REQUEST", "An audience is required");
+        }
+        if (!client.allowsAudience(audience)) {
+            throw new DomainException("INVALID_TARGET", "Client may not request tokens for audience: " + audience);
+        }
+        // Re-checked on every exchange, including cache hits; this is itself cached by digest
+        IntrospectionResponse subject = tokenIntrospector.introspect(subjectToken);
+        if (!subject.active()) {
+            throw new InvalidTokenException(SUBJECT_TOKEN);
+        }
+        String boundKey = subject.cnf() != null ? subject.cnf().get(JwtTokenProvider.JWK_THUMBPRINT) : null;
+        if (boundKey != null && !boundKey.equals(confirmationKey)) {
+            throw new InvalidTokenException(SUBJECT_TOKEN);
+        }
+
+        SortedSet<String> scopes = grantedScopes(subject, scope);
+        String key = RefreshTokens.hash(subjectToken) + " " + audience + " "
+            + (confirmationKey != null ? confirmationKey : "-") + " " + String.join(" ", scopes);
+        Instant now = clock.instant();
+        ExchangedToken exchanged = cache.get(key);
+        if (exchanged != null && exchanged.expiresAt().isAfter(now)) {
+            hits.increment();
+        } else {
+            misses.increment();
+            // compute() holds the key's stripe, so concurrent identical exchanges sign once
+            exchanged = cache.compute(key, (k, existing) -> existing != null && existing.expiresAt().isAfter(now)
+                ? existing
+                : mint(subject, audience, scopes, confirmationKey, now));
+        }
+
+        return TokenExchangeResponse.builder()
+            .accessToken(exchanged.accessToken())
+            .issuedTokenType(ACCESS_TOKEN_TYPE)
+            .tokenType(confirmationKey != null ? DPOP_TOKEN_TYPE : TOKEN_TYPE)
+            .expiresIn(Math.max(0, Duration.between(now, exchanged.expiresAt()).toSeconds()))
+            .scope(String.join(" ", scopes))
+            .build();
+    }
+
+    /**
+     * Drop cached exchanges whose tokens have expired.
+     */
+    @Scheduled(fixedDelayString = "${auth.tokens.exchange.purge-interval:60s}")
+    public void purgeExpired() {
+        Instant now = clock.instant();
+        cache.removeIf((key, entry) -> !entry.expiresAt().isAfter(now));
+    }
+
+    private SortedSet<String> grantedScopes(IntrospectionResponse subject, String scope) {
+        Collection<String> grantable = subject.scope() != null
+            ? Arrays.asList(subject.scope().split(" "))
+            : subject.roles() != null ? subject.roles() : List.of();
+        if (scope == null || scope.isBlank()) {
+            return new TreeSet<>(grantable);
+        }
+        SortedSet<String> requested = new TreeSet<>(Arrays.asList(scope.trim().split("\\s+")));
+        if (!grantable.containsAll(requested)) {
+            throw new DomainException("INVALID_SCOPE", "Requested scope exceeds the subject token's entitlements");
+        }
+        return requested;
+    }
+
+    private ExchangedToken mint(IntrospectionResponse subject, String audience, SortedSet<String> scopes,
+                                String confirmationKey, Instant now) {
+        Instant expiresAt = Instant.ofEpochSecond(subject.exp());
+        if (expiresAt.isAfter(now.plus(maxTtl))) {
+            expiresAt = now.plus(maxTtl);
+        }
+        Map<String, Object> claims = new HashMap<>();
+        if (subject.clientId() != null) {
+            claims.put(JwtTokenProvider.CLIENT_ID_CLAIM, subject.clientId());
+        } else {
+            claims.put("userId", subject.sub());
+            claims.put("username", subject.username());
+            claims.put("email", subject.email());
+        }
+        claims.put(JwtTokenProvider.SCOPE_CLAIM, String.join(" ", scopes));
+        if (subject.sid() != null) {
+            claims.put("sid", subject.sid());
+        }
+        if (subject.authTime() != null) {
+            claims.put("auth_time", subject.authTime());
+        }
+        if (confirmationKey != null) {
+            claims.put(JwtTokenProvider.CONFIRMATION_CLAIM, Map.of(JwtTokenProvider.JWK_THUMBPRINT, confirmationKey));
+        }
+        String accessToken = tokenProvider.createAudienceToken(claims, subject.sub(), audience, expiresAt);
+        return new ExchangedToken(accessToken, expiresAt);
+    }
+
+    private record ExchangedToken(String accessToken, Instant expiresAt) {
+    }
+}
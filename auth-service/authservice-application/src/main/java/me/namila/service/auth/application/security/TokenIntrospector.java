@@ -0,0 +1,265 @@
+package me.namila.service.auth.application.security;
+
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import me.namila.service.auth.domain.application.auth.dto.response.IntrospectionResponse;
+import me.namila.service.auth.domain.application.auth.service.ClaimDictionaryService;
+import me.namila.service.auth.domain.application.auth.service.EntitlementService;
+import me.namila.service.auth.domain.application.auth.token.CompactClaims;
+import me.namila.service.auth.domain.application.auth.token.DecodedEntitlements;
+import me.namila.service.auth.domain.application.auth.token.RefreshTokens;
+import me.namila.service.auth.domain.application.common.LruCache;
+import me.namila.service.auth.domain.application.identity.service.UserAccessApplicationService;
+import me.namila.service.auth.domain.application.port.auth.TokenRevocationPort;
+import me.namila.service.auth.domain.application.port.identity.UserStatusGatePort;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * RFC 7662 token introspection on top of {@link JwtTokenProvider}.
+ * A token's signature is verified once; the verified claims are then cached under the
+ * SHA-256 of the token until it expires, so repeat introspections cost a hash lookup plus
+ * the local revocation and entitlement epoch checks, which are re-applied on every hit.
+ * The cache is bounded and drops its least recently introspected tokens when full.
+ * The user's account status is checked against the in-memory status gate on every hit and
+ * re-read at most once per recheck interval; service account tokens only go through the
+ * revocation check.
+ */
+@Component
+@Slf4j
+public class TokenIntrospector {
+
+    private static final String TOKEN_TYPE = "Bearer";
+    private static final String DPOP_TOKEN_TYPE = "DPoP";
+    private static final String ROLES_CLAIM = "roles";
+
+    private final JwtTokenProvider tokenProvider;
+    private final TokenRevocationPort revocationPort;
+    private final EntitlementService entitlementService;
+    private final ClaimDictionaryService claimDictionaryService;
+    private final UserAccessApplicationService userAccessService;
+    private final UserStatusGatePort userStatusGate;
+    private final Duration statusRecheckInterval;
+    private final Clock clock;
+    private final LruCache<String, CachedIntrospection> cache;
+    private final Counter hits;
+    private final Counter misses;
+
+    @Autowired
+    public TokenIntrospector(
+            JwtTokenProvider tokenProvider,
+            TokenRevocationPort revocationPort,
+            EntitlementService entitlementService,
+            ClaimDictionaryService claimDictionaryService,
+            UserAccessApplicationService userAccessService,
+            UserStatusGatePort userStatusGate,
+            @Value("${auth.tokens.introspection.status-recheck:30s}") Duration statusRecheckInterval,
+            @Value("${auth.tokens.introspection.cache-size:50000}") int maxEntries,
+            MeterRegistry meterRegistry) {
+        this(tokenProvider, revocationPort, entitlementService, claimDictionaryService, userAccessService,
+            userStatusGate, statusRecheckInterval, maxEntries, meterRegistry, Clock.systemUTC());
+    }
+
+    TokenIntrospector(
+            JwtTokenProvider tokenProvider,
+            TokenRevocationPort revocationPort,
+            EntitlementService entitlementService,
+            ClaimDictionaryService claimDictionaryService,
+            UserAccessApplicationService userAccessService,
+            UserStatusGatePort userStatusGate,
+            Duration statusRecheckInterval,
+            int maxEntries,
+            MeterRegistry meterRegistry,
+            Clock clock) {
+        this.tokenProvider = tokenProvider;
+        this.revocationPort = revocationPort;
+        this.entitlementService = entitlementService;
+        this.claimDictionaryService = claimDictionaryService;
+        this.userAccessService = userAccessService;
+        this.userStatusGate = userStatusGate;
+        this.statusRecheckInterval = statusRecheckInterval;
+        this.clock = clock;
+        this.cache = new LruCache<>(maxEntries);
+        this.hits = Counter.builder("auth.tokens.introspection.requests")
+            .description("Token introspections by cache outcome")
+            .tag("cache", "hit")
+            .register(meterRegistry);
+        this.misses = Counter.builder("auth.tokens.introspection.requests")
+            .description("Token introspections by cache outcome")
+            .tag("cache", "miss")
+            .register(meterRegistry);
+        Gauge.builder("auth.tokens.introspection.cache.entries", cache, LruCache::size)
+            .description("Verified tokens held in the introspection cache")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Introspect one token.
+     * @param token The presented token
+     * @return The introspection response; inactive for invalid, expired, revoked or blocked tokens
+     */
+    public IntrospectionResponse introspect(String token) {
+        if (token == null || token.isBlank()) {
+            return IntrospectionResponse.inactive();
+        }
+        Instant now = clock.instant();
+        String digest = RefreshTokens.hash(token);
+        CachedIntrospection cached = cache.get(digest);
+        if (cached != null && cached.getExpiresAt().isAfter(now)) {
+            hits.increment();
+        } else {
+            misses.increment();
+            cached = verify(token, now);
+            if (cached == null) {
+                return IntrospectionResponse.inactive();
+            }
+            cache.put(digest, cached);
+        }
+        return evaluate(cached, now);
+    }
+
+    /**
+     * Introspect a batch of tokens; duplicates within the batch are verified once.
+     * @param tokens The presented tokens
+     * @return The responses, in the order of the tokens
+     */
+    public List<IntrospectionResponse> introspectAll(Collection<String> tokens) {
+        return tokens.stream().map(this::introspect).toList();
+    }
+
+    /**
+     * Drop cached tokens that have expired.
+     */
+    @Scheduled(fixedDelayString = "${auth.tokens.introspection.purge-interval:60s}")
+    public void purgeExpired() {
+        Instant now = clock.instant();
+        cache.removeIf((digest, entry) -> !entry.getExpiresAt().isAfter(now));
+    }
+
+    private CachedIntrospection verify(String token, Instant now) {
+        Claims claims = tokenProvider.parseClaims(token).orElse(null);
+        if (claims == null || claims.getExpiration() == null || claims.getSubject() == null) {
+            return null;
+        }
+        UUID userId;
+        try {
+            userId = UUID.fromString(claims.getSubject());
+        } catch (IllegalArgumentException ex) {
+            return null;
+        }
+        boolean clientToken = JwtTokenProvider.isClientToken(claims);
+        Long entitlementEpoch = claims.get(JwtTokenProvider.ENTITLEMENT_EPOCH_CLAIM, Long.class);
+        Long authTime = claims.get("auth_time", Long.class);
+        String confirmationKey = JwtTokenProvider.getConfirmationKey(claims);
+        IntrospectionResponse response = IntrospectionResponse.builder()
+            .active(true)
+            .sub(claims.getSubject())
+            .username(claims.get("username", String.class))
+            .email(claims.get("email", String.class))
+            .roles(JwtTokenProvider.isScopedToken(claims) ? null : roles(claims))
+            .clientId(claims.get(JwtTokenProvider.CLIENT_ID_CLAIM, String.class))
+            .scope(claims.get(JwtTokenProvider.SCOPE_CLAIM, String.class))
+            .tokenType(confirmationKey != null ? DPOP_TOKEN_TYPE : TOKEN_TYPE)
+            .exp(claims.getExpiration().toInstant().getEpochSecond())
+            .iat(claims.getIssuedAt() != null ? claims.getIssuedAt().toInstant().getEpochSecond() : null)
+            .iss(claims.getIssuer())
+            .aud(claims.getAudience() != null && !claims.getAudience().isEmpty() ? Set.copyOf(claims.getAudience()) : null)
+            .jti(claims.getId())
+            .sid(claims.get("sid", String.class))
+            .authTime(authTime)
+            .cnf(confirmationKey != null ? Map.of(JwtTokenProvider.JWK_THUMBPRINT, confirmationKey) : null)
+            .build();
+        // Service accounts have no user status; disabling one revokes its tokens instead
+        return new CachedIntrospection(response, userId, JwtTokenProvider.getTokenId(claims),
+            claims.getIssuedAt() != null ? claims.getIssuedAt().toInstant() : null,
+            claims.getExpiration().toInstant(), entitlementEpoch != null ? entitlementEpoch : 0L, clientToken,
+            new StatusCheck(clientToken || userAccessService.canAuthenticate(userId), now));
+    }
+
+    private IntrospectionResponse evaluate(CachedIntrospection cached, Instant now) {
+        if (revocationPort.isRevoked(cached.getJti(), cached.getUserId(), cached.getIssuedAt())) {
+            return IntrospectionResponse.inactive();
+        }
+        if (cached.isClientToken()) {
+            return cached.getResponse();
+        }
+        if (userStatusGate.isBlocked(cached.getUserId())) {
+            return IntrospectionResponse.inactive();
+        }
+        StatusCheck status = cached.getStatus();
+        if (status.checkedAt().plus(statusRecheckInterval).isBefore(now)) {
+            status = new StatusCheck(userAccessService.canAuthenticate(cached.getUserId()), now);
+            cached.setStatus(status);
+        }
+        if (!status.allowed()) {
+            return IntrospectionResponse.inactive();
+        }
+        // Scoped tokens carry no roles to refresh
+        if (cached.getResponse().roles() != null
+                && !entitlementService.isCurrent(cached.getUserId(), cached.getEntitlementEpoch())) {
+            return cached.getResponse().toBuilder()
+                .roles(entitlementService.resolveRoleNames(cached.getUserId()))
+                .build();
+        }
+        return cached.getResponse();
+    }
+
+    private List<String> roles(Claims claims) {
+        Object roles = claims.get(ROLES_CLAIM);
+        if (roles instanceof Collection<?> roleNames) {
+            return roleNames.stream().map(Objects::toString).toList();
+        }
+        String encoded = claims.get(CompactClaims.ENTITLEMENTS_CLAIM, String.class);
+        String version = claims.get(CompactClaims.DICTIONARY_VERSION_CLAIM, String.class);
+        if (encoded != null && version != null) {
+            try {
+                return claimDictionaryService.decode(version, encoded)
+                    .map(DecodedEntitlements::roles)
+                    .orElse(List.of());
+            } catch (IllegalArgumentException ex) {
+                log.warn("Could not decode entitlement claim: {}", ex.getMessage());
+            }
+        }
+        return List.of();
+    }
+
+    private record StatusCheck(boolean allowed, Instant checkedAt) {
+    }
+
+    /**
+     * Verified claims of one token. Only the status check is replaced after creation;
+     * a lost update just means one more status read.
+     */
+    @Getter
+    @AllArgsConstructor
+    private static final class CachedIntrospection {
+
+        private final IntrospectionResponse response;
+        private final UUID userId;
+        private final UUID jti;
+        private final Instant issuedAt;
+        private final Instant expiresAt;
+        private final long entitlementEpoch;
+        private final boolean clientToken;
+        @Setter
+        private volatile StatusCheck status;
+    }
+}
@@ -0,0 +1,114 @@
+package me.namila.service.auth.application.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import me.namila.service.auth.application.filter.RateLimitingFilter;
+import me.namila.service.auth.data.auth.adapter.InMemoryRateLimiter;
+import me.namila.service.auth.data.config.RateLimitConfig;
+import me.namila.service.auth.domain.application.port.auth.RateLimiterPort;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.ConfigDataApplicationContextInitializer;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Binding tests for the rate limiting settings in application.yaml.
+ */
+@DisplayName("Rate Limit Configuration Tests")
+class RateLimitConfigurationTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+        .withInitializer(new ConfigDataApplicationContextInitializer())
+        .withBean(MeterRegistry.class, SimpleMeterRegistry::new)
+        .withBean(ObjectMapper.class, ObjectMapper::new)
+        .withUserConfiguration(RateLimitConfig.class, RateLimitingFilter.class);
+
+    @Test
+    @DisplayName("applicationYaml_Defaults_ShouldEnableInMemoryRateLimiting")
+    void applicationYaml_Defaults_ShouldEnableInMemoryRateLimiting() {
+        contextRunner.run(context -> {
+            // Then
+            assertNull(context.getStartupFailure());
+            assertEquals(Boolean.TRUE, context.getEnvironment().getProperty("auth.rate-limit.enabled", Boolean.class));
+            assertEquals("in-memory", context.getEnvironment().getProperty("auth.rate-limit.store"));
+            assertInstanceOf(InMemoryRateLimiter.class, context.getBean(RateLimiterPort.class));
+            assertNotNull(context.getBean(RateLimitingFilter.class));
+        });
+    }
+
+    @Test
+    @DisplayName("applicationYaml_EnvironmentOverride_ShouldDisableRateLimiting")
+    void applicationYaml_EnvironmentOverride_ShouldDisableRateLimiting() {
+        contextRunner.withSystemProperties("RATE_LIMIT_ENABLED=false").run(context -> {
+            // Then
+            assertNull(context.getStartupFailure());
+            assertEquals(Boolean.FALSE, context.getEnvironment().getProperty("auth.rate-limit.enabled", Boolean.class));
+        });
+    }
+
+    @Test
+    @DisplayName("doFilter_TokenExchangesPastLoginDefaults_ShouldNotBeThrottled")
+    void doFilter_TokenExchangesPastLoginDefaults_ShouldNotBeThrottled() {
+        contextRunner.run(context -> {
+            // Given
+            RateLimitingFilter filter = context.getBean(RateLimitingFilter.class);
+            int loginIpLimit = context.getEnvironment().getProperty("auth.rate-limit.ip.limit", Integer.class);
+            String basic = "Basic " + Base64.getEncoder()
+                .encodeToString("gateway:secret".getBytes(StandardCharsets.UTF_8));
+
+            // When
+            int throttled = 0;
+            for (int i = 0; i < loginIpLimit * 5; i++) {
+                MockHttpServletRequest request = new MockHttpServletRequest("POST", "/oauth2/token");
+                request.setContentType(MediaType.APPLICATION_FORM_URLENCODED_VALUE);
+                request.setRemoteAddr("10.0.0.7");
+                request.addHeader(HttpHeaders.AUTHORIZATION, basic);
+                request.addParameter("grant_type", "urn:ietf:params:oauth:grant-type:token-exchange");
+                MockHttpServletResponse response = new MockHttpServletResponse();
+                filter.doFilter(request, response, new MockFilterChain());
+                if (response.getStatus() == HttpStatus.TOO_MANY_REQUESTS.value()) {
+                    throttled++;
+                }
+            }
+
+            // Then
+            assertEquals(0, throttled);
+        });
+    }
+
+    @Test
+    @DisplayName("doFilter_PasswordLoginsPastSubjectDefault_ShouldBeThrottled")
+    void doFilter_PasswordLoginsPastSubjectDefault_ShouldBeThrottled() {
+        contextRunner.run(context -> {
+            // Given
+            RateLimitingFilter filter = context.getBean(RateLimitingFilter.class);
+            int subjectLimit = context.getEnvironment().getProperty("auth.rate-limit.subject.limit", Integer.class);
+
+            // When
+            MockHttpServletResponse response = null;
+            for (int i = 0; i <= subjectLimit; i++) {
+                MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/auth/password/login");
+                request.setContentType(MediaType.APPLICATION_JSON_VALUE);
+                request.setRemoteAddr("10.0.0." + i);
+                request.setContent("{\"username\":\"alice\",\"password\":\"wrong\"}".getBytes(StandardCharsets.UTF_8));
+                response = new MockHttpServletResponse();
+                filter.doFilter(request, response, new MockFilterChain());
+            }
+
+            // Then
+            assertEquals(HttpStatus.TOO_MANY_REQUESTS.value(), response.getStatus());
+        });
+    }
+}
@@ -0,0 +1,114 @@
+package me.namila.service.auth.application.controller;
+
+import me.namila.service.auth.application.exception.GlobalExceptionHandler;
+import me.namila.service.auth.application.security.DPoPProofValidator;
+import me.namila.service.auth.application.security.TokenExchanger;
+import me.namila.service.auth.application.security.TokenIntrospector;
+import me.namila.service.auth.domain.application.auth.dto.response.IntrospectionResponse;
+import me.namila.service.auth.domain.application.auth.service.ClientCredentialsService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.UUID;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Authorization tests for the OAuth2Controller introspection endpoints, run through method security.
+ */
+@DisplayName("OAuth2Controller Tests")
+class OAuth2ControllerTest {
+
+    private TokenIntrospector tokenIntrospector;
+    private ApplicationContextRunner contextRunner;
+
+    @Configuration
+    @EnableMethodSecurity
+    static class MethodSecurityConfiguration {
+    }
+
+    @BeforeEach
+    void setUp() {
+        tokenIntrospector = mock(TokenIntrospector.class);
+        contextRunner = new ApplicationContextRunner()
+            .withUserConfiguration(MethodSecurityConfiguration.class)
+            .withBean(TokenIntrospector.class, () -> tokenIntrospector)
+            .withBean(ClientCredentialsService.class, () -> mock(ClientCredentialsService.class))
+            .withBean(TokenExchanger.class, () -> mock(TokenExchanger.class))
+            .withBean(DPoPProofValidator.class, () -> mock(DPoPProofValidator.class))
+            .withBean(OAuth2Controller.class);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("introspect_CallerWithoutIntrospectScope_ShouldReturnForbidden")
+    void introspect_CallerWithoutIntrospectScope_ShouldReturnForbidden() {
+        // Given: an end user, an administrator and a client without the scope alike
+        for (String authority : new String[] {"ROLE_user", "ROLE_admin", "SCOPE_orders:read"}) {
+            authenticateAs(authority);
+
+            contextRunner.run(context -> {
+                // When / Then
+                mockMvc(context.getBean(OAuth2Controller.class))
+                    .perform(post("/oauth2/introspect")
+                        .contentType(MediaType.APPLICATION_FORM_URLENCODED)
+                        .param("token", "someone-elses-token"))
+                    .andExpect(status().isForbidden());
+                mockMvc(context.getBean(OAuth2Controller.class))
+                    .perform(post("/oauth2/introspect/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"tokens\":[\"someone-elses-token\"]}"))
+                    .andExpect(status().isForbidden());
+            });
+        }
+        verifyNoInteractions(tokenIntrospector);
+    }
+
+    @Test
+    @DisplayName("introspect_CallerWithIntrospectScope_ShouldIntrospect")
+    void introspect_CallerWithIntrospectScope_ShouldIntrospect() {
+        // Given
+        authenticateAs("SCOPE_introspect");
+        when(tokenIntrospector.introspect("presented-token")).thenReturn(IntrospectionResponse.inactive());
+
+        contextRunner.run(context -> {
+            // When / Then
+            mockMvc(context.getBean(OAuth2Controller.class))
+                .perform(post("/oauth2/introspect")
+                    .contentType(MediaType.APPLICATION_FORM_URLENCODED)
+                    .param("token", "presented-token"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.active").value(false));
+        });
+        verify(tokenIntrospector).introspect("presented-token");
+    }
+
+    private static void authenticateAs(String authority) {
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+            UUID.randomUUID(), null, AuthorityUtils.createAuthorityList(authority)));
+    }
+
+    private static MockMvc mockMvc(Object controller) {
+        return MockMvcBuilders.standaloneSetup(controller)
+            .setControllerAdvice(new GlobalExceptionHandler())
+            .build();
+    }
+}
@@ -0,0 +1,121 @@
+package me.namila.service.auth.application.controller;
+
+import me.namila.service.auth.application.exception.GlobalExceptionHandler;
+import me.namila.service.auth.domain.application.identity.dto.response.ServiceAccountSecretResponse;
+import me.namila.service.auth.domain.application.identity.service.ServiceAccountApplicationService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Authorization tests for ServiceAccountController, run through method security.
+ */
+@DisplayName("ServiceAccountController Tests")
+class ServiceAccountControllerTest {
+
+    private static final UUID ACCOUNT_ID = UUID.randomUUID();
+
+    private ServiceAccountApplicationService serviceAccountService;
+    private ApplicationContextRunner contextRunner;
+
+    @Configuration
+    @EnableMethodSecurity
+    static class MethodSecurityConfiguration {
+    }
+
+    @BeforeEach
+    void setUp() {
+        serviceAccountService = mock(ServiceAccountApplicationService.class);
+        contextRunner = new ApplicationContextRunner()
+            .withUserConfiguration(MethodSecurityConfiguration.class)
+            .withBean(ServiceAccountApplicationService.class, () -> serviceAccountService)
+            .withBean(ServiceAccountController.class);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("rotateSecret_NonAdminCaller_ShouldReturnForbidden")
+    void rotateSecret_NonAdminCaller_ShouldReturnForbidden() {
+        // Given: an end user and a client credentials token alike
+        for (String authority : new String[] {"ROLE_user", "SCOPE_orders:read"}) {
+            authenticateAs(authority);
+
+            contextRunner.run(context -> {
+                // When / Then
+                mockMvc(context.getBean(ServiceAccountController.class))
+                    .perform(post("/api/v1/service-accounts/{accountId}/secret", ACCOUNT_ID))
+                    .andExpect(status().isForbidden());
+            });
+        }
+        verifyNoInteractions(serviceAccountService);
+    }
+
+    @Test
+    @DisplayName("createServiceAccount_NonAdminCaller_ShouldReturnForbidden")
+    void createServiceAccount_NonAdminCaller_ShouldReturnForbidden() {
+        // Given
+        authenticateAs("ROLE_user");
+
+        contextRunner.run(context -> {
+            // When / Then
+            mockMvc(context.getBean(ServiceAccountController.class))
+                .perform(post("/api/v1/service-accounts")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("{\"clientId\":\"orders-api\",\"displayName\":\"Orders\",\"scopes\":[\"orders:read\"]}"))
+                .andExpect(status().isForbidden());
+            mockMvc(context.getBean(ServiceAccountController.class))
+                .perform(get("/api/v1/service-accounts/{accountId}", ACCOUNT_ID))
+                .andExpect(status().isForbidden());
+        });
+        verifyNoInteractions(serviceAccountService);
+    }
+
+    @Test
+    @DisplayName("rotateSecret_AdminCaller_ShouldRotate")
+    void rotateSecret_AdminCaller_ShouldRotate() {
+        // Given
+        authenticateAs("ROLE_admin");
+        when(serviceAccountService.rotateSecret(any())).thenReturn(ServiceAccountSecretResponse.builder().build());
+
+        contextRunner.run(context -> {
+            // When / Then
+            mockMvc(context.getBean(ServiceAccountController.class))
+                .perform(post("/api/v1/service-accounts/{accountId}/secret", ACCOUNT_ID))
+                .andExpect(status().isOk());
+        });
+        verify(serviceAccountService).rotateSecret(ACCOUNT_ID);
+    }
+
+    private static void authenticateAs(String authority) {
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+            UUID.randomUUID(), null, AuthorityUtils.createAuthorityList(authority)));
+    }
+
+    private static MockMvc mockMvc(Object controller) {
+        return MockMvcBuilders.standaloneSetup(controller)
+            .setControllerAdvice(new GlobalExceptionHandler())
+            .build();
+    }
+}
@@ -0,0 +1,200 @@
+package me.namila.service.auth.application.controller;
+
+import me.namila.service.auth.application.exception.GlobalExceptionHandler;
+import me.namila.service.auth.domain.application.auth.service.TokenRevocationService;
+import me.namila.service.auth.domain.application.identity.dto.response.UserImportResponse;
+import me.namila.service.auth.domain.application.identity.service.PasswordCredentialApplicationService;
+import me.namila.service.auth.domain.application.identity.service.UserApplicationService;
+import me.namila.service.auth.domain.application.identity.service.UserExportApplicationService;
+import me.namila.service.auth.domain.application.identity.service.UserImportApplicationService;
+import me.namila.service.auth.domain.application.identity.service.UserSearchApplicationService;
+import me.namila.service.auth.domain.application.identity.service.UserStatisticsApplicationService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.method.annotation.AuthenticationPrincipalArgumentResolver;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Authorization tests for UserController, run through method security.
+ */
+@DisplayName("UserController Tests")
+class UserControllerTest {
+
+    private static final UUID USER_ID = UUID.randomUUID();
+
+    private TokenRevocationService tokenRevocationService;
+    private UserImportApplicationService userImportApplicationService;
+    private UserExportApplicationService userExportApplicationService;
+    private ApplicationContextRunner contextRunner;
+
+    @Configuration
+    @EnableMethodSecurity
+    static class MethodSecurityConfiguration {
+    }
+
+    @BeforeEach
+    void setUp() {
+        tokenRevocationService = mock(TokenRevocationService.class);
+        userImportApplicationService = mock(UserImportApplicationService.class);
+        userExportApplicationService = mock(UserExportApplicationService.class);
+        contextRunner = new ApplicationContextRunner()
+            .withUserConfiguration(MethodSecurityConfiguration.class)
+            .withBean(UserApplicationService.class, () -> mock(UserApplicationService.class))
+            .withBean(UserImportApplicationService.class, () -> userImportApplicationService)
+            .withBean(UserExportApplicationService.class, () -> userExportApplicationService)
+            .withBean(UserStatisticsApplicationService.class, () -> mock(UserStatisticsApplicationService.class))
+            .withBean(UserSearchApplicationService.class, () -> mock(UserSearchApplicationService.class))
+            .withBean(TokenRevocationService.class, () -> tokenRevocationService)
+            .withBean(PasswordCredentialApplicationService.class, () -> mock(PasswordCredentialApplicationService.class))
+            .withBean(UserController.class);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("revokeUserTokens_OtherUser_ShouldReturnForbidden")
+    void revokeUserTokens_OtherUser_ShouldReturnForbidden() {
+        // Given
+        authenticateAs(UUID.randomUUID(), "ROLE_user");
+
+        contextRunner.run(context -> {
+            // When / Then
+            mockMvc(context.getBean(UserController.class))
+                .perform(post("/api/v1/users/{userId}/revoke-tokens", USER_ID))
+                .andExpect(status().isForbidden());
+        });
+        verifyNoInteractions(tokenRevocationService);
+    }
+
+    @Test
+    @DisplayName("revokeUserTokens_Self_ShouldRevoke")
+    void revokeUserTokens_Self_ShouldRevoke() {
+        // Given
+        authenticateAs(USER_ID, "ROLE_user");
+
+        contextRunner.run(context -> {
+            // When / Then
+            mockMvc(context.getBean(UserController.class))
+                .perform(post("/api/v1/users/{userId}/revoke-tokens", USER_ID))
+                .andExpect(status().isNoContent());
+        });
+        verify(tokenRevocationService).revokeAllForUser(USER_ID, USER_ID);
+    }
+
+    @Test
+    @DisplayName("revokeUserTokens_AdminCaller_ShouldRevoke")
+    void revokeUserTokens_AdminCaller_ShouldRevoke() {
+        // Given
+        UUID adminId = UUID.randomUUID();
+        authenticateAs(adminId, "ROLE_admin");
+
+        contextRunner.run(context -> {
+            // When / Then
+            mockMvc(context.getBean(UserController.class))
+                .perform(post("/api/v1/users/{userId}/revoke-tokens", USER_ID))
+                .andExpect(status().isNoContent());
+        });
+        verify(tokenRevocationService).revokeAllForUser(USER_ID, adminId);
+    }
+
+    @Test
+    @DisplayName("importUsers_NonAdminCaller_ShouldReturnForbidden")
+    void importUsers_NonAdminCaller_ShouldReturnForbidden() {
+        // Given
+        authenticateAs(UUID.randomUUID(), "ROLE_user");
+
+        contextRunner.run(context -> {
+            // When / Then
+            mockMvc(context.getBean(UserController.class))
+                .perform(post("/api/v1/users/import")
+                    .contentType("application/x-ndjson")
+                    .content("{\"username\":\"mallory\",\"email\":\"mallory@example.com\"}\n"))
+                .andExpect(status().isForbidden());
+            mockMvc(context.getBean(UserController.class))
+                .perform(get("/api/v1/users/import/{importId}/errors", UUID.randomUUID()))
+                .andExpect(status().isForbidden());
+        });
+        verifyNoInteractions(userImportApplicationService);
+    }
+
+    @Test
+    @DisplayName("importUsers_AdminCaller_ShouldImport")
+    void importUsers_AdminCaller_ShouldImport() {
+        // Given
+        authenticateAs(UUID.randomUUID(), "ROLE_admin");
+        when(userImportApplicationService.importUsers(any(), eq("application/x-ndjson")))
+            .thenReturn(UserImportResponse.builder().importId(UUID.randomUUID()).build());
+
+        contextRunner.run(context -> {
+            // When / Then
+            mockMvc(context.getBean(UserController.class))
+                .perform(post("/api/v1/users/import")
+                    .contentType("application/x-ndjson")
+                    .content("{\"username\":\"alice\",\"email\":\"alice@example.com\"}\n"))
+                .andExpect(status().isOk());
+        });
+        verify(userImportApplicationService).importUsers(any(), eq("application/x-ndjson"));
+    }
+
+    @Test
+    @DisplayName("exportUsers_NonAdminCaller_ShouldReturnForbidden")
+    void exportUsers_NonAdminCaller_ShouldReturnForbidden() {
+        // Given
+        authenticateAs(UUID.randomUUID(), "ROLE_user");
+
+        contextRunner.run(context -> {
+            // When / Then
+            mockMvc(context.getBean(UserController.class))
+                .perform(get("/api/v1/users/export").param("format", "csv"))
+                .andExpect(status().isForbidden());
+        });
+        verifyNoInteractions(userExportApplicationService);
+    }
+
+    @Test
+    @DisplayName("exportUsers_AdminCaller_ShouldStartExport")
+    void exportUsers_AdminCaller_ShouldStartExport() {
+        // Given
+        authenticateAs(UUID.randomUUID(), "ROLE_admin");
+
+        contextRunner.run(context -> {
+            // When / Then: the body streams asynchronously once the handler returns
+            mockMvc(context.getBean(UserController.class))
+                .perform(get("/api/v1/users/export").param("format", "csv"))
+                .andExpect(status().isOk());
+        });
+    }
+
+    private static void authenticateAs(UUID principal, String authority) {
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+            principal, null, AuthorityUtils.createAuthorityList(authority)));
+    }
+
+    private static MockMvc mockMvc(Object controller) {
+        return MockMvcBuilders.standaloneSetup(controller)
+            .setCustomArgumentResolvers(new AuthenticationPrincipalArgumentResolver())
+            .setControllerAdvice(new GlobalExceptionHandler())
+            .build();
+    }
+}
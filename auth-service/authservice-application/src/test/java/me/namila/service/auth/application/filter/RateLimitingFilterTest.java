@@ -0,0 +1,158 @@
+package me.namila.service.auth.application.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.ServletRequest;
+import me.namila.service.auth.domain.application.port.auth.RateLimiterPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for RateLimitingFilter.
+ */
+@DisplayName("RateLimitingFilter Unit Tests")
+class RateLimitingFilterTest {
+
+    private static final String LOGIN_BODY = "{\"username\":\"alice\",\"password\":\"correct horse battery staple\"}";
+
+    private RateLimiterPort rateLimiter;
+    private RateLimitingFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        rateLimiter = mock(RateLimiterPort.class);
+        when(rateLimiter.tryAcquire(anyString(), anyInt(), any(Duration.class))).thenReturn(0L);
+        filter = new RateLimitingFilter(rateLimiter, new ObjectMapper(), true,
+            60, Duration.ofMinutes(1), 600, Duration.ofMinutes(1), 10, Duration.ofMinutes(1),
+            1200, Duration.ofMinutes(1), 600, Duration.ofMinutes(1));
+    }
+
+    @Test
+    @DisplayName("doFilter_InspectedBody_ShouldReplayItToReadListener")
+    void doFilter_InspectedBody_ShouldReplayItToReadListener() throws Exception {
+        // Given
+        MockHttpServletRequest request = loginRequest(LOGIN_BODY.getBytes(StandardCharsets.UTF_8));
+        ByteArrayOutputStream replayed = new ByteArrayOutputStream();
+        AtomicBoolean allDataRead = new AtomicBoolean();
+
+        // When
+        filter.doFilter(request, new MockHttpServletResponse(), chain(forwarded -> {
+            ServletInputStream input = forwarded.getInputStream();
+            input.setReadListener(new ReadListener() {
+                @Override
+                public void onDataAvailable() throws IOException {
+                    while (input.isReady() && !input.isFinished()) {
+                        replayed.write(input.read());
+                    }
+                }
+
+                @Override
+                public void onAllDataRead() {
+                    allDataRead.set(true);
+                }
+
+                @Override
+                public void onError(Throwable throwable) {
+                    fail(throwable);
+                }
+            });
+        }));
+
+        // Then
+        assertEquals(LOGIN_BODY, replayed.toString(StandardCharsets.UTF_8));
+        assertTrue(allDataRead.get());
+        verify(rateLimiter).tryAcquire(eq("subject:user:alice"), eq(10), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("doFilter_BodyLargerThanInspected_ShouldHandReadListenerToOriginalStream")
+    void doFilter_BodyLargerThanInspected_ShouldHandReadListenerToOriginalStream() throws Exception {
+        // Given
+        ServletInputStream original = mock(ServletInputStream.class);
+        when(original.readNBytes(anyInt())).thenAnswer(invocation -> new byte[invocation.<Integer>getArgument(0)]);
+        MockHttpServletRequest request = spy(loginRequest(new byte[0]));
+        doReturn(original).when(request).getInputStream();
+        ReadListener listener = mock(ReadListener.class);
+
+        // When
+        filter.doFilter(request, new MockHttpServletResponse(),
+            chain(forwarded -> forwarded.getInputStream().setReadListener(listener)));
+
+        // Then
+        verify(original).setReadListener(listener);
+        verifyNoInteractions(listener);
+    }
+
+    @Test
+    @DisplayName("doFilter_InspectedBodyReadTwice_ShouldReturnSameStream")
+    void doFilter_InspectedBodyReadTwice_ShouldReturnSameStream() throws Exception {
+        // Given
+        MockHttpServletRequest request = loginRequest(LOGIN_BODY.getBytes(StandardCharsets.UTF_8));
+        AtomicBoolean sameStream = new AtomicBoolean();
+
+        // When
+        filter.doFilter(request, new MockHttpServletResponse(),
+            chain(forwarded -> sameStream.set(forwarded.getInputStream() == forwarded.getInputStream())));
+
+        // Then
+        assertTrue(sameStream.get());
+    }
+
+    @Test
+    @DisplayName("doFilter_TokenGrant_ShouldUseTokenBucketsInsteadOfLoginBuckets")
+    void doFilter_TokenGrant_ShouldUseTokenBucketsInsteadOfLoginBuckets() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/oauth2/token");
+        request.setContentType(MediaType.APPLICATION_FORM_URLENCODED_VALUE);
+        request.setRemoteAddr("10.0.0.7");
+        request.addParameter("grant_type", "client_credentials");
+        request.addParameter("client_id", "orders-service");
+        FilterChain chain = mock(FilterChain.class);
+
+        // When
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        // Then
+        verify(rateLimiter).tryAcquire(eq("token:ip:10.0.0.7"), eq(1200), any(Duration.class));
+        verify(rateLimiter).tryAcquire(eq("token:client:orders-service"), eq(600), any(Duration.class));
+        verify(rateLimiter, never()).tryAcquire(startsWith("ip:"), anyInt(), any(Duration.class));
+        verify(rateLimiter, never()).tryAcquire(startsWith("subject:"), anyInt(), any(Duration.class));
+        verify(chain).doFilter(eq(request), any());
+    }
+
+    private static MockHttpServletRequest loginRequest(byte[] body) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/auth/password/login");
+        request.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        request.setContent(body);
+        return request;
+    }
+
+    private static FilterChain chain(ForwardedRequestHandler handler) {
+        return (forwarded, response) -> handler.handle(forwarded);
+    }
+
+    @FunctionalInterface
+    private interface ForwardedRequestHandler {
+        void handle(ServletRequest forwarded) throws IOException;
+    }
+}
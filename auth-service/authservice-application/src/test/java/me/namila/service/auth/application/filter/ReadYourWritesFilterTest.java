@@ -0,0 +1,115 @@
+package me.namila.service.auth.application.filter;
+
+import jakarta.servlet.FilterChain;
+import me.namila.service.auth.data.config.ReadYourWritesContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.OptionalLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for ReadYourWritesFilter.
+ */
+@DisplayName("ReadYourWritesFilter Unit Tests")
+class ReadYourWritesFilterTest {
+
+    private static final Instant NOW = Instant.parse("2025-01-01T00:00:00Z");
+    private static final Duration WINDOW = Duration.ofSeconds(2);
+
+    private ReadYourWritesFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        filter = new ReadYourWritesFilter(WINDOW, Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReadYourWritesContext.clear();
+    }
+
+    @Test
+    @DisplayName("doFilter_RecentToken_ShouldRestoreLastWrite")
+    void doFilter_RecentToken_ShouldRestoreLastWrite() throws Exception {
+        // Given
+        long token = NOW.toEpochMilli() - 500L;
+
+        // When
+        OptionalLong restored = lastWriteAtDuringRequest(Long.toString(token));
+
+        // Then
+        assertEquals(OptionalLong.of(token), restored);
+    }
+
+    @Test
+    @DisplayName("doFilter_FutureToken_ShouldClampToNow")
+    void doFilter_FutureToken_ShouldClampToNow() throws Exception {
+        // Given: a token an hour ahead would otherwise pin reads to the primary for an hour
+        long token = NOW.plus(Duration.ofHours(1)).toEpochMilli();
+
+        // When
+        OptionalLong restored = lastWriteAtDuringRequest(Long.toString(token));
+
+        // Then
+        assertEquals(OptionalLong.of(NOW.toEpochMilli()), restored);
+    }
+
+    @Test
+    @DisplayName("doFilter_TokenOlderThanWindow_ShouldBeIgnored")
+    void doFilter_TokenOlderThanWindow_ShouldBeIgnored() throws Exception {
+        // Given
+        long token = NOW.minus(WINDOW).toEpochMilli();
+
+        // When
+        OptionalLong restored = lastWriteAtDuringRequest(Long.toString(token));
+
+        // Then
+        assertTrue(restored.isEmpty());
+    }
+
+    @Test
+    @DisplayName("doFilter_MalformedToken_ShouldBeIgnored")
+    void doFilter_MalformedToken_ShouldBeIgnored() throws Exception {
+        // When
+        OptionalLong restored = lastWriteAtDuringRequest("not-a-timestamp");
+
+        // Then
+        assertTrue(restored.isEmpty());
+    }
+
+    @Test
+    @DisplayName("doFilter_WriteCommitted_ShouldReturnTokenAndClearContext")
+    void doFilter_WriteCommitted_ShouldReturnTokenAndClearContext() throws Exception {
+        // Given
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FilterChain chain = (req, res) -> ReadYourWritesContext.recordWrite(NOW.toEpochMilli());
+
+        // When
+        filter.doFilter(new MockHttpServletRequest(), response, chain);
+
+        // Then
+        assertEquals(Long.toString(NOW.toEpochMilli()),
+            response.getHeader(ReadYourWritesFilter.CONSISTENCY_TOKEN_HEADER));
+        assertTrue(ReadYourWritesContext.getLastWriteAt().isEmpty());
+    }
+
+    private OptionalLong lastWriteAtDuringRequest(String token) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(ReadYourWritesFilter.CONSISTENCY_TOKEN_HEADER, token);
+        AtomicReference<OptionalLong> restored = new AtomicReference<>();
+        filter.doFilter(request, new MockHttpServletResponse(),
+            (req, res) -> restored.set(ReadYourWritesContext.getLastWriteAt()));
+        return restored.get();
+    }
+}
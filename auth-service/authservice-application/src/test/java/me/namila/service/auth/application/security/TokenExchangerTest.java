@@ -0,0 +1,202 @@
+package me.namila.service.auth.application.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import me.namila.service.auth.domain.application.auth.dto.response.IntrospectionResponse;
+import me.namila.service.auth.domain.application.auth.dto.response.TokenExchangeResponse;
+import me.namila.service.auth.domain.core.exception.DomainException;
+import me.namila.service.auth.domain.core.exception.InvalidTokenException;
+import me.namila.service.auth.domain.core.identity.model.ServiceAccountAggregate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for TokenExchanger.
+ */
+@DisplayName("TokenExchanger Unit Tests")
+class TokenExchangerTest {
+
+    private static final Instant NOW = Instant.parse("2025-01-01T00:00:00Z");
+    private static final Duration MAX_TTL = Duration.ofMinutes(30);
+    private static final String SUBJECT_TOKEN = "subject-jwt";
+    private static final String ACCESS_TOKEN = TokenExchanger.ACCESS_TOKEN_TYPE;
+
+    private TokenIntrospector tokenIntrospector;
+    private JwtTokenProvider tokenProvider;
+    private ServiceAccountAggregate client;
+    private TokenExchanger exchanger;
+
+    @BeforeEach
+    void setUp() {
+        tokenIntrospector = mock(TokenIntrospector.class);
+        tokenProvider = mock(JwtTokenProvider.class);
+        when(tokenProvider.createAudienceToken(anyMap(), anyString(), anyString(), any()))
+            .thenReturn("exchanged-1", "exchanged-2", "exchanged-3", "exchanged-4", "exchanged-5");
+        client = ServiceAccountAggregate.builder()
+            .clientId("orders-api")
+            .audiences(Set.of("billing", "inventory"))
+            .build();
+        exchanger = new TokenExchanger(tokenIntrospector, tokenProvider, MAX_TTL, 100, new SimpleMeterRegistry(),
+            Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @Test
+    @DisplayName("exchange_ScopeSubset_ShouldNarrowToRequestedScopes")
+    void exchange_ScopeSubset_ShouldNarrowToRequestedScopes() {
+        // Given
+        subjectIs(userSubject(NOW.plus(Duration.ofHours(1))).build());
+
+        // When
+        TokenExchangeResponse response = exchanger.exchange(client, SUBJECT_TOKEN, ACCESS_TOKEN, "billing",
+            "orders:read", null);
+
+        // Then
+        assertEquals("exchanged-1", response.accessToken());
+        assertEquals("orders:read", response.scope());
+        assertEquals("orders:read", mintedClaims().get(JwtTokenProvider.SCOPE_CLAIM));
+    }
+
+    @Test
+    @DisplayName("exchange_ExchangedSubjectToken_ShouldOnlyNarrowFurther")
+    void exchange_ExchangedSubjectToken_ShouldOnlyNarrowFurther() {
+        // Given: an already exchanged token carries scopes instead of roles
+        subjectIs(IntrospectionResponse.builder()
+            .active(true)
+            .sub(UUID.randomUUID().toString())
+            .scope("orders:read")
+            .exp(NOW.plus(Duration.ofHours(1)).getEpochSecond())
+            .build());
+
+        // When
+        DomainException widened = assertThrows(DomainException.class, () -> exchanger.exchange(client,
+            SUBJECT_TOKEN, ACCESS_TOKEN, "billing", "orders:read orders:write", null));
+        TokenExchangeResponse response = exchanger.exchange(client, SUBJECT_TOKEN, ACCESS_TOKEN, "billing", null, null);
+
+        // Then
+        assertEquals("INVALID_SCOPE", widened.getErrorCode());
+        assertEquals("orders:read", response.scope());
+    }
+
+    @Test
+    @DisplayName("exchange_DPoPBoundSubjectWithoutItsProof_ShouldThrowInvalidToken")
+    void exchange_DPoPBoundSubjectWithoutItsProof_ShouldThrowInvalidToken() {
+        // Given
+        subjectIs(userSubject(NOW.plus(Duration.ofHours(1)))
+            .cnf(Map.of(JwtTokenProvider.JWK_THUMBPRINT, "key-1"))
+            .build());
+
+        // When / Then
+        assertThrows(InvalidTokenException.class,
+            () -> exchanger.exchange(client, SUBJECT_TOKEN, ACCESS_TOKEN, "billing", null, null));
+        assertThrows(InvalidTokenException.class,
+            () -> exchanger.exchange(client, SUBJECT_TOKEN, ACCESS_TOKEN, "billing", null, "key-2"));
+        verify(tokenProvider, never()).createAudienceToken(anyMap(), anyString(), anyString(), any());
+        assertEquals("DPoP", exchanger.exchange(client, SUBJECT_TOKEN, ACCESS_TOKEN, "billing", null, "key-1")
+            .tokenType());
+    }
+
+    @Test
+    @DisplayName("exchange_SubjectExpiresBeforeMaxTtl_ShouldExpireWithSubject")
+    void exchange_SubjectExpiresBeforeMaxTtl_ShouldExpireWithSubject() {
+        // Given
+        Instant subjectExpiry = NOW.plus(Duration.ofMinutes(10));
+        subjectIs(userSubject(subjectExpiry).build());
+
+        // When
+        TokenExchangeResponse response = exchanger.exchange(client, SUBJECT_TOKEN, ACCESS_TOKEN, "billing", null, null);
+
+        // Then
+        assertEquals(Duration.ofMinutes(10).toSeconds(), response.expiresIn());
+        verify(tokenProvider).createAudienceToken(anyMap(), anyString(), eq("billing"), eq(subjectExpiry));
+    }
+
+    @Test
+    @DisplayName("exchange_LongLivedSubject_ShouldCapAtMaxTtl")
+    void exchange_LongLivedSubject_ShouldCapAtMaxTtl() {
+        // Given
+        subjectIs(userSubject(NOW.plus(Duration.ofHours(2))).build());
+
+        // When
+        TokenExchangeResponse response = exchanger.exchange(client, SUBJECT_TOKEN, ACCESS_TOKEN, "billing", null, null);
+
+        // Then
+        assertEquals(MAX_TTL.toSeconds(), response.expiresIn());
+        verify(tokenProvider).createAudienceToken(anyMap(), anyString(), eq("billing"), eq(NOW.plus(MAX_TTL)));
+    }
+
+    @Test
+    @DisplayName("exchange_DifferentAudienceScopesOrKey_ShouldCacheSeparately")
+    void exchange_DifferentAudienceScopesOrKey_ShouldCacheSeparately() {
+        // Given
+        subjectIs(userSubject(NOW.plus(Duration.ofHours(1))).build());
+
+        // When
+        String first = exchanger.exchange(client, SUBJECT_TOKEN, ACCESS_TOKEN, "billing",
+            "orders:read orders:write", null).accessToken();
+        String reordered = exchanger.exchange(client, SUBJECT_TOKEN, ACCESS_TOKEN, "billing",
+            "orders:write orders:read", null).accessToken();
+        String otherAudience = exchanger.exchange(client, SUBJECT_TOKEN, ACCESS_TOKEN, "inventory",
+            "orders:read orders:write", null).accessToken();
+        String otherScopes = exchanger.exchange(client, SUBJECT_TOKEN, ACCESS_TOKEN, "billing",
+            "orders:read", null).accessToken();
+        String bound = exchanger.exchange(client, SUBJECT_TOKEN, ACCESS_TOKEN, "billing",
+            "orders:read orders:write", "key-1").accessToken();
+
+        // Then
+        assertEquals("exchanged-1", first);
+        assertEquals("exchanged-1", reordered);
+        assertEquals("exchanged-2", otherAudience);
+        assertEquals("exchanged-3", otherScopes);
+        assertEquals("exchanged-4", bound);
+        verify(tokenProvider, times(4)).createAudienceToken(anyMap(), anyString(), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("exchange_AudienceNotAllowedForClient_ShouldThrowInvalidTarget")
+    void exchange_AudienceNotAllowedForClient_ShouldThrowInvalidTarget() {
+        // When
+        DomainException ex = assertThrows(DomainException.class,
+            () -> exchanger.exchange(client, SUBJECT_TOKEN, ACCESS_TOKEN, "payroll", null, null));
+
+        // Then
+        assertEquals("INVALID_TARGET", ex.getErrorCode());
+        verifyNoInteractions(tokenIntrospector, tokenProvider);
+    }
+
+    private void subjectIs(IntrospectionResponse subject) {
+        when(tokenIntrospector.introspect(SUBJECT_TOKEN)).thenReturn(subject);
+    }
+
+    private static IntrospectionResponse.IntrospectionResponseBuilder userSubject(Instant expiresAt) {
+        return IntrospectionResponse.builder()
+            .active(true)
+            .sub(UUID.randomUUID().toString())
+            .username("alice")
+            .roles(List.of("orders:read", "orders:write"))
+            .exp(expiresAt.getEpochSecond());
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> mintedClaims() {
+        ArgumentCaptor<Map<String, Object>> claims = ArgumentCaptor.forClass(Map.class);
+        verify(tokenProvider).createAudienceToken(claims.capture(), anyString(), anyString(), any());
+        return claims.getValue();
+    }
+}
@@ -0,0 +1,151 @@
+package me.namila.service.auth.application.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import me.namila.service.auth.domain.application.auth.dto.response.IntrospectionResponse;
+import me.namila.service.auth.domain.application.auth.service.ClaimDictionaryService;
+import me.namila.service.auth.domain.application.auth.service.EntitlementService;
+import me.namila.service.auth.domain.application.identity.service.UserAccessApplicationService;
+import me.namila.service.auth.domain.application.port.auth.TokenRevocationPort;
+import me.namila.service.auth.domain.application.port.identity.UserStatusGatePort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for TokenIntrospector.
+ */
+@DisplayName("TokenIntrospector Unit Tests")
+class TokenIntrospectorTest {
+
+    private static final Instant NOW = Instant.parse("2025-01-01T00:00:00Z");
+    private static final Instant EXPIRES_AT = NOW.plus(Duration.ofMinutes(30));
+
+    private JwtTokenProvider tokenProvider;
+    private TokenRevocationPort revocationPort;
+    private Clock clock;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        tokenProvider = mock(JwtTokenProvider.class);
+        revocationPort = mock(TokenRevocationPort.class);
+        clock = mock(Clock.class);
+        when(clock.instant()).thenReturn(NOW);
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("introspect_ValidToken_ShouldReturnActiveAndVerifyOnce")
+    void introspect_ValidToken_ShouldReturnActiveAndVerifyOnce() {
+        // Given
+        UUID userId = UUID.randomUUID();
+        tokenIs("token-a", userId);
+        TokenIntrospector introspector = introspector(100);
+
+        // When
+        IntrospectionResponse first = introspector.introspect("token-a");
+        IntrospectionResponse second = introspector.introspect("token-a");
+
+        // Then
+        assertTrue(first.active());
+        assertEquals(userId.toString(), first.sub());
+        assertEquals(List.of("user"), first.roles());
+        assertEquals(EXPIRES_AT.getEpochSecond(), first.exp());
+        assertEquals(first, second);
+        verify(tokenProvider, times(1)).parseClaims("token-a");
+    }
+
+    @Test
+    @DisplayName("introspect_CachedTokenPastExpiry_ShouldReverifyAndReturnInactive")
+    void introspect_CachedTokenPastExpiry_ShouldReverifyAndReturnInactive() {
+        // Given
+        tokenIs("token-a", UUID.randomUUID());
+        TokenIntrospector introspector = introspector(100);
+        assertTrue(introspector.introspect("token-a").active());
+        when(clock.instant()).thenReturn(EXPIRES_AT.plusSeconds(1));
+        when(tokenProvider.parseClaims("token-a")).thenReturn(Optional.empty());
+
+        // When
+        IntrospectionResponse response = introspector.introspect("token-a");
+
+        // Then
+        assertFalse(response.active());
+        verify(tokenProvider, times(2)).parseClaims("token-a");
+    }
+
+    @Test
+    @DisplayName("introspect_RevokedCachedToken_ShouldReturnInactive")
+    void introspect_RevokedCachedToken_ShouldReturnInactive() {
+        // Given
+        tokenIs("token-a", UUID.randomUUID());
+        TokenIntrospector introspector = introspector(100);
+        assertTrue(introspector.introspect("token-a").active());
+        when(revocationPort.isRevoked(any(), any(), any())).thenReturn(true);
+
+        // When
+        IntrospectionResponse response = introspector.introspect("token-a");
+
+        // Then: the revocation check is re-applied on a cache hit
+        assertFalse(response.active());
+        verify(tokenProvider, times(1)).parseClaims("token-a");
+    }
+
+    @Test
+    @DisplayName("introspect_CacheFull_ShouldEvictLeastRecentlyUsedToken")
+    void introspect_CacheFull_ShouldEvictLeastRecentlyUsedToken() {
+        // Given
+        tokenIs("token-a", UUID.randomUUID());
+        tokenIs("token-b", UUID.randomUUID());
+        tokenIs("token-c", UUID.randomUUID());
+        TokenIntrospector introspector = introspector(2);
+
+        // When
+        introspector.introspect("token-a");
+        introspector.introspect("token-b");
+        introspector.introspect("token-a");
+        introspector.introspect("token-c");
+        introspector.introspect("token-a");
+        introspector.introspect("token-b");
+
+        // Then: token-b was the least recently used when token-c arrived; token-a stayed cached
+        verify(tokenProvider, times(1)).parseClaims("token-a");
+        verify(tokenProvider, times(2)).parseClaims("token-b");
+        assertEquals(2.0, meterRegistry.get("auth.tokens.introspection.cache.entries").gauge().value());
+    }
+
+    private TokenIntrospector introspector(int maxEntries) {
+        EntitlementService entitlementService = mock(EntitlementService.class);
+        when(entitlementService.isCurrent(any(), anyLong())).thenReturn(true);
+        UserAccessApplicationService userAccessService = mock(UserAccessApplicationService.class);
+        when(userAccessService.canAuthenticate(any())).thenReturn(true);
+        return new TokenIntrospector(tokenProvider, revocationPort, entitlementService,
+            mock(ClaimDictionaryService.class), userAccessService, mock(UserStatusGatePort.class),
+            Duration.ofSeconds(30), maxEntries, meterRegistry, clock);
+    }
+
+    private void tokenIs(String token, UUID userId) {
+        Claims claims = Jwts.claims()
+            .subject(userId.toString())
+            .id(UUID.randomUUID().toString())
+            .issuedAt(Date.from(NOW))
+            .expiration(Date.from(EXPIRES_AT))
+            .add("roles", List.of("user"))
+            .build();
+        when(tokenProvider.parseClaims(token)).thenReturn(Optional.of(claims));
+    }
+}
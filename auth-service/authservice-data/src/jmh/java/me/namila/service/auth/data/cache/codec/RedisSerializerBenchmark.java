@@ -0,0 +1,83 @@
+package me.namila.service.auth.data.cache.codec;
+
+import me.namila.service.auth.domain.application.identity.dto.response.UserSummaryResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the binary cache codec with the previous GenericJackson2JsonRedisSerializer
+ * on the user summaries cached for batch lookups.
+ * Run with {@code ./gradlew :authservice-data:jmh}; payload sizes are printed during setup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RedisSerializerBenchmark {
+    
+    private RedisSerializer<Object> json;
+    private RedisSerializer<Object> binary;
+    private Object value;
+    private byte[] jsonBytes;
+    private byte[] binaryBytes;
+    
+    @Setup(Level.Trial)
+    public void setUp() {
+        json = new GenericJackson2JsonRedisSerializer();
+        binary = new BinaryRedisSerializer(
+            List.of(new UserSummaryCodec()), new GenericJackson2JsonRedisSerializer(), 512);
+        value = userSummary();
+        jsonBytes = json.serialize(value);
+        binaryBytes = binary.serialize(value);
+        System.out.printf("%nuserSummary: json=%d bytes, binary=%d bytes%n", jsonBytes.length, binaryBytes.length);
+    }
+    
+    @Benchmark
+    public byte[] jsonSerialize() {
+        return json.serialize(value);
+    }
+    
+    @Benchmark
+    public byte[] binarySerialize() {
+        return binary.serialize(value);
+    }
+    
+    @Benchmark
+    public Object jsonDeserialize() {
+        return json.deserialize(jsonBytes);
+    }
+    
+    @Benchmark
+    public Object binaryDeserialize() {
+        return binary.deserialize(binaryBytes);
+    }
+    
+    private static UserSummaryResponse userSummary() {
+        return UserSummaryResponse.builder()
+            .userId(UUID.randomUUID())
+            .username("jane.doe")
+            .email("jane.doe@example.com")
+            .status("ACTIVE")
+            .displayName("Jane Doe")
+            .createdAt(Instant.now())
+            .build();
+    }
+}
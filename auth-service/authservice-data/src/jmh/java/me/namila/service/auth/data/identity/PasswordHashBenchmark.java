@@ -0,0 +1,64 @@
+package me.namila.service.auth.data.identity;
+
+import me.namila.service.auth.domain.application.auth.credential.PasswordHashes;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures Argon2id password verification across memory and iteration costs, to pick
+ * auth.credentials.password.argon2 for the hardware the service runs on. Aim for the
+ * highest cost whose verification stays within the login latency budget, then size
+ * auth.credentials.password.hashing.threads so threads x memory fits the heap headroom.
+ * Run with {@code ./gradlew :authservice-data:jmh}; set {@code threads} in the jmh block to
+ * see the cost under that many concurrent logins.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PasswordHashBenchmark {
+    
+    private static final String PASSWORD = "correct horse battery staple";
+    
+    @Param({"19456", "47104", "65536"})
+    private int memoryKib;
+    
+    @Param({"1", "2", "3"})
+    private int iterations;
+    
+    @Param({"1"})
+    private int parallelism;
+    
+    private PasswordHashes.Cost cost;
+    private String storedHash;
+    
+    @Setup(Level.Trial)
+    public void setUp() {
+        cost = new PasswordHashes.Cost(memoryKib, iterations, parallelism);
+        storedHash = PasswordHashes.hash(PASSWORD, cost);
+    }
+    
+    @Benchmark
+    public boolean verify() {
+        return PasswordHashes.verify(PASSWORD, storedHash);
+    }
+    
+    @Benchmark
+    public String hash() {
+        return PasswordHashes.hash(PASSWORD, cost);
+    }
+}
@@ -0,0 +1,99 @@
+package me.namila.service.auth.data.auth.adapter;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import me.namila.service.auth.data.auth.entitlement.LongEpochMap;
+import me.namila.service.auth.data.event.CacheInvalidationBatch;
+import me.namila.service.auth.domain.application.port.auth.EntitlementEpochPort;
+import me.namila.service.auth.domain.core.authorization.event.RoleChangedEvent;
+import me.namila.service.auth.domain.core.identity.event.UserChangedEvent;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-user entitlement epochs, replicated through the cache invalidation transport.
+ * Every node receives the same invalidations, including those the relay derives from role
+ * assignment changes, and moves the affected users' epochs to the time it learned of the
+ * change. A role change moves a global epoch instead, since it can affect any user.
+ * The global epoch starts at node start-up, so tokens minted before this node was listening
+ * are re-resolved rather than trusted. Epochs are wall-clock millis and only move forward,
+ * and tokens are stamped no lower than the minting node's wall clock, so nodes need not agree
+ * on exact values, only on time to within the configured maximum clock skew: a change moves
+ * an epoch past the local clock plus that skew, hence past every stamp another node took
+ * before the change, and staleness is bounded by invalidation delivery. A node whose clock
+ * runs further ahead than the skew can mint tokens that other nodes trust for up to the excess.
+ */
+@Component
+public class EntitlementEpochAdapter implements EntitlementEpochPort {
+
+    private final LongEpochMap userEpochs;
+    private final AtomicLong globalEpoch;
+    private final long maxClockSkewMillis;
+    private final Clock clock;
+
+    @Autowired
+    public EntitlementEpochAdapter(
+            @Value("${auth.tokens.entitlement-epoch.initial-capacity:4096}") int initialCapacity,
+            @Value("${auth.tokens.entitlement-epoch.max-clock-skew:2s}") Duration maxClockSkew,
+            MeterRegistry meterRegistry) {
+        this(initialCapacity, maxClockSkew, meterRegistry, Clock.systemUTC());
+    }
+
+    EntitlementEpochAdapter(int initialCapacity, Duration maxClockSkew, MeterRegistry meterRegistry, Clock clock) {
+        this.userEpochs = new LongEpochMap(initialCapacity);
+        this.maxClockSkewMillis = maxClockSkew.toMillis();
+        this.clock = clock;
+        this.globalEpoch = new AtomicLong(skewedNow());
+        Gauge.builder("auth.tokens.entitlement-epoch.entries", userEpochs, LongEpochMap::size)
+            .description("Users with an entitlement epoch held locally")
+            .register(meterRegistry);
+    }
+
+    @Override
+    public long currentEpoch(UUID userId) {
+        return Math.max(globalEpoch.get(), userEpochs.get(key(userId)));
+    }
+
+    /**
+     * Move epochs forward for the users or roles in an invalidation batch.
+     * @param batch The coalesced invalidation batch
+     */
+    @EventListener
+    public void onInvalidation(CacheInvalidationBatch batch) {
+        if (UserChangedEvent.AGGREGATE_TYPE.equals(batch.aggregateType())) {
+            batch.aggregateIds().forEach(this::advanceUser);
+        } else if (RoleChangedEvent.AGGREGATE_TYPE.equals(batch.aggregateType())) {
+            globalEpoch.accumulateAndGet(skewedNow(), (current, now) -> Math.max(current, now) + 1);
+        }
+    }
+
+    /**
+     * Move a user's epoch past anything a token could have been stamped with so far.
+     * @param userId The user ID
+     */
+    void advanceUser(UUID userId) {
+        // Past this millisecond too: a token minted in it was stamped with the wall clock
+        userEpochs.advance(key(userId), Math.max(currentEpoch(userId), skewedNow()) + 1);
+    }
+
+    /**
+     * The latest wall-clock stamp any node within the tolerated skew can have taken by now.
+     */
+    private long skewedNow() {
+        return clock.millis() + maxClockSkewMillis;
+    }
+
+    /**
+     * Fold a UUID into a long key. Two users sharing a key only cause extra re-resolutions.
+     */
+    private static long key(UUID userId) {
+        return userId.getMostSignificantBits() ^ userId.getLeastSignificantBits();
+    }
+}
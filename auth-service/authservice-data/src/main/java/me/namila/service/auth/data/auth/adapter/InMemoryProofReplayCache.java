@@ -0,0 +1,24 @@
+package me.namila.service.auth.data.auth.adapter;
+
+import me.namila.service.auth.data.auth.replay.TimeBucketedJtiCache;
+import me.namila.service.auth.domain.application.port.auth.ProofReplayCachePort;
+
+import java.time.Instant;
+
+/**
+ * Per-node DPoP replay detection. A proof replayed against another node is not caught,
+ * which is acceptable when proofs are short-lived and nodes sit behind sticky routing.
+ */
+public class InMemoryProofReplayCache implements ProofReplayCachePort {
+    
+    private final TimeBucketedJtiCache cache;
+    
+    public InMemoryProofReplayCache(TimeBucketedJtiCache cache) {
+        this.cache = cache;
+    }
+    
+    @Override
+    public boolean markUsed(String jti, Instant issuedAt) {
+        return cache.markUsed(jti, issuedAt);
+    }
+}
@@ -0,0 +1,24 @@
+package me.namila.service.auth.data.auth.adapter;
+
+import me.namila.service.auth.data.auth.ratelimit.StripedTokenBuckets;
+import me.namila.service.auth.domain.application.port.auth.RateLimiterPort;
+
+import java.time.Duration;
+
+/**
+ * Per-node rate limiting. Each node enforces the limits on its own, so behind N nodes
+ * a client can get up to N times the configured rate.
+ */
+public class InMemoryRateLimiter implements RateLimiterPort {
+    
+    private final StripedTokenBuckets buckets;
+    
+    public InMemoryRateLimiter(StripedTokenBuckets buckets) {
+        this.buckets = buckets;
+    }
+    
+    @Override
+    public long tryAcquire(String key, int limit, Duration window) {
+        return buckets.tryAcquire(key, limit, window);
+    }
+}
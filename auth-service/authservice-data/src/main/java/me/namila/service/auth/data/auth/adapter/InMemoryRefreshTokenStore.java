@@ -0,0 +1,92 @@
+package me.namila.service.auth.data.auth.adapter;
+
+import me.namila.service.auth.domain.application.auth.token.RefreshTokenRotation;
+import me.namila.service.auth.domain.application.auth.token.TokenSubject;
+import me.namila.service.auth.domain.application.port.auth.RefreshTokenStorePort;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Single-node refresh token store for tests and local runs.
+ * Mirrors the Redis layout: one entry per family, updated atomically per key,
+ * with expired families treated as absent and dropped when next touched, and
+ * rotation never extending a family past its deadline.
+ */
+public class InMemoryRefreshTokenStore implements RefreshTokenStorePort {
+    
+    private final Map<UUID, Family> families = new ConcurrentHashMap<>();
+    private final Duration maxLifetime;
+    private final Clock clock;
+    
+    public InMemoryRefreshTokenStore(Duration maxLifetime) {
+        this(maxLifetime, Clock.systemUTC());
+    }
+    
+    public InMemoryRefreshTokenStore(Duration maxLifetime, Clock clock) {
+        this.maxLifetime = maxLifetime;
+        this.clock = clock;
+    }
+    
+    @Override
+    public void createFamily(UUID familyId, TokenSubject subject, String tokenHash, Duration ttl) {
+        Instant now = clock.instant();
+        Instant deadline = now.plus(maxLifetime);
+        families.put(familyId, new Family(subject, tokenHash, new HashSet<>(), earlier(now.plus(ttl), deadline),
+            deadline));
+    }
+    
+    @Override
+    public RefreshTokenRotation rotate(UUID familyId, String presentedHash, String nextHash, Duration ttl) {
+        RefreshTokenRotation[] result = {RefreshTokenRotation.invalid()};
+        families.computeIfPresent(familyId, (id, family) -> {
+            Instant now = clock.instant();
+            if (!family.expiresAt().isAfter(now)) {
+                return null;
+            }
+            if (family.current().equals(presentedHash)) {
+                Set<String> spent = new HashSet<>(family.spent());
+                spent.add(presentedHash);
+                result[0] = RefreshTokenRotation.rotated(family.subject());
+                return new Family(family.subject(), nextHash, spent, earlier(now.plus(ttl), family.deadline()),
+                    family.deadline());
+            }
+            if (family.spent().contains(presentedHash)) {
+                result[0] = RefreshTokenRotation.reuseDetected();
+                return null;
+            }
+            return family;
+        });
+        return result[0];
+    }
+    
+    @Override
+    public boolean revokeFamily(UUID familyId, String presentedHash) {
+        boolean[] revoked = {false};
+        families.computeIfPresent(familyId, (id, family) -> {
+            if (!family.expiresAt().isAfter(clock.instant())) {
+                return null;
+            }
+            if (family.current().equals(presentedHash) || family.spent().contains(presentedHash)) {
+                revoked[0] = true;
+                return null;
+            }
+            return family;
+        });
+        return revoked[0];
+    }
+    
+    private static Instant earlier(Instant a, Instant b) {
+        return a.isBefore(b) ? a : b;
+    }
+    
+    private record Family(TokenSubject subject, String current, Set<String> spent, Instant expiresAt,
+                          Instant deadline) {
+    }
+}
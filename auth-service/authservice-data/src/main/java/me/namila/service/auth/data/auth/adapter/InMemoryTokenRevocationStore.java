@@ -0,0 +1,50 @@
+package me.namila.service.auth.data.auth.adapter;
+
+import me.namila.service.auth.data.auth.revocation.RevocationCache;
+import me.namila.service.auth.domain.application.port.auth.TokenRevocationPort;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Single-node revocation list for tests and local runs; the local cache is the only copy.
+ */
+public class InMemoryTokenRevocationStore implements TokenRevocationPort {
+    
+    private final RevocationCache cache;
+    
+    public InMemoryTokenRevocationStore(RevocationCache cache) {
+        this.cache = cache;
+    }
+    
+    @Override
+    public void revokeToken(UUID jti, Instant expiresAt) {
+        if (expiresAt.isAfter(Instant.now())) {
+            cache.addToken(jti, expiresAt);
+        }
+    }
+    
+    @Override
+    public void revokeAllForUser(UUID userId, Instant before) {
+        cache.addUserCutoff(userId, before);
+    }
+    
+    @Override
+    public boolean isRevoked(UUID jti, UUID userId, Instant issuedAt) {
+        return cache.isRevoked(jti, userId, issuedAt);
+    }
+    
+    @Override
+    public boolean isRevokedForUser(UUID userId, Instant authenticatedAt) {
+        return cache.isRevokedForUser(userId, authenticatedAt);
+    }
+    
+    /**
+     * Forget expired revocations.
+     */
+    @Scheduled(fixedDelayString = "${auth.tokens.revocation.resync-interval:60s}")
+    public void prune() {
+        cache.rebuild();
+    }
+}
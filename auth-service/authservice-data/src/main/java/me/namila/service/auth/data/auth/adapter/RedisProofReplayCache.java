@@ -0,0 +1,47 @@
+package me.namila.service.auth.data.auth.adapter;
+
+import lombok.extern.slf4j.Slf4j;
+import me.namila.service.auth.data.auth.replay.TimeBucketedJtiCache;
+import me.namila.service.auth.domain.application.port.auth.ProofReplayCachePort;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Cross-node DPoP replay detection. The local {@link TimeBucketedJtiCache} answers first,
+ * so a proof replayed against the same node costs no round trip; a proof new to this node
+ * is claimed in Redis with SET NX, expiring once the proof could no longer be accepted.
+ * If Redis is unreachable the local answer stands, so replay detection degrades to
+ * per-node instead of rejecting every DPoP request.
+ */
+@Slf4j
+public class RedisProofReplayCache implements ProofReplayCachePort {
+    
+    private final StringRedisTemplate redisTemplate;
+    private final String keyPrefix;
+    private final TimeBucketedJtiCache localCache;
+    private final Duration retention;
+    
+    public RedisProofReplayCache(StringRedisTemplate redisTemplate, String keyPrefix,
+                                 TimeBucketedJtiCache localCache, Duration retention) {
+        this.redisTemplate = redisTemplate;
+        this.keyPrefix = keyPrefix;
+        this.localCache = localCache;
+        this.retention = retention;
+    }
+    
+    @Override
+    public boolean markUsed(String jti, Instant issuedAt) {
+        if (!localCache.markUsed(jti, issuedAt)) {
+            return false;
+        }
+        try {
+            return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(keyPrefix + jti, "1", retention));
+        } catch (DataAccessException ex) {
+            log.warn("DPoP replay check fell back to this node only: {}", ex.getMessage());
+            return true;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package me.namila.service.auth.data.auth.adapter;
+
+import lombok.extern.slf4j.Slf4j;
+import me.namila.service.auth.data.auth.ratelimit.StripedTokenBuckets;
+import me.namila.service.auth.domain.application.port.auth.RateLimiterPort;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Cluster-wide rate limiting with a sliding window log per key: a sorted set of request
+ * timestamps, trimmed to the window and capped at the limit by a Lua script. The local
+ * {@link StripedTokenBuckets} answer first, so a key already over its limit on this node
+ * is turned away without a round trip. Rejected requests are not logged, so a client
+ * that keeps retrying does not push its own window forward. If Redis is unreachable the
+ * local answer stands, so limits degrade to per-node instead of failing every login.
+ */
+@Slf4j
+public class RedisRateLimiter implements RateLimiterPort {
+    
+    private static final RedisScript<Long> ACQUIRE = new DefaultRedisScript<>("""
+        local now = tonumber(ARGV[1])
+        local window = tonumber(ARGV[2])
+        redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', now - window)
+        if redis.call('ZCARD', KEYS[1]) < tonumber(ARGV[3]) then
+            redis.call('ZADD', KEYS[1], now, ARGV[4])
+            redis.call('PEXPIRE', KEYS[1], window)
+            return 0
+        end
+        local oldest = redis.call('ZRANGE', KEYS[1], 0, 0, 'WITHSCORES')
+        return math.max(1, tonumber(oldest[2]) + window - now)
+        """, Long.class);
+    
+    private final StringRedisTemplate redisTemplate;
+    private final String keyPrefix;
+    private final StripedTokenBuckets localBuckets;
+    private final Clock clock;
+    
+    public RedisRateLimiter(StringRedisTemplate redisTemplate, String keyPrefix, StripedTokenBuckets localBuckets) {
+        this(redisTemplate, keyPrefix, localBuckets, Clock.systemUTC());
+    }
+    
+    RedisRateLimiter(StringRedisTemplate redisTemplate, String keyPrefix, StripedTokenBuckets localBuckets,
+                     Clock clock) {
+        this.redisTemplate = redisTemplate;
+        this.keyPrefix = keyPrefix;
+        this.localBuckets = localBuckets;
+        this.clock = clock;
+    }
+    
+    @Override
+    public long tryAcquire(String key, int limit, Duration window) {
+        long retryAfter = localBuckets.tryAcquire(key, limit, window);
+        if (retryAfter > 0) {
+            return retryAfter;
+        }
+        try {
+            Long result = redisTemplate.execute(ACQUIRE, List.of(keyPrefix + key),
+                Long.toString(clock.millis()),
+                Long.toString(window.toMillis()),
+                Integer.toString(limit),
+                UUID.randomUUID().toString());
+            return result != null ? result : 0;
+        } catch (DataAccessException ex) {
+            log.warn("Rate limit for {} fell back to this node only: {}", key, ex.getMessage());
+            return 0;
+        }
+    }
+}
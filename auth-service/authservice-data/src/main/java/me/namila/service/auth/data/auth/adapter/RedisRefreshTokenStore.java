@@ -0,0 +1,151 @@
+package me.namila.service.auth.data.auth.adapter;
+
+import me.namila.service.auth.domain.application.auth.token.RefreshTokenRotation;
+import me.namila.service.auth.domain.application.auth.token.TokenSubject;
+import me.namila.service.auth.domain.application.port.auth.RefreshTokenStorePort;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Redis-backed refresh token store.
+ * Each family is one hash holding the subject snapshot, the hash of the current token
+ * and a {@code spent:<hash>} field per rotated-away token. The key expires with the
+ * family, so revoking a family is a single DEL and expiry needs no sweeping.
+ * Rotation slides the expiry but never past the family's deadline, which caps both
+ * how long one login lasts and how many spent markers a family can collect.
+ * Rotation and revocation are Lua scripts, so concurrent refreshes of the same token
+ * cannot both succeed.
+ */
+public class RedisRefreshTokenStore implements RefreshTokenStorePort {
+    
+    private static final String ROLE_SEPARATOR = ",";
+    
+    private static final RedisScript<Long> CREATE = new DefaultRedisScript<>("""
+        redis.call('HSET', KEYS[1], 'current', ARGV[1], 'user', ARGV[3], 'username', ARGV[4],
+                   'email', ARGV[5], 'roles', ARGV[6], 'auth_time', ARGV[7], 'epoch', ARGV[8],
+                   'jkt', ARGV[9], 'deadline', ARGV[10])
+        redis.call('PEXPIREAT', KEYS[1], math.min(tonumber(ARGV[2]), tonumber(ARGV[10])))
+        return 1
+        """, Long.class);
+    
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static final RedisScript<List> ROTATE = new DefaultRedisScript<>("""
+        local current = redis.call('HGET', KEYS[1], 'current')
+        if not current then
+            return {'INVALID'}
+        end
+        if current == ARGV[1] then
+            local expireAt = tonumber(ARGV[3])
+            local deadline = tonumber(redis.call('HGET', KEYS[1], 'deadline'))
+            if deadline then
+                if deadline <= tonumber(ARGV[4]) then
+                    redis.call('DEL', KEYS[1])
+                    return {'INVALID'}
+                end
+                expireAt = math.min(expireAt, deadline)
+            end
+            redis.call('HSET', KEYS[1], 'current', ARGV[2], 'spent:' .. ARGV[1], '1')
+            redis.call('PEXPIREAT', KEYS[1], expireAt)
+            local subject = redis.call('HMGET', KEYS[1], 'user', 'username', 'email', 'roles', 'auth_time', 'epoch', 'jkt')
+            return {'ROTATED', subject[1], subject[2], subject[3], subject[4], subject[5], subject[6] or '0',
+                    subject[7] or ''}
+        end
+        if redis.call('HEXISTS', KEYS[1], 'spent:' .. ARGV[1]) == 1 then
+            redis.call('DEL', KEYS[1])
+            return {'REUSE_DETECTED'}
+        end
+        return {'INVALID'}
+        """, List.class);
+    
+    private static final RedisScript<Long> REVOKE = new DefaultRedisScript<>("""
+        local current = redis.call('HGET', KEYS[1], 'current')
+        if current and (current == ARGV[1] or redis.call('HEXISTS', KEYS[1], 'spent:' .. ARGV[1]) == 1) then
+            return redis.call('DEL', KEYS[1])
+        end
+        return 0
+        """, Long.class);
+    
+    private final StringRedisTemplate redisTemplate;
+    private final String keyPrefix;
+    private final Duration maxLifetime;
+    private final Clock clock;
+    
+    public RedisRefreshTokenStore(StringRedisTemplate redisTemplate, String keyPrefix, Duration maxLifetime) {
+        this(redisTemplate, keyPrefix, maxLifetime, Clock.systemUTC());
+    }
+    
+    RedisRefreshTokenStore(StringRedisTemplate redisTemplate, String keyPrefix, Duration maxLifetime, Clock clock) {
+        this.redisTemplate = redisTemplate;
+        this.keyPrefix = keyPrefix;
+        this.maxLifetime = maxLifetime;
+        this.clock = clock;
+    }
+    
+    @Override
+    public void createFamily(UUID familyId, TokenSubject subject, String tokenHash, Duration ttl) {
+        long now = clock.millis();
+        redisTemplate.execute(CREATE, List.of(key(familyId)),
+            tokenHash,
+            Long.toString(now + ttl.toMillis()),
+            subject.userId().toString(),
+            nullToEmpty(subject.username()),
+            nullToEmpty(subject.email()),
+            String.join(ROLE_SEPARATOR, subject.roles()),
+            Long.toString(subject.authenticatedAt().toEpochMilli()),
+            Long.toString(subject.entitlementEpoch()),
+            nullToEmpty(subject.confirmationKey()),
+            Long.toString(now + maxLifetime.toMillis()));
+    }
+    
+    @Override
+    public RefreshTokenRotation rotate(UUID familyId, String presentedHash, String nextHash, Duration ttl) {
+        long now = clock.millis();
+        List<?> result = redisTemplate.execute(ROTATE, List.of(key(familyId)),
+            presentedHash, nextHash, Long.toString(now + ttl.toMillis()), Long.toString(now));
+        if (result == null || result.isEmpty()) {
+            return RefreshTokenRotation.invalid();
+        }
+        return switch (RefreshTokenRotation.Outcome.valueOf((String) result.get(0))) {
+            case ROTATED -> RefreshTokenRotation.rotated(new TokenSubject(
+                UUID.fromString((String) result.get(1)),
+                emptyToNull((String) result.get(2)),
+                emptyToNull((String) result.get(3)),
+                toRoles((String) result.get(4)),
+                Instant.ofEpochMilli(Long.parseLong((String) result.get(5))),
+                Long.parseLong((String) result.get(6)),
+                emptyToNull((String) result.get(7))));
+            case REUSE_DETECTED -> RefreshTokenRotation.reuseDetected();
+            case INVALID -> RefreshTokenRotation.invalid();
+        };
+    }
+    
+    @Override
+    public boolean revokeFamily(UUID familyId, String presentedHash) {
+        Long deleted = redisTemplate.execute(REVOKE, List.of(key(familyId)), presentedHash);
+        return deleted != null && deleted > 0;
+    }
+    
+    private String key(UUID familyId) {
+        return keyPrefix + familyId;
+    }
+    
+    private static List<String> toRoles(String value) {
+        return value == null || value.isEmpty() ? List.of() : Arrays.asList(value.split(ROLE_SEPARATOR));
+    }
+    
+    private static String nullToEmpty(String value) {
+        return value != null ? value : "";
+    }
+    
+    private static String emptyToNull(String value) {
+        return value == null || value.isEmpty() ? null : value;
+    }
+}
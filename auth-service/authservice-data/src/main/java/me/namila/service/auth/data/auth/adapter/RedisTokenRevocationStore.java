@@ -0,0 +1,156 @@
+package me.namila.service.auth.data.auth.adapter;
+
+import lombok.extern.slf4j.Slf4j;
+import me.namila.service.auth.data.auth.revocation.RevocationCache;
+import me.namila.service.auth.data.auth.revocation.RevocationMessage;
+import me.namila.service.auth.domain.application.port.auth.TokenRevocationPort;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Redis-backed revocation list mirrored into a local {@link RevocationCache}.
+ * Each revocation is a key that expires when it stops mattering (the token's expiry,
+ * or the cut-off plus the longest session lifetime) and is announced on a pub/sub
+ * channel that every node applies to its cache. Pub/sub is fire-and-forget, so each
+ * node also rescans the keys periodically, which is also when expired entries leave
+ * the local Bloom filter.
+ */
+@Slf4j
+public class RedisTokenRevocationStore implements TokenRevocationPort, MessageListener {
+    
+    private static final int SCAN_BATCH = 500;
+    
+    private final StringRedisTemplate redisTemplate;
+    private final String keyPrefix;
+    private final String channel;
+    private final RevocationCache cache;
+    private final Duration userCutoffRetention;
+    
+    public RedisTokenRevocationStore(StringRedisTemplate redisTemplate, String keyPrefix, String channel,
+                                     RevocationCache cache, Duration userCutoffRetention) {
+        this.redisTemplate = redisTemplate;
+        this.keyPrefix = keyPrefix;
+        this.channel = channel;
+        this.cache = cache;
+        this.userCutoffRetention = userCutoffRetention;
+    }
+    
+    @Override
+    public void revokeToken(UUID jti, Instant expiresAt) {
+        Duration ttl = Duration.between(Instant.now(), expiresAt);
+        if (ttl.isNegative() || ttl.isZero()) {
+            return;
+        }
+        redisTemplate.opsForValue().set(tokenKey(jti), Long.toString(expiresAt.toEpochMilli()), ttl);
+        publish(new RevocationMessage(RevocationMessage.Type.TOKEN, jti, expiresAt));
+    }
+    
+    @Override
+    public void revokeAllForUser(UUID userId, Instant before) {
+        redisTemplate.opsForValue().set(userKey(userId), Long.toString(before.toEpochMilli()), userCutoffRetention);
+        publish(new RevocationMessage(RevocationMessage.Type.USER, userId, before));
+    }
+    
+    @Override
+    public boolean isRevoked(UUID jti, UUID userId, Instant issuedAt) {
+        return cache.isRevoked(jti, userId, issuedAt);
+    }
+    
+    @Override
+    public boolean isRevokedForUser(UUID userId, Instant authenticatedAt) {
+        return cache.isRevokedForUser(userId, authenticatedAt);
+    }
+    
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String payload = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            RevocationMessage.decode(payload).applyTo(cache);
+        } catch (IllegalArgumentException ex) {
+            log.warn("Ignoring malformed revocation message: {}", payload);
+        }
+    }
+    
+    /**
+     * Reload every live revocation from Redis and rebuild the local filter.
+     * Runs at startup and then periodically to repair missed messages.
+     */
+    @Scheduled(fixedDelayString = "${auth.tokens.revocation.resync-interval:60s}")
+    public void resync() {
+        try {
+            int tokens = load(keyPrefix + "jti:", RevocationMessage.Type.TOKEN);
+            int users = load(keyPrefix + "user:", RevocationMessage.Type.USER);
+            cache.rebuild();
+            log.debug("Resynced {} revoked tokens and {} user cut-offs", tokens, users);
+        } catch (RuntimeException ex) {
+            // Keep serving from the current cache; messages still arrive
+            log.warn("Revocation list resync failed, will retry", ex);
+        }
+    }
+    
+    private void publish(RevocationMessage message) {
+        // Apply locally first so this node honours the revocation even if pub/sub is down
+        message.applyTo(cache);
+        redisTemplate.convertAndSend(channel, message.encode());
+    }
+    
+    private int load(String prefix, RevocationMessage.Type type) {
+        int loaded = 0;
+        List<String> keys = new ArrayList<>(SCAN_BATCH);
+        try (Cursor<String> cursor = redisTemplate.scan(
+                ScanOptions.scanOptions().match(prefix + "*").count(SCAN_BATCH).build())) {
+            while (cursor.hasNext()) {
+                keys.add(cursor.next());
+                if (keys.size() == SCAN_BATCH) {
+                    loaded += loadBatch(keys, prefix, type);
+                    keys.clear();
+                }
+            }
+        }
+        if (!keys.isEmpty()) {
+            loaded += loadBatch(keys, prefix, type);
+        }
+        return loaded;
+    }
+    
+    private int loadBatch(List<String> keys, String prefix, RevocationMessage.Type type) {
+        List<String> values = redisTemplate.opsForValue().multiGet(keys);
+        if (values == null) {
+            return 0;
+        }
+        int loaded = 0;
+        for (int i = 0; i < keys.size(); i++) {
+            String value = values.get(i);
+            if (value == null) {
+                continue; // expired between SCAN and MGET
+            }
+            try {
+                UUID id = UUID.fromString(keys.get(i).substring(prefix.length()));
+                new RevocationMessage(type, id, Instant.ofEpochMilli(Long.parseLong(value))).applyTo(cache);
+                loaded++;
+            } catch (IllegalArgumentException ex) {
+                log.warn("Ignoring malformed revocation entry {}", keys.get(i));
+            }
+        }
+        return loaded;
+    }
+    
+    private String tokenKey(UUID jti) {
+        return keyPrefix + "jti:" + jti;
+    }
+    
+    private String userKey(UUID userId) {
+        return keyPrefix + "user:" + userId;
+    }
+}
@@ -0,0 +1,137 @@
+package me.namila.service.auth.data.auth.entitlement;
+
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Open-addressing map from primitive long keys to monotonically increasing long epochs.
+ * Keys and values live in two parallel {@code long[]} arrays, so an entry costs 16 bytes
+ * at full load and a lookup allocates nothing. Reads are optimistic and only fall back to
+ * a read lock when they race a writer; writes are serialised. Values only move forward
+ * ({@link #advance}), which lets replicas apply updates in any order.
+ */
+public final class LongEpochMap {
+
+    private static final long EMPTY = 0L;
+    private static final int MIN_CAPACITY = 16;
+
+    private final StampedLock lock = new StampedLock();
+    private Table table;
+    private int size;
+
+    public LongEpochMap(int initialCapacity) {
+        int capacity = Integer.highestOneBit(Math.max(MIN_CAPACITY, initialCapacity * 2 - 1));
+        this.table = new Table(new long[capacity], new long[capacity]);
+    }
+
+    /**
+     * Get the epoch for a key.
+     * @param key The key
+     * @return The epoch, or 0 if the key has none
+     */
+    public long get(long key) {
+        long normalised = normalise(key);
+        long stamp = lock.tryOptimisticRead();
+        long value = find(table, normalised);
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                value = find(table, normalised);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Move the epoch for a key forward; lower epochs are ignored.
+     * @param key The key
+     * @param epoch The new epoch
+     * @return The epoch held after the update
+     */
+    public long advance(long key, long epoch) {
+        long normalised = normalise(key);
+        long stamp = lock.writeLock();
+        try {
+            if ((size + 1) * 2 > table.keys().length) {
+                resize(table.keys().length * 2);
+            }
+            long[] keys = table.keys();
+            long[] values = table.values();
+            int mask = keys.length - 1;
+            int slot = slot(normalised, mask);
+            while (keys[slot] != EMPTY && keys[slot] != normalised) {
+                slot = (slot + 1) & mask;
+            }
+            if (keys[slot] == EMPTY) {
+                keys[slot] = normalised;
+                size++;
+            }
+            values[slot] = Math.max(values[slot], epoch);
+            return values[slot];
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    public int size() {
+        long stamp = lock.readLock();
+        try {
+            return size;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    private static long find(Table table, long key) {
+        long[] keys = table.keys();
+        long[] values = table.values();
+        int mask = keys.length - 1;
+        int slot = slot(key, mask);
+        // Bounded probe: an optimistic read may observe arrays mid-update
+        for (int probes = 0; probes < keys.length; probes++) {
+            long candidate = keys[slot];
+            if (candidate == key) {
+                return values[slot];
+            }
+            if (candidate == EMPTY) {
+                return 0L;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return 0L;
+    }
+
+    private void resize(int capacity) {
+        long[] oldKeys = table.keys();
+        long[] oldValues = table.values();
+        long[] newKeys = new long[capacity];
+        long[] newValues = new long[capacity];
+        int mask = capacity - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY) {
+                int slot = slot(oldKeys[i], mask);
+                while (newKeys[slot] != EMPTY) {
+                    slot = (slot + 1) & mask;
+                }
+                newKeys[slot] = oldKeys[i];
+                newValues[slot] = oldValues[i];
+            }
+        }
+        table = new Table(newKeys, newValues);
+    }
+
+    private static long normalise(long key) {
+        // 0 marks an empty slot; folding it onto 1 only ever makes a lookup more conservative
+        return key == EMPTY ? 1L : key;
+    }
+
+    private static int slot(long key, int mask) {
+        long hash = key * 0x9e3779b97f4a7c15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+
+    /** Both arrays behind one reference, so a reader racing a resize never pairs arrays of different sizes. */
+    private record Table(long[] keys, long[] values) {
+    }
+}
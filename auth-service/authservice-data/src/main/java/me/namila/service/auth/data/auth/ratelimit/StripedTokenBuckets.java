@@ -0,0 +1,139 @@
+package me.namila.service.auth.data.auth.ratelimit;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * Node-local token buckets, one per key, held in lock-striped maps.
+ * A key's stripe is picked by its hash, so concurrent requests only contend when their
+ * keys share a stripe. Buckets are refilled lazily from the time elapsed since they were
+ * last touched, so nothing runs in the background. Each stripe keeps its buckets in
+ * access order: buckets idle long enough to have refilled completely carry no state and
+ * are dropped from the cold end on the next acquisition, and a stripe at capacity drops
+ * its least recently used bucket, so key spraying cannot grow memory without bound.
+ */
+public class StripedTokenBuckets {
+    
+    private final Stripe[] stripes;
+    private final int maxEntriesPerStripe;
+    private final LongSupplier nanoClock;
+    
+    public StripedTokenBuckets(int stripes, int maxEntries, MeterRegistry meterRegistry) {
+        this(stripes, maxEntries, meterRegistry, System::nanoTime);
+    }
+    
+    StripedTokenBuckets(int stripes, int maxEntries, MeterRegistry meterRegistry, LongSupplier nanoClock) {
+        if (stripes < 1 || Integer.bitCount(stripes) != 1) {
+            throw new IllegalArgumentException("Stripe count must be a power of two");
+        }
+        this.stripes = new Stripe[stripes];
+        for (int i = 0; i < stripes; i++) {
+            this.stripes[i] = new Stripe();
+        }
+        this.maxEntriesPerStripe = Math.max(1, maxEntries / stripes);
+        this.nanoClock = nanoClock;
+        
+        Gauge.builder("auth.rate-limit.buckets", this, StripedTokenBuckets::size)
+            .description("Rate limit buckets held locally")
+            .register(meterRegistry);
+    }
+    
+    /**
+     * Take one token from a key's bucket, which holds {@code limit} tokens and refills
+     * completely over {@code window}.
+     * @param key The throttled key
+     * @param limit The bucket capacity
+     * @param window How long an empty bucket takes to refill
+     * @return 0 if a token was taken; otherwise the milliseconds until one is available
+     */
+    public long tryAcquire(String key, int limit, Duration window) {
+        long now = nanoClock.getAsLong();
+        double nanosPerToken = (double) window.toNanos() / limit;
+        Stripe stripe = stripes[spread(key.hashCode()) & (stripes.length - 1)];
+        stripe.lock.lock();
+        try {
+            stripe.evictIdle(now);
+            Bucket bucket = stripe.buckets.get(key);
+            if (bucket == null) {
+                bucket = new Bucket(limit, now, now + window.toNanos());
+                stripe.buckets.put(key, bucket);
+            } else {
+                bucket.tokens = Math.min(limit, bucket.tokens + (now - bucket.updatedAt) / nanosPerToken);
+                bucket.updatedAt = now;
+            }
+            if (bucket.tokens >= 1) {
+                bucket.tokens -= 1;
+                // Full again by then; until that point the bucket is still state worth keeping
+                bucket.idleAfter = now + (long) ((limit - bucket.tokens) * nanosPerToken);
+                return 0;
+            }
+            return Math.max(1, (long) Math.ceil((1 - bucket.tokens) * nanosPerToken / 1_000_000));
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+    
+    /**
+     * @return The number of buckets held across all stripes
+     */
+    public int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            stripe.lock.lock();
+            try {
+                size += stripe.buckets.size();
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+        return size;
+    }
+    
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+    
+    private final class Stripe {
+        
+        private final ReentrantLock lock = new ReentrantLock();
+        private final LinkedHashMap<String, Bucket> buckets = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Bucket> eldest) {
+                return size() > maxEntriesPerStripe;
+            }
+        };
+        
+        /**
+         * Drop refilled buckets from the least recently used end; stops at the first live one.
+         */
+        private void evictIdle(long now) {
+            Iterator<Bucket> coldest = buckets.values().iterator();
+            while (coldest.hasNext()) {
+                if (now - coldest.next().idleAfter < 0) {
+                    return;
+                }
+                coldest.remove();
+            }
+        }
+    }
+    
+    private static final class Bucket {
+        
+        private double tokens;
+        private long updatedAt;
+        private long idleAfter;
+        
+        private Bucket(double tokens, long updatedAt, long idleAfter) {
+            this.tokens = tokens;
+            this.updatedAt = updatedAt;
+            this.idleAfter = idleAfter;
+        }
+    }
+}
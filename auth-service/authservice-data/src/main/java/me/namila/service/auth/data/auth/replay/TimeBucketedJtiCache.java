@@ -0,0 +1,101 @@
+package me.namila.service.auth.data.auth.replay;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Node-local record of DPoP proof IDs seen within the acceptance window.
+ * IDs are kept in hash sets bucketed by the proof's issue time, one bucket per proof
+ * lifetime, in a ring just large enough to cover every issue time still accepted. A
+ * bucket that falls out of the window is dropped whole when its ring slot is reused, so
+ * a check is one set insertion and expiry needs no per-entry timers or sweeps.
+ */
+public class TimeBucketedJtiCache {
+    
+    private final long bucketMillis;
+    private final Duration maxAge;
+    private final Duration clockSkew;
+    private final Clock clock;
+    private final AtomicReferenceArray<Bucket> ring;
+    
+    public TimeBucketedJtiCache(Duration proofLifetime, Duration clockSkew, MeterRegistry meterRegistry) {
+        this(proofLifetime, clockSkew, meterRegistry, Clock.systemUTC());
+    }
+    
+    TimeBucketedJtiCache(Duration proofLifetime, Duration clockSkew, MeterRegistry meterRegistry, Clock clock) {
+        if (proofLifetime.isNegative() || proofLifetime.isZero()) {
+            throw new IllegalArgumentException("Proof lifetime must be positive");
+        }
+        this.bucketMillis = proofLifetime.toMillis();
+        this.maxAge = proofLifetime.plus(clockSkew);
+        this.clockSkew = clockSkew;
+        this.clock = clock;
+        // Accepted issue times span lifetime + 2 * skew; one extra slot keeps the bucket
+        // being reused strictly older than anything still accepted
+        long span = proofLifetime.plus(clockSkew.multipliedBy(2)).toMillis();
+        this.ring = new AtomicReferenceArray<>((int) ((span + bucketMillis - 1) / bucketMillis) + 2);
+        
+        Gauge.builder("auth.tokens.dpop.replay.entries", this, TimeBucketedJtiCache::size)
+            .description("DPoP proof IDs held for replay detection")
+            .register(meterRegistry);
+    }
+    
+    /**
+     * Record a proof ID as used.
+     * @param jti The proof ID
+     * @param issuedAt The proof's iat
+     * @return true the first time the ID is seen within the window; false for a replay
+     * or a proof issued outside the window
+     */
+    public boolean markUsed(String jti, Instant issuedAt) {
+        Instant now = clock.instant();
+        if (issuedAt.isBefore(now.minus(maxAge)) || issuedAt.isAfter(now.plus(clockSkew))) {
+            return false;
+        }
+        long index = Math.floorDiv(issuedAt.toEpochMilli(), bucketMillis);
+        Bucket bucket = bucketFor(index);
+        return bucket != null && bucket.jtis().add(jti);
+    }
+    
+    /**
+     * @return The number of proof IDs held, including those in buckets not yet reused
+     */
+    public int size() {
+        int size = 0;
+        for (int i = 0; i < ring.length(); i++) {
+            Bucket bucket = ring.get(i);
+            if (bucket != null) {
+                size += bucket.jtis().size();
+            }
+        }
+        return size;
+    }
+    
+    private Bucket bucketFor(long index) {
+        int slot = (int) Math.floorMod(index, (long) ring.length());
+        while (true) {
+            Bucket current = ring.get(slot);
+            if (current != null && current.index() == index) {
+                return current;
+            }
+            if (current != null && current.index() > index) {
+                // The slot already moved on; the issue time is older than the ring covers
+                return null;
+            }
+            Bucket fresh = new Bucket(index, ConcurrentHashMap.newKeySet());
+            if (ring.compareAndSet(slot, current, fresh)) {
+                return fresh;
+            }
+        }
+    }
+    
+    private record Bucket(long index, Set<String> jtis) {
+    }
+}
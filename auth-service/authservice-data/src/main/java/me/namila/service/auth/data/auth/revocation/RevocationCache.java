@@ -0,0 +1,144 @@
+package me.namila.service.auth.data.auth.revocation;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Node-local copy of the revocation list, consulted on every authenticated request.
+ * Revoked token IDs are held in an exact map fronted by a Bloom filter: a token that
+ * was never revoked, the common case, is rejected by the filter in a few bit probes,
+ * and only filter hits consult the map. Per-user cut-offs are few and checked directly.
+ * The filter cannot forget, so {@link #rebuild()} replaces it with one sized for the
+ * entries still live.
+ */
+public class RevocationCache {
+    
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+    private final Duration userCutoffRetention;
+    private final Clock clock;
+    
+    private final Map<UUID, Instant> revokedTokens = new ConcurrentHashMap<>();
+    private final Map<UUID, Instant> userCutoffs = new ConcurrentHashMap<>();
+    private volatile BloomFilter bloomFilter;
+    
+    private final Counter filterNegatives;
+    private final Counter filterPositives;
+    private final Counter falsePositives;
+    
+    public RevocationCache(long expectedInsertions, double falsePositiveRate, Duration userCutoffRetention,
+                           MeterRegistry meterRegistry) {
+        this(expectedInsertions, falsePositiveRate, userCutoffRetention, meterRegistry, Clock.systemUTC());
+    }
+    
+    RevocationCache(long expectedInsertions, double falsePositiveRate, Duration userCutoffRetention,
+                    MeterRegistry meterRegistry, Clock clock) {
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.userCutoffRetention = userCutoffRetention;
+        this.clock = clock;
+        this.bloomFilter = BloomFilter.create(expectedInsertions, falsePositiveRate);
+        
+        Counter.Builder checks = Counter.builder("auth.tokens.revocation.checks")
+            .description("Revocation checks of token IDs, by how they were answered");
+        this.filterNegatives = checks.tag("result", "filter-negative").register(meterRegistry);
+        this.filterPositives = checks.tag("result", "filter-positive").register(meterRegistry);
+        this.falsePositives = checks.tag("result", "false-positive").register(meterRegistry);
+        Gauge.builder("auth.tokens.revocation.filter.bits", this, cache -> cache.bloomFilter.bitSize())
+            .description("Size of the revocation Bloom filter")
+            .baseUnit("bits")
+            .register(meterRegistry);
+        Gauge.builder("auth.tokens.revocation.filter.hash-functions", this, cache -> cache.bloomFilter.hashFunctions())
+            .description("Hash functions per revocation Bloom filter lookup")
+            .register(meterRegistry);
+        Gauge.builder("auth.tokens.revocation.filter.false-positive-rate", this,
+                cache -> cache.bloomFilter.estimatedFalsePositiveRate())
+            .description("Estimated false-positive rate of the revocation Bloom filter at its current fill")
+            .register(meterRegistry);
+        Gauge.builder("auth.tokens.revocation.entries", revokedTokens, Map::size)
+            .description("Revoked token IDs held locally")
+            .tag("type", "token")
+            .register(meterRegistry);
+        Gauge.builder("auth.tokens.revocation.entries", userCutoffs, Map::size)
+            .description("Per-user revocation cut-offs held locally")
+            .tag("type", "user")
+            .register(meterRegistry);
+    }
+    
+    /**
+     * Check a token against the local revocation state.
+     * @param jti The token ID, or null if the token has none
+     * @param userId The token's user
+     * @param issuedAt When the token was issued
+     * @return true if the token has been revoked
+     */
+    public boolean isRevoked(UUID jti, UUID userId, Instant issuedAt) {
+        if (isRevokedForUser(userId, issuedAt)) {
+            return true;
+        }
+        if (jti == null) {
+            return false;
+        }
+        if (!bloomFilter.mightContain(jti)) {
+            filterNegatives.increment();
+            return false;
+        }
+        filterPositives.increment();
+        if (revokedTokens.containsKey(jti)) {
+            return true;
+        }
+        falsePositives.increment();
+        return false;
+    }
+    
+    public boolean isRevokedForUser(UUID userId, Instant at) {
+        if (userId == null || at == null || userCutoffs.isEmpty()) {
+            return false;
+        }
+        Instant cutoff = userCutoffs.get(userId);
+        return cutoff != null && at.isBefore(cutoff);
+    }
+    
+    public void addToken(UUID jti, Instant expiresAt) {
+        // Map first: a concurrent rebuild that misses this entry swaps the filter before we read it below
+        revokedTokens.put(jti, expiresAt);
+        bloomFilter.put(jti);
+    }
+    
+    public void addUserCutoff(UUID userId, Instant before) {
+        // iat has second granularity: a sub-second cut-off would also reject tokens minted later in that second
+        Instant cutoff = before.truncatedTo(ChronoUnit.SECONDS);
+        userCutoffs.merge(userId, cutoff, (existing, added) -> added.isAfter(existing) ? added : existing);
+    }
+    
+    /**
+     * Drop expired entries and replace the Bloom filter with one holding only live token IDs.
+     * The new filter is sized for twice the live entries if that exceeds the configured size,
+     * so the false-positive rate stays near its target as the list grows.
+     */
+    public void rebuild() {
+        Instant now = clock.instant();
+        revokedTokens.values().removeIf(expiresAt -> !expiresAt.isAfter(now));
+        userCutoffs.values().removeIf(before -> !before.plus(userCutoffRetention).isAfter(now));
+        
+        BloomFilter rebuilt = BloomFilter.create(
+            Math.max(expectedInsertions, 2L * revokedTokens.size()), falsePositiveRate);
+        revokedTokens.keySet().forEach(rebuilt::put);
+        bloomFilter = rebuilt;
+        // Entries added while the filter was being filled may have gone into the old one
+        revokedTokens.keySet().forEach(rebuilt::put);
+    }
+    
+    public int size() {
+        return revokedTokens.size();
+    }
+}
@@ -0,0 +1,54 @@
+package me.namila.service.auth.data.auth.revocation;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Cross-node revocation change.
+ * Encoded as "{T|U}:{id}:{epochMillis}" on the wire: a token ID with its expiry,
+ * or a user ID with the cut-off before which its tokens are revoked.
+ */
+public record RevocationMessage(Type type, UUID id, Instant instant) {
+    
+    public enum Type {
+        TOKEN('T'),
+        USER('U');
+        
+        private final char code;
+        
+        Type(char code) {
+            this.code = code;
+        }
+        
+        static Type fromCode(char code) {
+            for (Type type : values()) {
+                if (type.code == code) {
+                    return type;
+                }
+            }
+            throw new IllegalArgumentException("Unknown revocation type: " + code);
+        }
+    }
+    
+    public String encode() {
+        return type.code + ":" + id + ":" + instant.toEpochMilli();
+    }
+    
+    public static RevocationMessage decode(String payload) {
+        String[] parts = payload.split(":");
+        if (parts.length != 3 || parts[0].length() != 1) {
+            throw new IllegalArgumentException("Malformed revocation message: " + payload);
+        }
+        return new RevocationMessage(
+            Type.fromCode(parts[0].charAt(0)),
+            UUID.fromString(parts[1]),
+            Instant.ofEpochMilli(Long.parseLong(parts[2])));
+    }
+    
+    public void applyTo(RevocationCache cache) {
+        switch (type) {
+            case TOKEN -> cache.addToken(id, instant);
+            case USER -> cache.addUserCutoff(id, instant);
+        }
+    }
+}
@@ -1,9 +1,12 @@
 package me.namila.service.auth.data.authorization.adapter;
 
 import lombok.RequiredArgsConstructor;
+import me.namila.service.auth.common.domain.ChangeType;
 import me.namila.service.auth.data.authorization.mapper.PolicyEntityMapper;
 import me.namila.service.auth.data.authorization.repository.PolicyJpaRepository;
+import me.namila.service.auth.data.event.DomainEventDispatcher;
 import me.namila.service.auth.domain.application.port.authorization.PolicyRepositoryPort;
+import me.namila.service.auth.domain.core.authorization.event.PolicyChangedEvent;
 import me.namila.service.auth.domain.core.authorization.model.PolicyAggregate;
 import me.namila.service.auth.domain.core.authorization.model.id.PolicyId;
 import me.namila.service.auth.domain.core.authorization.valueobject.PolicyType;
@@ -22,11 +25,13 @@ public class PolicyRepositoryAdapter implements PolicyRepositoryPort {
     
     private final PolicyJpaRepository jpaRepository;
     private final PolicyEntityMapper mapper;
+    private final DomainEventDispatcher eventDispatcher;
     
     @Override
     public PolicyAggregate save(PolicyAggregate policy) {
         var entity = mapper.toEntity(policy);
         var saved = jpaRepository.save(entity);
+        eventDispatcher.dispatch(policy);
         return mapper.toDomain(saved);
     }
     
@@ -73,6 +78,7 @@ public class PolicyRepositoryAdapter implements PolicyRepositoryPort {
     @Override
     public void deleteById(PolicyId policyId) {
         jpaRepository.deleteById(policyId.getValue());
+        eventDispatcher.dispatch(PolicyChangedEvent.of(policyId.getValue(), ChangeType.DELETED));
     }
 }
 
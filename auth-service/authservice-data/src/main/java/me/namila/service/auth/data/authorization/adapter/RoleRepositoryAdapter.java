@@ -1,9 +1,14 @@
 package me.namila.service.auth.data.authorization.adapter;
 
 import lombok.RequiredArgsConstructor;
+import me.namila.service.auth.common.domain.ChangeType;
+import me.namila.service.auth.data.authorization.entity.RoleJpaEntity;
 import me.namila.service.auth.data.authorization.mapper.RoleEntityMapper;
 import me.namila.service.auth.data.authorization.repository.RoleJpaRepository;
+import me.namila.service.auth.data.cache.NaturalIdLoader;
+import me.namila.service.auth.data.event.DomainEventDispatcher;
 import me.namila.service.auth.domain.application.port.authorization.RoleRepositoryPort;
+import me.namila.service.auth.domain.core.authorization.event.RoleChangedEvent;
 import me.namila.service.auth.domain.core.authorization.model.RoleAggregate;
 import me.namila.service.auth.domain.core.authorization.model.id.RoleId;
 import me.namila.service.auth.domain.core.authorization.valueobject.RoleType;
@@ -23,11 +28,14 @@ public class RoleRepositoryAdapter implements RoleRepositoryPort {
     
     private final RoleJpaRepository jpaRepository;
     private final RoleEntityMapper mapper;
+    private final DomainEventDispatcher eventDispatcher;
+    private final NaturalIdLoader naturalIdLoader;
     
     @Override
     public RoleAggregate save(RoleAggregate role) {
         var entity = mapper.toEntity(role);
         var saved = jpaRepository.save(entity);
+        eventDispatcher.dispatch(role);
         return mapper.toDomain(saved);
     }
     
@@ -39,7 +47,7 @@ public class RoleRepositoryAdapter implements RoleRepositoryPort {
     
     @Override
     public Optional<RoleAggregate> findByRoleName(String roleName) {
-        return jpaRepository.findByRoleName(roleName)
+        return naturalIdLoader.load(RoleJpaEntity.class, roleName)
             .map(mapper::toDomain);
     }
     
@@ -65,6 +73,7 @@ public class RoleRepositoryAdapter implements RoleRepositoryPort {
     @Override
     public void deleteById(RoleId roleId) {
         jpaRepository.deleteById(roleId.getValue());
+        eventDispatcher.dispatch(RoleChangedEvent.of(roleId.getValue(), ChangeType.DELETED));
     }
 }
 
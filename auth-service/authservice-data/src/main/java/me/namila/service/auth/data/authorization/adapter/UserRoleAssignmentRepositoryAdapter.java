@@ -1,14 +1,19 @@
 package me.namila.service.auth.data.authorization.adapter;
 
 import lombok.RequiredArgsConstructor;
+import me.namila.service.auth.common.domain.ChangeType;
 import me.namila.service.auth.data.authorization.mapper.UserRoleAssignmentEntityMapper;
 import me.namila.service.auth.data.authorization.repository.UserRoleAssignmentJpaRepository;
+import me.namila.service.auth.data.event.DomainEventDispatcher;
 import me.namila.service.auth.domain.application.port.authorization.UserRoleAssignmentRepositoryPort;
+import me.namila.service.auth.domain.core.authorization.event.RoleChangedEvent;
+import me.namila.service.auth.domain.core.authorization.event.UserRoleAssignmentChangedEvent;
 import me.namila.service.auth.domain.core.authorization.model.UserRoleAssignmentAggregate;
 import me.namila.service.auth.domain.core.authorization.model.id.RoleId;
 import me.namila.service.auth.domain.core.authorization.model.id.UserRoleAssignmentId;
 import me.namila.service.auth.domain.core.authorization.valueobject.AssignmentScope;
 import me.namila.service.auth.domain.core.authorization.valueobject.AssignmentStatus;
+import me.namila.service.auth.domain.core.identity.event.UserChangedEvent;
 import me.namila.service.auth.domain.core.identity.model.id.UserId;
 import org.springframework.stereotype.Component;
 
@@ -26,11 +31,13 @@ public class UserRoleAssignmentRepositoryAdapter implements UserRoleAssignmentRe
     
     private final UserRoleAssignmentJpaRepository jpaRepository;
     private final UserRoleAssignmentEntityMapper mapper;
+    private final DomainEventDispatcher eventDispatcher;
     
     @Override
     public UserRoleAssignmentAggregate save(UserRoleAssignmentAggregate assignment) {
         var entity = mapper.toEntity(assignment);
         var saved = jpaRepository.save(entity);
+        eventDispatcher.dispatch(assignment);
         return mapper.toDomain(saved);
     }
     
@@ -86,17 +93,23 @@ public class UserRoleAssignmentRepositoryAdapter implements UserRoleAssignmentRe
     
     @Override
     public void deleteById(UserRoleAssignmentId assignmentId) {
-        jpaRepository.deleteById(assignmentId.getValue());
+        jpaRepository.findById(assignmentId.getValue()).ifPresent(entity -> {
+            jpaRepository.delete(entity);
+            eventDispatcher.dispatch(UserRoleAssignmentChangedEvent.of(
+                entity.getAssignmentId(), entity.getUserId(), entity.getRoleId(), ChangeType.DELETED));
+        });
     }
     
     @Override
     public void deleteByUserId(UserId userId) {
         jpaRepository.deleteByUser_UserId(userId.getValue());
+        eventDispatcher.dispatch(UserChangedEvent.of(userId.getValue(), ChangeType.UPDATED));
     }
     
     @Override
     public void deleteByRoleId(RoleId roleId) {
         jpaRepository.deleteByRole_RoleId(roleId.getValue());
+        eventDispatcher.dispatch(RoleChangedEvent.of(roleId.getValue(), ChangeType.UPDATED));
     }
 }
 
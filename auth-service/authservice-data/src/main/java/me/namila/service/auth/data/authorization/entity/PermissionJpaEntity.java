@@ -6,8 +6,11 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
-import org.hibernate.annotations.JdbcTypeCode;
-import org.hibernate.type.SqlTypes;
+import me.namila.service.auth.data.cache.CacheRegions;
+import me.namila.service.auth.data.json.LazyJsonMapConverter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnTransformer;
 
 import java.time.Instant;
 import java.util.Map;
@@ -19,6 +22,8 @@ import java.util.UUID;
 @Entity
 @Table(name = "permissions", schema = "authorizations",
        uniqueConstraints = @UniqueConstraint(columnNames = {"resource", "action", "scope"}))
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.PERMISSION)
 @Getter
 @Setter
 @Builder
@@ -41,7 +46,8 @@ public class PermissionJpaEntity
     private String scope;
     
     @Column(name = "conditions", columnDefinition = "jsonb")
-    @JdbcTypeCode(SqlTypes.JSON)
+    @Convert(converter = LazyJsonMapConverter.class)
+    @ColumnTransformer(write = "?::jsonb")
     private Map<String, Object> conditions;
     
     @Column(name = "description", columnDefinition = "TEXT")
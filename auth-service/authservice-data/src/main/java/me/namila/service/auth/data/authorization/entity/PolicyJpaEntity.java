@@ -6,6 +6,8 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import me.namila.service.auth.data.json.LazyJsonMapConverter;
+import org.hibernate.annotations.ColumnTransformer;
 import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.type.SqlTypes;
 
@@ -41,11 +43,13 @@ public class PolicyJpaEntity
     private String effect;
     
     @Column(name = "subjects", nullable = false, columnDefinition = "jsonb")
-    @JdbcTypeCode(SqlTypes.JSON)
+    @Convert(converter = LazyJsonMapConverter.class)
+    @ColumnTransformer(write = "?::jsonb")
     private Map<String, Object> subjects;
     
     @Column(name = "resources", nullable = false, columnDefinition = "jsonb")
-    @JdbcTypeCode(SqlTypes.JSON)
+    @Convert(converter = LazyJsonMapConverter.class)
+    @ColumnTransformer(write = "?::jsonb")
     private Map<String, Object> resources;
     
     @Column(name = "actions", nullable = false, columnDefinition = "jsonb")
@@ -53,7 +57,8 @@ public class PolicyJpaEntity
     private List<String> actions;
     
     @Column(name = "conditions", columnDefinition = "jsonb")
-    @JdbcTypeCode(SqlTypes.JSON)
+    @Convert(converter = LazyJsonMapConverter.class)
+    @ColumnTransformer(write = "?::jsonb")
     private Map<String, Object> conditions;
     
     @Column(name = "priority", nullable = false)
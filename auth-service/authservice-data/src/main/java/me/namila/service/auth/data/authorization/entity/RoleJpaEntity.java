@@ -6,8 +6,13 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
-import org.hibernate.annotations.JdbcTypeCode;
-import org.hibernate.type.SqlTypes;
+import me.namila.service.auth.data.cache.CacheRegions;
+import me.namila.service.auth.data.json.LazyJsonMapConverter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnTransformer;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 
 import java.time.Instant;
 import java.util.Map;
@@ -18,6 +23,9 @@ import java.util.UUID;
  */
 @Entity
 @Table(name = "roles", schema = "authorizations")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.ROLE)
+@NaturalIdCache(region = CacheRegions.ROLE_NATURAL_ID)
 @Getter
 @Setter
 @Builder
@@ -30,6 +38,7 @@ public class RoleJpaEntity
     @Column(name = "role_id")
     private UUID roleId;
     
+    @NaturalId(mutable = true)
     @Column(name = "role_name", nullable = false, unique = true, length = 255)
     private String roleName;
     
@@ -43,7 +52,8 @@ public class RoleJpaEntity
     private String roleType;
     
     @Column(name = "metadata", columnDefinition = "jsonb")
-    @JdbcTypeCode(SqlTypes.JSON)
+    @Convert(converter = LazyJsonMapConverter.class)
+    @ColumnTransformer(write = "?::jsonb")
     private Map<String, Object> metadata;
     
     @Column(name = "created_at", nullable = false)
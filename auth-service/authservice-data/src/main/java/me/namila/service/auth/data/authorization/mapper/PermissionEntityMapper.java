@@ -1,6 +1,7 @@
 package me.namila.service.auth.data.authorization.mapper;
 
 import me.namila.service.auth.data.authorization.entity.PermissionJpaEntity;
+import me.namila.service.auth.data.json.JsonAttributes;
 import me.namila.service.auth.domain.core.authorization.model.id.PermissionId;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
@@ -14,16 +15,18 @@ import java.time.ZoneOffset;
 /**
  * MapStruct mapper for Permission Entity-Domain conversion.
  */
-@Mapper(componentModel = "spring", unmappedTargetPolicy = ReportingPolicy.IGNORE)
+@Mapper(componentModel = "spring", unmappedTargetPolicy = ReportingPolicy.IGNORE, uses = JsonAttributes.class)
 public interface PermissionEntityMapper {
     
     @Mapping(target = "id", source = "permissionId", qualifiedByName = "uuidToPermissionId")
     @Mapping(target = "createdAt", source = "createdAt", qualifiedByName = "instantToLocalDateTime")
     @Mapping(target = "updatedAt", ignore = true)
+    @Mapping(target = "conditions", source = "conditions", qualifiedByName = "jsonAttribute")
     me.namila.service.auth.domain.core.authorization.model.PermissionEntity toDomain(PermissionJpaEntity entity);
     
     @Mapping(target = "permissionId", source = "id.value")
     @Mapping(target = "createdAt", source = "createdAt", qualifiedByName = "localDateTimeToInstant")
+    @Mapping(target = "conditions", source = "conditions", qualifiedByName = "jsonAttribute")
     PermissionJpaEntity toEntity(me.namila.service.auth.domain.core.authorization.model.PermissionEntity domain);
     
     @Named("uuidToPermissionId")
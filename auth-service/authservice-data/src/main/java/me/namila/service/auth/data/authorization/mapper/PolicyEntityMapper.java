@@ -1,6 +1,7 @@
 package me.namila.service.auth.data.authorization.mapper;
 
 import me.namila.service.auth.data.authorization.entity.PolicyJpaEntity;
+import me.namila.service.auth.data.json.JsonAttributes;
 import me.namila.service.auth.domain.core.authorization.model.PolicyAggregate;
 import me.namila.service.auth.domain.core.authorization.model.id.PolicyId;
 import me.namila.service.auth.domain.core.authorization.valueobject.Effect;
@@ -19,7 +20,7 @@ import java.util.Set;
 /**
  * MapStruct mapper for Policy Entity-Domain conversion.
  */
-@Mapper(componentModel = "spring", unmappedTargetPolicy = ReportingPolicy.IGNORE)
+@Mapper(componentModel = "spring", unmappedTargetPolicy = ReportingPolicy.IGNORE, uses = JsonAttributes.class)
 public interface PolicyEntityMapper {
     
     @Mapping(target = "id", source = "policyId", qualifiedByName = "uuidToPolicyId")
@@ -28,6 +29,9 @@ public interface PolicyEntityMapper {
     @Mapping(target = "actions", source = "actions", qualifiedByName = "listToSet")
     @Mapping(target = "createdAt", source = "createdAt", qualifiedByName = "instantToLocalDateTime")
     @Mapping(target = "updatedAt", source = "lastModifiedAt", qualifiedByName = "instantToLocalDateTime")
+    @Mapping(target = "subjects", source = "subjects", qualifiedByName = "jsonAttribute")
+    @Mapping(target = "resources", source = "resources", qualifiedByName = "jsonAttribute")
+    @Mapping(target = "conditions", source = "conditions", qualifiedByName = "jsonAttribute")
     PolicyAggregate toDomain(PolicyJpaEntity entity);
     
     @Mapping(target = "policyId", source = "id.value")
@@ -36,6 +40,9 @@ public interface PolicyEntityMapper {
     @Mapping(target = "actions", source = "actions", qualifiedByName = "setToList")
     @Mapping(target = "createdAt", source = "createdAt", qualifiedByName = "localDateTimeToInstant")
     @Mapping(target = "lastModifiedAt", source = "updatedAt", qualifiedByName = "localDateTimeToInstant")
+    @Mapping(target = "subjects", source = "subjects", qualifiedByName = "jsonAttribute")
+    @Mapping(target = "resources", source = "resources", qualifiedByName = "jsonAttribute")
+    @Mapping(target = "conditions", source = "conditions", qualifiedByName = "jsonAttribute")
     PolicyJpaEntity toEntity(PolicyAggregate domain);
     
     @Named("stringToPolicyType")
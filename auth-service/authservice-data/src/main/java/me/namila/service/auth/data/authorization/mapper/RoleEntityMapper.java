@@ -1,6 +1,7 @@
 package me.namila.service.auth.data.authorization.mapper;
 
 import me.namila.service.auth.data.authorization.entity.RoleJpaEntity;
+import me.namila.service.auth.data.json.JsonAttributes;
 import me.namila.service.auth.domain.core.authorization.model.RoleAggregate;
 import me.namila.service.auth.domain.core.authorization.model.id.RoleId;
 import me.namila.service.auth.domain.core.authorization.valueobject.RoleType;
@@ -16,7 +17,7 @@ import java.time.ZoneOffset;
 /**
  * MapStruct mapper for Role Entity-Domain conversion.
  */
-@Mapper(componentModel = "spring", unmappedTargetPolicy = ReportingPolicy.IGNORE)
+@Mapper(componentModel = "spring", unmappedTargetPolicy = ReportingPolicy.IGNORE, uses = JsonAttributes.class)
 public interface RoleEntityMapper {
     
     @Mapping(target = "id", source = "roleId", qualifiedByName = "uuidToRoleId")
@@ -26,6 +27,7 @@ public interface RoleEntityMapper {
     @Mapping(target = "createdAt", source = "createdAt", qualifiedByName = "instantToLocalDateTime")
     @Mapping(target = "updatedAt", source = "lastModifiedAt", qualifiedByName = "instantToLocalDateTime")
     @Mapping(target = "version", ignore = true)
+    @Mapping(target = "metadata", source = "metadata", qualifiedByName = "jsonAttribute")
     RoleAggregate toDomain(RoleJpaEntity entity);
     
     @Mapping(target = "roleId", source = "id.value")
@@ -33,6 +35,7 @@ public interface RoleEntityMapper {
     @Mapping(target = "createdAt", source = "createdAt", qualifiedByName = "localDateTimeToInstant")
     @Mapping(target = "lastModifiedAt", source = "updatedAt", qualifiedByName = "localDateTimeToInstant")
     @Mapping(target = "version", ignore = true)
+    @Mapping(target = "metadata", source = "metadata", qualifiedByName = "jsonAttribute")
     RoleJpaEntity toEntity(RoleAggregate domain);
     
     @Named("uuidToRoleId")
@@ -1,7 +1,10 @@
 package me.namila.service.auth.data.authorization.repository;
 
+import jakarta.persistence.QueryHint;
 import me.namila.service.auth.data.authorization.entity.PermissionJpaEntity;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -13,8 +16,10 @@ import java.util.UUID;
 @Repository
 public interface PermissionJpaRepository extends JpaRepository<PermissionJpaEntity, UUID> {
     
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<PermissionJpaEntity> findByResource(String resource);
     
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<PermissionJpaEntity> findByResourceAndAction(String resource, String action);
 }
 
@@ -1,7 +1,10 @@
 package me.namila.service.auth.data.authorization.repository;
 
+import jakarta.persistence.QueryHint;
 import me.namila.service.auth.data.authorization.entity.RoleJpaEntity;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -18,6 +21,7 @@ public interface RoleJpaRepository extends JpaRepository<RoleJpaEntity, UUID> {
     
     boolean existsByRoleName(String roleName);
     
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<RoleJpaEntity> findByRoleType(String roleType);
 }
 
@@ -0,0 +1,25 @@
+package me.namila.service.auth.data.cache;
+
+/**
+ * Hibernate second-level cache region names.
+ * Sizing and TTLs for each region are configured under auth.cache.l2.regions.
+ */
+public final class CacheRegions {
+    
+    public static final String ROLE = "auth.role";
+    public static final String ROLE_NATURAL_ID = "auth.role.natural-id";
+    public static final String PERMISSION = "auth.permission";
+    public static final String OIDC_PROVIDER_CONFIG = "auth.oidc-provider-config";
+    public static final String OIDC_PROVIDER_CONFIG_NATURAL_ID = "auth.oidc-provider-config.natural-id";
+    public static final String SERVICE_ACCOUNT = "auth.service-account";
+    public static final String SERVICE_ACCOUNT_NATURAL_ID = "auth.service-account.natural-id";
+    
+    /**
+     * Hibernate's built-in query cache regions.
+     */
+    public static final String QUERY_RESULTS = "default-query-results-region";
+    public static final String UPDATE_TIMESTAMPS = "default-update-timestamps-region";
+    
+    private CacheRegions() {
+    }
+}
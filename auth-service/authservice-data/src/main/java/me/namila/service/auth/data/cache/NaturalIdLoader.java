@@ -0,0 +1,37 @@
+package me.namila.service.auth.data.cache;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+/**
+ * Loads entities by their {@code @NaturalId}.
+ * Unlike a derived query, this resolves through the natural-id and entity cache
+ * regions, so a warm lookup does not touch the database.
+ */
+@Component
+public class NaturalIdLoader {
+    
+    @PersistenceContext
+    private EntityManager entityManager;
+    
+    /**
+     * Load an entity by its simple (single attribute) natural ID.
+     * @param entityType The entity class
+     * @param naturalId The natural ID value
+     * @return The entity, if found
+     */
+    @Transactional(readOnly = true)
+    public <T> Optional<T> load(Class<T> entityType, Object naturalId) {
+        if (naturalId == null) {
+            return Optional.empty();
+        }
+        return entityManager.unwrap(Session.class)
+            .bySimpleNaturalId(entityType)
+            .loadOptional(naturalId);
+    }
+}
@@ -0,0 +1,51 @@
+package me.namila.service.auth.data.cache;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import me.namila.service.auth.data.authorization.entity.RoleJpaEntity;
+import me.namila.service.auth.data.configuration.entity.OIDCProviderConfigJpaEntity;
+import me.namila.service.auth.data.event.CacheInvalidationBatch;
+import me.namila.service.auth.data.identity.entity.ServiceAccountJpaEntity;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Evicts second-level cache entries changed on other nodes.
+ * Hibernate keeps the local regions consistent for local writes; this covers
+ * writes made elsewhere, which only reach us as cache invalidation batches.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SecondLevelCacheEvictor {
+    
+    private static final Map<String, Class<?>> CACHED_AGGREGATES = Map.of(
+        "Role", RoleJpaEntity.class,
+        "OIDCProviderConfig", OIDCProviderConfigJpaEntity.class,
+        "ServiceAccount", ServiceAccountJpaEntity.class);
+    
+    private final EntityManagerFactory entityManagerFactory;
+    
+    @EventListener
+    public void onInvalidation(CacheInvalidationBatch batch) {
+        Class<?> entityType = CACHED_AGGREGATES.get(batch.aggregateType());
+        if (entityType == null) {
+            return;
+        }
+        
+        Cache cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+        for (UUID id : batch.aggregateIds()) {
+            cache.evictEntityData(entityType, id);
+        }
+        // Natural-id and query results may map stale keys to these IDs
+        cache.evictNaturalIdData(entityType);
+        cache.evictDefaultQueryRegion();
+        log.debug("Evicted {} {} entries from the second-level cache", batch.aggregateIds().size(), batch.aggregateType());
+    }
+}
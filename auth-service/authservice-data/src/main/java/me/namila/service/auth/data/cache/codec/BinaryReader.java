@@ -0,0 +1,105 @@
+package me.namila.service.auth.data.cache.codec;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Reader for payloads produced by {@link BinaryWriter}.
+ */
+public final class BinaryReader {
+    
+    private final byte[] buffer;
+    private int position;
+    private final int limit;
+    
+    public BinaryReader(byte[] buffer) {
+        this(buffer, 0, buffer.length);
+    }
+    
+    public BinaryReader(byte[] buffer, int offset, int length) {
+        this.buffer = buffer;
+        this.position = offset;
+        this.limit = offset + length;
+    }
+    
+    public int readByte() {
+        require(1);
+        return buffer[position++] & 0xFF;
+    }
+    
+    public boolean readBoolean() {
+        return readByte() != 0;
+    }
+    
+    public int readVarInt() {
+        return (int) readVarLong();
+    }
+    
+    public long readVarLong() {
+        long result = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = readByte();
+            result |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return result;
+            }
+        }
+        throw new IllegalStateException("Malformed varint");
+    }
+    
+    public long readLong() {
+        require(8);
+        long value = 0;
+        for (int i = 0; i < 8; i++) {
+            value = (value << 8) | (buffer[position++] & 0xFFL);
+        }
+        return value;
+    }
+    
+    public UUID readUuid() {
+        if (readByte() == 0) {
+            return null;
+        }
+        return new UUID(readLong(), readLong());
+    }
+    
+    public String readString() {
+        int length = readVarInt();
+        if (length == 0) {
+            return null;
+        }
+        int byteCount = length - 1;
+        require(byteCount);
+        String value = new String(buffer, position, byteCount, StandardCharsets.UTF_8);
+        position += byteCount;
+        return value;
+    }
+    
+    public Instant readInstant() {
+        if (readByte() == 0) {
+            return null;
+        }
+        long seconds = readLong();
+        return Instant.ofEpochSecond(seconds, readVarInt());
+    }
+    
+    /**
+     * @return The enum constant, or null when absent or the ordinal is unknown to this build
+     */
+    public <E extends Enum<E>> E readEnum(Class<E> type) {
+        int ordinal = readVarInt() - 1;
+        E[] constants = type.getEnumConstants();
+        return ordinal >= 0 && ordinal < constants.length ? constants[ordinal] : null;
+    }
+    
+    public int remaining() {
+        return limit - position;
+    }
+    
+    private void require(int bytes) {
+        if (position + bytes > limit) {
+            throw new IllegalStateException("Unexpected end of cached payload");
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package me.namila.service.auth.data.cache.codec;
+
+import lombok.extern.slf4j.Slf4j;
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4FastDecompressor;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Redis value serializer that writes registered cached types in a compact,
+ * schema-versioned binary format and falls back to a delegate (JSON) for anything else.
+ * <p>
+ * Layout: {@code MAGIC | flags | typeId (varint) | version (varint) | [rawLength (varint)] | body}.
+ * Bodies larger than the compression threshold are LZ4 compressed. Payloads that do not
+ * start with the magic byte are handed to the delegate, so JSON values written before
+ * the switch stay readable; binary payloads from a newer schema version are treated as a miss.
+ */
+@Slf4j
+public class BinaryRedisSerializer implements RedisSerializer<Object> {
+    
+    static final int MAGIC = 0xCB;
+    static final int FLAG_LZ4 = 0x01;
+    
+    private static final LZ4Compressor COMPRESSOR = LZ4Factory.fastestInstance().fastCompressor();
+    private static final LZ4FastDecompressor DECOMPRESSOR = LZ4Factory.fastestInstance().fastDecompressor();
+    
+    private final Map<Class<?>, CachedValueCodec<?>> codecsByType = new HashMap<>();
+    private final Map<Integer, CachedValueCodec<?>> codecsById = new HashMap<>();
+    private final RedisSerializer<Object> delegate;
+    private final int compressionThreshold;
+    
+    public BinaryRedisSerializer(List<CachedValueCodec<?>> codecs, RedisSerializer<Object> delegate, int compressionThreshold) {
+        for (CachedValueCodec<?> codec : codecs) {
+            if (codecsById.put(codec.typeId(), codec) != null) {
+                throw new IllegalArgumentException("Duplicate cache codec type ID " + codec.typeId());
+            }
+            codecsByType.put(codec.type(), codec);
+        }
+        this.delegate = delegate;
+        this.compressionThreshold = compressionThreshold;
+    }
+    
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        if (value == null) {
+            return new byte[0];
+        }
+        CachedValueCodec<?> codec = codecsByType.get(value.getClass());
+        if (codec == null) {
+            return delegate.serialize(value);
+        }
+        
+        BinaryWriter body = new BinaryWriter();
+        encode(codec, value, body);
+        
+        BinaryWriter out = new BinaryWriter(body.size() + 16);
+        boolean compress = compressionThreshold > 0 && body.size() >= compressionThreshold;
+        out.writeByte(MAGIC)
+            .writeByte(compress ? FLAG_LZ4 : 0)
+            .writeVarInt(codec.typeId())
+            .writeVarInt(codec.version());
+        if (compress) {
+            byte[] compressed = COMPRESSOR.compress(body.toByteArray());
+            out.writeVarInt(body.size());
+            out.writeBytes(compressed, 0, compressed.length);
+        } else {
+            out.writeBytes(body.buffer(), 0, body.size());
+        }
+        return out.toByteArray();
+    }
+    
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        if ((bytes[0] & 0xFF) != MAGIC) {
+            return delegate.deserialize(bytes);
+        }
+        
+        try {
+            BinaryReader header = new BinaryReader(bytes, 1, bytes.length - 1);
+            int flags = header.readByte();
+            int typeId = header.readVarInt();
+            int version = header.readVarInt();
+            
+            CachedValueCodec<?> codec = codecsById.get(typeId);
+            if (codec == null || version > codec.version()) {
+                log.debug("Skipping cached payload of unknown type {} version {}", typeId, version);
+                return null;
+            }
+            
+            BinaryReader body;
+            if ((flags & FLAG_LZ4) != 0) {
+                int rawLength = header.readVarInt();
+                byte[] raw = DECOMPRESSOR.decompress(bytes, bytes.length - header.remaining(), rawLength);
+                body = new BinaryReader(raw);
+            } else {
+                body = new BinaryReader(bytes, bytes.length - header.remaining(), header.remaining());
+            }
+            return codec.decode(body, version);
+        } catch (RuntimeException ex) {
+            throw new SerializationException("Could not decode cached value", ex);
+        }
+    }
+    
+    @SuppressWarnings("unchecked")
+    private static <T> void encode(CachedValueCodec<T> codec, Object value, BinaryWriter writer) {
+        codec.encode((T) value, writer);
+    }
+}
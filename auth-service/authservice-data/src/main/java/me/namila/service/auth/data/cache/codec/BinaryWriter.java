@@ -0,0 +1,118 @@
+package me.namila.service.auth.data.cache.codec;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * Growable little-overhead binary writer used by {@link CachedValueCodec} implementations.
+ * Integers are written as unsigned LEB128 varints; nullable values carry a one-byte presence flag.
+ */
+public final class BinaryWriter {
+    
+    private byte[] buffer;
+    private int position;
+    
+    public BinaryWriter() {
+        this(128);
+    }
+    
+    public BinaryWriter(int initialCapacity) {
+        this.buffer = new byte[Math.max(16, initialCapacity)];
+    }
+    
+    public BinaryWriter writeByte(int value) {
+        ensureCapacity(1);
+        buffer[position++] = (byte) value;
+        return this;
+    }
+    
+    public BinaryWriter writeBoolean(boolean value) {
+        return writeByte(value ? 1 : 0);
+    }
+    
+    public BinaryWriter writeVarInt(int value) {
+        return writeVarLong(value & 0xFFFFFFFFL);
+    }
+    
+    public BinaryWriter writeVarLong(long value) {
+        ensureCapacity(10);
+        while ((value & ~0x7FL) != 0) {
+            buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[position++] = (byte) value;
+        return this;
+    }
+    
+    public BinaryWriter writeLong(long value) {
+        ensureCapacity(8);
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            buffer[position++] = (byte) (value >>> shift);
+        }
+        return this;
+    }
+    
+    public BinaryWriter writeBytes(byte[] bytes, int offset, int length) {
+        ensureCapacity(length);
+        System.arraycopy(bytes, offset, buffer, position, length);
+        position += length;
+        return this;
+    }
+    
+    /**
+     * UUIDs are written as their two raw longs (16 bytes) instead of a 36 character string.
+     */
+    public BinaryWriter writeUuid(UUID value) {
+        if (value == null) {
+            return writeByte(0);
+        }
+        writeByte(1);
+        writeLong(value.getMostSignificantBits());
+        return writeLong(value.getLeastSignificantBits());
+    }
+    
+    public BinaryWriter writeString(String value) {
+        if (value == null) {
+            return writeVarInt(0);
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(bytes.length + 1);
+        return writeBytes(bytes, 0, bytes.length);
+    }
+    
+    public BinaryWriter writeInstant(Instant value) {
+        if (value == null) {
+            return writeByte(0);
+        }
+        writeByte(1);
+        writeLong(value.getEpochSecond());
+        return writeVarInt(value.getNano());
+    }
+    
+    /**
+     * Enums are interned as ordinals; constants must therefore only ever be appended.
+     */
+    public BinaryWriter writeEnum(Enum<?> value) {
+        return writeVarInt(value == null ? 0 : value.ordinal() + 1);
+    }
+    
+    public int size() {
+        return position;
+    }
+    
+    public byte[] toByteArray() {
+        return Arrays.copyOf(buffer, position);
+    }
+    
+    byte[] buffer() {
+        return buffer;
+    }
+    
+    private void ensureCapacity(int additional) {
+        if (position + additional > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + additional));
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package me.namila.service.auth.data.cache.codec;
+
+/**
+ * Binary codec for one cached type.
+ * Each payload is stamped with the codec's type ID and schema version. When the
+ * layout changes, bump {@link #version()} and keep decoding the previous version
+ * so values written by nodes still on the old build remain readable during a
+ * rolling deploy.
+ *
+ * @param <T> The cached type
+ */
+public interface CachedValueCodec<T> {
+    
+    /**
+     * Stable identifier written into every payload; never reuse a retired ID.
+     */
+    int typeId();
+    
+    /**
+     * Current schema version written by {@link #encode}.
+     */
+    int version();
+    
+    Class<T> type();
+    
+    void encode(T value, BinaryWriter writer);
+    
+    /**
+     * Decode a payload written with the given schema version (at most {@link #version()}).
+     */
+    T decode(BinaryReader reader, int version);
+}
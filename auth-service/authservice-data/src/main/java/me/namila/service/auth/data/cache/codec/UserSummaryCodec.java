@@ -0,0 +1,70 @@
+package me.namila.service.auth.data.cache.codec;
+
+import me.namila.service.auth.domain.application.identity.dto.response.UserSummaryResponse;
+import me.namila.service.auth.domain.core.identity.valueobject.UserStatus;
+import org.springframework.stereotype.Component;
+
+/**
+ * Binary codec for {@link UserSummaryResponse}.
+ * The status is interned as a {@link UserStatus} ordinal; a value outside the enum
+ * is written verbatim after a zero ordinal.
+ */
+@Component
+public class UserSummaryCodec implements CachedValueCodec<UserSummaryResponse> {
+    
+    public static final int TYPE_ID = 2;
+    
+    @Override
+    public int typeId() {
+        return TYPE_ID;
+    }
+    
+    @Override
+    public int version() {
+        return 1;
+    }
+    
+    @Override
+    public Class<UserSummaryResponse> type() {
+        return UserSummaryResponse.class;
+    }
+    
+    @Override
+    public void encode(UserSummaryResponse value, BinaryWriter writer) {
+        writer.writeUuid(value.getUserId());
+        writer.writeString(value.getUsername());
+        writer.writeString(value.getEmail());
+        UserStatus status = toStatus(value.getStatus());
+        writer.writeEnum(status);
+        if (status == null) {
+            writer.writeString(value.getStatus());
+        }
+        writer.writeString(value.getDisplayName());
+        writer.writeInstant(value.getCreatedAt());
+    }
+    
+    @Override
+    public UserSummaryResponse decode(BinaryReader reader, int version) {
+        UserSummaryResponse.UserSummaryResponseBuilder builder = UserSummaryResponse.builder()
+            .userId(reader.readUuid())
+            .username(reader.readString())
+            .email(reader.readString());
+        UserStatus status = reader.readEnum(UserStatus.class);
+        builder.status(status != null ? status.name() : reader.readString());
+        return builder
+            .displayName(reader.readString())
+            .createdAt(reader.readInstant())
+            .build();
+    }
+    
+    private static UserStatus toStatus(String status) {
+        if (status == null) {
+            return null;
+        }
+        try {
+            return UserStatus.valueOf(status);
+        } catch (IllegalArgumentException ex) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package me.namila.service.auth.data.config;
+
+import me.namila.service.auth.data.event.CacheInvalidationCoalescer;
+import me.namila.service.auth.data.event.CacheInvalidationTransport;
+import me.namila.service.auth.data.event.InMemoryCacheInvalidationTransport;
+import me.namila.service.auth.data.event.RedisCacheInvalidationTransport;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.time.Duration;
+
+/**
+ * Cross-node cache invalidation wiring.
+ * The transport is selected with auth.cache.invalidation.transport (redis or in-memory).
+ */
+@Configuration
+public class CacheInvalidationConfig {
+    
+    @Value("${auth.cache.invalidation.channel:auth:cache-invalidation}")
+    private String channel;
+    
+    @Value("${auth.cache.invalidation.batch-window:50ms}")
+    private Duration batchWindow;
+    
+    @Bean
+    public CacheInvalidationCoalescer cacheInvalidationCoalescer(ApplicationEventPublisher eventPublisher) {
+        return new CacheInvalidationCoalescer(eventPublisher, batchWindow);
+    }
+    
+    @Bean
+    @ConditionalOnProperty(prefix = "auth.cache.invalidation", name = "transport", havingValue = "redis", matchIfMissing = true)
+    public RedisCacheInvalidationTransport redisCacheInvalidationTransport(
+            StringRedisTemplate stringRedisTemplate, CacheInvalidationCoalescer coalescer) {
+        return new RedisCacheInvalidationTransport(stringRedisTemplate, channel, coalescer);
+    }
+    
+    @Bean
+    @ConditionalOnProperty(prefix = "auth.cache.invalidation", name = "transport", havingValue = "redis", matchIfMissing = true)
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(
+            RedisConnectionFactory connectionFactory, RedisCacheInvalidationTransport transport) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(transport, new ChannelTopic(channel));
+        return container;
+    }
+    
+    @Bean
+    @ConditionalOnProperty(prefix = "auth.cache.invalidation", name = "transport", havingValue = "in-memory")
+    public CacheInvalidationTransport inMemoryCacheInvalidationTransport(CacheInvalidationCoalescer coalescer) {
+        return new InMemoryCacheInvalidationTransport(coalescer);
+    }
+}
@@ -0,0 +1,50 @@
+package me.namila.service.auth.data.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import me.namila.service.auth.data.auth.adapter.InMemoryProofReplayCache;
+import me.namila.service.auth.data.auth.adapter.RedisProofReplayCache;
+import me.namila.service.auth.data.auth.replay.TimeBucketedJtiCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+
+/**
+ * DPoP proof replay detection wiring.
+ * The store is selected with auth.tokens.dpop.replay-store (in-memory or redis);
+ * either way every node first checks proofs against its own {@link TimeBucketedJtiCache}.
+ */
+@Configuration
+public class DPoPReplayConfig {
+    
+    @Value("${auth.tokens.dpop.proof-lifetime:60s}")
+    private Duration proofLifetime;
+    
+    @Value("${auth.tokens.dpop.clock-skew:5s}")
+    private Duration clockSkew;
+    
+    @Bean
+    public TimeBucketedJtiCache dpopJtiCache(MeterRegistry meterRegistry) {
+        return new TimeBucketedJtiCache(proofLifetime, clockSkew, meterRegistry);
+    }
+    
+    @Bean
+    @ConditionalOnProperty(prefix = "auth.tokens.dpop", name = "replay-store", havingValue = "in-memory", matchIfMissing = true)
+    public InMemoryProofReplayCache inMemoryProofReplayCache(TimeBucketedJtiCache dpopJtiCache) {
+        return new InMemoryProofReplayCache(dpopJtiCache);
+    }
+    
+    @Bean
+    @ConditionalOnProperty(prefix = "auth.tokens.dpop", name = "replay-store", havingValue = "redis")
+    public RedisProofReplayCache redisProofReplayCache(
+            StringRedisTemplate stringRedisTemplate,
+            TimeBucketedJtiCache dpopJtiCache,
+            @Value("${auth.tokens.dpop.key-prefix:auth:dpop:}") String keyPrefix) {
+        // A proof stops being accepted lifetime + skew after its iat, which is at most skew ahead of now
+        return new RedisProofReplayCache(stringRedisTemplate, keyPrefix, dpopJtiCache,
+            proofLifetime.plus(clockSkew.multipliedBy(2)));
+    }
+}
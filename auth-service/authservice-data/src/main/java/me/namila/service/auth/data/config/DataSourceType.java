@@ -0,0 +1,9 @@
+package me.namila.service.auth.data.config;
+
+/**
+ * Lookup keys for the connection pools behind the routing data source.
+ */
+public enum DataSourceType {
+    PRIMARY,
+    REPLICA
+}
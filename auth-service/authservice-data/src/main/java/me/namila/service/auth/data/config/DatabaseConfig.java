@@ -2,15 +2,24 @@ package me.namila.service.auth.data.config;
 
 import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
 
 import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * Database configuration for PostgreSQL connection pooling.
+ * Exposes a routing data source that sends read-only transactions to the
+ * replica pool (when configured) and read-write transactions to the primary.
  */
 @Configuration
 public class DatabaseConfig {
@@ -27,8 +36,11 @@ public class DatabaseConfig {
     @Value("${spring.datasource.driver-class-name}")
     private String driverClassName;
 
+    @Value("${auth.datasource.read-your-writes.window:2s}")
+    private Duration readYourWritesWindow;
+
     /**
-     * Configures HikariCP connection pool.
+     * Configures HikariCP connection pool for the primary.
      * Properties are loaded from application.yml under spring.datasource.hikari
      */
     @Bean
@@ -41,9 +53,40 @@ public class DatabaseConfig {
         config.setDriverClassName(driverClassName);
         return config;
     }
-    
+
+    /**
+     * Primary (read-write) connection pool.
+     * Registered as a bean so pool metrics are bound by actuator.
+     */
     @Bean
-    public DataSource dataSource(HikariConfig hikariConfig) {
+    public HikariDataSource primaryDataSource(@Qualifier("hikariConfig") HikariConfig hikariConfig) {
         return new HikariDataSource(hikariConfig);
     }
+
+    /**
+     * Routing data source used by JPA, JDBC and Flyway.
+     * Falls back to the primary for every transaction when no replica pool is configured.
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(
+            @Qualifier("primaryDataSource") DataSource primaryDataSource,
+            @Qualifier("replicaDataSource") ObjectProvider<DataSource> replicaDataSource) {
+        DataSource replica = replicaDataSource.getIfAvailable();
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(DataSourceType.PRIMARY, primaryDataSource);
+        if (replica != null) {
+            targets.put(DataSourceType.REPLICA, replica);
+        }
+
+        ReadReplicaRoutingDataSource routingDataSource =
+                new ReadReplicaRoutingDataSource(replica != null, readYourWritesWindow);
+        routingDataSource.setTargetDataSources(targets);
+        routingDataSource.setDefaultTargetDataSource(primaryDataSource);
+        routingDataSource.afterPropertiesSet();
+
+        // Defer connection lookup until the transaction's read-only flag is known
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
 }
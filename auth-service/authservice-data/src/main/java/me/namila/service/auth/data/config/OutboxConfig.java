@@ -0,0 +1,60 @@
+package me.namila.service.auth.data.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import me.namila.service.auth.data.outbox.relay.OutboxRelay;
+import me.namila.service.auth.data.outbox.repository.OutboxEventJpaRepository;
+import me.namila.service.auth.data.outbox.sink.InMemoryOutboxSink;
+import me.namila.service.auth.data.outbox.sink.LoggingOutboxSink;
+import me.namila.service.auth.data.outbox.sink.OutboxSink;
+import me.namila.service.auth.data.outbox.sink.RedisStreamOutboxSink;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * Transactional outbox relay configuration.
+ * The sink is selected with auth.outbox.sink (log, in-memory or redis-stream).
+ */
+@Configuration
+@EnableScheduling
+public class OutboxConfig {
+    
+    @Bean
+    @ConditionalOnProperty(prefix = "auth.outbox", name = "sink", havingValue = "log", matchIfMissing = true)
+    public OutboxSink loggingOutboxSink() {
+        return new LoggingOutboxSink();
+    }
+    
+    @Bean
+    @ConditionalOnProperty(prefix = "auth.outbox", name = "sink", havingValue = "in-memory")
+    public OutboxSink inMemoryOutboxSink() {
+        return new InMemoryOutboxSink();
+    }
+    
+    @Bean
+    @ConditionalOnProperty(prefix = "auth.outbox", name = "sink", havingValue = "redis-stream")
+    public OutboxSink redisStreamOutboxSink(
+            StringRedisTemplate stringRedisTemplate,
+            @Value("${auth.outbox.redis-stream.key:auth:outbox}") String streamKey,
+            @Value("${auth.outbox.redis-stream.max-length:100000}") long maxLength) {
+        return new RedisStreamOutboxSink(stringRedisTemplate, streamKey, maxLength);
+    }
+    
+    @Bean
+    @ConditionalOnProperty(prefix = "auth.outbox.relay", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public OutboxRelay outboxRelay(
+            OutboxEventJpaRepository outboxRepository,
+            OutboxSink outboxSink,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${auth.outbox.relay.batch-size:200}") int batchSize,
+            @Value("${auth.outbox.relay.max-batches-per-poll:10}") int maxBatchesPerPoll,
+            @Value("${auth.outbox.relay.retention:delete}") String retention) {
+        return new OutboxRelay(outboxRepository, outboxSink, transactionManager, meterRegistry,
+            batchSize, maxBatchesPerPoll, "archive".equalsIgnoreCase(retention));
+    }
+}
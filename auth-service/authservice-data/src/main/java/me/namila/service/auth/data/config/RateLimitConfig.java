@@ -0,0 +1,43 @@
+package me.namila.service.auth.data.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import me.namila.service.auth.data.auth.adapter.InMemoryRateLimiter;
+import me.namila.service.auth.data.auth.adapter.RedisRateLimiter;
+import me.namila.service.auth.data.auth.ratelimit.StripedTokenBuckets;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+/**
+ * Login and token endpoint rate limiting wiring.
+ * The store is selected with auth.rate-limit.store (in-memory or redis);
+ * either way every node first checks requests against its own {@link StripedTokenBuckets}.
+ */
+@Configuration
+public class RateLimitConfig {
+    
+    @Bean
+    public StripedTokenBuckets rateLimitBuckets(
+            @Value("${auth.rate-limit.stripes:64}") int stripes,
+            @Value("${auth.rate-limit.max-entries:100000}") int maxEntries,
+            MeterRegistry meterRegistry) {
+        return new StripedTokenBuckets(stripes, maxEntries, meterRegistry);
+    }
+    
+    @Bean
+    @ConditionalOnProperty(prefix = "auth.rate-limit", name = "store", havingValue = "in-memory", matchIfMissing = true)
+    public InMemoryRateLimiter inMemoryRateLimiter(StripedTokenBuckets rateLimitBuckets) {
+        return new InMemoryRateLimiter(rateLimitBuckets);
+    }
+    
+    @Bean
+    @ConditionalOnProperty(prefix = "auth.rate-limit", name = "store", havingValue = "redis")
+    public RedisRateLimiter redisRateLimiter(
+            StringRedisTemplate stringRedisTemplate,
+            StripedTokenBuckets rateLimitBuckets,
+            @Value("${auth.rate-limit.key-prefix:auth:rl:}") String keyPrefix) {
+        return new RedisRateLimiter(stringRedisTemplate, keyPrefix, rateLimitBuckets);
+    }
+}
@@ -0,0 +1,63 @@
+package me.namila.service.auth.data.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+
+/**
+ * Routing data source that sends read-only transactions to the replica pool
+ * and everything else to the primary.
+ * Must be wrapped in a LazyConnectionDataSourceProxy so that the routing
+ * decision is taken after the transaction's read-only flag has been bound.
+ */
+public class ReadReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    private static final Object WRITE_MARKER = ReadReplicaRoutingDataSource.class.getName() + ".WRITE";
+
+    private final boolean replicaAvailable;
+    private final long readYourWritesWindowMillis;
+
+    public ReadReplicaRoutingDataSource(boolean replicaAvailable, Duration readYourWritesWindow) {
+        this.replicaAvailable = replicaAvailable;
+        this.readYourWritesWindowMillis = readYourWritesWindow != null ? readYourWritesWindow.toMillis() : 0L;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        boolean readOnly = TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+
+        if (readOnly && replicaAvailable && !ReadYourWritesContext.isPinnedToPrimary(readYourWritesWindowMillis)) {
+            return DataSourceType.REPLICA;
+        }
+
+        if (!readOnly) {
+            trackWrite();
+        }
+        return DataSourceType.PRIMARY;
+    }
+
+    /**
+     * Register a one-off synchronization that records the commit time of the
+     * current read-write transaction as the caller's read-your-writes token.
+     */
+    private void trackWrite() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()
+                || TransactionSynchronizationManager.hasResource(WRITE_MARKER)) {
+            return;
+        }
+        TransactionSynchronizationManager.bindResource(WRITE_MARKER, Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                ReadYourWritesContext.recordWrite(System.currentTimeMillis());
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(WRITE_MARKER);
+            }
+        });
+    }
+}
@@ -0,0 +1,80 @@
+package me.namila.service.auth.data.config;
+
+import java.util.OptionalLong;
+import java.util.function.LongConsumer;
+
+/**
+ * Thread-bound read-your-writes state for the current request.
+ * Holds the timestamp token of the caller's last committed write so that
+ * read-only transactions issued shortly afterwards are pinned to the primary.
+ */
+public final class ReadYourWritesContext {
+
+    private static final ThreadLocal<Long> LAST_WRITE_AT = new ThreadLocal<>();
+    private static final ThreadLocal<LongConsumer> WRITE_LISTENER = new ThreadLocal<>();
+
+    private ReadYourWritesContext() {
+        // Utility class, prevent instantiation
+    }
+
+    /**
+     * Restore the last write token presented by the caller (e.g., from a request header).
+     *
+     * @param epochMillis the commit timestamp of the caller's last write
+     */
+    public static void setLastWriteAt(long epochMillis) {
+        LAST_WRITE_AT.set(epochMillis);
+    }
+
+    /**
+     * Get the last write token bound to the current thread.
+     *
+     * @return the commit timestamp of the caller's last write, if any
+     */
+    public static OptionalLong getLastWriteAt() {
+        Long lastWriteAt = LAST_WRITE_AT.get();
+        return lastWriteAt != null ? OptionalLong.of(lastWriteAt) : OptionalLong.empty();
+    }
+
+    /**
+     * Register a callback that is notified whenever a read-write transaction commits
+     * on the current thread. Used by the web layer to hand the token back to the caller.
+     *
+     * @param listener the callback receiving the commit timestamp
+     */
+    public static void onWrite(LongConsumer listener) {
+        WRITE_LISTENER.set(listener);
+    }
+
+    /**
+     * Record that a read-write transaction has committed on the current thread.
+     *
+     * @param epochMillis the commit timestamp
+     */
+    public static void recordWrite(long epochMillis) {
+        LAST_WRITE_AT.set(epochMillis);
+        LongConsumer listener = WRITE_LISTENER.get();
+        if (listener != null) {
+            listener.accept(epochMillis);
+        }
+    }
+
+    /**
+     * Check whether reads must still go to the primary.
+     *
+     * @param windowMillis how long after a write reads stay on the primary
+     * @return true if the last write happened within the window
+     */
+    public static boolean isPinnedToPrimary(long windowMillis) {
+        Long lastWriteAt = LAST_WRITE_AT.get();
+        return lastWriteAt != null && System.currentTimeMillis() - lastWriteAt < windowMillis;
+    }
+
+    /**
+     * Clear all state bound to the current thread.
+     */
+    public static void clear() {
+        LAST_WRITE_AT.remove();
+        WRITE_LISTENER.remove();
+    }
+}
@@ -1,21 +1,29 @@
 package me.namila.service.auth.data.config;
 
+import me.namila.service.auth.data.cache.codec.BinaryRedisSerializer;
+import me.namila.service.auth.data.cache.codec.CachedValueCodec;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
-import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
+import java.util.List;
+
 /**
  * Redis configuration for caching and session storage.
  */
 @Configuration
 public class RedisConfig {
     
+    @Value("${auth.cache.redis.compression-threshold:512}")
+    private int compressionThreshold;
+    
     @Bean
-    public RedisTemplate<String, Object> redisTemplate(RedisConnectionFactory connectionFactory) {
+    public RedisTemplate<String, Object> redisTemplate(RedisConnectionFactory connectionFactory,
+                                                       List<CachedValueCodec<?>> cachedValueCodecs) {
         RedisTemplate<String, Object> template = new RedisTemplate<>();
         template.setConnectionFactory(connectionFactory);
         
@@ -23,12 +31,13 @@ public class RedisConfig {
         template.setKeySerializer(new StringRedisSerializer());
         template.setHashKeySerializer(new StringRedisSerializer());
         
-        // Use JSON serializer for values
-        template.setValueSerializer(new GenericJackson2JsonRedisSerializer());
-        template.setHashValueSerializer(new GenericJackson2JsonRedisSerializer());
+        // Use the binary codec for registered cached types, JSON for everything else
+        BinaryRedisSerializer valueSerializer = new BinaryRedisSerializer(
+            cachedValueCodecs, new GenericJackson2JsonRedisSerializer(), compressionThreshold);
+        template.setValueSerializer(valueSerializer);
+        template.setHashValueSerializer(valueSerializer);
         
         template.afterPropertiesSet();
         return template;
     }
 }
-
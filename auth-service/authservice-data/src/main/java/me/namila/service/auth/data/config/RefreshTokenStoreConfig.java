@@ -0,0 +1,39 @@
+package me.namila.service.auth.data.config;
+
+import me.namila.service.auth.data.auth.adapter.InMemoryRefreshTokenStore;
+import me.namila.service.auth.data.auth.adapter.RedisRefreshTokenStore;
+import me.namila.service.auth.domain.application.port.auth.RefreshTokenStorePort;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+
+/**
+ * Refresh token store wiring.
+ * The store is selected with auth.tokens.refresh.store (redis or in-memory); either way a
+ * family ends auth.tokens.refresh.max-lifetime after login, however often it is refreshed.
+ */
+@Configuration
+public class RefreshTokenStoreConfig {
+    
+    @Value("${auth.tokens.refresh.key-prefix:auth:rt:}")
+    private String keyPrefix;
+    
+    @Value("${auth.tokens.refresh.max-lifetime:90d}")
+    private Duration maxLifetime;
+    
+    @Bean
+    @ConditionalOnProperty(prefix = "auth.tokens.refresh", name = "store", havingValue = "redis", matchIfMissing = true)
+    public RefreshTokenStorePort redisRefreshTokenStore(StringRedisTemplate stringRedisTemplate) {
+        return new RedisRefreshTokenStore(stringRedisTemplate, keyPrefix, maxLifetime);
+    }
+    
+    @Bean
+    @ConditionalOnProperty(prefix = "auth.tokens.refresh", name = "store", havingValue = "in-memory")
+    public RefreshTokenStorePort inMemoryRefreshTokenStore() {
+        return new InMemoryRefreshTokenStore(maxLifetime);
+    }
+}
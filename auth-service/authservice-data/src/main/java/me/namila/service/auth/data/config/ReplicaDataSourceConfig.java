@@ -0,0 +1,49 @@
+package me.namila.service.auth.data.config;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Read replica connection pool configuration.
+ * Only active when auth.datasource.replica.enabled=true; the pool has its own
+ * Hikari settings under auth.datasource.replica.hikari.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "auth.datasource.replica", name = "enabled", havingValue = "true")
+public class ReplicaDataSourceConfig {
+
+    @Value("${auth.datasource.replica.url}")
+    private String jdbcUrl;
+
+    @Value("${auth.datasource.replica.username:${spring.datasource.username}}")
+    private String username;
+
+    @Value("${auth.datasource.replica.password:${spring.datasource.password}}")
+    private String password;
+
+    @Value("${spring.datasource.driver-class-name}")
+    private String driverClassName;
+
+    @Bean
+    @ConfigurationProperties("auth.datasource.replica.hikari")
+    public HikariConfig replicaHikariConfig() {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl(jdbcUrl);
+        config.setUsername(username);
+        config.setPassword(password);
+        config.setDriverClassName(driverClassName);
+        config.setReadOnly(true);
+        return config;
+    }
+
+    @Bean
+    public HikariDataSource replicaDataSource(@Qualifier("replicaHikariConfig") HikariConfig replicaHikariConfig) {
+        return new HikariDataSource(replicaHikariConfig);
+    }
+}
@@ -0,0 +1,73 @@
+package me.namila.service.auth.data.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import me.namila.service.auth.data.cache.CacheRegions;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.Set;
+
+/**
+ * Hibernate second-level cache backed by Caffeine through JCache.
+ * Regions are created up front so each one gets its own bound and TTL; cache
+ * switches and statistics are set under spring.jpa.properties.hibernate.
+ */
+@Configuration
+@EnableConfigurationProperties(SecondLevelCacheProperties.class)
+public class SecondLevelCacheConfig {
+    
+    private static final List<String> BUILT_IN_REGIONS = List.of(
+        CacheRegions.ROLE,
+        CacheRegions.ROLE_NATURAL_ID,
+        CacheRegions.PERMISSION,
+        CacheRegions.OIDC_PROVIDER_CONFIG,
+        CacheRegions.OIDC_PROVIDER_CONFIG_NATURAL_ID,
+        CacheRegions.QUERY_RESULTS);
+    
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(SecondLevelCacheProperties properties) {
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+            .getCacheManager();
+        
+        Set<String> regionNames = new LinkedHashSet<>(BUILT_IN_REGIONS);
+        regionNames.addAll(properties.getRegions().keySet());
+        regionNames.remove(CacheRegions.UPDATE_TIMESTAMPS);
+        for (String regionName : regionNames) {
+            if (cacheManager.getCache(regionName) == null) {
+                cacheManager.createCache(regionName, regionConfiguration(properties.regionOrDefault(regionName)));
+            }
+        }
+        
+        // Update timestamps must never be evicted before the query results that depend on them
+        if (cacheManager.getCache(CacheRegions.UPDATE_TIMESTAMPS) == null) {
+            CaffeineConfiguration<Object, Object> timestamps = new CaffeineConfiguration<>();
+            timestamps.setStatisticsEnabled(true);
+            cacheManager.createCache(CacheRegions.UPDATE_TIMESTAMPS, timestamps);
+        }
+        return cacheManager;
+    }
+    
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager hibernateCacheManager) {
+        return hibernateProperties -> hibernateProperties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+    }
+    
+    private static CaffeineConfiguration<Object, Object> regionConfiguration(SecondLevelCacheProperties.Region region) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(OptionalLong.of(region.getMaxEntries()));
+        if (region.getTtl() != null && !region.getTtl().isZero()) {
+            configuration.setExpireAfterWrite(OptionalLong.of(region.getTtl().toNanos()));
+        }
+        configuration.setStatisticsEnabled(true);
+        return configuration;
+    }
+}
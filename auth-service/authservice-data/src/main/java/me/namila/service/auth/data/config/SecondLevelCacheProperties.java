@@ -0,0 +1,44 @@
+package me.namila.service.auth.data.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Sizing and expiry for the Hibernate second-level cache regions.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "auth.cache.l2")
+public class SecondLevelCacheProperties {
+    
+    /**
+     * Settings applied to any region without its own entry.
+     */
+    private Region defaults = new Region();
+    
+    /**
+     * Per-region settings, keyed by region name.
+     */
+    private Map<String, Region> regions = new LinkedHashMap<>();
+    
+    public Region regionOrDefault(String name) {
+        return regions.getOrDefault(name, defaults);
+    }
+    
+    @Getter
+    @Setter
+    public static class Region {
+        
+        private long maxEntries = 1_000L;
+        
+        /**
+         * Time to live after write; zero disables expiry.
+         */
+        private Duration ttl = Duration.ofMinutes(10);
+    }
+}
@@ -0,0 +1,67 @@
+package me.namila.service.auth.data.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import me.namila.service.auth.data.auth.adapter.InMemoryTokenRevocationStore;
+import me.namila.service.auth.data.auth.adapter.RedisTokenRevocationStore;
+import me.namila.service.auth.data.auth.revocation.RevocationCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.time.Duration;
+
+/**
+ * Access token revocation wiring.
+ * The central store is selected with auth.tokens.revocation.store (redis or in-memory);
+ * either way every node checks tokens against its own {@link RevocationCache}.
+ */
+@Configuration
+public class TokenRevocationConfig {
+    
+    @Value("${auth.tokens.revocation.key-prefix:auth:revoked:}")
+    private String keyPrefix;
+    
+    @Value("${auth.tokens.revocation.channel:auth:token-revocations}")
+    private String channel;
+    
+    /** A user cut-off must outlive every session it revokes; sessions live at most one refresh TTL past their last refresh. */
+    @Value("${auth.tokens.refresh.ttl:30d}")
+    private Duration userCutoffRetention;
+    
+    @Bean
+    public RevocationCache revocationCache(
+            MeterRegistry meterRegistry,
+            @Value("${auth.tokens.revocation.filter.expected-insertions:100000}") long expectedInsertions,
+            @Value("${auth.tokens.revocation.filter.false-positive-rate:0.001}") double falsePositiveRate) {
+        return new RevocationCache(expectedInsertions, falsePositiveRate, userCutoffRetention, meterRegistry);
+    }
+    
+    @Bean
+    @ConditionalOnProperty(prefix = "auth.tokens.revocation", name = "store", havingValue = "redis", matchIfMissing = true)
+    public RedisTokenRevocationStore redisTokenRevocationStore(
+            StringRedisTemplate stringRedisTemplate, RevocationCache revocationCache) {
+        return new RedisTokenRevocationStore(stringRedisTemplate, keyPrefix, channel, revocationCache,
+            userCutoffRetention);
+    }
+    
+    @Bean
+    @ConditionalOnProperty(prefix = "auth.tokens.revocation", name = "store", havingValue = "redis", matchIfMissing = true)
+    public RedisMessageListenerContainer tokenRevocationListenerContainer(
+            RedisConnectionFactory connectionFactory, RedisTokenRevocationStore store) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(store, new ChannelTopic(channel));
+        return container;
+    }
+    
+    @Bean
+    @ConditionalOnProperty(prefix = "auth.tokens.revocation", name = "store", havingValue = "in-memory")
+    public InMemoryTokenRevocationStore inMemoryTokenRevocationStore(RevocationCache revocationCache) {
+        return new InMemoryTokenRevocationStore(revocationCache);
+    }
+}
@@ -0,0 +1,35 @@
+package me.namila.service.auth.data.config;
+
+import me.namila.service.auth.data.identity.adapter.NoOpUserSummaryCache;
+import me.namila.service.auth.data.identity.adapter.RedisUserSummaryCache;
+import me.namila.service.auth.domain.application.port.identity.UserSummaryCachePort;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.time.Duration;
+
+/**
+ * User summary cache wiring.
+ * The store is selected with auth.users.summary-cache.store (redis or none).
+ */
+@Configuration
+public class UserSummaryCacheConfig {
+    
+    @Bean
+    @ConditionalOnProperty(prefix = "auth.users.summary-cache", name = "store", havingValue = "redis", matchIfMissing = true)
+    public RedisUserSummaryCache redisUserSummaryCache(
+            RedisTemplate<String, Object> redisTemplate,
+            @Value("${auth.users.summary-cache.key-prefix:auth:us:}") String keyPrefix,
+            @Value("${auth.users.summary-cache.ttl:1m}") Duration ttl) {
+        return new RedisUserSummaryCache(redisTemplate, keyPrefix, ttl);
+    }
+    
+    @Bean
+    @ConditionalOnProperty(prefix = "auth.users.summary-cache", name = "store", havingValue = "none")
+    public UserSummaryCachePort noOpUserSummaryCache() {
+        return new NoOpUserSummaryCache();
+    }
+}
@@ -1,9 +1,14 @@
 package me.namila.service.auth.data.configuration.adapter;
 
 import lombok.RequiredArgsConstructor;
+import me.namila.service.auth.common.domain.ChangeType;
+import me.namila.service.auth.data.cache.NaturalIdLoader;
+import me.namila.service.auth.data.configuration.entity.OIDCProviderConfigJpaEntity;
 import me.namila.service.auth.data.configuration.mapper.OIDCProviderConfigEntityMapper;
 import me.namila.service.auth.data.configuration.repository.OIDCProviderConfigJpaRepository;
+import me.namila.service.auth.data.event.DomainEventDispatcher;
 import me.namila.service.auth.domain.application.port.configuration.OIDCProviderConfigRepositoryPort;
+import me.namila.service.auth.domain.core.configuration.event.OIDCProviderConfigChangedEvent;
 import me.namila.service.auth.domain.core.configuration.model.OIDCProviderConfigAggregate;
 import me.namila.service.auth.domain.core.configuration.model.id.OIDCProviderConfigId;
 import org.springframework.data.domain.Page;
@@ -24,11 +29,14 @@ public class OIDCProviderConfigRepositoryAdapter implements OIDCProviderConfigRe
     
     private final OIDCProviderConfigJpaRepository jpaRepository;
     private final OIDCProviderConfigEntityMapper mapper;
+    private final DomainEventDispatcher eventDispatcher;
+    private final NaturalIdLoader naturalIdLoader;
     
     @Override
     public OIDCProviderConfigAggregate save(OIDCProviderConfigAggregate config) {
         var entity = mapper.toEntity(config);
         var saved = jpaRepository.save(entity);
+        eventDispatcher.dispatch(config);
         return mapper.toDomain(saved);
     }
     
@@ -40,7 +48,7 @@ public class OIDCProviderConfigRepositoryAdapter implements OIDCProviderConfigRe
     
     @Override
     public Optional<OIDCProviderConfigAggregate> findByProviderName(String providerName) {
-        return jpaRepository.findByProviderName(providerName)
+        return naturalIdLoader.load(OIDCProviderConfigJpaEntity.class, providerName)
             .map(mapper::toDomain);
     }
     
@@ -72,6 +80,7 @@ public class OIDCProviderConfigRepositoryAdapter implements OIDCProviderConfigRe
     @Override
     public void deleteById(OIDCProviderConfigId providerId) {
         jpaRepository.deleteById(providerId.getValue());
+        eventDispatcher.dispatch(OIDCProviderConfigChangedEvent.of(providerId.getValue(), ChangeType.DELETED));
     }
 }
 
@@ -6,8 +6,13 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
-import org.hibernate.annotations.JdbcTypeCode;
-import org.hibernate.type.SqlTypes;
+import me.namila.service.auth.data.cache.CacheRegions;
+import me.namila.service.auth.data.json.LazyJsonMapConverter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnTransformer;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 
 import java.time.Instant;
 import java.util.Map;
@@ -18,6 +23,9 @@ import java.util.UUID;
  */
 @Entity
 @Table(name = "oidc_provider_configs", schema = "configuration")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.OIDC_PROVIDER_CONFIG)
+@NaturalIdCache(region = CacheRegions.OIDC_PROVIDER_CONFIG_NATURAL_ID)
 @Getter
 @Setter
 @Builder
@@ -30,6 +38,7 @@ public class OIDCProviderConfigJpaEntity
     @Column(name = "provider_id")
     private UUID providerId;
     
+    @NaturalId(mutable = true)
     @Column(name = "provider_name", nullable = false, unique = true, length = 255)
     private String providerName;
     
@@ -43,23 +52,28 @@ public class OIDCProviderConfigJpaEntity
     private String displayName;
     
     @Column(name = "configuration", nullable = false, columnDefinition = "jsonb")
-    @JdbcTypeCode(SqlTypes.JSON)
+    @Convert(converter = LazyJsonMapConverter.class)
+    @ColumnTransformer(write = "?::jsonb")
     private Map<String, Object> configuration;
     
     @Column(name = "attribute_mapping", nullable = false, columnDefinition = "jsonb")
-    @JdbcTypeCode(SqlTypes.JSON)
+    @Convert(converter = LazyJsonMapConverter.class)
+    @ColumnTransformer(write = "?::jsonb")
     private Map<String, Object> attributeMapping;
     
     @Column(name = "role_mapping", nullable = false, columnDefinition = "jsonb")
-    @JdbcTypeCode(SqlTypes.JSON)
+    @Convert(converter = LazyJsonMapConverter.class)
+    @ColumnTransformer(write = "?::jsonb")
     private Map<String, Object> roleMapping;
     
     @Column(name = "jit_provisioning", nullable = false, columnDefinition = "jsonb")
-    @JdbcTypeCode(SqlTypes.JSON)
+    @Convert(converter = LazyJsonMapConverter.class)
+    @ColumnTransformer(write = "?::jsonb")
     private Map<String, Object> jitProvisioning;
     
     @Column(name = "metadata", columnDefinition = "jsonb")
-    @JdbcTypeCode(SqlTypes.JSON)
+    @Convert(converter = LazyJsonMapConverter.class)
+    @ColumnTransformer(write = "?::jsonb")
     private Map<String, Object> metadata;
     
     @Column(name = "created_at", nullable = false)
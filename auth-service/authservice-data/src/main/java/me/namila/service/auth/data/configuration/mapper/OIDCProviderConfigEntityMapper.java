@@ -2,7 +2,9 @@ package me.namila.service.auth.data.configuration.mapper;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import me.namila.service.auth.common.json.LazyJsonMap;
 import me.namila.service.auth.data.configuration.entity.OIDCProviderConfigJpaEntity;
+import me.namila.service.auth.data.json.JsonAttributes;
 import me.namila.service.auth.domain.core.configuration.model.*;
 import me.namila.service.auth.domain.core.configuration.model.id.OIDCProviderConfigId;
 import me.namila.service.auth.domain.core.configuration.valueobject.ProviderType;
@@ -19,7 +21,7 @@ import java.time.ZoneOffset;
 /**
  * MapStruct mapper for OIDCProviderConfig Entity-Domain conversion.
  */
-@Mapper(componentModel = "spring", unmappedTargetPolicy = ReportingPolicy.IGNORE)
+@Mapper(componentModel = "spring", unmappedTargetPolicy = ReportingPolicy.IGNORE, uses = JsonAttributes.class)
 public abstract class OIDCProviderConfigEntityMapper {
     
     @Autowired
@@ -34,6 +36,7 @@ public abstract class OIDCProviderConfigEntityMapper {
     @Mapping(target = "createdAt", source = "createdAt", qualifiedByName = "instantToLocalDateTime")
     @Mapping(target = "updatedAt", source = "lastModifiedAt", qualifiedByName = "instantToLocalDateTime")
     @Mapping(target = "version", ignore = true)
+    @Mapping(target = "metadata", source = "metadata", qualifiedByName = "jsonAttribute")
     public abstract OIDCProviderConfigAggregate toDomain(OIDCProviderConfigJpaEntity entity);
     
     @Mapping(target = "providerId", source = "id.value")
@@ -45,6 +48,7 @@ public abstract class OIDCProviderConfigEntityMapper {
     @Mapping(target = "createdAt", source = "createdAt", qualifiedByName = "localDateTimeToInstant")
     @Mapping(target = "lastModifiedAt", source = "updatedAt", qualifiedByName = "localDateTimeToInstant")
     @Mapping(target = "version", ignore = true)
+    @Mapping(target = "metadata", source = "metadata", qualifiedByName = "jsonAttribute")
     public abstract OIDCProviderConfigJpaEntity toEntity(OIDCProviderConfigAggregate domain);
     
     @Named("stringToProviderType")
@@ -61,7 +65,7 @@ public abstract class OIDCProviderConfigEntityMapper {
     protected OIDCConfiguration jsonToOIDCConfiguration(java.util.Map<String, Object> json) {
         if (json == null) return null;
         try {
-            return objectMapper.convertValue(json, OIDCConfiguration.class);
+            return readJson(json, OIDCConfiguration.class);
         } catch (Exception e) {
             throw new RuntimeException("Failed to deserialize OIDCConfiguration", e);
         }
@@ -81,7 +85,7 @@ public abstract class OIDCProviderConfigEntityMapper {
     protected AttributeMappingConfig jsonToAttributeMappingConfig(java.util.Map<String, Object> json) {
         if (json == null) return null;
         try {
-            return objectMapper.convertValue(json, AttributeMappingConfig.class);
+            return readJson(json, AttributeMappingConfig.class);
         } catch (Exception e) {
             throw new RuntimeException("Failed to deserialize AttributeMappingConfig", e);
         }
@@ -101,7 +105,7 @@ public abstract class OIDCProviderConfigEntityMapper {
     protected RoleMappingConfig jsonToRoleMappingConfig(java.util.Map<String, Object> json) {
         if (json == null) return null;
         try {
-            return objectMapper.convertValue(json, RoleMappingConfig.class);
+            return readJson(json, RoleMappingConfig.class);
         } catch (Exception e) {
             throw new RuntimeException("Failed to deserialize RoleMappingConfig", e);
         }
@@ -121,7 +125,7 @@ public abstract class OIDCProviderConfigEntityMapper {
     protected JITProvisioningConfig jsonToJITProvisioningConfig(java.util.Map<String, Object> json) {
         if (json == null) return null;
         try {
-            return objectMapper.convertValue(json, JITProvisioningConfig.class);
+            return readJson(json, JITProvisioningConfig.class);
         } catch (Exception e) {
             throw new RuntimeException("Failed to deserialize JITProvisioningConfig", e);
         }
@@ -137,6 +141,17 @@ public abstract class OIDCProviderConfigEntityMapper {
         }
     }
     
+    /**
+     * Bind a JSON attribute to its typed configuration.
+     * An undecoded lazy map is read straight from its raw text, skipping the intermediate Map.
+     */
+    protected <T> T readJson(java.util.Map<String, Object> json, Class<T> type) throws java.io.IOException {
+        if (json instanceof LazyJsonMap lazy && !lazy.isDecoded()) {
+            return objectMapper.readValue(lazy.rawJson(), type);
+        }
+        return objectMapper.convertValue(json, type);
+    }
+    
     @Named("uuidToOIDCProviderConfigId")
     protected OIDCProviderConfigId uuidToOIDCProviderConfigId(java.util.UUID uuid) {
         return uuid != null ? OIDCProviderConfigId.of(uuid) : null;
@@ -1,7 +1,10 @@
 package me.namila.service.auth.data.configuration.repository;
 
+import jakarta.persistence.QueryHint;
 import me.namila.service.auth.data.configuration.entity.OIDCProviderConfigJpaEntity;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -18,6 +21,7 @@ public interface OIDCProviderConfigJpaRepository extends JpaRepository<OIDCProvi
     
     boolean existsByProviderName(String providerName);
     
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<OIDCProviderConfigJpaEntity> findByEnabled(Boolean enabled);
 }
 
@@ -0,0 +1,11 @@
+package me.namila.service.auth.data.event;
+
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Local application event carrying a coalesced set of aggregate IDs to evict.
+ * Caches subscribe to it with {@code @EventListener} and filter on aggregate type.
+ */
+public record CacheInvalidationBatch(String aggregateType, Set<UUID> aggregateIds) {
+}
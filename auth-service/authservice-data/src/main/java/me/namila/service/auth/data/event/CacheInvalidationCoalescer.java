@@ -0,0 +1,79 @@
+package me.namila.service.auth.data.event;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Collects invalidations received within a short window and releases them as one
+ * {@link CacheInvalidationBatch} per aggregate type, so a bulk change evicts each
+ * key once instead of flooding the caches with individual evictions.
+ */
+@Slf4j
+public class CacheInvalidationCoalescer implements DisposableBean {
+    
+    private final ApplicationEventPublisher eventPublisher;
+    private final long windowMillis;
+    private final Map<String, Set<UUID>> pending = new ConcurrentHashMap<>();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean(false);
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "cache-invalidation-coalescer");
+        thread.setDaemon(true);
+        return thread;
+    });
+    
+    public CacheInvalidationCoalescer(ApplicationEventPublisher eventPublisher, Duration window) {
+        this.eventPublisher = eventPublisher;
+        this.windowMillis = window.toMillis();
+    }
+    
+    /**
+     * Queue an invalidation; it is released with the next batch.
+     * @param aggregateType The aggregate type
+     * @param aggregateId The aggregate ID
+     */
+    public void submit(String aggregateType, UUID aggregateId) {
+        // compute() keeps the add atomic with respect to flush() removing the same key
+        pending.compute(aggregateType, (type, ids) -> {
+            Set<UUID> target = ids != null ? ids : ConcurrentHashMap.newKeySet();
+            target.add(aggregateId);
+            return target;
+        });
+        if (flushScheduled.compareAndSet(false, true)) {
+            scheduler.schedule(this::flush, windowMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+    
+    /**
+     * Publish all pending invalidations, one batch per aggregate type.
+     */
+    public void flush() {
+        flushScheduled.set(false);
+        for (String aggregateType : pending.keySet()) {
+            Set<UUID> ids = pending.remove(aggregateType);
+            if (ids == null || ids.isEmpty()) {
+                continue;
+            }
+            try {
+                eventPublisher.publishEvent(new CacheInvalidationBatch(aggregateType, Set.copyOf(ids)));
+            } catch (RuntimeException ex) {
+                log.error("Cache invalidation listener failed for {}", aggregateType, ex);
+            }
+        }
+    }
+    
+    @Override
+    public void destroy() {
+        scheduler.shutdownNow();
+    }
+}
@@ -0,0 +1,26 @@
+package me.namila.service.auth.data.event;
+
+import java.util.UUID;
+
+/**
+ * Cross-node cache invalidation signal for a single aggregate.
+ * Encoded as "{aggregateType}:{aggregateId}" on the wire to keep messages small.
+ */
+public record CacheInvalidationMessage(String aggregateType, UUID aggregateId) {
+    
+    private static final char SEPARATOR = ':';
+    
+    public String encode() {
+        return aggregateType + SEPARATOR + aggregateId;
+    }
+    
+    public static CacheInvalidationMessage decode(String payload) {
+        int separator = payload.lastIndexOf(SEPARATOR);
+        if (separator <= 0 || separator == payload.length() - 1) {
+            throw new IllegalArgumentException("Malformed cache invalidation message: " + payload);
+        }
+        return new CacheInvalidationMessage(
+            payload.substring(0, separator),
+            UUID.fromString(payload.substring(separator + 1)));
+    }
+}
@@ -0,0 +1,44 @@
+package me.namila.service.auth.data.event;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import me.namila.service.auth.common.domain.DomainEvent;
+import me.namila.service.auth.domain.core.authorization.event.UserRoleAssignmentChangedEvent;
+import me.namila.service.auth.domain.core.identity.event.UserChangedEvent;
+import me.namila.service.auth.domain.core.identity.event.UsersImportedEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Turns committed domain events into cross-node cache invalidation messages.
+ * Runs after commit so other nodes never evict ahead of the data they will reload.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CacheInvalidationRelay {
+    
+    private final CacheInvalidationTransport transport;
+    
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onDomainEvent(DomainEvent event) {
+        try {
+            // Imported users are announced per batch; caches key on the users, not the batch
+            if (event instanceof UsersImportedEvent importedEvent) {
+                importedEvent.userIds().forEach(userId ->
+                    transport.publish(new CacheInvalidationMessage(UserChangedEvent.AGGREGATE_TYPE, userId)));
+                return;
+            }
+            transport.publish(new CacheInvalidationMessage(event.aggregateType(), event.aggregateId()));
+            
+            // Assignment changes also invalidate the user's cached entitlements
+            if (event instanceof UserRoleAssignmentChangedEvent assignmentEvent && assignmentEvent.userId() != null) {
+                transport.publish(new CacheInvalidationMessage(UserChangedEvent.AGGREGATE_TYPE, assignmentEvent.userId()));
+            }
+        } catch (RuntimeException ex) {
+            // The change is already committed; caches fall back to their TTL
+            log.error("Failed to publish cache invalidation for {} {}", event.aggregateType(), event.aggregateId(), ex);
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package me.namila.service.auth.data.event;
+
+/**
+ * Fans cache invalidation messages out to every node, including the sender.
+ */
+public interface CacheInvalidationTransport {
+    
+    /**
+     * Broadcast an invalidation message to all nodes.
+     * @param message The invalidation message
+     */
+    void publish(CacheInvalidationMessage message);
+}
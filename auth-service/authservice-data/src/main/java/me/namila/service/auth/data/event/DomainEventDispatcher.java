@@ -0,0 +1,44 @@
+package me.namila.service.auth.data.event;
+
+import lombok.RequiredArgsConstructor;
+import me.namila.service.auth.common.domain.BaseAggregate;
+import me.namila.service.auth.common.domain.DomainEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Hands domain events registered on aggregates to the Spring event bus.
+ * Called by repository adapters after an aggregate is persisted; transactional
+ * listeners then act on the events once the surrounding transaction commits.
+ */
+@Component
+@RequiredArgsConstructor
+public class DomainEventDispatcher {
+    
+    private final ApplicationEventPublisher eventPublisher;
+    
+    /**
+     * Publish and clear all events registered on the aggregate.
+     * @param aggregate The aggregate whose events should be dispatched
+     */
+    public void dispatch(BaseAggregate<?> aggregate) {
+        if (aggregate == null || !aggregate.hasDomainEvents()) {
+            return;
+        }
+        List<Object> events = List.copyOf(aggregate.getDomainEvents());
+        aggregate.clearDomainEvents();
+        events.forEach(eventPublisher::publishEvent);
+    }
+    
+    /**
+     * Publish a single event that has no backing aggregate instance (e.g., a delete by ID).
+     * @param event The event to publish
+     */
+    public void dispatch(DomainEvent event) {
+        if (event != null) {
+            eventPublisher.publishEvent(event);
+        }
+    }
+}
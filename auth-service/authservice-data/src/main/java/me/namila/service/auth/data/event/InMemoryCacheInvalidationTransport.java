@@ -0,0 +1,18 @@
+package me.namila.service.auth.data.event;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Single-node transport that loops messages straight back to the local coalescer.
+ * Used in tests and single-instance deployments without Redis.
+ */
+@RequiredArgsConstructor
+public class InMemoryCacheInvalidationTransport implements CacheInvalidationTransport {
+    
+    private final CacheInvalidationCoalescer coalescer;
+    
+    @Override
+    public void publish(CacheInvalidationMessage message) {
+        coalescer.submit(message.aggregateType(), message.aggregateId());
+    }
+}
@@ -0,0 +1,38 @@
+package me.namila.service.auth.data.event;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Redis pub/sub transport for cache invalidation messages.
+ * Publishes to a shared channel and feeds messages received on it into the local coalescer.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class RedisCacheInvalidationTransport implements CacheInvalidationTransport, MessageListener {
+    
+    private final StringRedisTemplate redisTemplate;
+    private final String channel;
+    private final CacheInvalidationCoalescer coalescer;
+    
+    @Override
+    public void publish(CacheInvalidationMessage message) {
+        redisTemplate.convertAndSend(channel, message.encode());
+    }
+    
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String payload = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            CacheInvalidationMessage invalidation = CacheInvalidationMessage.decode(payload);
+            coalescer.submit(invalidation.aggregateType(), invalidation.aggregateId());
+        } catch (IllegalArgumentException ex) {
+            log.warn("Ignoring malformed cache invalidation message: {}", payload);
+        }
+    }
+}
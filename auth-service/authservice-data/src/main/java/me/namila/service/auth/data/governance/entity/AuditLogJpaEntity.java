@@ -6,8 +6,8 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
-import org.hibernate.annotations.JdbcTypeCode;
-import org.hibernate.type.SqlTypes;
+import me.namila.service.auth.data.json.LazyJsonMapConverter;
+import org.hibernate.annotations.ColumnTransformer;
 
 import java.time.Instant;
 import java.util.Map;
@@ -58,7 +58,8 @@ public class AuditLogJpaEntity
     private String policyVersion;
     
     @Column(name = "context", columnDefinition = "jsonb")
-    @JdbcTypeCode(SqlTypes.JSON)
+    @Convert(converter = LazyJsonMapConverter.class)
+    @ColumnTransformer(write = "?::jsonb")
     private Map<String, Object> context;
     
     @Column(name = "ip_address", length = 45)
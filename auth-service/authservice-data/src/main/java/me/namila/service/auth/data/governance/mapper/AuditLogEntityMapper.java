@@ -1,6 +1,7 @@
 package me.namila.service.auth.data.governance.mapper;
 
 import me.namila.service.auth.data.governance.entity.AuditLogJpaEntity;
+import me.namila.service.auth.data.json.JsonAttributes;
 import me.namila.service.auth.domain.core.governance.model.id.AuditLogId;
 import me.namila.service.auth.domain.core.governance.valueobject.ActorType;
 import me.namila.service.auth.domain.core.governance.valueobject.AuditEventType;
@@ -13,19 +14,21 @@ import org.mapstruct.ReportingPolicy;
 /**
  * MapStruct mapper for AuditLog Entity-Domain conversion.
  */
-@Mapper(componentModel = "spring", unmappedTargetPolicy = ReportingPolicy.IGNORE)
+@Mapper(componentModel = "spring", unmappedTargetPolicy = ReportingPolicy.IGNORE, uses = JsonAttributes.class)
 public interface AuditLogEntityMapper {
     
     @Mapping(target = "id", source = "auditId", qualifiedByName = "uuidToAuditLogId")
     @Mapping(target = "eventType", source = "eventType", qualifiedByName = "stringToAuditEventType")
     @Mapping(target = "actorType", source = "actorType", qualifiedByName = "stringToActorType")
     @Mapping(target = "decision", source = "decision", qualifiedByName = "stringToDecision")
+    @Mapping(target = "context", source = "context", qualifiedByName = "jsonAttribute")
     me.namila.service.auth.domain.core.governance.model.AuditLogEntity toDomain(AuditLogJpaEntity entity);
     
     @Mapping(target = "auditId", source = "id.value")
     @Mapping(target = "eventType", source = "eventType", qualifiedByName = "auditEventTypeToString")
     @Mapping(target = "actorType", source = "actorType", qualifiedByName = "actorTypeToString")
     @Mapping(target = "decision", source = "decision", qualifiedByName = "decisionToString")
+    @Mapping(target = "context", source = "context", qualifiedByName = "jsonAttribute")
     AuditLogJpaEntity toEntity(me.namila.service.auth.domain.core.governance.model.AuditLogEntity domain);
     
     @Named("stringToAuditEventType")
@@ -0,0 +1,23 @@
+package me.namila.service.auth.data.identity.adapter;
+
+import me.namila.service.auth.domain.application.identity.dto.response.UserSummaryResponse;
+import me.namila.service.auth.domain.application.port.identity.UserSummaryCachePort;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * User summary cache that holds nothing, for deployments without a shared cache.
+ */
+public class NoOpUserSummaryCache implements UserSummaryCachePort {
+    
+    @Override
+    public Map<UUID, UserSummaryResponse> getAll(Collection<UUID> userIds) {
+        return Map.of();
+    }
+    
+    @Override
+    public void putAll(Collection<UserSummaryResponse> summaries) {
+    }
+}
@@ -0,0 +1,46 @@
+package me.namila.service.auth.data.identity.adapter;
+
+import lombok.RequiredArgsConstructor;
+import me.namila.service.auth.data.event.DomainEventDispatcher;
+import me.namila.service.auth.data.identity.mapper.PasswordCredentialEntityMapper;
+import me.namila.service.auth.data.identity.repository.PasswordCredentialJpaRepository;
+import me.namila.service.auth.domain.application.port.identity.PasswordCredentialRepositoryPort;
+import me.namila.service.auth.domain.core.identity.model.PasswordCredentialAggregate;
+import me.namila.service.auth.domain.core.identity.model.id.UserId;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+/**
+ * Repository adapter for PasswordCredential aggregate root.
+ * Implements PasswordCredentialRepositoryPort using JPA.
+ */
+@Component
+@RequiredArgsConstructor
+public class PasswordCredentialRepositoryAdapter implements PasswordCredentialRepositoryPort {
+    
+    private final PasswordCredentialJpaRepository jpaRepository;
+    private final PasswordCredentialEntityMapper mapper;
+    private final DomainEventDispatcher eventDispatcher;
+    
+    @Override
+    public PasswordCredentialAggregate save(PasswordCredentialAggregate credential) {
+        var entity = mapper.toEntity(credential);
+        var saved = jpaRepository.save(entity);
+        eventDispatcher.dispatch(credential);
+        return mapper.toDomain(saved);
+    }
+    
+    @Override
+    public Optional<PasswordCredentialAggregate> findByUserId(UserId userId) {
+        return jpaRepository.findByUserId(userId.getValue())
+            .map(mapper::toDomain);
+    }
+    
+    @Override
+    @Transactional
+    public void deleteByUserId(UserId userId) {
+        jpaRepository.deleteByUserId(userId.getValue());
+    }
+}
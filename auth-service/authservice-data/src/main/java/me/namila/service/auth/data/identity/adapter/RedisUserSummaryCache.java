@@ -0,0 +1,103 @@
+package me.namila.service.auth.data.identity.adapter;
+
+import lombok.extern.slf4j.Slf4j;
+import me.namila.service.auth.data.cache.codec.BinaryRedisSerializer;
+import me.namila.service.auth.data.event.CacheInvalidationBatch;
+import me.namila.service.auth.domain.application.identity.dto.response.UserSummaryResponse;
+import me.namila.service.auth.domain.application.port.identity.UserSummaryCachePort;
+import me.namila.service.auth.domain.core.identity.event.UserChangedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * User summary cache in Redis, written through the {@link BinaryRedisSerializer} template.
+ * Entries expire after a short TTL and are deleted when a user invalidation arrives; the
+ * TTL also bounds how long a summary read from a lagging replica just before a change can
+ * outlive that change's eviction. Redis errors and undecodable entries count as misses.
+ */
+@Slf4j
+public class RedisUserSummaryCache implements UserSummaryCachePort {
+    
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final String keyPrefix;
+    private final Duration ttl;
+    
+    public RedisUserSummaryCache(RedisTemplate<String, Object> redisTemplate, String keyPrefix, Duration ttl) {
+        this.redisTemplate = redisTemplate;
+        this.keyPrefix = keyPrefix;
+        this.ttl = ttl;
+    }
+    
+    @Override
+    public Map<UUID, UserSummaryResponse> getAll(Collection<UUID> userIds) {
+        if (userIds.isEmpty()) {
+            return Map.of();
+        }
+        List<String> keys = userIds.stream().map(this::key).toList();
+        try {
+            List<Object> values = redisTemplate.opsForValue().multiGet(keys);
+            Map<UUID, UserSummaryResponse> cached = new HashMap<>();
+            if (values != null) {
+                for (Object value : values) {
+                    if (value instanceof UserSummaryResponse summary && summary.getUserId() != null) {
+                        cached.put(summary.getUserId(), summary);
+                    }
+                }
+            }
+            return cached;
+        } catch (DataAccessException | SerializationException ex) {
+            log.debug("User summary cache read failed; loading {} users from the repository", keys.size(), ex);
+            return Map.of();
+        }
+    }
+    
+    @Override
+    public void putAll(Collection<UserSummaryResponse> summaries) {
+        if (summaries.isEmpty()) {
+            return;
+        }
+        try {
+            // One pipelined round trip; MSET has no per-key TTL
+            redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) {
+                    RedisOperations<String, Object> pipeline = (RedisOperations<String, Object>) operations;
+                    for (UserSummaryResponse summary : summaries) {
+                        pipeline.opsForValue().set(key(summary.getUserId()), summary, ttl);
+                    }
+                    return null;
+                }
+            });
+        } catch (DataAccessException | SerializationException ex) {
+            log.debug("User summary cache write failed for {} users", summaries.size(), ex);
+        }
+    }
+    
+    @EventListener
+    public void onInvalidation(CacheInvalidationBatch batch) {
+        if (!UserChangedEvent.AGGREGATE_TYPE.equals(batch.aggregateType())) {
+            return;
+        }
+        try {
+            redisTemplate.delete(batch.aggregateIds().stream().map(this::key).toList());
+        } catch (DataAccessException ex) {
+            log.warn("Could not evict {} cached user summaries; they expire within {}", batch.aggregateIds().size(), ttl);
+        }
+    }
+    
+    private String key(UUID userId) {
+        return keyPrefix + userId;
+    }
+}
@@ -0,0 +1,54 @@
+package me.namila.service.auth.data.identity.adapter;
+
+import lombok.RequiredArgsConstructor;
+import me.namila.service.auth.data.cache.NaturalIdLoader;
+import me.namila.service.auth.data.event.DomainEventDispatcher;
+import me.namila.service.auth.data.identity.entity.ServiceAccountJpaEntity;
+import me.namila.service.auth.data.identity.mapper.ServiceAccountEntityMapper;
+import me.namila.service.auth.data.identity.repository.ServiceAccountJpaRepository;
+import me.namila.service.auth.domain.application.port.identity.ServiceAccountRepositoryPort;
+import me.namila.service.auth.domain.core.identity.model.ServiceAccountAggregate;
+import me.namila.service.auth.domain.core.identity.model.id.ServiceAccountId;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+/**
+ * Repository adapter for ServiceAccount aggregate root.
+ * Implements ServiceAccountRepositoryPort using JPA; token requests resolve the
+ * client ID through the natural-id cache, so a warm lookup does not touch the database.
+ */
+@Component
+@RequiredArgsConstructor
+public class ServiceAccountRepositoryAdapter implements ServiceAccountRepositoryPort {
+    
+    private final ServiceAccountJpaRepository jpaRepository;
+    private final ServiceAccountEntityMapper mapper;
+    private final DomainEventDispatcher eventDispatcher;
+    private final NaturalIdLoader naturalIdLoader;
+    
+    @Override
+    public ServiceAccountAggregate save(ServiceAccountAggregate account) {
+        var entity = mapper.toEntity(account);
+        var saved = jpaRepository.save(entity);
+        eventDispatcher.dispatch(account);
+        return mapper.toDomain(saved);
+    }
+    
+    @Override
+    public Optional<ServiceAccountAggregate> findById(ServiceAccountId accountId) {
+        return jpaRepository.findById(accountId.getValue())
+            .map(mapper::toDomain);
+    }
+    
+    @Override
+    public Optional<ServiceAccountAggregate> findByClientId(String clientId) {
+        return naturalIdLoader.load(ServiceAccountJpaEntity.class, clientId)
+            .map(mapper::toDomain);
+    }
+    
+    @Override
+    public boolean existsByClientId(String clientId) {
+        return jpaRepository.existsByClientId(clientId);
+    }
+}
@@ -0,0 +1,190 @@
+package me.namila.service.auth.data.identity.adapter;
+
+import lombok.RequiredArgsConstructor;
+import me.namila.service.auth.data.event.DomainEventDispatcher;
+import me.namila.service.auth.data.json.LazyJsonMapConverter;
+import me.namila.service.auth.domain.application.identity.importer.UserBulkInsertResult;
+import me.namila.service.auth.domain.application.identity.importer.UserImportCandidate;
+import me.namila.service.auth.domain.application.port.identity.UserBulkImportPort;
+import me.namila.service.auth.domain.core.identity.event.UsersImportedEvent;
+import me.namila.service.auth.domain.core.identity.model.UserAggregate;
+import me.namila.service.auth.domain.core.identity.model.UserProfileEntity;
+import org.postgresql.PGConnection;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Bulk import adapter that writes users through PostgreSQL COPY.
+ * Each batch is streamed into a transaction-scoped staging table and merged
+ * into identity.users and identity.user_profiles with one statement. The merge
+ * anti-joins against existing usernames and emails, and ON CONFLICT DO NOTHING
+ * covers users created concurrently by other requests. The same statement reports
+ * which field kept each skipped row out, read from the snapshot taken before the insert.
+ * Each batch dispatches one imported event for all of its inserted users inside the batch
+ * transaction, so a single outbox row commits with the users and caches and indexes are
+ * invalidated after commit.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserBulkImportAdapter implements UserBulkImportPort {
+    
+    private static final String CREATE_STAGING = """
+        CREATE TEMP TABLE IF NOT EXISTS user_import_staging (
+            user_id UUID NOT NULL,
+            username VARCHAR(255) NOT NULL,
+            email VARCHAR(255) NOT NULL,
+            status VARCHAR(50) NOT NULL,
+            metadata JSONB,
+            created_at TIMESTAMP WITH TIME ZONE NOT NULL,
+            profile_id UUID,
+            first_name VARCHAR(255),
+            last_name VARCHAR(255),
+            display_name VARCHAR(255),
+            profile_attributes JSONB
+        ) ON COMMIT DROP
+        """;
+    
+    private static final String COPY_STAGING = """
+        COPY user_import_staging (user_id, username, email, status, metadata, created_at,
+            profile_id, first_name, last_name, display_name, profile_attributes)
+        FROM STDIN WITH (FORMAT csv)
+        """;
+    
+    // Separate NOT EXISTS clauses so each probe can use its unique index
+    private static final String MERGE_STAGING = """
+        WITH inserted AS (
+            INSERT INTO identity.users (user_id, username, email, status, metadata, created_at, last_modified_at, version)
+            SELECT s.user_id, s.username, s.email, s.status, s.metadata, s.created_at, s.created_at, 0
+            FROM user_import_staging s
+            WHERE NOT EXISTS (SELECT 1 FROM identity.users u WHERE u.username = s.username)
+              AND NOT EXISTS (SELECT 1 FROM identity.users u WHERE u.email = s.email)
+            ON CONFLICT DO NOTHING
+            RETURNING user_id
+        ), profiles AS (
+            INSERT INTO identity.user_profiles (profile_id, user_id, first_name, last_name, display_name, attributes, created_at)
+            SELECT s.profile_id, s.user_id, s.first_name, s.last_name, s.display_name, s.profile_attributes, s.created_at
+            FROM user_import_staging s
+            JOIN inserted i ON i.user_id = s.user_id
+            WHERE s.profile_id IS NOT NULL
+        )
+        SELECT user_id, NULL AS conflict FROM inserted
+        UNION ALL
+        SELECT s.user_id,
+               CASE WHEN EXISTS (SELECT 1 FROM identity.users u WHERE u.username = s.username) THEN 'username'
+                    WHEN EXISTS (SELECT 1 FROM identity.users u WHERE u.email = s.email) THEN 'email'
+                    ELSE 'username' END
+        FROM user_import_staging s
+        WHERE NOT EXISTS (SELECT 1 FROM inserted i WHERE i.user_id = s.user_id)
+        """;
+    
+    private final JdbcTemplate jdbcTemplate;
+    private final DomainEventDispatcher eventDispatcher;
+    private final LazyJsonMapConverter jsonConverter = new LazyJsonMapConverter();
+    
+    @Override
+    @Transactional
+    public UserBulkInsertResult insertAbsent(List<UserImportCandidate> candidates) {
+        if (candidates.isEmpty()) {
+            return new UserBulkInsertResult(Set.of(), Map.of());
+        }
+        String rows = toCopyRows(candidates);
+        UserBulkInsertResult result = jdbcTemplate.execute((ConnectionCallback<UserBulkInsertResult>) connection -> {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute(CREATE_STAGING);
+            }
+            copy(connection, rows);
+            
+            Set<UUID> inserted = new HashSet<>(candidates.size() * 2);
+            Map<UUID, String> conflicts = new HashMap<>();
+            try (Statement statement = connection.createStatement();
+                 ResultSet resultSet = statement.executeQuery(MERGE_STAGING)) {
+                while (resultSet.next()) {
+                    UUID userId = resultSet.getObject(1, UUID.class);
+                    String conflict = resultSet.getString(2);
+                    if (conflict == null) {
+                        inserted.add(userId);
+                    } else {
+                        conflicts.put(userId, conflict);
+                    }
+                }
+            }
+            return new UserBulkInsertResult(inserted, conflicts);
+        });
+        
+        if (!result.inserted().isEmpty()) {
+            eventDispatcher.dispatch(UsersImportedEvent.of(result.inserted()));
+        }
+        return result;
+    }
+    
+    private void copy(Connection connection, String rows) throws SQLException {
+        try {
+            connection.unwrap(PGConnection.class).getCopyAPI().copyIn(COPY_STAGING, new StringReader(rows));
+        } catch (IOException ex) {
+            throw new SQLException("Failed to stream import batch to COPY", ex);
+        }
+    }
+    
+    /**
+     * Render the batch as COPY CSV. Unquoted empty fields are NULL, so every
+     * present value is quoted to keep empty strings distinct from NULL.
+     */
+    private String toCopyRows(List<UserImportCandidate> candidates) {
+        StringBuilder rows = new StringBuilder(candidates.size() * 160);
+        for (UserImportCandidate candidate : candidates) {
+            UserAggregate user = candidate.user();
+            UserProfileEntity profile = user.getProfile();
+            
+            rows.append(user.getId().getValue()).append(',');
+            appendQuoted(rows, user.getUsername().getValue()).append(',');
+            appendQuoted(rows, user.getEmail().getValue()).append(',');
+            appendQuoted(rows, user.getStatus().name()).append(',');
+            appendQuoted(rows, jsonConverter.convertToDatabaseColumn(user.getMetadata())).append(',');
+            rows.append(toTimestamp(user.getCreatedAt())).append(',');
+            if (profile != null) {
+                rows.append(profile.getId().getValue()).append(',');
+                appendQuoted(rows, profile.getFirstName()).append(',');
+                appendQuoted(rows, profile.getLastName()).append(',');
+                appendQuoted(rows, profile.getDisplayName()).append(',');
+                appendQuoted(rows, jsonConverter.convertToDatabaseColumn(profile.getAttributes()));
+            } else {
+                rows.append(",,,,");
+            }
+            rows.append('\n');
+        }
+        return rows.toString();
+    }
+    
+    private static StringBuilder appendQuoted(StringBuilder rows, String value) {
+        if (value != null) {
+            rows.append('"').append(value.replace("\"", "\"\"")).append('"');
+        }
+        return rows;
+    }
+    
+    /**
+     * Domain timestamps are UTC wall-clock times, read back the way UserEntityMapper
+     * converts them, so imported users line up with users saved through JPA.
+     */
+    private static String toTimestamp(LocalDateTime dateTime) {
+        return (dateTime != null ? dateTime.toInstant(ZoneOffset.UTC) : Instant.now()).toString();
+    }
+}
@@ -0,0 +1,124 @@
+package me.namila.service.auth.data.identity.adapter;
+
+import me.namila.service.auth.domain.application.identity.exporter.UserExportRecord;
+import me.namila.service.auth.domain.application.port.identity.UserExportPort;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.sql.Array;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Streams users for export with a forward-only server-side cursor.
+ * One query joins the profile and aggregates federated identities and active
+ * roles per user, so there is one row per user and no follow-up queries.
+ * The PostgreSQL driver only uses a cursor inside a transaction with a fetch
+ * size set; otherwise it would buffer the whole result.
+ */
+@Component
+public class UserExportAdapter implements UserExportPort {
+    
+    private static final String EXPORT_QUERY = """
+        SELECT u.user_id, u.username, u.email, u.status, u.created_at, u.last_modified_at,
+               p.first_name, p.last_name, p.display_name,
+               fi.provider_ids, fi.subject_ids, fi.issuers,
+               ra.role_names
+        FROM identity.users u
+        LEFT JOIN identity.user_profiles p ON p.user_id = u.user_id
+        LEFT JOIN LATERAL (
+            SELECT array_agg(f.provider_id ORDER BY f.linked_at) AS provider_ids,
+                   array_agg(f.subject_id ORDER BY f.linked_at) AS subject_ids,
+                   array_agg(f.issuer ORDER BY f.linked_at) AS issuers
+            FROM identities.federated_identities f
+            WHERE f.user_id = u.user_id
+        ) fi ON TRUE
+        LEFT JOIN LATERAL (
+            SELECT array_agg(DISTINCT r.role_name) AS role_names
+            FROM authorizations.user_role_assignments a
+            JOIN authorizations.roles r ON r.role_id = a.role_id
+            WHERE a.user_id = u.user_id
+              AND a.status = 'ACTIVE'
+              AND a.effective_from <= now()
+              AND (a.effective_until IS NULL OR a.effective_until > now())
+        ) ra ON TRUE
+        ORDER BY u.user_id
+        """;
+    
+    private final JdbcTemplate cursorTemplate;
+    
+    public UserExportAdapter(DataSource dataSource, @Value("${auth.export.fetch-size:1000}") int fetchSize) {
+        this.cursorTemplate = new JdbcTemplate(dataSource);
+        this.cursorTemplate.setFetchSize(fetchSize);
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public long forEachUser(Consumer<UserExportRecord> consumer) {
+        long[] count = new long[1];
+        cursorTemplate.query(EXPORT_QUERY, (RowCallbackHandler) resultSet -> {
+            consumer.accept(toRecord(resultSet));
+            count[0]++;
+        });
+        return count[0];
+    }
+    
+    private static UserExportRecord toRecord(ResultSet resultSet) throws SQLException {
+        return new UserExportRecord(
+            resultSet.getObject("user_id", UUID.class),
+            resultSet.getString("username"),
+            resultSet.getString("email"),
+            resultSet.getString("status"),
+            toInstant(resultSet.getObject("created_at", OffsetDateTime.class)),
+            toInstant(resultSet.getObject("last_modified_at", OffsetDateTime.class)),
+            resultSet.getString("first_name"),
+            resultSet.getString("last_name"),
+            resultSet.getString("display_name"),
+            toFederatedIdentities(resultSet),
+            toList(resultSet.getArray("role_names")));
+    }
+    
+    private static List<UserExportRecord.FederatedIdentity> toFederatedIdentities(ResultSet resultSet)
+            throws SQLException {
+        Array providerIds = resultSet.getArray("provider_ids");
+        if (providerIds == null) {
+            return List.of();
+        }
+        Object[] providers = (Object[]) providerIds.getArray();
+        Object[] subjects = (Object[]) resultSet.getArray("subject_ids").getArray();
+        Object[] issuers = (Object[]) resultSet.getArray("issuers").getArray();
+        
+        List<UserExportRecord.FederatedIdentity> identities = new ArrayList<>(providers.length);
+        for (int i = 0; i < providers.length; i++) {
+            identities.add(new UserExportRecord.FederatedIdentity(
+                (UUID) providers[i], (String) subjects[i], (String) issuers[i]));
+        }
+        return identities;
+    }
+    
+    private static List<String> toList(Array array) throws SQLException {
+        if (array == null) {
+            return List.of();
+        }
+        Object[] values = (Object[]) array.getArray();
+        List<String> result = new ArrayList<>(values.length);
+        for (Object value : values) {
+            result.add((String) value);
+        }
+        return result;
+    }
+    
+    private static Instant toInstant(OffsetDateTime value) {
+        return value != null ? value.toInstant() : null;
+    }
+}
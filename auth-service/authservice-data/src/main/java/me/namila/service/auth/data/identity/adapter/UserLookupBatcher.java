@@ -0,0 +1,133 @@
+package me.namila.service.auth.data.identity.adapter;
+
+import lombok.extern.slf4j.Slf4j;
+import me.namila.service.auth.data.config.ReadYourWritesContext;
+import me.namila.service.auth.data.identity.projection.UserDetailGraph;
+import me.namila.service.auth.data.identity.repository.UserJpaRepository;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DataLoader-style batcher for single-user detail lookups.
+ * Concurrent lookups arriving within a short window are coalesced into one joined
+ * detail query for all of their IDs; callers asking for the same ID share one result.
+ * The loaded entities are shared read-only, so each caller maps its own aggregate.
+ * A batch that reaches the maximum size is dispatched immediately on the caller's thread.
+ */
+@Slf4j
+public class UserLookupBatcher implements DisposableBean {
+
+    private final UserJpaRepository jpaRepository;
+    private final long windowMillis;
+    private final int maxBatchSize;
+    private final long readYourWritesWindowMillis;
+    private final Object lock = new Object();
+    private Map<UUID, CompletableFuture<Optional<UserDetailGraph>>> pending = new LinkedHashMap<>();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "user-lookup-batcher");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public UserLookupBatcher(UserJpaRepository jpaRepository, Duration window, int maxBatchSize,
+                             Duration readYourWritesWindow) {
+        this.jpaRepository = jpaRepository;
+        this.windowMillis = window.toMillis();
+        this.maxBatchSize = maxBatchSize;
+        this.readYourWritesWindowMillis = readYourWritesWindow.toMillis();
+    }
+
+    /**
+     * Whether a lookup on the current thread may be served by a shared batch.
+     * Only read-only transactions qualify: read-write transactions must see their own
+     * uncommitted rows, and callers pinned to the primary after a write must not be
+     * answered from a replica batch.
+     * @return true if the lookup can be coalesced
+     */
+    public boolean isApplicable() {
+        return windowMillis > 0
+            && TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+            && !ReadYourWritesContext.isPinnedToPrimary(readYourWritesWindowMillis);
+    }
+
+    /**
+     * Look up a user's detail graph, waiting for the batch the request joins to complete.
+     * @param userId The user ID
+     * @return Optional containing the user graph if found
+     */
+    public Optional<UserDetailGraph> load(UUID userId) {
+        CompletableFuture<Optional<UserDetailGraph>> future;
+        Map<UUID, CompletableFuture<Optional<UserDetailGraph>>> fullBatch = null;
+        synchronized (lock) {
+            future = pending.get(userId);
+            if (future == null) {
+                future = new CompletableFuture<>();
+                pending.put(userId, future);
+                if (pending.size() == 1) {
+                    scheduler.schedule(this::flush, windowMillis, TimeUnit.MILLISECONDS);
+                }
+                if (pending.size() >= maxBatchSize) {
+                    fullBatch = takePending();
+                }
+            }
+        }
+        if (fullBatch != null) {
+            dispatch(fullBatch);
+        }
+        try {
+            return future.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+
+    /**
+     * Dispatch whatever is pending; invoked by the scheduler once the window elapses.
+     */
+    public void flush() {
+        Map<UUID, CompletableFuture<Optional<UserDetailGraph>>> batch;
+        synchronized (lock) {
+            batch = takePending();
+        }
+        if (!batch.isEmpty()) {
+            dispatch(batch);
+        }
+    }
+
+    private Map<UUID, CompletableFuture<Optional<UserDetailGraph>>> takePending() {
+        Map<UUID, CompletableFuture<Optional<UserDetailGraph>>> batch = pending;
+        pending = new LinkedHashMap<>();
+        return batch;
+    }
+
+    private void dispatch(Map<UUID, CompletableFuture<Optional<UserDetailGraph>>> batch) {
+        try {
+            Map<UUID, UserDetailGraph> found =
+                UserDetailGraph.fromRows(jpaRepository.findDetailRowsByUserIdIn(batch.keySet()));
+            batch.forEach((userId, future) -> future.complete(Optional.ofNullable(found.get(userId))));
+        } catch (RuntimeException ex) {
+            log.warn("Batched user lookup of {} ids failed", batch.size(), ex);
+            batch.values().forEach(future -> future.completeExceptionally(ex));
+        }
+    }
+
+    @Override
+    public void destroy() {
+        scheduler.shutdownNow();
+        flush();
+    }
+}
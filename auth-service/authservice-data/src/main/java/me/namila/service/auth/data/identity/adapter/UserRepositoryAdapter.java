@@ -1,18 +1,30 @@
 package me.namila.service.auth.data.identity.adapter;
 
 import lombok.RequiredArgsConstructor;
+import me.namila.service.auth.common.domain.ChangeType;
+import me.namila.service.auth.data.event.DomainEventDispatcher;
+import me.namila.service.auth.data.identity.mapper.FederatedIdentityMapper;
 import me.namila.service.auth.data.identity.mapper.UserEntityMapper;
+import me.namila.service.auth.data.identity.projection.UserDetailGraph;
 import me.namila.service.auth.data.identity.repository.UserJpaRepository;
+import me.namila.service.auth.data.stats.RowCountEstimator;
 import me.namila.service.auth.domain.application.port.identity.UserRepositoryPort;
+import me.namila.service.auth.domain.core.identity.event.UserChangedEvent;
 import me.namila.service.auth.domain.core.identity.model.UserAggregate;
 import me.namila.service.auth.domain.core.identity.model.id.UserId;
 import me.namila.service.auth.domain.core.identity.valueobject.EmailValue;
 import me.namila.service.auth.domain.core.identity.valueobject.UserStatus;
 import me.namila.service.auth.domain.core.identity.valueobject.UsernameValue;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 /**
@@ -25,11 +37,16 @@ public class UserRepositoryAdapter implements UserRepositoryPort {
     
     private final UserJpaRepository jpaRepository;
     private final UserEntityMapper mapper;
+    private final FederatedIdentityMapper federatedIdentityMapper;
+    private final DomainEventDispatcher eventDispatcher;
+    private final UserLookupBatcher lookupBatcher;
+    private final RowCountEstimator rowCountEstimator;
     
     @Override
     public UserAggregate save(UserAggregate user) {
         var entity = mapper.toEntity(user);
         var saved = jpaRepository.save(entity);
+        eventDispatcher.dispatch(user);
         return mapper.toDomain(saved);
     }
     
@@ -39,6 +56,40 @@ public class UserRepositoryAdapter implements UserRepositoryPort {
             .map(mapper::toDomain);
     }
     
+    @Override
+    public Optional<UserAggregate> findDetailById(UserId userId) {
+        UUID id = userId.getValue();
+        Optional<UserDetailGraph> graph = lookupBatcher.isApplicable()
+            ? lookupBatcher.load(id)
+            : Optional.ofNullable(UserDetailGraph.fromRows(jpaRepository.findDetailRowsByUserIdIn(List.of(id))).get(id));
+        return graph.map(this::toDetailDomain);
+    }
+    
+    @Override
+    public List<UserAggregate> findAllById(Collection<UserId> userIds) {
+        if (userIds.isEmpty()) {
+            return List.of();
+        }
+        UUID[] ids = userIds.stream()
+            .map(UserId::getValue)
+            .distinct()
+            .toArray(UUID[]::new);
+        return jpaRepository.findAllByUserIdAny(ids).stream()
+            .map(mapper::toDomain)
+            .collect(Collectors.toList());
+    }
+    
+    private UserAggregate toDetailDomain(UserDetailGraph graph) {
+        UserAggregate user = mapper.toDomain(graph.user());
+        if (graph.profile() != null) {
+            user.setProfile(mapper.toDomain(graph.profile()));
+        }
+        user.setFederatedIdentities(graph.federatedIdentities().stream()
+            .map(federatedIdentityMapper::toDomain)
+            .collect(Collectors.toList()));
+        return user;
+    }
+    
     @Override
     public Optional<UserAggregate> findByUsername(UsernameValue username) {
         return jpaRepository.findByUsername(username.getValue())
@@ -68,17 +119,62 @@ public class UserRepositoryAdapter implements UserRepositoryPort {
             .collect(Collectors.toList());
     }
     
+    @Override
+    public Slice<UserAggregate> findAll(Pageable pageable) {
+        return jpaRepository.findAllBy(pageable)
+            .map(mapper::toDomain);
+    }
+    
+    @Override
+    public long count() {
+        return jpaRepository.count();
+    }
+    
+    @Override
+    public long estimateCount() {
+        return rowCountEstimator.estimateTableRows("identity.users");
+    }
+    
     @Override
     public void deleteById(UserId userId) {
         jpaRepository.deleteById(userId.getValue());
+        eventDispatcher.dispatch(UserChangedEvent.of(userId.getValue(), ChangeType.DELETED));
     }
     
     @Override
     public List<UserAggregate> findByStatus(UserStatus status) {
-        return jpaRepository.findAll().stream()
-            .filter(entity -> entity.getStatus().equals(status.name()))
+        return jpaRepository.findByStatus(status.name()).stream()
             .map(mapper::toDomain)
             .collect(Collectors.toList());
     }
+    
+    @Override
+    public Slice<UserAggregate> findByStatus(UserStatus status, Pageable pageable) {
+        return jpaRepository.findByStatus(status.name(), pageable)
+            .map(mapper::toDomain);
+    }
+    
+    @Override
+    public long countByStatus(UserStatus status) {
+        return jpaRepository.countByStatus(status.name());
+    }
+    
+    @Override
+    public long estimateCountByStatus(UserStatus status) {
+        // Enum constant names are safe to inline; EXPLAIN cannot bind parameters
+        return rowCountEstimator.estimateQueryRows(
+            "SELECT 1 FROM identity.users WHERE status = '" + status.name() + "'");
+    }
+    
+    @Override
+    public Map<UserStatus, Long> countByStatus() {
+        Map<UserStatus, Long> counts = new EnumMap<>(UserStatus.class);
+        for (UserStatus status : UserStatus.values()) {
+            counts.put(status, 0L);
+        }
+        jpaRepository.countGroupedByStatus()
+            .forEach(row -> counts.put(UserStatus.valueOf(row.getStatus()), row.getTotal()));
+        return counts;
+    }
 }
 
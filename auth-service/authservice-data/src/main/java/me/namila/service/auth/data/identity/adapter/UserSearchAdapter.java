@@ -0,0 +1,188 @@
+package me.namila.service.auth.data.identity.adapter;
+
+import lombok.extern.slf4j.Slf4j;
+import me.namila.service.auth.data.event.CacheInvalidationBatch;
+import me.namila.service.auth.data.identity.search.UserPrefixIndex;
+import me.namila.service.auth.domain.application.identity.search.UserSearchHit;
+import me.namila.service.auth.domain.application.port.identity.UserSearchPort;
+import me.namila.service.auth.domain.core.identity.event.UserChangedEvent;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.OffsetDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * User search backed by pg_trgm, with an optional in-memory prefix index in front.
+ * Candidates come from a UNION of per-table predicates so each branch can use its own
+ * index (trigram GIN for fuzzy matches, C-collation btree for short prefixes) instead
+ * of an OR across a join that forces a sequential scan.
+ * The in-memory index, when enabled, is loaded at startup and kept current from cache
+ * invalidation batches, which every node receives for every committed user change.
+ */
+@Component
+@Slf4j
+public class UserSearchAdapter implements UserSearchPort {
+    
+    /** Below this length trigrams are too unselective; only prefixes are matched. */
+    static final int MIN_FUZZY_LENGTH = 3;
+    
+    /** The highest code point, so {@code prefix + PREFIX_UPPER_BOUND} sorts after every extension of prefix. */
+    private static final String PREFIX_UPPER_BOUND = "\uDBFF\uDFFF";
+    
+    private static final String FUZZY_SEARCH = """
+        WITH candidates AS (
+            SELECT user_id FROM identity.users
+            WHERE username ILIKE :contains OR email ILIKE :contains
+               OR :query <% username OR :query <% email
+            UNION
+            SELECT user_id FROM identity.user_profiles
+            WHERE display_name ILIKE :contains OR :query <% display_name
+        )
+        SELECT u.user_id, u.username, u.email, u.status, p.display_name, u.created_at,
+               CASE WHEN lower(u.username) = :query THEN 2
+                    WHEN lower(u.username) LIKE :prefix OR lower(u.email) LIKE :prefix
+                      OR lower(p.display_name) LIKE :prefix THEN 1
+                    ELSE 0 END
+               + GREATEST(word_similarity(:query, u.username), word_similarity(:query, u.email),
+                          COALESCE(word_similarity(:query, p.display_name), 0)) AS score
+        FROM candidates c
+        JOIN identity.users u ON u.user_id = c.user_id
+        LEFT JOIN identity.user_profiles p ON p.user_id = u.user_id
+        ORDER BY score DESC, u.username
+        LIMIT :limit OFFSET :offset
+        """;
+    
+    private static final String PREFIX_SEARCH = """
+        WITH candidates AS (
+            SELECT user_id FROM identity.users
+            WHERE (lower(username) COLLATE "C" >= :lower AND lower(username) COLLATE "C" < :upper)
+               OR (lower(email) COLLATE "C" >= :lower AND lower(email) COLLATE "C" < :upper)
+            UNION
+            SELECT user_id FROM identity.user_profiles
+            WHERE lower(display_name) COLLATE "C" >= :lower AND lower(display_name) COLLATE "C" < :upper
+        )
+        SELECT u.user_id, u.username, u.email, u.status, p.display_name, u.created_at,
+               CASE WHEN lower(u.username) = :query THEN 3
+                    WHEN lower(u.username) LIKE :prefix THEN 2
+                    ELSE 1 END AS score
+        FROM candidates c
+        JOIN identity.users u ON u.user_id = c.user_id
+        LEFT JOIN identity.user_profiles p ON p.user_id = u.user_id
+        ORDER BY score DESC, u.username
+        LIMIT :limit OFFSET :offset
+        """;
+    
+    private static final String DOCUMENTS = """
+        SELECT u.user_id, u.username, u.email, u.status, p.display_name, u.created_at, 0 AS score
+        FROM identity.users u
+        LEFT JOIN identity.user_profiles p ON p.user_id = u.user_id
+        """;
+    
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final UserPrefixIndex prefixIndex;
+    
+    public UserSearchAdapter(NamedParameterJdbcTemplate jdbcTemplate, ObjectProvider<UserPrefixIndex> prefixIndex) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.prefixIndex = prefixIndex.getIfAvailable();
+    }
+    
+    @Override
+    public Slice<UserSearchHit> search(String query, Pageable pageable) {
+        int offset = (int) pageable.getOffset();
+        int size = pageable.getPageSize();
+        
+        // Fetch one extra match to detect a next page without counting
+        List<UserSearchHit> hits;
+        if (prefixIndex != null && prefixIndex.isReady()) {
+            hits = prefixIndex.search(query, offset, size + 1);
+        } else {
+            String prefix = escapeLike(query) + "%";
+            MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("query", query)
+                .addValue("prefix", prefix)
+                .addValue("limit", size + 1)
+                .addValue("offset", offset);
+            if (query.length() < MIN_FUZZY_LENGTH) {
+                params.addValue("lower", query).addValue("upper", query + PREFIX_UPPER_BOUND);
+                hits = jdbcTemplate.query(PREFIX_SEARCH, params, (rs, rowNum) -> toHit(rs));
+            } else {
+                params.addValue("contains", "%" + prefix);
+                hits = jdbcTemplate.query(FUZZY_SEARCH, params, (rs, rowNum) -> toHit(rs));
+            }
+        }
+        
+        boolean hasNext = hits.size() > size;
+        return new SliceImpl<>(hasNext ? hits.subList(0, size) : hits, pageable, hasNext);
+    }
+    
+    /**
+     * Load the in-memory index once the application is up. Until it is ready,
+     * searches fall through to the database.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (prefixIndex == null) {
+            return;
+        }
+        long started = System.currentTimeMillis();
+        jdbcTemplate.query(DOCUMENTS, (RowCallbackHandler) rs -> prefixIndex.putIfAbsent(toHit(rs)));
+        prefixIndex.markReady();
+        log.info("Loaded {} users into the search index in {} ms",
+            prefixIndex.size(), System.currentTimeMillis() - started);
+    }
+    
+    /**
+     * Re-read changed users into the in-memory index; users no longer found are removed.
+     */
+    @EventListener
+    public void onInvalidation(CacheInvalidationBatch batch) {
+        if (prefixIndex == null || !UserChangedEvent.AGGREGATE_TYPE.equals(batch.aggregateType())) {
+            return;
+        }
+        
+        try {
+            Set<UUID> missing = new HashSet<>(batch.aggregateIds());
+            jdbcTemplate.query(DOCUMENTS + "WHERE u.user_id IN (:userIds)",
+                new MapSqlParameterSource("userIds", batch.aggregateIds()),
+                (RowCallbackHandler) rs -> {
+                    UserSearchHit document = toHit(rs);
+                    prefixIndex.put(document);
+                    missing.remove(document.userId());
+                });
+            missing.forEach(prefixIndex::remove);
+        } catch (RuntimeException ex) {
+            // Stale entries only affect ranking and displayed fields; the next change of the user repairs them
+            log.warn("Failed to refresh {} users in the search index", batch.aggregateIds().size(), ex);
+        }
+    }
+    
+    private static UserSearchHit toHit(ResultSet resultSet) throws SQLException {
+        OffsetDateTime createdAt = resultSet.getObject("created_at", OffsetDateTime.class);
+        return new UserSearchHit(
+            resultSet.getObject("user_id", UUID.class),
+            resultSet.getString("username"),
+            resultSet.getString("email"),
+            resultSet.getString("status"),
+            resultSet.getString("display_name"),
+            createdAt != null ? createdAt.toInstant() : null,
+            resultSet.getDouble("score"));
+    }
+    
+    static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
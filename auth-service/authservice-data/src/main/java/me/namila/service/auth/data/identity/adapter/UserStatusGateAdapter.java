@@ -0,0 +1,128 @@
+package me.namila.service.auth.data.identity.adapter;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import me.namila.service.auth.data.event.CacheInvalidationBatch;
+import me.namila.service.auth.data.identity.status.UuidHashSet;
+import me.namila.service.auth.domain.application.port.identity.UserStatusGatePort;
+import me.namila.service.auth.domain.core.identity.event.UserChangedEvent;
+import me.namila.service.auth.domain.core.identity.event.UserStatusChangedEvent;
+import me.namila.service.auth.domain.core.identity.valueobject.UserStatus;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * In-memory set of the users whose status does not allow them to authenticate, so the
+ * request path can turn away a suspended or locked user's still-valid tokens without a
+ * database read. Only non-active users are held, which are few, as UUID pairs in a
+ * {@link UuidHashSet}. The set is loaded before the web server accepts requests, updated
+ * at once from status changes committed on this node, and re-read for the users in every
+ * user invalidation batch, which every node receives for every committed user change.
+ * Invalidations are best-effort, so the whole set is also reloaded periodically.
+ * Reads go through plain JDBC outside a transaction, so they hit the primary and never
+ * see a replica that has not caught up with the change yet.
+ */
+@Component
+@Slf4j
+public class UserStatusGateAdapter implements UserStatusGatePort, SmartInitializingSingleton {
+    
+    private static final String BLOCKED_USERS = "SELECT user_id FROM identity.users WHERE status IN (:statuses)";
+    
+    private static final List<String> BLOCKED_STATUSES = Arrays.stream(UserStatus.values())
+        .filter(status -> !status.canAuthenticate())
+        .map(UserStatus::name)
+        .toList();
+    
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final UuidHashSet blockedUsers;
+    
+    public UserStatusGateAdapter(
+            NamedParameterJdbcTemplate jdbcTemplate,
+            @Value("${auth.users.status-gate.initial-capacity:1024}") int initialCapacity,
+            MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.blockedUsers = new UuidHashSet(initialCapacity);
+        Gauge.builder("auth.users.status-gate.blocked", blockedUsers, UuidHashSet::size)
+            .description("Users held locally as not allowed to authenticate")
+            .register(meterRegistry);
+    }
+    
+    @Override
+    public boolean isBlocked(UUID userId) {
+        return userId != null && blockedUsers.contains(userId);
+    }
+    
+    @Override
+    public void afterSingletonsInstantiated() {
+        reload();
+    }
+    
+    /**
+     * Replace the set with the users currently stored in a blocked status.
+     */
+    @Scheduled(initialDelayString = "${auth.users.status-gate.reload-interval:10m}",
+               fixedDelayString = "${auth.users.status-gate.reload-interval:10m}")
+    public synchronized void reload() {
+        try {
+            long started = System.currentTimeMillis();
+            List<UUID> blocked = jdbcTemplate.queryForList(BLOCKED_USERS,
+                new MapSqlParameterSource("statuses", BLOCKED_STATUSES), UUID.class);
+            blockedUsers.replaceAll(blocked);
+            log.info("Loaded {} blocked users in {} ms", blocked.size(), System.currentTimeMillis() - started);
+        } catch (RuntimeException ex) {
+            // Keep serving from what is held; tokens still expire and the next reload retries
+            log.error("Failed to load blocked users", ex);
+        }
+    }
+    
+    /**
+     * Apply a status change committed on this node without waiting for its invalidation.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public synchronized void onStatusChanged(UserStatusChangedEvent event) {
+        if (event.newStatus().canAuthenticate()) {
+            blockedUsers.remove(event.userId());
+        } else {
+            blockedUsers.add(event.userId());
+        }
+    }
+    
+    /**
+     * Re-read the status of changed users; users no longer found are removed.
+     */
+    @EventListener
+    public synchronized void onInvalidation(CacheInvalidationBatch batch) {
+        if (!UserChangedEvent.AGGREGATE_TYPE.equals(batch.aggregateType())) {
+            return;
+        }
+        
+        try {
+            Set<UUID> blocked = new HashSet<>(jdbcTemplate.queryForList(BLOCKED_USERS + " AND user_id IN (:userIds)",
+                new MapSqlParameterSource("statuses", BLOCKED_STATUSES).addValue("userIds", batch.aggregateIds()),
+                UUID.class));
+            for (UUID userId : batch.aggregateIds()) {
+                if (blocked.contains(userId)) {
+                    blockedUsers.add(userId);
+                } else {
+                    blockedUsers.remove(userId);
+                }
+            }
+        } catch (RuntimeException ex) {
+            log.warn("Failed to refresh the status of {} users", batch.aggregateIds().size(), ex);
+        }
+    }
+}
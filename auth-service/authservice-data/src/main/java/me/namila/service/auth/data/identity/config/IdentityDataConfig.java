@@ -1,14 +1,46 @@
 package me.namila.service.auth.data.identity.config;
 
+import me.namila.service.auth.data.identity.adapter.UserLookupBatcher;
+import me.namila.service.auth.data.identity.repository.UserJpaRepository;
+import me.namila.service.auth.data.identity.search.UserPrefixIndex;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
 
+import java.time.Duration;
+
 /**
  * Configuration for Identity context data module.
  */
 @Configuration
 //@EnableJpaRepositories(basePackages = "me.namila.service.auth.data.identity.repository")
 public class IdentityDataConfig {
-    // Context-specific configuration can be added here
+    
+    @Value("${auth.users.lookup-batch.window:2ms}")
+    private Duration lookupBatchWindow;
+    
+    @Value("${auth.users.lookup-batch.max-batch-size:500}")
+    private int lookupBatchMaxSize;
+    
+    @Value("${auth.datasource.read-your-writes.window:2s}")
+    private Duration readYourWritesWindow;
+    
+    /**
+     * Coalesces concurrent single-user lookups; a zero window disables batching.
+     */
+    @Bean
+    public UserLookupBatcher userLookupBatcher(UserJpaRepository userJpaRepository) {
+        return new UserLookupBatcher(userJpaRepository, lookupBatchWindow, lookupBatchMaxSize, readYourWritesWindow);
+    }
+    
+    /**
+     * In-memory prefix index for user search; without it searches go to pg_trgm.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "auth.users.search.memory-index.enabled", havingValue = "true")
+    public UserPrefixIndex userPrefixIndex() {
+        return new UserPrefixIndex();
+    }
 }
-
@@ -0,0 +1,50 @@
+package me.namila.service.auth.data.identity.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * JPA entity for PasswordCredential aggregate root.
+ * Kept apart from {@link UserJpaEntity} and out of the second-level cache, so password
+ * hashes are only ever loaded by a login or a password change.
+ */
+@Entity
+@Table(name = "password_credentials", schema = "identity")
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PasswordCredentialJpaEntity
+{
+    
+    @Id
+    @Column(name = "credential_id")
+    private UUID credentialId;
+    
+    @Column(name = "user_id", nullable = false, unique = true)
+    private UUID userId;
+    
+    @Column(name = "password_hash", nullable = false, length = 255)
+    private String passwordHash;
+    
+    @Column(name = "password_changed_at", nullable = false)
+    private Instant passwordChangedAt;
+    
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+    
+    @Column(name = "last_modified_at", nullable = false)
+    private Instant lastModifiedAt;
+    
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+}
@@ -0,0 +1,67 @@
+package me.namila.service.auth.data.identity.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import me.namila.service.auth.data.cache.CacheRegions;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * JPA entity for ServiceAccount aggregate root.
+ * Scopes and token exchange audiences are stored space separated, as they appear in OAuth parameters.
+ */
+@Entity
+@Table(name = "service_accounts", schema = "identity")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.SERVICE_ACCOUNT)
+@NaturalIdCache(region = CacheRegions.SERVICE_ACCOUNT_NATURAL_ID)
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ServiceAccountJpaEntity
+{
+    
+    @Id
+    @Column(name = "account_id")
+    private UUID accountId;
+    
+    @NaturalId
+    @Column(name = "client_id", nullable = false, unique = true, length = 100)
+    private String clientId;
+    
+    @Column(name = "display_name", nullable = false, length = 255)
+    private String displayName;
+    
+    @Column(name = "client_secret_hash", nullable = false, length = 255)
+    private String clientSecretHash;
+    
+    @Column(name = "scopes", nullable = false, length = 2000)
+    private String scopes;
+    
+    @Column(name = "audiences", length = 2000)
+    private String audiences;
+    
+    @Column(name = "enabled", nullable = false)
+    private Boolean enabled;
+    
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+    
+    @Column(name = "last_modified_at", nullable = false)
+    private Instant lastModifiedAt;
+    
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+}
@@ -6,8 +6,8 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
-import org.hibernate.annotations.JdbcTypeCode;
-import org.hibernate.type.SqlTypes;
+import me.namila.service.auth.data.json.LazyJsonMapConverter;
+import org.hibernate.annotations.ColumnTransformer;
 
 import java.time.Instant;
 import java.util.Map;
@@ -17,7 +17,10 @@ import java.util.UUID;
  * JPA entity for User aggregate root.
  */
 @Entity
-@Table(name = "users", schema = "identity")
+@Table(name = "users", schema = "identity",
+    indexes = {
+        @Index(name = "idx_users_status", columnList = "status")
+    })
 @Getter
 @Setter
 @Builder
@@ -40,7 +43,8 @@ public class UserJpaEntity
     private String status;
     
     @Column(name = "metadata", columnDefinition = "jsonb")
-    @JdbcTypeCode(SqlTypes.JSON)
+    @Convert(converter = LazyJsonMapConverter.class)
+    @ColumnTransformer(write = "?::jsonb")
     private Map<String, Object> metadata;
     
     @Column(name = "created_at", nullable = false)
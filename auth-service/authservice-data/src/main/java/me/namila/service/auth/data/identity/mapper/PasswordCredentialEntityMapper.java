@@ -0,0 +1,58 @@
+package me.namila.service.auth.data.identity.mapper;
+
+import me.namila.service.auth.data.identity.entity.PasswordCredentialJpaEntity;
+import me.namila.service.auth.domain.core.identity.model.PasswordCredentialAggregate;
+import me.namila.service.auth.domain.core.identity.model.id.PasswordCredentialId;
+import me.namila.service.auth.domain.core.identity.model.id.UserId;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.Named;
+import org.mapstruct.ReportingPolicy;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+/**
+ * MapStruct mapper for PasswordCredential Entity-Domain conversion.
+ */
+@Mapper(componentModel = "spring", unmappedTargetPolicy = ReportingPolicy.IGNORE)
+public interface PasswordCredentialEntityMapper {
+    
+    @Mapping(target = "id", source = "credentialId", qualifiedByName = "uuidToPasswordCredentialId")
+    @Mapping(target = "userId", source = "userId", qualifiedByName = "uuidToUserId")
+    @Mapping(target = "passwordChangedAt", source = "passwordChangedAt", qualifiedByName = "instantToLocalDateTime")
+    @Mapping(target = "createdAt", source = "createdAt", qualifiedByName = "instantToLocalDateTime")
+    @Mapping(target = "updatedAt", source = "lastModifiedAt", qualifiedByName = "instantToLocalDateTime")
+    @Mapping(target = "version", ignore = true)
+    PasswordCredentialAggregate toDomain(PasswordCredentialJpaEntity entity);
+    
+    @Mapping(target = "credentialId", source = "id.value")
+    @Mapping(target = "userId", source = "userId.value")
+    @Mapping(target = "passwordChangedAt", source = "passwordChangedAt", qualifiedByName = "localDateTimeToInstant")
+    @Mapping(target = "createdAt", source = "createdAt", qualifiedByName = "localDateTimeToInstant")
+    @Mapping(target = "lastModifiedAt", source = "updatedAt", qualifiedByName = "localDateTimeToInstant")
+    @Mapping(target = "version", ignore = true)
+    PasswordCredentialJpaEntity toEntity(PasswordCredentialAggregate domain);
+    
+    @Named("uuidToPasswordCredentialId")
+    default PasswordCredentialId uuidToPasswordCredentialId(UUID uuid) {
+        return uuid != null ? PasswordCredentialId.of(uuid) : null;
+    }
+    
+    @Named("uuidToUserId")
+    default UserId uuidToUserId(UUID uuid) {
+        return uuid != null ? UserId.of(uuid) : null;
+    }
+    
+    @Named("instantToLocalDateTime")
+    default LocalDateTime instantToLocalDateTime(Instant instant) {
+        return instant != null ? LocalDateTime.ofInstant(instant, ZoneOffset.UTC) : null;
+    }
+    
+    @Named("localDateTimeToInstant")
+    default Instant localDateTimeToInstant(LocalDateTime localDateTime) {
+        return localDateTime != null ? localDateTime.toInstant(ZoneOffset.UTC) : null;
+    }
+}
@@ -0,0 +1,68 @@
+package me.namila.service.auth.data.identity.mapper;
+
+import me.namila.service.auth.data.identity.entity.ServiceAccountJpaEntity;
+import me.namila.service.auth.domain.core.identity.model.ServiceAccountAggregate;
+import me.namila.service.auth.domain.core.identity.model.id.ServiceAccountId;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.Named;
+import org.mapstruct.ReportingPolicy;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+/**
+ * MapStruct mapper for ServiceAccount Entity-Domain conversion.
+ */
+@Mapper(componentModel = "spring", unmappedTargetPolicy = ReportingPolicy.IGNORE)
+public interface ServiceAccountEntityMapper {
+    
+    @Mapping(target = "id", source = "accountId", qualifiedByName = "uuidToServiceAccountId")
+    @Mapping(target = "scopes", source = "scopes", qualifiedByName = "stringToScopes")
+    @Mapping(target = "audiences", source = "audiences", qualifiedByName = "stringToScopes")
+    @Mapping(target = "createdAt", source = "createdAt", qualifiedByName = "instantToLocalDateTime")
+    @Mapping(target = "updatedAt", source = "lastModifiedAt", qualifiedByName = "instantToLocalDateTime")
+    @Mapping(target = "version", ignore = true)
+    ServiceAccountAggregate toDomain(ServiceAccountJpaEntity entity);
+    
+    @Mapping(target = "accountId", source = "id.value")
+    @Mapping(target = "scopes", source = "scopes", qualifiedByName = "scopesToString")
+    @Mapping(target = "audiences", source = "audiences", qualifiedByName = "scopesToString")
+    @Mapping(target = "createdAt", source = "createdAt", qualifiedByName = "localDateTimeToInstant")
+    @Mapping(target = "lastModifiedAt", source = "updatedAt", qualifiedByName = "localDateTimeToInstant")
+    @Mapping(target = "version", ignore = true)
+    ServiceAccountJpaEntity toEntity(ServiceAccountAggregate domain);
+    
+    @Named("uuidToServiceAccountId")
+    default ServiceAccountId uuidToServiceAccountId(java.util.UUID uuid) {
+        return uuid != null ? ServiceAccountId.of(uuid) : null;
+    }
+    
+    @Named("stringToScopes")
+    default Set<String> stringToScopes(String scopes) {
+        if (scopes == null || scopes.isBlank()) {
+            return Set.of();
+        }
+        return Arrays.stream(scopes.trim().split("\\s+")).collect(Collectors.toSet());
+    }
+    
+    @Named("scopesToString")
+    default String scopesToString(Set<String> scopes) {
+        return scopes != null ? String.join(" ", new TreeSet<>(scopes)) : "";
+    }
+    
+    @Named("instantToLocalDateTime")
+    default LocalDateTime instantToLocalDateTime(Instant instant) {
+        return instant != null ? LocalDateTime.ofInstant(instant, ZoneOffset.UTC) : null;
+    }
+    
+    @Named("localDateTimeToInstant")
+    default Instant localDateTimeToInstant(LocalDateTime localDateTime) {
+        return localDateTime != null ? localDateTime.toInstant(ZoneOffset.UTC) : null;
+    }
+}
@@ -1,8 +1,12 @@
 package me.namila.service.auth.data.identity.mapper;
 
 import me.namila.service.auth.data.identity.entity.UserJpaEntity;
+import me.namila.service.auth.data.identity.entity.UserProfileJpaEntity;
+import me.namila.service.auth.data.json.JsonAttributes;
 import me.namila.service.auth.domain.core.identity.model.UserAggregate;
+import me.namila.service.auth.domain.core.identity.model.UserProfileEntity;
 import me.namila.service.auth.domain.core.identity.model.id.UserId;
+import me.namila.service.auth.domain.core.identity.model.id.UserProfileId;
 import me.namila.service.auth.domain.core.identity.valueobject.EmailValue;
 import me.namila.service.auth.domain.core.identity.valueobject.UserStatus;
 import me.namila.service.auth.domain.core.identity.valueobject.UsernameValue;
@@ -18,7 +22,7 @@ import java.time.ZoneOffset;
 /**
  * MapStruct mapper for User Entity-Domain conversion.
  */
-@Mapper(componentModel = "spring", unmappedTargetPolicy = ReportingPolicy.IGNORE)
+@Mapper(componentModel = "spring", unmappedTargetPolicy = ReportingPolicy.IGNORE, uses = JsonAttributes.class)
 public interface UserEntityMapper {
     
     @Mapping(target = "id", source = "userId", qualifiedByName = "uuidToUserId")
@@ -30,6 +34,7 @@ public interface UserEntityMapper {
     @Mapping(target = "createdAt", source = "createdAt", qualifiedByName = "instantToLocalDateTime")
     @Mapping(target = "updatedAt", source = "lastModifiedAt", qualifiedByName = "instantToLocalDateTime")
     @Mapping(target = "version", ignore = true)
+    @Mapping(target = "metadata", source = "metadata", qualifiedByName = "jsonAttribute")
     UserAggregate toDomain(UserJpaEntity entity);
     
     @Mapping(target = "userId", source = "id.value")
@@ -38,13 +43,25 @@ public interface UserEntityMapper {
     @Mapping(target = "status", source = "status", qualifiedByName = "userStatusToString")
     @Mapping(target = "createdAt", source = "createdAt", qualifiedByName = "localDateTimeToInstant")
     @Mapping(target = "lastModifiedAt", source = "updatedAt", qualifiedByName = "localDateTimeToInstant")
+    @Mapping(target = "metadata", source = "metadata", qualifiedByName = "jsonAttribute")
     UserJpaEntity toEntity(UserAggregate domain);
     
+    @Mapping(target = "id", source = "profileId", qualifiedByName = "uuidToUserProfileId")
+    @Mapping(target = "createdAt", source = "createdAt", qualifiedByName = "instantToLocalDateTime")
+    @Mapping(target = "updatedAt", ignore = true)
+    @Mapping(target = "attributes", source = "attributes", qualifiedByName = "jsonAttribute")
+    UserProfileEntity toDomain(UserProfileJpaEntity entity);
+    
     @Named("uuidToUserId")
     default UserId uuidToUserId(java.util.UUID uuid) {
         return uuid != null ? UserId.of(uuid) : null;
     }
     
+    @Named("uuidToUserProfileId")
+    default UserProfileId uuidToUserProfileId(java.util.UUID uuid) {
+        return uuid != null ? UserProfileId.of(uuid) : null;
+    }
+    
     @Named("stringToUsernameValue")
     default UsernameValue stringToUsernameValue(String username) {
         return username != null ? UsernameValue.of(username) : null;
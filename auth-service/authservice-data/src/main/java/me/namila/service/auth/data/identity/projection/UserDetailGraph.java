@@ -0,0 +1,57 @@
+package me.namila.service.auth.data.identity.projection;
+
+import me.namila.service.auth.data.identity.entity.FederatedIdentityJpaEntity;
+import me.namila.service.auth.data.identity.entity.UserJpaEntity;
+import me.namila.service.auth.data.identity.entity.UserProfileJpaEntity;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * A user together with its profile and federated identities, as loaded by the
+ * single joined detail query. Used for user detail views to avoid lazy-load round trips.
+ *
+ * @param user the user row
+ * @param profile the profile row, null if the user has none
+ * @param federatedIdentities the linked federated identities, in query order
+ */
+public record UserDetailGraph(
+    UserJpaEntity user,
+    UserProfileJpaEntity profile,
+    List<FederatedIdentityJpaEntity> federatedIdentities
+) {
+    
+    /**
+     * Fold the flat {@code [user, profile, federatedIdentity]} rows of the joined query
+     * into one graph per user. A user with several federated identities spans several
+     * rows; the user and profile columns repeat on each of them.
+     *
+     * @param rows the query result rows
+     * @return one graph per distinct user ID, keyed by that ID
+     */
+    public static Map<UUID, UserDetailGraph> fromRows(List<Object[]> rows) {
+        Map<UUID, UserJpaEntity> users = new LinkedHashMap<>();
+        Map<UUID, UserProfileJpaEntity> profiles = new LinkedHashMap<>();
+        Map<UUID, Map<UUID, FederatedIdentityJpaEntity>> identities = new LinkedHashMap<>();
+        for (Object[] row : rows) {
+            UserJpaEntity user = (UserJpaEntity) row[0];
+            UUID userId = user.getUserId();
+            users.putIfAbsent(userId, user);
+            if (row[1] != null) {
+                profiles.putIfAbsent(userId, (UserProfileJpaEntity) row[1]);
+            }
+            Map<UUID, FederatedIdentityJpaEntity> linked = identities.computeIfAbsent(userId, id -> new LinkedHashMap<>());
+            if (row[2] != null) {
+                FederatedIdentityJpaEntity identity = (FederatedIdentityJpaEntity) row[2];
+                linked.putIfAbsent(identity.getFederatedIdentityId(), identity);
+            }
+        }
+        
+        Map<UUID, UserDetailGraph> graphs = new LinkedHashMap<>();
+        users.forEach((userId, user) -> graphs.put(userId, new UserDetailGraph(
+            user, profiles.get(userId), List.copyOf(identities.get(userId).values()))));
+        return graphs;
+    }
+}
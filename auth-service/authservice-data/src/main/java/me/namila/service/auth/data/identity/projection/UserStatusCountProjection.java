@@ -0,0 +1,11 @@
+package me.namila.service.auth.data.identity.projection;
+
+/**
+ * Projection for the per-status user count aggregate.
+ */
+public interface UserStatusCountProjection {
+    
+    String getStatus();
+    
+    long getTotal();
+}
@@ -0,0 +1,24 @@
+package me.namila.service.auth.data.identity.repository;
+
+import me.namila.service.auth.data.identity.entity.PasswordCredentialJpaEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Spring Data JPA repository for PasswordCredentialJpaEntity.
+ */
+@Repository
+public interface PasswordCredentialJpaRepository extends JpaRepository<PasswordCredentialJpaEntity, UUID> {
+    
+    Optional<PasswordCredentialJpaEntity> findByUserId(UUID userId);
+    
+    @Modifying
+    @Query("DELETE FROM PasswordCredentialJpaEntity c WHERE c.userId = :userId")
+    void deleteByUserId(@Param("userId") UUID userId);
+}
@@ -0,0 +1,16 @@
+package me.namila.service.auth.data.identity.repository;
+
+import me.namila.service.auth.data.identity.entity.ServiceAccountJpaEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.UUID;
+
+/**
+ * Spring Data JPA repository for ServiceAccountJpaEntity.
+ */
+@Repository
+public interface ServiceAccountJpaRepository extends JpaRepository<ServiceAccountJpaEntity, UUID> {
+    
+    boolean existsByClientId(String clientId);
+}
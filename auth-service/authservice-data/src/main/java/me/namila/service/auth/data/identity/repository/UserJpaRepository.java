@@ -1,9 +1,17 @@
 package me.namila.service.auth.data.identity.repository;
 
 import me.namila.service.auth.data.identity.entity.UserJpaEntity;
+import me.namila.service.auth.data.identity.projection.UserStatusCountProjection;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -20,5 +28,45 @@ public interface UserJpaRepository extends JpaRepository<UserJpaEntity, UUID> {
     boolean existsByUsername(String username);
     
     boolean existsByEmail(String email);
+    
+    List<UserJpaEntity> findByStatus(String status);
+    
+    /**
+     * Page through users without counting; the Slice fetches one extra row to detect a next page.
+     */
+    Slice<UserJpaEntity> findAllBy(Pageable pageable);
+    
+    Slice<UserJpaEntity> findByStatus(String status, Pageable pageable);
+    
+    long countByStatus(String status);
+    
+    /**
+     * Count users per status in one grouped scan.
+     */
+    @Query("SELECT u.status AS status, COUNT(u) AS total FROM UserJpaEntity u GROUP BY u.status")
+    List<UserStatusCountProjection> countGroupedByStatus();
+    
+    /**
+     * Load many users in one round trip; the IDs are bound as a single array parameter
+     * so the statement text (and its cached plan) does not vary with the batch size.
+     */
+    @Transactional(readOnly = true)
+    @Query(value = "SELECT * FROM identity.users WHERE user_id = ANY(:userIds)", nativeQuery = true)
+    List<UserJpaEntity> findAllByUserIdAny(@Param("userIds") UUID[] userIds);
+    
+    /**
+     * Load users with their profile and federated identities in one statement.
+     * Each row is {@code [UserJpaEntity, UserProfileJpaEntity|null, FederatedIdentityJpaEntity|null]};
+     * fold them with {@link me.namila.service.auth.data.identity.projection.UserDetailGraph#fromRows}.
+     */
+    @Transactional(readOnly = true)
+    @Query("""
+        SELECT u, p, f FROM UserJpaEntity u
+        LEFT JOIN UserProfileJpaEntity p ON p.user = u
+        LEFT JOIN FederatedIdentityJpaEntity f ON f.userId = u.userId
+        WHERE u.userId IN :userIds
+        ORDER BY u.userId, f.linkedAt
+        """)
+    List<Object[]> findDetailRowsByUserIdIn(@Param("userIds") Collection<UUID> userIds);
 }
 
@@ -0,0 +1,161 @@
+package me.namila.service.auth.data.identity.search;
+
+import me.namila.service.auth.domain.application.identity.search.UserSearchHit;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * In-memory prefix index over username, email and display name for hot typeahead traffic.
+ * Every lower-cased field and each of its words is a term in a sorted map, so a prefix
+ * lookup is one range scan. Writes are serialized; reads never block and may briefly see
+ * a document under both its old and new terms while it is being replaced.
+ */
+public class UserPrefixIndex {
+    
+    private static final Comparator<UserSearchHit> RANKING = Comparator
+        .comparingDouble(UserSearchHit::score).reversed()
+        .thenComparing(UserSearchHit::username, Comparator.nullsLast(Comparator.naturalOrder()));
+    
+    private final ConcurrentSkipListMap<String, Set<UUID>> terms = new ConcurrentSkipListMap<>();
+    private final Map<UUID, UserSearchHit> documents = new ConcurrentHashMap<>();
+    private final Object writeLock = new Object();
+    private volatile boolean ready;
+    
+    /**
+     * Add or replace a user's document.
+     * @param document The user's current fields
+     */
+    public void put(UserSearchHit document) {
+        synchronized (writeLock) {
+            removeTerms(documents.put(document.userId(), document));
+            for (String term : termsOf(document)) {
+                terms.computeIfAbsent(term, key -> ConcurrentHashMap.newKeySet()).add(document.userId());
+            }
+        }
+    }
+    
+    /**
+     * Add a document loaded during warm-up unless a fresher change already indexed it.
+     * @param document The user's fields as of the warm-up scan
+     */
+    public void putIfAbsent(UserSearchHit document) {
+        synchronized (writeLock) {
+            if (!documents.containsKey(document.userId())) {
+                put(document);
+            }
+        }
+    }
+    
+    /**
+     * Remove a user's document.
+     * @param userId The user ID
+     */
+    public void remove(UUID userId) {
+        synchronized (writeLock) {
+            removeTerms(documents.remove(userId));
+        }
+    }
+    
+    /**
+     * Mark the initial load complete; searches are only served once this is set.
+     */
+    public void markReady() {
+        ready = true;
+    }
+    
+    public boolean isReady() {
+        return ready;
+    }
+    
+    public int size() {
+        return documents.size();
+    }
+    
+    /**
+     * Find users with a term starting with the query, best matches first.
+     * An exact username match ranks first, then username prefixes, then
+     * whole email or display name prefixes, then prefixes of other words.
+     * @param query Lower-case search text
+     * @param offset Number of matches to skip
+     * @param limit Maximum number of matches to return
+     * @return The matches in rank order
+     */
+    public List<UserSearchHit> search(String query, int offset, int limit) {
+        Set<UUID> candidates = new LinkedHashSet<>();
+        for (Map.Entry<String, Set<UUID>> entry : terms.tailMap(query).entrySet()) {
+            if (!entry.getKey().startsWith(query)) {
+                break;
+            }
+            candidates.addAll(entry.getValue());
+        }
+        
+        List<UserSearchHit> ranked = new ArrayList<>(candidates.size());
+        for (UUID userId : candidates) {
+            UserSearchHit document = documents.get(userId);
+            if (document != null) {
+                ranked.add(document.withScore(score(document, query)));
+            }
+        }
+        ranked.sort(RANKING);
+        if (offset >= ranked.size()) {
+            return List.of();
+        }
+        return List.copyOf(ranked.subList(offset, Math.min(ranked.size(), offset + limit)));
+    }
+    
+    private void removeTerms(UserSearchHit previous) {
+        if (previous == null) {
+            return;
+        }
+        for (String term : termsOf(previous)) {
+            terms.computeIfPresent(term, (key, ids) -> {
+                ids.remove(previous.userId());
+                return ids.isEmpty() ? null : ids;
+            });
+        }
+    }
+    
+    private static double score(UserSearchHit document, String query) {
+        String username = lower(document.username());
+        if (username.equals(query)) {
+            return 3.0;
+        }
+        if (username.startsWith(query)) {
+            return 2.0;
+        }
+        if (lower(document.email()).startsWith(query) || lower(document.displayName()).startsWith(query)) {
+            return 1.5;
+        }
+        return 1.0;
+    }
+    
+    private static Set<String> termsOf(UserSearchHit document) {
+        Set<String> result = new LinkedHashSet<>();
+        for (String field : new String[] {document.username(), document.email(), document.displayName()}) {
+            String value = lower(field);
+            if (value.isEmpty()) {
+                continue;
+            }
+            result.add(value);
+            for (String word : value.split("[^\\p{L}\\p{N}]+")) {
+                if (!word.isEmpty()) {
+                    result.add(word);
+                }
+            }
+        }
+        return result;
+    }
+    
+    private static String lower(String value) {
+        return value != null ? value.toLowerCase(Locale.ROOT) : "";
+    }
+}
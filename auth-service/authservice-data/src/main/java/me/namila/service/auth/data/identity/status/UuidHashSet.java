@@ -0,0 +1,209 @@
+package me.namila.service.auth.data.identity.status;
+
+import java.util.Collection;
+import java.util.UUID;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Open-addressing set of UUIDs held as pairs of primitive longs.
+ * Each UUID's two halves sit side by side in one {@code long[]}, so an entry costs 16 bytes
+ * at full load, there is no per-entry object, and a lookup allocates nothing. Reads are
+ * optimistic and only fall back to a read lock when they race a writer; writes are
+ * serialised. Removal shifts the following probe run back rather than leaving tombstones,
+ * so lookups stay short however often users move in and out of the set.
+ * The nil UUID marks an empty slot and is never a member.
+ */
+public final class UuidHashSet {
+
+    private static final int MIN_CAPACITY = 16;
+
+    private final StampedLock lock = new StampedLock();
+    private long[] slots;
+    private int size;
+
+    public UuidHashSet(int initialCapacity) {
+        this.slots = new long[2 * capacityFor(initialCapacity)];
+    }
+
+    /**
+     * Check whether a UUID is in the set.
+     * @param id The UUID
+     * @return true if the set contains it
+     */
+    public boolean contains(UUID id) {
+        long msb = id.getMostSignificantBits();
+        long lsb = id.getLeastSignificantBits();
+        if (msb == 0L && lsb == 0L) {
+            return false;
+        }
+        long stamp = lock.tryOptimisticRead();
+        boolean found = find(slots, msb, lsb) >= 0;
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                found = find(slots, msb, lsb) >= 0;
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Add a UUID to the set.
+     * @param id The UUID
+     * @return true if it was not already present
+     */
+    public boolean add(UUID id) {
+        long msb = id.getMostSignificantBits();
+        long lsb = id.getLeastSignificantBits();
+        if (msb == 0L && lsb == 0L) {
+            return false;
+        }
+        long stamp = lock.writeLock();
+        try {
+            return insert(msb, lsb);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Remove a UUID from the set.
+     * @param id The UUID
+     * @return true if it was present
+     */
+    public boolean remove(UUID id) {
+        long msb = id.getMostSignificantBits();
+        long lsb = id.getLeastSignificantBits();
+        if (msb == 0L && lsb == 0L) {
+            // The nil UUID would match the first empty slot of its probe run
+            return false;
+        }
+        long stamp = lock.writeLock();
+        try {
+            int slot = find(slots, msb, lsb);
+            if (slot < 0) {
+                return false;
+            }
+            shiftBack(slot);
+            size--;
+            return true;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Replace the contents of the set.
+     * @param ids The new members
+     */
+    public void replaceAll(Collection<UUID> ids) {
+        long stamp = lock.writeLock();
+        try {
+            slots = new long[2 * capacityFor(ids.size())];
+            size = 0;
+            for (UUID id : ids) {
+                if (id.getMostSignificantBits() != 0L || id.getLeastSignificantBits() != 0L) {
+                    insert(id.getMostSignificantBits(), id.getLeastSignificantBits());
+                }
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    public int size() {
+        long stamp = lock.readLock();
+        try {
+            return size;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    private boolean insert(long msb, long lsb) {
+        if ((size + 1) * 4 > slots.length) {
+            resize(slots.length);
+        }
+        int mask = slots.length / 2 - 1;
+        int index = home(msb, lsb, mask);
+        while (!isEmpty(slots, index)) {
+            if (slots[2 * index] == msb && slots[2 * index + 1] == lsb) {
+                return false;
+            }
+            index = (index + 1) & mask;
+        }
+        slots[2 * index] = msb;
+        slots[2 * index + 1] = lsb;
+        size++;
+        return true;
+    }
+
+    /**
+     * Close the gap at a freed slot by moving back any later entry of the same probe run
+     * whose home slot does not lie between the gap and the entry.
+     */
+    private void shiftBack(int gap) {
+        int mask = slots.length / 2 - 1;
+        int index = gap;
+        while (true) {
+            index = (index + 1) & mask;
+            if (isEmpty(slots, index)) {
+                break;
+            }
+            int home = home(slots[2 * index], slots[2 * index + 1], mask);
+            boolean reachable = gap <= index
+                ? gap < home && home <= index
+                : gap < home || home <= index;
+            if (!reachable) {
+                slots[2 * gap] = slots[2 * index];
+                slots[2 * gap + 1] = slots[2 * index + 1];
+                gap = index;
+            }
+        }
+        slots[2 * gap] = 0L;
+        slots[2 * gap + 1] = 0L;
+    }
+
+    private static int find(long[] slots, long msb, long lsb) {
+        int capacity = slots.length / 2;
+        int mask = capacity - 1;
+        int index = home(msb, lsb, mask);
+        // Bounded probe: an optimistic read may observe the array mid-update
+        for (int probes = 0; probes < capacity; probes++) {
+            if (slots[2 * index] == msb && slots[2 * index + 1] == lsb) {
+                return index;
+            }
+            if (isEmpty(slots, index)) {
+                return -1;
+            }
+            index = (index + 1) & mask;
+        }
+        return -1;
+    }
+
+    private void resize(int capacity) {
+        long[] old = slots;
+        slots = new long[2 * capacity];
+        size = 0;
+        for (int i = 0; i < old.length / 2; i++) {
+            if (!isEmpty(old, i)) {
+                insert(old[2 * i], old[2 * i + 1]);
+            }
+        }
+    }
+
+    private static boolean isEmpty(long[] slots, int index) {
+        return slots[2 * index] == 0L && slots[2 * index + 1] == 0L;
+    }
+
+    private static int home(long msb, long lsb, int mask) {
+        long hash = (msb ^ lsb) * 0x9e3779b97f4a7c15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+
+    private static int capacityFor(int entries) {
+        return Integer.highestOneBit(Math.max(MIN_CAPACITY, entries * 2) * 2 - 1);
+    }
+}
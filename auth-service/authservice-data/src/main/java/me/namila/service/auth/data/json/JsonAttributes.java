@@ -0,0 +1,24 @@
+package me.namila.service.auth.data.json;
+
+import org.mapstruct.Named;
+
+import java.util.Map;
+
+/**
+ * MapStruct helpers for JSON attributes.
+ * By default MapStruct copies Map properties entry by entry, which would force a
+ * {@link me.namila.service.auth.common.json.LazyJsonMap} to decode during mapping.
+ */
+public final class JsonAttributes {
+    
+    private JsonAttributes() {
+    }
+    
+    /**
+     * Hand the map over as-is; the domain setter decides whether to copy it.
+     */
+    @Named("jsonAttribute")
+    public static Map<String, Object> jsonAttribute(Map<String, Object> json) {
+        return json;
+    }
+}
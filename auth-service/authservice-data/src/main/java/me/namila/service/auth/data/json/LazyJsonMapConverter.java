@@ -0,0 +1,56 @@
+package me.namila.service.auth.data.json;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import me.namila.service.auth.common.json.LazyJsonMap;
+
+import java.util.Map;
+
+/**
+ * Maps a JSONB column to a {@link LazyJsonMap} holding the raw document.
+ * Parsing is deferred until the map is read, and an untouched map is written
+ * back verbatim without a serialize round trip.
+ * Use together with {@code @ColumnTransformer(write = "?::jsonb")} so the text is bound as jsonb.
+ */
+@Converter
+public class LazyJsonMapConverter implements AttributeConverter<Map<String, Object>, String> {
+    
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final TypeReference<Map<String, Object>> MAP_TYPE = new TypeReference<>() {};
+    
+    @Override
+    public String convertToDatabaseColumn(Map<String, Object> attribute) {
+        if (attribute == null) {
+            return null;
+        }
+        if (attribute instanceof LazyJsonMap lazy && !lazy.isDecoded()) {
+            return lazy.rawJson();
+        }
+        try {
+            return MAPPER.writeValueAsString(attribute);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalArgumentException("Failed to serialize JSON attribute", ex);
+        }
+    }
+    
+    @Override
+    public Map<String, Object> convertToEntityAttribute(String dbData) {
+        return dbData != null ? new LazyJsonMap(dbData, LazyJsonMapConverter::decode) : null;
+    }
+    
+    /**
+     * Parse a raw JSON document into a map.
+     * @param json The JSON text
+     * @return The parsed map
+     */
+    public static Map<String, Object> decode(String json) {
+        try {
+            return MAPPER.readValue(json, MAP_TYPE);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Failed to parse JSON attribute", ex);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package me.namila.service.auth.data.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import me.namila.service.auth.common.domain.DomainEvent;
+import me.namila.service.auth.data.outbox.entity.OutboxEventJpaEntity;
+import me.namila.service.auth.data.outbox.repository.OutboxEventJpaRepository;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Writes dispatched domain events to the outbox table.
+ * Runs synchronously on the dispatching thread, so the row joins the transaction
+ * that saved the aggregate and is rolled back with it.
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxEventRecorder {
+    
+    private final OutboxEventJpaRepository outboxRepository;
+    private final ObjectMapper objectMapper;
+    
+    @EventListener
+    public void record(DomainEvent event) {
+        outboxRepository.save(OutboxEventJpaEntity.builder()
+            .eventId(UUID.randomUUID())
+            .aggregateType(event.aggregateType())
+            .aggregateId(event.aggregateId())
+            .eventType(event.getClass().getSimpleName())
+            .payload(toJson(event))
+            .occurredAt(event.occurredAt())
+            .createdAt(Instant.now())
+            .build());
+    }
+    
+    private String toJson(DomainEvent event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Failed to serialize domain event " + event.getClass().getSimpleName(), ex);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package me.namila.service.auth.data.outbox.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * JPA entity for a domain event waiting to be relayed to external consumers.
+ * Rows are written in the same transaction as the aggregate change.
+ */
+@Entity
+@Table(name = "outbox_events", schema = "governance",
+    indexes = {
+        @Index(name = "idx_outbox_events_pending", columnList = "published_at, created_at")
+    })
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OutboxEventJpaEntity {
+    
+    @Id
+    @Column(name = "event_id")
+    private UUID eventId;
+    
+    @Column(name = "aggregate_type", nullable = false, length = 100)
+    private String aggregateType;
+    
+    @Column(name = "aggregate_id", nullable = false)
+    private UUID aggregateId;
+    
+    @Column(name = "event_type", nullable = false, length = 100)
+    private String eventType;
+    
+    @Column(name = "payload", nullable = false, columnDefinition = "jsonb")
+    @JdbcTypeCode(SqlTypes.JSON)
+    private String payload;
+    
+    @Column(name = "occurred_at", nullable = false)
+    private Instant occurredAt;
+    
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+    
+    @Column(name = "published_at")
+    private Instant publishedAt;
+}
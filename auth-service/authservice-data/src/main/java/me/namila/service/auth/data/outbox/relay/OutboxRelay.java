@@ -0,0 +1,132 @@
+package me.namila.service.auth.data.outbox.relay;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import me.namila.service.auth.data.outbox.entity.OutboxEventJpaEntity;
+import me.namila.service.auth.data.outbox.repository.OutboxEventJpaRepository;
+import me.namila.service.auth.data.outbox.sink.OutboxMessage;
+import me.namila.service.auth.data.outbox.sink.OutboxSink;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Drains the outbox table into the configured sink.
+ * Each batch is locked with FOR UPDATE SKIP LOCKED, published and then deleted
+ * (or archived) in a single transaction; a failed publish rolls the batch back
+ * so it is retried on the next poll.
+ */
+@Slf4j
+public class OutboxRelay {
+    
+    private final OutboxEventJpaRepository outboxRepository;
+    private final OutboxSink sink;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxBatchesPerPoll;
+    private final boolean archive;
+    
+    private final Counter publishedCounter;
+    private final Counter failureCounter;
+    private final Timer batchTimer;
+    private final AtomicLong lagMillis = new AtomicLong();
+    
+    public OutboxRelay(OutboxEventJpaRepository outboxRepository,
+                       OutboxSink sink,
+                       PlatformTransactionManager transactionManager,
+                       MeterRegistry meterRegistry,
+                       int batchSize,
+                       int maxBatchesPerPoll,
+                       boolean archive) {
+        this.outboxRepository = outboxRepository;
+        this.sink = sink;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.maxBatchesPerPoll = maxBatchesPerPoll;
+        this.archive = archive;
+        
+        this.publishedCounter = Counter.builder("auth.outbox.relay.published")
+            .description("Outbox events delivered to the sink")
+            .register(meterRegistry);
+        this.failureCounter = Counter.builder("auth.outbox.relay.failures")
+            .description("Outbox batches that failed to publish")
+            .register(meterRegistry);
+        this.batchTimer = Timer.builder("auth.outbox.relay.batch")
+            .description("Time to lock, publish and clear one outbox batch")
+            .register(meterRegistry);
+        Gauge.builder("auth.outbox.relay.lag", lagMillis, value -> value.get() / 1000.0)
+            .description("Age of the oldest unpublished outbox event")
+            .baseUnit("seconds")
+            .register(meterRegistry);
+    }
+    
+    /**
+     * Poll the outbox, draining up to maxBatchesPerPoll full batches.
+     */
+    @Scheduled(fixedDelayString = "${auth.outbox.relay.poll-interval:500ms}")
+    public void poll() {
+        try {
+            for (int i = 0; i < maxBatchesPerPoll; i++) {
+                Integer relayed = batchTimer.record(() -> transactionTemplate.execute(status -> relayBatch()));
+                if (relayed == null || relayed < batchSize) {
+                    break;
+                }
+            }
+        } catch (RuntimeException ex) {
+            failureCounter.increment();
+            log.warn("Outbox relay batch failed, will retry on next poll", ex);
+        } finally {
+            updateLag();
+        }
+    }
+    
+    /**
+     * Relay one batch inside the current transaction.
+     * @return The number of events relayed
+     */
+    int relayBatch() {
+        List<OutboxEventJpaEntity> batch = outboxRepository.lockNextBatch(batchSize);
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        
+        sink.publish(batch.stream().map(OutboxRelay::toMessage).toList());
+        
+        List<UUID> eventIds = batch.stream().map(OutboxEventJpaEntity::getEventId).toList();
+        if (archive) {
+            outboxRepository.markPublished(eventIds, Instant.now());
+        } else {
+            outboxRepository.deleteByEventIds(eventIds);
+        }
+        publishedCounter.increment(batch.size());
+        return batch.size();
+    }
+    
+    private void updateLag() {
+        try {
+            Instant oldest = outboxRepository.findOldestPendingCreatedAt();
+            lagMillis.set(oldest == null ? 0L : Math.max(0L, Duration.between(oldest, Instant.now()).toMillis()));
+        } catch (RuntimeException ex) {
+            log.debug("Could not refresh outbox lag", ex);
+        }
+    }
+    
+    private static OutboxMessage toMessage(OutboxEventJpaEntity entity) {
+        return new OutboxMessage(
+            entity.getEventId(),
+            entity.getAggregateType(),
+            entity.getAggregateId(),
+            entity.getEventType(),
+            entity.getPayload(),
+            entity.getOccurredAt());
+    }
+}
@@ -0,0 +1,39 @@
+package me.namila.service.auth.data.outbox.repository;
+
+import me.namila.service.auth.data.outbox.entity.OutboxEventJpaEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Spring Data JPA repository for OutboxEventJpaEntity.
+ */
+@Repository
+public interface OutboxEventJpaRepository extends JpaRepository<OutboxEventJpaEntity, UUID> {
+    
+    /**
+     * Lock the next batch of unpublished events.
+     * Rows locked by another relay instance are skipped, so several nodes can drain the outbox concurrently.
+     */
+    @Query(value = "SELECT * FROM governance.outbox_events WHERE published_at IS NULL "
+        + "ORDER BY created_at LIMIT :batchSize FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<OutboxEventJpaEntity> lockNextBatch(@Param("batchSize") int batchSize);
+    
+    @Modifying
+    @Query("DELETE FROM OutboxEventJpaEntity o WHERE o.eventId IN :eventIds")
+    int deleteByEventIds(@Param("eventIds") Collection<UUID> eventIds);
+    
+    @Modifying
+    @Query("UPDATE OutboxEventJpaEntity o SET o.publishedAt = :publishedAt WHERE o.eventId IN :eventIds")
+    int markPublished(@Param("eventIds") Collection<UUID> eventIds, @Param("publishedAt") Instant publishedAt);
+    
+    @Query("SELECT MIN(o.createdAt) FROM OutboxEventJpaEntity o WHERE o.publishedAt IS NULL")
+    Instant findOldestPendingCreatedAt();
+}
@@ -0,0 +1,26 @@
+package me.namila.service.auth.data.outbox.sink;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Keeps relayed events in memory. Intended for tests and local development.
+ */
+public class InMemoryOutboxSink implements OutboxSink {
+    
+    private final List<OutboxMessage> published = new CopyOnWriteArrayList<>();
+    
+    @Override
+    public void publish(List<OutboxMessage> batch) {
+        published.addAll(batch);
+    }
+    
+    public List<OutboxMessage> getPublished() {
+        return new ArrayList<>(published);
+    }
+    
+    public void clear() {
+        published.clear();
+    }
+}
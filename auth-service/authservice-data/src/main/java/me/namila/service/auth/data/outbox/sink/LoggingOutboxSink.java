@@ -0,0 +1,22 @@
+package me.namila.service.auth.data.outbox.sink;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+
+/**
+ * Writes events to a dedicated logger so they can be routed to a file and shipped by a log collector.
+ */
+public class LoggingOutboxSink implements OutboxSink {
+    
+    private static final Logger OUTBOX_LOG = LoggerFactory.getLogger("auth.outbox");
+    
+    @Override
+    public void publish(List<OutboxMessage> batch) {
+        for (OutboxMessage message : batch) {
+            OUTBOX_LOG.info("{} {} {} {} {}", message.eventId(), message.eventType(),
+                message.aggregateType(), message.aggregateId(), message.payload());
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package me.namila.service.auth.data.outbox.sink;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Outbox event as handed to a sink. The event ID is stable across redeliveries
+ * so consumers can de-duplicate.
+ */
+public record OutboxMessage(
+    UUID eventId,
+    String aggregateType,
+    UUID aggregateId,
+    String eventType,
+    String payload,
+    Instant occurredAt) {
+}
@@ -0,0 +1,17 @@
+package me.namila.service.auth.data.outbox.sink;
+
+import java.util.List;
+
+/**
+ * Destination for relayed outbox events.
+ * Delivery is at-least-once: a batch is only removed from the outbox when
+ * {@link #publish(List)} returns normally, and is retried if it throws.
+ */
+public interface OutboxSink {
+    
+    /**
+     * Publish a batch of events, in outbox order.
+     * @param batch The events to publish
+     */
+    void publish(List<OutboxMessage> batch);
+}
@@ -0,0 +1,51 @@
+package me.namila.service.auth.data.outbox.sink;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.RedisStreamCommands.XAddOptions;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Appends events to a Redis stream. The whole batch is sent in one pipeline;
+ * the stream is capped (approximately) at the configured length.
+ */
+@RequiredArgsConstructor
+public class RedisStreamOutboxSink implements OutboxSink {
+    
+    private final StringRedisTemplate redisTemplate;
+    private final String streamKey;
+    private final long maxLength;
+    
+    @Override
+    public void publish(List<OutboxMessage> batch) {
+        RedisSerializer<String> serializer = redisTemplate.getStringSerializer();
+        byte[] key = serializer.serialize(streamKey);
+        XAddOptions options = maxLength > 0 ? XAddOptions.maxlen(maxLength).approximateTrimming(true) : XAddOptions.none();
+        
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (OutboxMessage message : batch) {
+                MapRecord<byte[], byte[], byte[]> record = StreamRecords.newRecord()
+                    .in(key)
+                    .ofMap(toFields(message, serializer));
+                connection.streamCommands().xAdd(record, options);
+            }
+            return null;
+        });
+    }
+    
+    private static Map<byte[], byte[]> toFields(OutboxMessage message, RedisSerializer<String> serializer) {
+        return Map.of(
+            serializer.serialize("eventId"), serializer.serialize(message.eventId().toString()),
+            serializer.serialize("eventType"), serializer.serialize(message.eventType()),
+            serializer.serialize("aggregateType"), serializer.serialize(message.aggregateType()),
+            serializer.serialize("aggregateId"), serializer.serialize(message.aggregateId().toString()),
+            serializer.serialize("occurredAt"), serializer.serialize(message.occurredAt().toString()),
+            serializer.serialize("payload"), serializer.serialize(message.payload()));
+    }
+}
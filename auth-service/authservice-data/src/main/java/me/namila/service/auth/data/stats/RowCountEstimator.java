@@ -0,0 +1,56 @@
+package me.namila.service.auth.data.stats;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Row count estimates from PostgreSQL planner statistics.
+ * Used by the ESTIMATED pagination count mode so that listing pages of large
+ * tables does not run a full {@code COUNT(*)}; figures are as fresh as the last ANALYZE.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RowCountEstimator {
+    
+    private static final ObjectMapper PLAN_READER = new ObjectMapper();
+    
+    private final JdbcTemplate jdbcTemplate;
+    
+    /**
+     * Estimated number of rows in a table, from {@code pg_class.reltuples}.
+     * @param qualifiedTable The schema-qualified table name, e.g. {@code identity.users}
+     * @return The estimate, 0 if the table is unknown or has never been analyzed
+     */
+    public long estimateTableRows(String qualifiedTable) {
+        List<Long> estimates = jdbcTemplate.queryForList(
+            "SELECT reltuples::bigint FROM pg_class WHERE oid = to_regclass(?)", Long.class, qualifiedTable);
+        // reltuples is -1 until the first VACUUM/ANALYZE on PostgreSQL 14+
+        return estimates.isEmpty() || estimates.get(0) == null ? 0L : Math.max(estimates.get(0), 0L);
+    }
+    
+    /**
+     * Estimated number of rows a query returns, from the top plan node of {@code EXPLAIN}.
+     * The query is planned, never executed. It must be built from trusted fragments only,
+     * since EXPLAIN cannot take bind parameters.
+     * @param sql The query to estimate
+     * @return The planner's row estimate, 0 if the plan cannot be read
+     */
+    public long estimateQueryRows(String sql) {
+        String plan = jdbcTemplate.queryForObject("EXPLAIN (FORMAT JSON) " + sql, String.class);
+        try {
+            JsonNode rows = PLAN_READER.readTree(plan).path(0).path("Plan").path("Plan Rows");
+            return rows.isNumber() ? Math.max(rows.asLong(), 0L) : 0L;
+        } catch (JsonProcessingException ex) {
+            log.warn("Could not read row estimate from plan for: {}", sql, ex);
+            return 0L;
+        }
+    }
+}
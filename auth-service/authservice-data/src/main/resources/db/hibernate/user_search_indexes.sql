@@ -0,0 +1,10 @@
+-- Indexes for user search that @Index cannot express; run by Hibernate after schema creation.
+-- One statement per line: Hibernate's default import extractor splits on lines.
+-- Trigram GIN indexes serve ILIKE '%q%' and word-similarity (<%) matches of three or more characters
+CREATE INDEX IF NOT EXISTS idx_users_username_trgm ON identity.users USING gin (username gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_users_email_trgm ON identity.users USING gin (email gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_user_profiles_display_name_trgm ON identity.user_profiles USING gin (display_name gin_trgm_ops);
+-- Byte-ordered btree indexes serve range scans for one- and two-character prefixes
+CREATE INDEX IF NOT EXISTS idx_users_username_prefix ON identity.users ((lower(username) COLLATE "C"));
+CREATE INDEX IF NOT EXISTS idx_users_email_prefix ON identity.users ((lower(email) COLLATE "C"));
+CREATE INDEX IF NOT EXISTS idx_user_profiles_display_name_prefix ON identity.user_profiles ((lower(display_name) COLLATE "C"));
@@ -0,0 +1,18 @@
+-- -- ============================================
+-- -- TRANSACTIONAL OUTBOX
+-- -- ============================================
+--
+-- CREATE TABLE governance.outbox_events (
+--     event_id UUID PRIMARY KEY,
+--     aggregate_type VARCHAR(100) NOT NULL,
+--     aggregate_id UUID NOT NULL,
+--     event_type VARCHAR(100) NOT NULL,
+--     payload JSONB NOT NULL,
+--     occurred_at TIMESTAMP WITH TIME ZONE NOT NULL,
+--     created_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+--     published_at TIMESTAMP WITH TIME ZONE
+-- );
+--
+-- -- Relay polls unpublished rows in insertion order
+-- CREATE INDEX idx_outbox_events_pending ON governance.outbox_events(created_at) WHERE published_at IS NULL;
+--
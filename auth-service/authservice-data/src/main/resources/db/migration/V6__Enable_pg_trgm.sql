@@ -0,0 +1,9 @@
+-- ============================================
+-- USER SEARCH
+-- ============================================
+-- Trigram matching for user search. Installed in public so the operators
+-- resolve regardless of the connection's search_path. The indexes themselves
+-- are created in db/hibernate/user_search_indexes.sql, after Hibernate has
+-- created the tables.
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm WITH SCHEMA public;
@@ -0,0 +1,14 @@
+-- -- ============================================
+-- -- LOCAL PASSWORD CREDENTIALS
+-- -- ============================================
+--
+-- -- Argon2id hashes in PHC string format; the cost parameters are part of the hash
+-- CREATE TABLE identity.password_credentials (
+--     credential_id UUID PRIMARY KEY,
+--     user_id UUID NOT NULL UNIQUE REFERENCES identity.users(user_id) ON DELETE CASCADE,
+--     password_hash VARCHAR(255) NOT NULL,
+--     password_changed_at TIMESTAMP WITH TIME ZONE NOT NULL,
+--     created_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+--     last_modified_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+--     version BIGINT NOT NULL DEFAULT 0
+-- );
@@ -0,0 +1,115 @@
+package me.namila.service.auth.data.auth.adapter;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import me.namila.service.auth.data.auth.entitlement.LongEpochMap;
+import me.namila.service.auth.data.event.CacheInvalidationBatch;
+import me.namila.service.auth.domain.core.authorization.event.RoleChangedEvent;
+import me.namila.service.auth.domain.core.identity.event.UserChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for EntitlementEpochAdapter and its epoch map.
+ */
+@DisplayName("EntitlementEpochAdapter Tests")
+class EntitlementEpochAdapterTest {
+
+    private static final long STARTED_AT = 1_735_689_600_000L;
+
+    private SimpleMeterRegistry meterRegistry;
+    private Clock clock;
+    private EntitlementEpochAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        clock = mock(Clock.class);
+        when(clock.millis()).thenReturn(STARTED_AT);
+        adapter = new EntitlementEpochAdapter(16, Duration.ZERO, meterRegistry, clock);
+    }
+
+    @Test
+    @DisplayName("currentEpoch_UnchangedUser_ShouldReturnStartupEpoch")
+    void currentEpoch_UnchangedUser_ShouldReturnStartupEpoch() {
+        assertEquals(STARTED_AT, adapter.currentEpoch(UUID.randomUUID()));
+    }
+
+    @Test
+    @DisplayName("onInvalidation_UserChange_ShouldAdvanceOnlyChangedUsers")
+    void onInvalidation_UserChange_ShouldAdvanceOnlyChangedUsers() {
+        // Given
+        UUID changed = UUID.randomUUID();
+        UUID untouched = UUID.randomUUID();
+        long stamped = adapter.currentEpoch(changed);
+
+        // When: two changes within the same millisecond still move the epoch each time
+        adapter.onInvalidation(new CacheInvalidationBatch(UserChangedEvent.AGGREGATE_TYPE, Set.of(changed)));
+        long afterFirst = adapter.currentEpoch(changed);
+        adapter.onInvalidation(new CacheInvalidationBatch(UserChangedEvent.AGGREGATE_TYPE, Set.of(changed)));
+
+        // Then
+        assertTrue(afterFirst > stamped);
+        assertTrue(adapter.currentEpoch(changed) > afterFirst);
+        assertEquals(STARTED_AT, adapter.currentEpoch(untouched));
+        assertEquals(1.0, meterRegistry.get("auth.tokens.entitlement-epoch.entries").gauge().value());
+    }
+
+    @Test
+    @DisplayName("onInvalidation_RoleChange_ShouldAdvanceEveryUser")
+    void onInvalidation_RoleChange_ShouldAdvanceEveryUser() {
+        // Given
+        UUID userId = UUID.randomUUID();
+        when(clock.millis()).thenReturn(STARTED_AT + 5_000L);
+
+        // When
+        adapter.onInvalidation(new CacheInvalidationBatch(RoleChangedEvent.AGGREGATE_TYPE, Set.of(UUID.randomUUID())));
+
+        // Then
+        assertEquals(STARTED_AT + 5_001L, adapter.currentEpoch(userId));
+    }
+
+    @Test
+    @DisplayName("onInvalidation_NodeAheadWithinSkew_ShouldAdvancePastItsStamps")
+    void onInvalidation_NodeAheadWithinSkew_ShouldAdvancePastItsStamps() {
+        // Given: another node runs 2s ahead and stamped a token just before the change
+        EntitlementEpochAdapter skewTolerant = new EntitlementEpochAdapter(16, Duration.ofSeconds(2),
+            new SimpleMeterRegistry(), clock);
+        UUID userId = UUID.randomUUID();
+        long aheadStamp = STARTED_AT + 5_000L + 1_999L;
+        when(clock.millis()).thenReturn(STARTED_AT + 5_000L);
+
+        // When
+        skewTolerant.onInvalidation(new CacheInvalidationBatch(UserChangedEvent.AGGREGATE_TYPE, Set.of(userId)));
+
+        // Then
+        assertTrue(skewTolerant.currentEpoch(userId) > aheadStamp);
+    }
+
+    @Test
+    @DisplayName("advance_ManyKeys_ShouldKeepEntriesAcrossResizesAndNeverMoveBackwards")
+    void advance_ManyKeys_ShouldKeepEntriesAcrossResizesAndNeverMoveBackwards() {
+        // Given
+        LongEpochMap map = new LongEpochMap(4);
+
+        // When
+        for (long key = 0; key < 1_000; key++) {
+            map.advance(key, key + 100);
+        }
+        map.advance(500, 1);
+
+        // Then
+        assertEquals(999, map.size());
+        assertEquals(600, map.get(500));
+        assertEquals(1_099, map.get(999));
+        assertEquals(0, map.get(5_000));
+    }
+}
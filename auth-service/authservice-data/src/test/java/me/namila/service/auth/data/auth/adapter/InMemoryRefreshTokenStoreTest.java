@@ -0,0 +1,120 @@
+package me.namila.service.auth.data.auth.adapter;
+
+import me.namila.service.auth.domain.application.auth.token.RefreshTokenRotation;
+import me.namila.service.auth.domain.application.auth.token.TokenSubject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for InMemoryRefreshTokenStore.
+ */
+@DisplayName("InMemoryRefreshTokenStore Tests")
+class InMemoryRefreshTokenStoreTest {
+    
+    private static final Duration TTL = Duration.ofDays(30);
+    private static final Duration MAX_LIFETIME = Duration.ofDays(90);
+    private static final Instant NOW = Instant.parse("2025-01-01T00:00:00Z");
+    
+    private Clock clock;
+    private InMemoryRefreshTokenStore store;
+    private UUID familyId;
+    private TokenSubject subject;
+    
+    @BeforeEach
+    void setUp() {
+        clock = mock(Clock.class);
+        when(clock.getZone()).thenReturn(ZoneOffset.UTC);
+        when(clock.instant()).thenReturn(NOW);
+        store = new InMemoryRefreshTokenStore(MAX_LIFETIME, clock);
+        familyId = UUID.randomUUID();
+        subject = new TokenSubject(UUID.randomUUID(), "alice", "alice@example.com", List.of("platform:user"), NOW);
+        store.createFamily(familyId, subject, "hash-1", TTL);
+    }
+    
+    @Test
+    @DisplayName("rotate_CurrentToken_ShouldReturnFamilySubject")
+    void rotate_CurrentToken_ShouldReturnFamilySubject() {
+        // When
+        RefreshTokenRotation first = store.rotate(familyId, "hash-1", "hash-2", TTL);
+        RefreshTokenRotation second = store.rotate(familyId, "hash-2", "hash-3", TTL);
+        
+        // Then
+        assertEquals(RefreshTokenRotation.Outcome.ROTATED, first.outcome());
+        assertEquals(subject, first.subject());
+        assertEquals(RefreshTokenRotation.Outcome.ROTATED, second.outcome());
+    }
+    
+    @Test
+    @DisplayName("rotate_SpentToken_ShouldRevokeFamily")
+    void rotate_SpentToken_ShouldRevokeFamily() {
+        // Given
+        store.rotate(familyId, "hash-1", "hash-2", TTL);
+        
+        // When
+        RefreshTokenRotation reuse = store.rotate(familyId, "hash-1", "hash-x", TTL);
+        
+        // Then
+        assertEquals(RefreshTokenRotation.Outcome.REUSE_DETECTED, reuse.outcome());
+        assertEquals(RefreshTokenRotation.Outcome.INVALID, store.rotate(familyId, "hash-2", "hash-3", TTL).outcome());
+    }
+    
+    @Test
+    @DisplayName("rotate_UnknownToken_ShouldBeInvalidWithoutRevokingFamily")
+    void rotate_UnknownToken_ShouldBeInvalidWithoutRevokingFamily() {
+        assertEquals(RefreshTokenRotation.Outcome.INVALID, store.rotate(familyId, "forged", "hash-2", TTL).outcome());
+        assertFalse(store.revokeFamily(familyId, "forged"));
+        assertEquals(RefreshTokenRotation.Outcome.ROTATED, store.rotate(familyId, "hash-1", "hash-2", TTL).outcome());
+    }
+    
+    @Test
+    @DisplayName("rotate_TtlElapsedWithoutRefresh_ShouldBeInvalid")
+    void rotate_TtlElapsedWithoutRefresh_ShouldBeInvalid() {
+        // Given
+        when(clock.instant()).thenReturn(NOW.plus(TTL));
+        
+        // When & Then
+        assertEquals(RefreshTokenRotation.Outcome.INVALID, store.rotate(familyId, "hash-1", "hash-2", TTL).outcome());
+    }
+    
+    @Test
+    @DisplayName("rotate_RefreshedPastMaxLifetime_ShouldBeInvalid")
+    void rotate_RefreshedPastMaxLifetime_ShouldBeInvalid() {
+        // Given: the family is refreshed well within its TTL until the deadline
+        when(clock.instant()).thenReturn(NOW.plus(Duration.ofDays(29)));
+        store.rotate(familyId, "hash-1", "hash-2", TTL);
+        when(clock.instant()).thenReturn(NOW.plus(Duration.ofDays(58)));
+        store.rotate(familyId, "hash-2", "hash-3", TTL);
+        when(clock.instant()).thenReturn(NOW.plus(Duration.ofDays(87)));
+        store.rotate(familyId, "hash-3", "hash-4", TTL);
+        
+        // When
+        when(clock.instant()).thenReturn(NOW.plus(MAX_LIFETIME));
+        RefreshTokenRotation rotation = store.rotate(familyId, "hash-4", "hash-5", TTL);
+        
+        // Then
+        assertEquals(RefreshTokenRotation.Outcome.INVALID, rotation.outcome());
+    }
+    
+    @Test
+    @DisplayName("revokeFamily_CurrentOrSpentToken_ShouldRevokeFamily")
+    void revokeFamily_CurrentOrSpentToken_ShouldRevokeFamily() {
+        // Given
+        store.rotate(familyId, "hash-1", "hash-2", TTL);
+        
+        // When & Then
+        assertTrue(store.revokeFamily(familyId, "hash-1"));
+        assertFalse(store.revokeFamily(familyId, "hash-2"));
+        assertEquals(RefreshTokenRotation.Outcome.INVALID, store.rotate(familyId, "hash-2", "hash-3", TTL).outcome());
+    }
+}
@@ -0,0 +1,104 @@
+package me.namila.service.auth.data.auth.ratelimit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for StripedTokenBuckets.
+ */
+@DisplayName("StripedTokenBuckets Tests")
+class StripedTokenBucketsTest {
+    
+    private static final Duration WINDOW = Duration.ofMinutes(1);
+    
+    private SimpleMeterRegistry meterRegistry;
+    private AtomicLong nanos;
+    private StripedTokenBuckets buckets;
+    
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        nanos = new AtomicLong(1_000_000_000L);
+        buckets = new StripedTokenBuckets(4, 1_000, meterRegistry, nanos::get);
+    }
+    
+    @Test
+    @DisplayName("tryAcquire_BurstOverLimit_ShouldReturnMillisUntilNextPermit")
+    void tryAcquire_BurstOverLimit_ShouldReturnMillisUntilNextPermit() {
+        // When
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0, buckets.tryAcquire("ip:a", 3, WINDOW));
+        }
+        long retryAfter = buckets.tryAcquire("ip:a", 3, WINDOW);
+        
+        // Then: one token refills every 20 seconds
+        assertEquals(Duration.ofSeconds(20).toMillis(), retryAfter);
+        assertEquals(0, buckets.tryAcquire("ip:b", 3, WINDOW));
+    }
+    
+    @Test
+    @DisplayName("tryAcquire_WindowPartlyElapsed_ShouldRefillFromElapsedTime")
+    void tryAcquire_WindowPartlyElapsed_ShouldRefillFromElapsedTime() {
+        // Given
+        for (int i = 0; i < 3; i++) {
+            buckets.tryAcquire("ip:a", 3, WINDOW);
+        }
+        
+        // When
+        nanos.addAndGet(Duration.ofSeconds(20).toNanos());
+        
+        // Then
+        assertEquals(0, buckets.tryAcquire("ip:a", 3, WINDOW));
+        assertTrue(buckets.tryAcquire("ip:a", 3, WINDOW) > 0);
+    }
+    
+    @Test
+    @DisplayName("tryAcquire_IdleBucketsRefilled_ShouldDropThem")
+    void tryAcquire_IdleBucketsRefilled_ShouldDropThem() {
+        // Given
+        buckets.tryAcquire("ip:a", 3, WINDOW);
+        buckets.tryAcquire("ip:b", 3, WINDOW);
+        assertEquals(2, buckets.size());
+        
+        // When: every stripe is touched after both buckets have refilled
+        nanos.addAndGet(WINDOW.toNanos());
+        for (int i = 0; i < 64; i++) {
+            buckets.tryAcquire("ip:c" + i, 3, WINDOW);
+        }
+        
+        // Then
+        assertEquals(64, buckets.size());
+        assertEquals(64.0, meterRegistry.get("auth.rate-limit.buckets").gauge().value());
+    }
+    
+    @Test
+    @DisplayName("tryAcquire_StripeFull_ShouldDropLeastRecentlyUsedBucket")
+    void tryAcquire_StripeFull_ShouldDropLeastRecentlyUsedBucket() {
+        // Given
+        StripedTokenBuckets capped = new StripedTokenBuckets(1, 2, new SimpleMeterRegistry(), nanos::get);
+        capped.tryAcquire("ip:a", 1, WINDOW);
+        capped.tryAcquire("ip:b", 1, WINDOW);
+        
+        // When
+        capped.tryAcquire("ip:c", 1, WINDOW);
+        
+        // Then: ip:a starts over with a full bucket
+        assertEquals(2, capped.size());
+        assertEquals(0, capped.tryAcquire("ip:a", 1, WINDOW));
+        assertTrue(capped.tryAcquire("ip:c", 1, WINDOW) > 0);
+    }
+    
+    @Test
+    @DisplayName("constructor_StripeCountNotPowerOfTwo_ShouldThrowIllegalArgument")
+    void constructor_StripeCountNotPowerOfTwo_ShouldThrowIllegalArgument() {
+        assertThrows(IllegalArgumentException.class,
+            () -> new StripedTokenBuckets(3, 100, new SimpleMeterRegistry(), nanos::get));
+    }
+}
@@ -0,0 +1,89 @@
+package me.namila.service.auth.data.auth.replay;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for TimeBucketedJtiCache.
+ */
+@DisplayName("TimeBucketedJtiCache Tests")
+class TimeBucketedJtiCacheTest {
+    
+    private static final Instant NOW = Instant.parse("2025-01-01T00:00:30Z");
+    private static final Duration LIFETIME = Duration.ofSeconds(60);
+    private static final Duration SKEW = Duration.ofSeconds(5);
+    
+    private SimpleMeterRegistry meterRegistry;
+    private Clock clock;
+    private TimeBucketedJtiCache cache;
+    
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        clock = mock(Clock.class);
+        when(clock.getZone()).thenReturn(ZoneOffset.UTC);
+        when(clock.instant()).thenReturn(NOW);
+        cache = new TimeBucketedJtiCache(LIFETIME, SKEW, meterRegistry, clock);
+    }
+    
+    @Test
+    @DisplayName("markUsed_ReplayedProofId_ShouldReturnFalse")
+    void markUsed_ReplayedProofId_ShouldReturnFalse() {
+        // When & Then
+        assertTrue(cache.markUsed("key:jti-1", NOW));
+        assertFalse(cache.markUsed("key:jti-1", NOW));
+        assertTrue(cache.markUsed("key:jti-2", NOW));
+        assertEquals(2.0, meterRegistry.get("auth.tokens.dpop.replay.entries").gauge().value());
+    }
+    
+    @Test
+    @DisplayName("markUsed_ReplayWithinAcceptanceWindow_ShouldReturnFalse")
+    void markUsed_ReplayWithinAcceptanceWindow_ShouldReturnFalse() {
+        // Given
+        cache.markUsed("key:jti-1", NOW);
+        
+        // When: just before the proof falls out of the window, with newer buckets in use
+        Instant later = NOW.plus(LIFETIME).plus(SKEW).minusMillis(1);
+        when(clock.instant()).thenReturn(later);
+        assertTrue(cache.markUsed("key:jti-2", later.plus(SKEW)));
+        
+        // Then
+        assertFalse(cache.markUsed("key:jti-1", NOW));
+    }
+    
+    @Test
+    @DisplayName("markUsed_IssuedOutsideWindow_ShouldReturnFalse")
+    void markUsed_IssuedOutsideWindow_ShouldReturnFalse() {
+        assertFalse(cache.markUsed("key:old", NOW.minus(LIFETIME).minus(SKEW).minusSeconds(1)));
+        assertFalse(cache.markUsed("key:future", NOW.plus(SKEW).plusSeconds(1)));
+        assertTrue(cache.markUsed("key:edge", NOW.plus(SKEW)));
+    }
+    
+    @Test
+    @DisplayName("markUsed_SlotReused_ShouldDropExpiredBucket")
+    void markUsed_SlotReused_ShouldDropExpiredBucket() {
+        // Given
+        cache.markUsed("key:jti-1", NOW);
+        cache.markUsed("key:jti-2", NOW);
+        
+        // When: far enough ahead that every slot has been reused
+        for (int minute = 1; minute <= 5; minute++) {
+            Instant later = NOW.plus(LIFETIME.multipliedBy(minute));
+            when(clock.instant()).thenReturn(later);
+            cache.markUsed("key:jti-" + (minute + 2), later);
+        }
+        
+        // Then
+        assertEquals(4, cache.size());
+    }
+}
@@ -0,0 +1,118 @@
+package me.namila.service.auth.data.auth.revocation;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for RevocationCache and its Bloom filter.
+ */
+@DisplayName("RevocationCache Tests")
+class RevocationCacheTest {
+    
+    private static final Instant NOW = Instant.parse("2025-01-01T00:00:00Z");
+    
+    private SimpleMeterRegistry meterRegistry;
+    private Clock clock;
+    private RevocationCache cache;
+    
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        clock = mock(Clock.class);
+        when(clock.getZone()).thenReturn(ZoneOffset.UTC);
+        when(clock.instant()).thenReturn(NOW);
+        cache = new RevocationCache(1_000, 0.01, Duration.ofDays(30), meterRegistry, clock);
+    }
+    
+    @Test
+    @DisplayName("isRevoked_RevokedTokenId_ShouldRejectAndAnswerOthersFromFilter")
+    void isRevoked_RevokedTokenId_ShouldRejectAndAnswerOthersFromFilter() {
+        // Given
+        UUID revoked = UUID.randomUUID();
+        cache.addToken(revoked, NOW.plusSeconds(600));
+        
+        // When & Then
+        assertTrue(cache.isRevoked(revoked, UUID.randomUUID(), NOW));
+        assertFalse(cache.isRevoked(UUID.randomUUID(), UUID.randomUUID(), NOW));
+        assertFalse(cache.isRevoked(null, UUID.randomUUID(), NOW));
+        assertEquals(1.0, meterRegistry.get("auth.tokens.revocation.checks").tag("result", "filter-positive")
+            .counter().count());
+    }
+    
+    @Test
+    @DisplayName("isRevoked_UserCutoff_ShouldRevokeOnlyTokensIssuedBefore")
+    void isRevoked_UserCutoff_ShouldRevokeOnlyTokensIssuedBefore() {
+        // Given
+        UUID userId = UUID.randomUUID();
+        cache.addUserCutoff(userId, NOW);
+        
+        // When & Then
+        assertTrue(cache.isRevoked(UUID.randomUUID(), userId, NOW.minusSeconds(1)));
+        assertFalse(cache.isRevoked(UUID.randomUUID(), userId, NOW.plusSeconds(1)));
+        assertTrue(cache.isRevokedForUser(userId, NOW.minusSeconds(1)));
+    }
+    
+    @Test
+    @DisplayName("addUserCutoff_SubSecondCutoff_ShouldKeepTokensMintedInSameSecond")
+    void addUserCutoff_SubSecondCutoff_ShouldKeepTokensMintedInSameSecond() {
+        // Given
+        UUID userId = UUID.randomUUID();
+        cache.addUserCutoff(userId, NOW.plusMillis(400));
+        
+        // When & Then: a token minted at NOW + 0.9s carries iat NOW
+        assertFalse(cache.isRevoked(UUID.randomUUID(), userId, NOW));
+        assertTrue(cache.isRevoked(UUID.randomUUID(), userId, NOW.minusSeconds(1)));
+    }
+    
+    @Test
+    @DisplayName("rebuild_ExpiredRevocations_ShouldForgetThem")
+    void rebuild_ExpiredRevocations_ShouldForgetThem() {
+        // Given
+        UUID expiring = UUID.randomUUID();
+        UUID live = UUID.randomUUID();
+        cache.addToken(expiring, NOW.plusSeconds(60));
+        cache.addToken(live, NOW.plusSeconds(3600));
+        when(clock.instant()).thenReturn(NOW.plusSeconds(120));
+        
+        // When
+        cache.rebuild();
+        
+        // Then
+        assertEquals(1, cache.size());
+        assertFalse(cache.isRevoked(expiring, null, NOW));
+        assertTrue(cache.isRevoked(live, null, NOW));
+    }
+    
+    @Test
+    @DisplayName("mightContain_RandomIds_ShouldKeepFalsePositiveRateNearTarget")
+    void mightContain_RandomIds_ShouldKeepFalsePositiveRateNearTarget() {
+        // Given
+        BloomFilter filter = BloomFilter.create(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put(UUID.randomUUID());
+        }
+        
+        // When
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filter.mightContain(UUID.randomUUID())) {
+                falsePositives++;
+            }
+        }
+        
+        // Then
+        assertTrue(falsePositives < 2_000, "false positives: " + falsePositives);
+        assertTrue(filter.estimatedFalsePositiveRate() < 0.02);
+    }
+}
@@ -0,0 +1,69 @@
+package me.namila.service.auth.data.cache;
+
+import jakarta.persistence.EntityManagerFactory;
+import me.namila.service.auth.data.authorization.entity.RoleJpaEntity;
+import me.namila.service.auth.data.event.CacheInvalidationBatch;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Set;
+import java.util.UUID;
+
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for SecondLevelCacheEvictor.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SecondLevelCacheEvictor Tests")
+class SecondLevelCacheEvictorTest {
+
+    @Mock
+    private EntityManagerFactory entityManagerFactory;
+
+    @Mock
+    private SessionFactory sessionFactory;
+
+    @Mock
+    private Cache cache;
+
+    private SecondLevelCacheEvictor evictor;
+
+    @BeforeEach
+    void setUp() {
+        evictor = new SecondLevelCacheEvictor(entityManagerFactory);
+    }
+
+    @Test
+    @DisplayName("onInvalidation_ChangedRoles_ShouldEvictEntityNaturalIdAndQueryData")
+    void onInvalidation_ChangedRoles_ShouldEvictEntityNaturalIdAndQueryData() {
+        // Given
+        UUID roleId = UUID.randomUUID();
+        when(entityManagerFactory.unwrap(SessionFactory.class)).thenReturn(sessionFactory);
+        when(sessionFactory.getCache()).thenReturn(cache);
+
+        // When
+        evictor.onInvalidation(new CacheInvalidationBatch("Role", Set.of(roleId)));
+
+        // Then
+        verify(cache).evictEntityData(RoleJpaEntity.class, roleId);
+        verify(cache).evictNaturalIdData(RoleJpaEntity.class);
+        verify(cache).evictDefaultQueryRegion();
+    }
+
+    @Test
+    @DisplayName("onInvalidation_UncachedAggregate_ShouldEvictNothing")
+    void onInvalidation_UncachedAggregate_ShouldEvictNothing() {
+        // When
+        evictor.onInvalidation(new CacheInvalidationBatch("User", Set.of(UUID.randomUUID())));
+
+        // Then
+        verifyNoInteractions(entityManagerFactory);
+    }
+}
@@ -0,0 +1,111 @@
+package me.namila.service.auth.data.cache.codec;
+
+import me.namila.service.auth.domain.application.identity.dto.response.UserSummaryResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for BinaryRedisSerializer and the cached value codecs.
+ */
+@DisplayName("BinaryRedisSerializer Tests")
+class BinaryRedisSerializerTest {
+
+    private BinaryRedisSerializer serializer;
+
+    @BeforeEach
+    void setUp() {
+        serializer = new BinaryRedisSerializer(
+            List.of(new UserSummaryCodec()), new GenericJackson2JsonRedisSerializer(), 512);
+    }
+
+    @Test
+    @DisplayName("serialize_UserSummary_ShouldRoundTripSmallerThanJson")
+    void serialize_UserSummary_ShouldRoundTripSmallerThanJson() {
+        // Given
+        UserSummaryResponse summary = summary("Jane");
+
+        // When
+        byte[] bytes = serializer.serialize(summary);
+
+        // Then
+        assertEquals(BinaryRedisSerializer.MAGIC, bytes[0] & 0xFF);
+        assertEquals(summary, serializer.deserialize(bytes));
+        assertTrue(bytes.length < new GenericJackson2JsonRedisSerializer().serialize(summary).length);
+    }
+
+    @Test
+    @DisplayName("serialize_StatusOutsideEnum_ShouldRoundTripVerbatim")
+    void serialize_StatusOutsideEnum_ShouldRoundTripVerbatim() {
+        // Given
+        UserSummaryResponse summary = summary("Jane");
+        summary.setStatus("ARCHIVED");
+
+        // When
+        Object decoded = serializer.deserialize(serializer.serialize(summary));
+
+        // Then
+        assertEquals(summary, decoded);
+    }
+
+    @Test
+    @DisplayName("serialize_BodyAboveThreshold_ShouldCompressAndDecodeTransparently")
+    void serialize_BodyAboveThreshold_ShouldCompressAndDecodeTransparently() {
+        // Given
+        UserSummaryResponse summary = summary("Jane ".repeat(200));
+
+        // When
+        byte[] bytes = serializer.serialize(summary);
+
+        // Then
+        assertEquals(BinaryRedisSerializer.FLAG_LZ4, bytes[1] & BinaryRedisSerializer.FLAG_LZ4);
+        assertEquals(summary, serializer.deserialize(bytes));
+    }
+
+    @Test
+    @DisplayName("deserialize_LegacyJsonPayload_ShouldFallBackToJson")
+    void deserialize_LegacyJsonPayload_ShouldFallBackToJson() {
+        // Given
+        byte[] legacy = new GenericJackson2JsonRedisSerializer().serialize(Map.of("hello", "world"));
+
+        // When
+        Object decoded = serializer.deserialize(legacy);
+
+        // Then
+        assertEquals(Map.of("hello", "world"), decoded);
+    }
+
+    @Test
+    @DisplayName("deserialize_NewerSchemaVersion_ShouldReturnNull")
+    void deserialize_NewerSchemaVersion_ShouldReturnNull() {
+        // Given
+        byte[] future = new BinaryWriter()
+            .writeByte(BinaryRedisSerializer.MAGIC)
+            .writeByte(0)
+            .writeVarInt(UserSummaryCodec.TYPE_ID)
+            .writeVarInt(99)
+            .toByteArray();
+
+        // When / Then
+        assertNull(serializer.deserialize(future));
+    }
+
+    private static UserSummaryResponse summary(String displayName) {
+        return UserSummaryResponse.builder()
+            .userId(UUID.randomUUID())
+            .username("jane")
+            .email("jane@example.com")
+            .status("LOCKED")
+            .displayName(displayName)
+            .createdAt(Instant.parse("2025-01-01T10:15:30.123456789Z"))
+            .build();
+    }
+}
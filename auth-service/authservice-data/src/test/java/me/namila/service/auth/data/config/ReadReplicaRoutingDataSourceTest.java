@@ -0,0 +1,96 @@
+package me.namila.service.auth.data.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for ReadReplicaRoutingDataSource.
+ */
+@DisplayName("ReadReplicaRoutingDataSource Tests")
+class ReadReplicaRoutingDataSourceTest {
+
+    private ReadReplicaRoutingDataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new ReadReplicaRoutingDataSource(true, Duration.ofSeconds(2));
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.getSynchronizations()
+            .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        TransactionSynchronizationManager.clearSynchronization();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        ReadYourWritesContext.clear();
+    }
+
+    @Test
+    @DisplayName("determineCurrentLookupKey_ReadOnlyTransaction_ShouldRouteToReplica")
+    void determineCurrentLookupKey_ReadOnlyTransaction_ShouldRouteToReplica() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertEquals(DataSourceType.REPLICA, dataSource.determineCurrentLookupKey());
+    }
+
+    @Test
+    @DisplayName("determineCurrentLookupKey_ReadWriteTransaction_ShouldRouteToPrimary")
+    void determineCurrentLookupKey_ReadWriteTransaction_ShouldRouteToPrimary() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+
+        assertEquals(DataSourceType.PRIMARY, dataSource.determineCurrentLookupKey());
+    }
+
+    @Test
+    @DisplayName("determineCurrentLookupKey_NoReplicaConfigured_ShouldRouteToPrimary")
+    void determineCurrentLookupKey_NoReplicaConfigured_ShouldRouteToPrimary() {
+        ReadReplicaRoutingDataSource primaryOnly = new ReadReplicaRoutingDataSource(false, Duration.ofSeconds(2));
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertEquals(DataSourceType.PRIMARY, primaryOnly.determineCurrentLookupKey());
+    }
+
+    @Test
+    @DisplayName("determineCurrentLookupKey_ReadWithinWriteWindow_ShouldPinToPrimary")
+    void determineCurrentLookupKey_ReadWithinWriteWindow_ShouldPinToPrimary() {
+        ReadYourWritesContext.setLastWriteAt(System.currentTimeMillis());
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertEquals(DataSourceType.PRIMARY, dataSource.determineCurrentLookupKey());
+    }
+
+    @Test
+    @DisplayName("determineCurrentLookupKey_WindowElapsed_ShouldReleasePin")
+    void determineCurrentLookupKey_WindowElapsed_ShouldReleasePin() {
+        ReadYourWritesContext.setLastWriteAt(System.currentTimeMillis() - 5_000L);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertEquals(DataSourceType.REPLICA, dataSource.determineCurrentLookupKey());
+    }
+
+    @Test
+    @DisplayName("determineCurrentLookupKey_ReadWriteCommitted_ShouldRecordWriteToken")
+    void determineCurrentLookupKey_ReadWriteCommitted_ShouldRecordWriteToken() {
+        long[] captured = new long[1];
+        ReadYourWritesContext.onWrite(committedAt -> captured[0] = committedAt);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+
+        dataSource.determineCurrentLookupKey();
+        dataSource.determineCurrentLookupKey();
+        assertEquals(1, TransactionSynchronizationManager.getSynchronizations().size());
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        assertTrue(captured[0] > 0);
+        assertTrue(ReadYourWritesContext.isPinnedToPrimary(2_000L));
+    }
+}
@@ -0,0 +1,94 @@
+package me.namila.service.auth.data.event;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for CacheInvalidationCoalescer and CacheInvalidationMessage.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CacheInvalidationCoalescer Tests")
+class CacheInvalidationCoalescerTest {
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private CacheInvalidationCoalescer coalescer;
+
+    @BeforeEach
+    void setUp() {
+        // Long window so the scheduled flush never races the explicit one
+        coalescer = new CacheInvalidationCoalescer(eventPublisher, Duration.ofMinutes(1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        coalescer.destroy();
+    }
+
+    @Test
+    @DisplayName("flush_DuplicateInvalidations_ShouldPublishOneBatchPerAggregateType")
+    void flush_DuplicateInvalidations_ShouldPublishOneBatchPerAggregateType() {
+        // Given
+        UUID userId = UUID.randomUUID();
+        UUID otherUserId = UUID.randomUUID();
+        UUID roleId = UUID.randomUUID();
+        coalescer.submit("User", userId);
+        coalescer.submit("User", userId);
+        coalescer.submit("User", otherUserId);
+        coalescer.submit("Role", roleId);
+
+        // When
+        coalescer.flush();
+
+        // Then
+        ArgumentCaptor<CacheInvalidationBatch> captor = ArgumentCaptor.forClass(CacheInvalidationBatch.class);
+        verify(eventPublisher, times(2)).publishEvent(captor.capture());
+        List<CacheInvalidationBatch> batches = captor.getAllValues();
+        CacheInvalidationBatch userBatch = batches.stream()
+            .filter(batch -> batch.aggregateType().equals("User"))
+            .findFirst()
+            .orElseThrow();
+        assertEquals(Set.of(userId, otherUserId), userBatch.aggregateIds());
+        assertTrue(batches.stream().anyMatch(batch -> batch.aggregateIds().equals(Set.of(roleId))));
+    }
+
+    @Test
+    @DisplayName("flush_NothingPending_ShouldPublishNothing")
+    void flush_NothingPending_ShouldPublishNothing() {
+        // When
+        coalescer.flush();
+
+        // Then
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    @DisplayName("decode_EncodedMessage_ShouldRoundTrip")
+    void decode_EncodedMessage_ShouldRoundTrip() {
+        // Given
+        CacheInvalidationMessage message = new CacheInvalidationMessage("UserRoleAssignment", UUID.randomUUID());
+
+        // When
+        CacheInvalidationMessage decoded = CacheInvalidationMessage.decode(message.encode());
+
+        // Then
+        assertEquals(message, decoded);
+        assertThrows(IllegalArgumentException.class, () -> CacheInvalidationMessage.decode("garbage"));
+    }
+}
@@ -0,0 +1,103 @@
+package me.namila.service.auth.data.identity.adapter;
+
+import me.namila.service.auth.data.event.DomainEventDispatcher;
+import me.namila.service.auth.domain.application.identity.importer.UserBulkInsertResult;
+import me.namila.service.auth.domain.application.identity.importer.UserImportCandidate;
+import me.namila.service.auth.domain.core.identity.event.UsersImportedEvent;
+import me.namila.service.auth.domain.core.identity.model.UserAggregate;
+import me.namila.service.auth.domain.core.identity.valueobject.EmailValue;
+import me.namila.service.auth.domain.core.identity.valueobject.UserStatus;
+import me.namila.service.auth.domain.core.identity.valueobject.UsernameValue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for UserBulkImportAdapter.
+ */
+@DisplayName("UserBulkImportAdapter Tests")
+class UserBulkImportAdapterTest {
+    
+    private JdbcTemplate jdbcTemplate;
+    private DomainEventDispatcher eventDispatcher;
+    private UserBulkImportAdapter adapter;
+    
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        eventDispatcher = mock(DomainEventDispatcher.class);
+        adapter = new UserBulkImportAdapter(jdbcTemplate, eventDispatcher);
+    }
+    
+    @Test
+    @DisplayName("insertAbsent_MixedBatch_ShouldDispatchOneImportedEventForInsertedUsers")
+    @SuppressWarnings("unchecked")
+    void insertAbsent_MixedBatch_ShouldDispatchOneImportedEventForInsertedUsers() {
+        // Given
+        UserImportCandidate alice = candidate(2, "alice");
+        UserImportCandidate bob = candidate(3, "bob");
+        UserImportCandidate carol = candidate(4, "carol");
+        UUID aliceId = alice.user().getId().getValue();
+        UUID bobId = bob.user().getId().getValue();
+        UUID carolId = carol.user().getId().getValue();
+        when(jdbcTemplate.execute(any(ConnectionCallback.class)))
+            .thenReturn(new UserBulkInsertResult(Set.of(aliceId, carolId), Map.of(bobId, UserBulkInsertResult.EMAIL)));
+        
+        // When
+        UserBulkInsertResult result = adapter.insertAbsent(List.of(alice, bob, carol));
+        
+        // Then: only the inserted users are announced, in one event for the batch
+        assertEquals(UserBulkInsertResult.EMAIL, result.conflictingField(bobId));
+        ArgumentCaptor<UsersImportedEvent> event = ArgumentCaptor.forClass(UsersImportedEvent.class);
+        verify(eventDispatcher, times(1)).dispatch(event.capture());
+        assertEquals(Set.of(aliceId, carolId), event.getValue().userIds());
+    }
+    
+    @Test
+    @DisplayName("insertAbsent_NothingInserted_ShouldNotDispatchEvent")
+    @SuppressWarnings("unchecked")
+    void insertAbsent_NothingInserted_ShouldNotDispatchEvent() {
+        // Given
+        UserImportCandidate alice = candidate(2, "alice");
+        UUID aliceId = alice.user().getId().getValue();
+        when(jdbcTemplate.execute(any(ConnectionCallback.class)))
+            .thenReturn(new UserBulkInsertResult(Set.of(), Map.of(aliceId, UserBulkInsertResult.USERNAME)));
+        
+        // When
+        adapter.insertAbsent(List.of(alice));
+        
+        // Then
+        verifyNoInteractions(eventDispatcher);
+    }
+    
+    @Test
+    @DisplayName("insertAbsent_EmptyBatch_ShouldNotTouchTheDatabase")
+    void insertAbsent_EmptyBatch_ShouldNotTouchTheDatabase() {
+        // When
+        UserBulkInsertResult result = adapter.insertAbsent(List.of());
+        
+        // Then
+        assertTrue(result.inserted().isEmpty());
+        verifyNoInteractions(jdbcTemplate, eventDispatcher);
+    }
+    
+    private static UserImportCandidate candidate(long rowNumber, String username) {
+        return new UserImportCandidate(rowNumber, UserAggregate.builder()
+            .username(UsernameValue.of(username))
+            .email(EmailValue.of(username + "@example.com"))
+            .status(UserStatus.ACTIVE)
+            .build());
+    }
+}
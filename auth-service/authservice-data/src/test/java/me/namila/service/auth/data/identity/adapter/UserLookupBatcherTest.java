@@ -0,0 +1,108 @@
+package me.namila.service.auth.data.identity.adapter;
+
+import me.namila.service.auth.data.config.ReadYourWritesContext;
+import me.namila.service.auth.data.identity.entity.UserJpaEntity;
+import me.namila.service.auth.data.identity.projection.UserDetailGraph;
+import me.namila.service.auth.data.identity.repository.UserJpaRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for UserLookupBatcher.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UserLookupBatcher Tests")
+class UserLookupBatcherTest {
+
+    @Mock
+    private UserJpaRepository jpaRepository;
+
+    private UserLookupBatcher batcher;
+
+    @BeforeEach
+    void setUp() {
+        // Long window so only a full batch or an explicit flush dispatches
+        batcher = new UserLookupBatcher(jpaRepository, Duration.ofMinutes(1), 2, Duration.ofSeconds(2));
+    }
+
+    @AfterEach
+    void tearDown() {
+        batcher.destroy();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        ReadYourWritesContext.clear();
+    }
+
+    @Test
+    @DisplayName("load_ConcurrentLookups_ShouldShareOneDetailQuery")
+    void load_ConcurrentLookups_ShouldShareOneDetailQuery() throws Exception {
+        // Given
+        UUID knownId = UUID.randomUUID();
+        UUID unknownId = UUID.randomUUID();
+        UserJpaEntity known = UserJpaEntity.builder().userId(knownId).username("alice").build();
+        List<Object[]> rows = List.<Object[]>of(new Object[] {known, null, null});
+        when(jpaRepository.findDetailRowsByUserIdIn(any())).thenReturn(rows);
+
+        // When
+        CompletableFuture<Optional<UserDetailGraph>> first = CompletableFuture.supplyAsync(() -> batcher.load(knownId));
+        verify(jpaRepository, after(100).never()).findDetailRowsByUserIdIn(any());
+        Optional<UserDetailGraph> second = batcher.load(unknownId);
+
+        // Then
+        UserDetailGraph graph = first.get(5, TimeUnit.SECONDS).orElseThrow();
+        assertSame(known, graph.user());
+        assertTrue(graph.federatedIdentities().isEmpty());
+        assertTrue(second.isEmpty());
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<UUID>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(jpaRepository, times(1)).findDetailRowsByUserIdIn(captor.capture());
+        assertEquals(Set.of(knownId, unknownId), Set.copyOf(captor.getValue()));
+    }
+
+    @Test
+    @DisplayName("load_BatchQueryFails_ShouldFailEveryWaitingCaller")
+    void load_BatchQueryFails_ShouldFailEveryWaitingCaller() {
+        // Given
+        when(jpaRepository.findDetailRowsByUserIdIn(any())).thenThrow(new IllegalStateException("database down"));
+        CompletableFuture<Optional<UserDetailGraph>> first =
+            CompletableFuture.supplyAsync(() -> batcher.load(UUID.randomUUID()));
+        verify(jpaRepository, after(100).never()).findDetailRowsByUserIdIn(any());
+
+        // When & Then
+        assertThrows(IllegalStateException.class, () -> batcher.load(UUID.randomUUID()));
+        Exception failure = assertThrows(Exception.class, () -> first.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(IllegalStateException.class, failure.getCause());
+    }
+
+    @Test
+    @DisplayName("isApplicable_TransactionModes_ShouldOnlyAllowUnpinnedReadOnly")
+    void isApplicable_TransactionModes_ShouldOnlyAllowUnpinnedReadOnly() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        assertFalse(batcher.isApplicable());
+
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        assertTrue(batcher.isApplicable());
+
+        ReadYourWritesContext.setLastWriteAt(System.currentTimeMillis());
+        assertFalse(batcher.isApplicable());
+    }
+}
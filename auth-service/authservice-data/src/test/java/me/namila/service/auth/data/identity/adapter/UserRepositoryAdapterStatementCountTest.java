@@ -0,0 +1,141 @@
+package me.namila.service.auth.data.identity.adapter;
+
+import jakarta.persistence.EntityManagerFactory;
+import me.namila.service.auth.data.event.DomainEventDispatcher;
+import me.namila.service.auth.data.identity.entity.FederatedIdentityJpaEntity;
+import me.namila.service.auth.data.identity.entity.UserJpaEntity;
+import me.namila.service.auth.data.identity.entity.UserProfileJpaEntity;
+import me.namila.service.auth.data.identity.mapper.FederatedIdentityMapper;
+import me.namila.service.auth.data.identity.mapper.UserEntityMapper;
+import me.namila.service.auth.data.identity.repository.UserJpaRepository;
+import me.namila.service.auth.data.stats.RowCountEstimator;
+import me.namila.service.auth.domain.core.identity.model.UserAggregate;
+import me.namila.service.auth.domain.core.identity.model.id.UserId;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Statement-count test for UserRepositoryAdapter detail reads against a real PostgreSQL schema.
+ */
+@DataJpaTest(properties = {
+    "spring.flyway.enabled=false",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.properties.hibernate.hbm2ddl.create_namespaces=true",
+    "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("UserRepositoryAdapter Statement Count Tests")
+class UserRepositoryAdapterStatementCountTest {
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    @SpringBootConfiguration
+    @EntityScan(basePackageClasses = UserJpaEntity.class)
+    @EnableJpaRepositories(basePackageClasses = UserJpaRepository.class)
+    static class JpaTestConfiguration {
+    }
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private UserJpaRepository jpaRepository;
+
+    private UserRepositoryAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        UserLookupBatcher lookupBatcher = mock(UserLookupBatcher.class);
+        when(lookupBatcher.isApplicable()).thenReturn(false);
+        adapter = new UserRepositoryAdapter(jpaRepository, Mappers.getMapper(UserEntityMapper.class),
+            Mappers.getMapper(FederatedIdentityMapper.class), mock(DomainEventDispatcher.class), lookupBatcher,
+            mock(RowCountEstimator.class));
+    }
+
+    @Test
+    @DisplayName("findDetailById_UserWithProfileAndIdentities_ShouldPrepareOneStatement")
+    void findDetailById_UserWithProfileAndIdentities_ShouldPrepareOneStatement() {
+        // Given
+        UUID userId = UUID.randomUUID();
+        Instant now = Instant.now();
+        UserJpaEntity user = entityManager.persist(UserJpaEntity.builder()
+            .userId(userId)
+            .username("alice")
+            .email("alice@example.com")
+            .status("ACTIVE")
+            .metadata(Map.of())
+            .createdAt(now)
+            .lastModifiedAt(now)
+            .build());
+        entityManager.persist(UserProfileJpaEntity.builder()
+            .profileId(UUID.randomUUID())
+            .user(user)
+            .displayName("Alice")
+            .attributes(Map.of("locale", "en"))
+            .createdAt(now)
+            .build());
+        entityManager.persist(federatedIdentity(userId, "google-sub", now.minusSeconds(60)));
+        entityManager.persist(federatedIdentity(userId, "github-sub", now));
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // When
+        UserAggregate result = adapter.findDetailById(UserId.of(userId)).orElseThrow();
+
+        // Then
+        assertEquals("Alice", result.getProfile().getDisplayName());
+        assertEquals(List.of("google-sub", "github-sub"),
+            result.getFederatedIdentities().stream().map(identity -> identity.getSubjectId()).toList());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    private FederatedIdentityJpaEntity federatedIdentity(UUID userId, String subjectId, Instant linkedAt) {
+        return FederatedIdentityJpaEntity.builder()
+            .federatedIdentityId(UUID.randomUUID())
+            .userId(userId)
+            .providerId(UUID.randomUUID())
+            .subjectId(subjectId)
+            .issuer("https://issuer.example.com")
+            .linkedAt(linkedAt)
+            .build();
+    }
+}
@@ -0,0 +1,115 @@
+package me.namila.service.auth.data.identity.adapter;
+
+import me.namila.service.auth.data.event.DomainEventDispatcher;
+import me.namila.service.auth.data.identity.entity.FederatedIdentityJpaEntity;
+import me.namila.service.auth.data.identity.entity.UserJpaEntity;
+import me.namila.service.auth.data.identity.entity.UserProfileJpaEntity;
+import me.namila.service.auth.data.identity.mapper.FederatedIdentityMapper;
+import me.namila.service.auth.data.identity.mapper.UserEntityMapper;
+import me.namila.service.auth.data.identity.repository.UserJpaRepository;
+import me.namila.service.auth.data.stats.RowCountEstimator;
+import me.namila.service.auth.domain.core.identity.model.UserAggregate;
+import me.namila.service.auth.domain.core.identity.model.id.UserId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mapstruct.factory.Mappers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for UserRepositoryAdapter detail reads.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UserRepositoryAdapter Tests")
+class UserRepositoryAdapterTest {
+
+    @Mock
+    private UserJpaRepository jpaRepository;
+
+    @Mock
+    private DomainEventDispatcher eventDispatcher;
+
+    @Mock
+    private UserLookupBatcher lookupBatcher;
+
+    @Mock
+    private RowCountEstimator rowCountEstimator;
+
+    private UserRepositoryAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        adapter = new UserRepositoryAdapter(jpaRepository, Mappers.getMapper(UserEntityMapper.class),
+            Mappers.getMapper(FederatedIdentityMapper.class), eventDispatcher, lookupBatcher, rowCountEstimator);
+    }
+
+    @Test
+    @DisplayName("findDetailById_ExistingUser_ShouldLoadGraphWithOneStatement")
+    void findDetailById_ExistingUser_ShouldLoadGraphWithOneStatement() {
+        // Given
+        UUID userId = UUID.randomUUID();
+        UserJpaEntity user = UserJpaEntity.builder()
+            .userId(userId).username("alice").email("alice@example.com").status("ACTIVE")
+            .createdAt(Instant.now()).build();
+        // A lazy proxy stand-in: touching it during mapping would mean a second round trip
+        UserJpaEntity lazyUser = mock(UserJpaEntity.class);
+        UserProfileJpaEntity profile = UserProfileJpaEntity.builder()
+            .profileId(UUID.randomUUID()).user(lazyUser).displayName("Alice")
+            .attributes(Map.of("locale", "en")).createdAt(Instant.now()).build();
+        FederatedIdentityJpaEntity google = federatedIdentity(userId, lazyUser, "google-sub");
+        FederatedIdentityJpaEntity github = federatedIdentity(userId, lazyUser, "github-sub");
+        when(lookupBatcher.isApplicable()).thenReturn(false);
+        when(jpaRepository.findDetailRowsByUserIdIn(List.of(userId))).thenReturn(List.of(
+            new Object[] {user, profile, google},
+            new Object[] {user, profile, github}));
+
+        // When
+        UserAggregate result = adapter.findDetailById(UserId.of(userId)).orElseThrow();
+
+        // Then
+        assertEquals(userId, result.getId().getValue());
+        assertNotNull(result.getProfile());
+        assertEquals("Alice", result.getProfile().getDisplayName());
+        assertEquals("en", result.getProfile().getAttributes().get("locale"));
+        assertEquals(List.of("google-sub", "github-sub"),
+            result.getFederatedIdentities().stream().map(identity -> identity.getSubjectId()).toList());
+        verify(jpaRepository, times(1)).findDetailRowsByUserIdIn(List.of(userId));
+        verifyNoMoreInteractions(jpaRepository);
+        verifyNoInteractions(lazyUser);
+    }
+
+    @Test
+    @DisplayName("findDetailById_UnknownUser_ShouldReturnEmpty")
+    void findDetailById_UnknownUser_ShouldReturnEmpty() {
+        // Given
+        UUID userId = UUID.randomUUID();
+        when(lookupBatcher.isApplicable()).thenReturn(false);
+        when(jpaRepository.findDetailRowsByUserIdIn(List.of(userId))).thenReturn(List.of());
+
+        // When & Then
+        assertTrue(adapter.findDetailById(UserId.of(userId)).isEmpty());
+        verifyNoMoreInteractions(jpaRepository);
+    }
+
+    private FederatedIdentityJpaEntity federatedIdentity(UUID userId, UserJpaEntity lazyUser, String subjectId) {
+        return FederatedIdentityJpaEntity.builder()
+            .federatedIdentityId(UUID.randomUUID())
+            .userId(userId)
+            .user(lazyUser)
+            .providerId(UUID.randomUUID())
+            .subjectId(subjectId)
+            .issuer("https://issuer.example.com")
+            .linkedAt(Instant.now())
+            .build();
+    }
+}
@@ -0,0 +1,147 @@
+package me.namila.service.auth.data.identity.adapter;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import me.namila.service.auth.data.event.CacheInvalidationBatch;
+import me.namila.service.auth.data.identity.status.UuidHashSet;
+import me.namila.service.auth.domain.core.identity.event.UserChangedEvent;
+import me.namila.service.auth.domain.core.identity.event.UserStatusChangedEvent;
+import me.namila.service.auth.domain.core.identity.valueobject.UserStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for UserStatusGateAdapter and its UUID set.
+ */
+@DisplayName("UserStatusGateAdapter Tests")
+class UserStatusGateAdapterTest {
+
+    private static final UUID SUSPENDED = UUID.randomUUID();
+    private static final UUID ACTIVE = UUID.randomUUID();
+
+    private NamedParameterJdbcTemplate jdbcTemplate;
+    private SimpleMeterRegistry meterRegistry;
+    private UserStatusGateAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(NamedParameterJdbcTemplate.class);
+        meterRegistry = new SimpleMeterRegistry();
+        when(jdbcTemplate.queryForList(anyString(), any(SqlParameterSource.class), eq(UUID.class)))
+            .thenReturn(List.of(SUSPENDED));
+        adapter = new UserStatusGateAdapter(jdbcTemplate, 16, meterRegistry);
+        adapter.afterSingletonsInstantiated();
+    }
+
+    @Test
+    @DisplayName("isBlocked_UsersLoadedAtStartup_ShouldBlockOnlyThem")
+    void isBlocked_UsersLoadedAtStartup_ShouldBlockOnlyThem() {
+        assertTrue(adapter.isBlocked(SUSPENDED));
+        assertFalse(adapter.isBlocked(ACTIVE));
+        assertFalse(adapter.isBlocked(null));
+        assertEquals(1.0, meterRegistry.get("auth.users.status-gate.blocked").gauge().value());
+    }
+
+    @Test
+    @DisplayName("onStatusChanged_LocalStatusChange_ShouldApplyWithoutDatabaseRead")
+    void onStatusChanged_LocalStatusChange_ShouldApplyWithoutDatabaseRead() {
+        // When
+        adapter.onStatusChanged(UserStatusChangedEvent.of(ACTIVE, UserStatus.ACTIVE, UserStatus.LOCKED));
+        adapter.onStatusChanged(UserStatusChangedEvent.of(SUSPENDED, UserStatus.SUSPENDED, UserStatus.ACTIVE));
+
+        // Then
+        assertTrue(adapter.isBlocked(ACTIVE));
+        assertFalse(adapter.isBlocked(SUSPENDED));
+        verify(jdbcTemplate, times(1)).queryForList(anyString(), any(SqlParameterSource.class), eq(UUID.class));
+    }
+
+    @Test
+    @DisplayName("onInvalidation_UserBatch_ShouldRereadUsersAndIgnoreOtherAggregates")
+    void onInvalidation_UserBatch_ShouldRereadUsersAndIgnoreOtherAggregates() {
+        // Given: the suspended user was reactivated and the active one locked on another node
+        when(jdbcTemplate.queryForList(anyString(), any(SqlParameterSource.class), eq(UUID.class)))
+            .thenReturn(List.of(ACTIVE));
+
+        // When
+        adapter.onInvalidation(new CacheInvalidationBatch("Role", Set.of(SUSPENDED)));
+        assertTrue(adapter.isBlocked(SUSPENDED));
+        adapter.onInvalidation(new CacheInvalidationBatch(UserChangedEvent.AGGREGATE_TYPE, Set.of(SUSPENDED, ACTIVE)));
+
+        // Then
+        assertFalse(adapter.isBlocked(SUSPENDED));
+        assertTrue(adapter.isBlocked(ACTIVE));
+    }
+
+    @Test
+    @DisplayName("reload_QueryFails_ShouldKeepHeldUsers")
+    void reload_QueryFails_ShouldKeepHeldUsers() {
+        // Given
+        when(jdbcTemplate.queryForList(anyString(), any(SqlParameterSource.class), eq(UUID.class)))
+            .thenThrow(new DataAccessResourceFailureException("primary down"));
+
+        // When
+        adapter.reload();
+
+        // Then
+        assertTrue(adapter.isBlocked(SUSPENDED));
+    }
+
+    @Test
+    @DisplayName("remove_ProbeRunsShiftedBack_ShouldKeepRemainingMembers")
+    void remove_ProbeRunsShiftedBack_ShouldKeepRemainingMembers() {
+        // Given: enough members to collide and resize from the smallest table
+        UuidHashSet set = new UuidHashSet(1);
+        List<UUID> members = new ArrayList<>();
+        for (long i = 1; i <= 200; i++) {
+            UUID id = new UUID(i, i * 31);
+            members.add(id);
+            assertTrue(set.add(id));
+        }
+        assertFalse(set.add(members.get(0)));
+
+        // When
+        for (int i = 0; i < members.size(); i += 2) {
+            assertTrue(set.remove(members.get(i)));
+        }
+
+        // Then
+        assertEquals(100, set.size());
+        for (int i = 0; i < members.size(); i++) {
+            assertEquals(i % 2 == 1, set.contains(members.get(i)), members.get(i).toString());
+        }
+        assertFalse(set.add(new UUID(0L, 0L)));
+        assertFalse(set.contains(new UUID(0L, 0L)));
+    }
+
+    @Test
+    @DisplayName("remove_NilUuid_ShouldReturnFalseAndKeepMembers")
+    void remove_NilUuid_ShouldReturnFalseAndKeepMembers() {
+        // Given
+        UuidHashSet set = new UuidHashSet(1);
+        set.add(SUSPENDED);
+        set.add(ACTIVE);
+
+        // When
+        boolean removed = set.remove(new UUID(0L, 0L));
+
+        // Then
+        assertFalse(removed);
+        assertEquals(2, set.size());
+        assertTrue(set.contains(SUSPENDED));
+        assertTrue(set.contains(ACTIVE));
+    }
+}
@@ -0,0 +1,100 @@
+package me.namila.service.auth.data.identity.search;
+
+import me.namila.service.auth.domain.application.identity.search.UserSearchHit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for UserPrefixIndex.
+ */
+@DisplayName("UserPrefixIndex Tests")
+class UserPrefixIndexTest {
+    
+    private UserPrefixIndex index;
+    
+    @BeforeEach
+    void setUp() {
+        index = new UserPrefixIndex();
+    }
+    
+    @Test
+    @DisplayName("search_MixedMatches_ShouldRankExactAndUsernamePrefixFirst")
+    void search_MixedMatches_ShouldRankExactAndUsernamePrefixFirst() {
+        // Given
+        UserSearchHit exact = document("ali", "ali@example.com", null);
+        UserSearchHit usernamePrefix = document("alice", "a.smith@example.com", "Alice Smith");
+        UserSearchHit displayWord = document("bob", "bob@example.com", "Bob Alibek");
+        index.put(displayWord);
+        index.put(usernamePrefix);
+        index.put(exact);
+        
+        // When
+        List<UserSearchHit> hits = index.search("ali", 0, 10);
+        
+        // Then
+        assertEquals(List.of("ali", "alice", "bob"), hits.stream().map(UserSearchHit::username).toList());
+        assertTrue(hits.get(0).score() > hits.get(1).score());
+    }
+    
+    @Test
+    @DisplayName("put_UpdatedOrRemovedUser_ShouldDropOldTerms")
+    void put_UpdatedOrRemovedUser_ShouldDropOldTerms() {
+        // Given
+        UserSearchHit original = document("carol", "carol@example.com", "Carol");
+        index.put(original);
+        
+        // When
+        index.put(new UserSearchHit(original.userId(), "caroline", "caroline@example.com", "ACTIVE",
+            "Caroline", original.createdAt(), 0));
+        
+        // Then
+        assertEquals(1, index.search("carol", 0, 10).size());
+        assertTrue(index.search("carol@", 0, 10).isEmpty());
+        assertEquals(1, index.size());
+        
+        index.remove(original.userId());
+        assertTrue(index.search("carol", 0, 10).isEmpty());
+        assertEquals(0, index.size());
+    }
+    
+    @Test
+    @DisplayName("putIfAbsent_OlderWarmUpDocument_ShouldKeepFresherOne")
+    void putIfAbsent_OlderWarmUpDocument_ShouldKeepFresherOne() {
+        // Given
+        UserSearchHit fresh = document("dave", "dave@example.com", null);
+        index.put(fresh);
+        
+        // When
+        index.putIfAbsent(new UserSearchHit(fresh.userId(), "david", "david@example.com", "ACTIVE", null,
+            fresh.createdAt(), 0));
+        
+        // Then
+        assertEquals("dave", index.search("da", 0, 10).getFirst().username());
+        assertTrue(index.search("david", 0, 10).isEmpty());
+    }
+    
+    @Test
+    @DisplayName("search_Offset_ShouldPageThroughRankedMatches")
+    void search_Offset_ShouldPageThroughRankedMatches() {
+        // Given
+        for (int i = 0; i < 5; i++) {
+            index.put(document("user" + i, "user" + i + "@example.com", null));
+        }
+        
+        // When & Then
+        assertEquals(List.of("user2", "user3"),
+            index.search("user", 2, 2).stream().map(UserSearchHit::username).toList());
+        assertTrue(index.search("user", 5, 2).isEmpty());
+    }
+    
+    private static UserSearchHit document(String username, String email, String displayName) {
+        return new UserSearchHit(UUID.randomUUID(), username, email, "ACTIVE", displayName, Instant.now(), 0);
+    }
+}
@@ -0,0 +1,130 @@
+package me.namila.service.auth.data.json;
+
+import me.namila.service.auth.common.json.LazyJsonMap;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for LazyJsonMapConverter and LazyJsonMap.
+ */
+@DisplayName("LazyJsonMapConverter Tests")
+class LazyJsonMapConverterTest {
+
+    private static final String RAW = "{\"department\": \"eng\", \"level\": 3}";
+
+    private LazyJsonMapConverter converter;
+
+    @BeforeEach
+    void setUp() {
+        converter = new LazyJsonMapConverter();
+    }
+
+    @Test
+    @DisplayName("get_UndecodedMap_ShouldParseOnFirstRead")
+    void get_UndecodedMap_ShouldParseOnFirstRead() {
+        // Given
+        AtomicInteger decodes = new AtomicInteger();
+        LazyJsonMap map = new LazyJsonMap(RAW, json -> {
+            decodes.incrementAndGet();
+            return LazyJsonMapConverter.decode(json);
+        });
+
+        // Then
+        assertFalse(map.isDecoded());
+        assertEquals(0, decodes.get());
+
+        // When
+        assertEquals("eng", map.get("department"));
+        assertEquals(3, map.get("level"));
+
+        // Then
+        assertTrue(map.isDecoded());
+        assertEquals(1, decodes.get());
+    }
+
+    @Test
+    @DisplayName("convertToEntityAttribute_JsonColumn_ShouldReturnUndecodedLazyMap")
+    void convertToEntityAttribute_JsonColumn_ShouldReturnUndecodedLazyMap() {
+        // When
+        Map<String, Object> attribute = converter.convertToEntityAttribute(RAW);
+
+        // Then
+        LazyJsonMap lazy = assertInstanceOf(LazyJsonMap.class, attribute);
+        assertFalse(lazy.isDecoded());
+        assertEquals(RAW, lazy.rawJson());
+        assertNull(converter.convertToEntityAttribute(null));
+    }
+
+    @Test
+    @DisplayName("convertToDatabaseColumn_UntouchedLazyMap_ShouldWriteRawJson")
+    void convertToDatabaseColumn_UntouchedLazyMap_ShouldWriteRawJson() {
+        // Given
+        Map<String, Object> attribute = converter.convertToEntityAttribute(RAW);
+
+        // When
+        String column = converter.convertToDatabaseColumn(attribute);
+
+        // Then
+        assertSame(RAW, column);
+        assertFalse(((LazyJsonMap) attribute).isDecoded());
+    }
+
+    @Test
+    @DisplayName("convertToDatabaseColumn_DecodedOrPlainMap_ShouldSerialize")
+    void convertToDatabaseColumn_DecodedOrPlainMap_ShouldSerialize() {
+        // Given
+        Map<String, Object> decoded = converter.convertToEntityAttribute(RAW);
+        decoded.size();
+        Map<String, Object> plain = new HashMap<>();
+        plain.put("key", "value");
+
+        // When / Then
+        assertEquals(Map.of("department", "eng", "level", 3),
+            LazyJsonMapConverter.decode(converter.convertToDatabaseColumn(decoded)));
+        assertEquals("{\"key\":\"value\"}", converter.convertToDatabaseColumn(plain));
+        assertNull(converter.convertToDatabaseColumn(null));
+    }
+
+    @Test
+    @DisplayName("copyOf_LazyAndPlainMaps_ShouldShareLazyAndFreezePlain")
+    void copyOf_LazyAndPlainMaps_ShouldShareLazyAndFreezePlain() {
+        // Given
+        Map<String, Object> lazy = converter.convertToEntityAttribute(RAW);
+        Map<String, Object> plain = new HashMap<>(Map.of("key", "value"));
+
+        // When
+        Map<String, Object> lazyCopy = LazyJsonMap.copyOf(lazy);
+        Map<String, Object> plainCopy = LazyJsonMap.copyOf(plain);
+
+        // Then
+        assertSame(lazy, lazyCopy);
+        assertFalse(((LazyJsonMap) lazy).isDecoded());
+        assertNotSame(plain, plainCopy);
+        assertEquals(plain, plainCopy);
+        assertNotNull(LazyJsonMap.copyOf(null));
+        assertThrows(UnsupportedOperationException.class, () -> lazy.put("key", "value"));
+        assertThrows(UnsupportedOperationException.class, () -> plainCopy.put("key", "other"));
+    }
+
+    @Test
+    @DisplayName("copyOf_PlainMapWithNullValue_ShouldFreezeWithoutRejectingIt")
+    void copyOf_PlainMapWithNullValue_ShouldFreezeWithoutRejectingIt() {
+        // Given: JSON documents may hold nulls, which Map.copyOf rejects
+        Map<String, Object> plain = new HashMap<>();
+        plain.put("key", null);
+
+        // When
+        Map<String, Object> copy = LazyJsonMap.copyOf(plain);
+
+        // Then
+        assertTrue(copy.containsKey("key"));
+        assertThrows(UnsupportedOperationException.class, () -> copy.put("other", "value"));
+    }
+}
@@ -0,0 +1,148 @@
+package me.namila.service.auth.data.outbox.relay;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import me.namila.service.auth.data.outbox.entity.OutboxEventJpaEntity;
+import me.namila.service.auth.data.outbox.repository.OutboxEventJpaRepository;
+import me.namila.service.auth.data.outbox.sink.InMemoryOutboxSink;
+import me.namila.service.auth.data.outbox.sink.OutboxSink;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for OutboxRelay.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OutboxRelay Tests")
+class OutboxRelayTest {
+
+    @Mock
+    private OutboxEventJpaRepository outboxRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private InMemoryOutboxSink sink;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        sink = new InMemoryOutboxSink();
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("poll_LockedBatch_ShouldPublishAndDeleteRows")
+    void poll_LockedBatch_ShouldPublishAndDeleteRows() {
+        // Given
+        OutboxRelay relay = relay(sink, 10, false);
+        List<OutboxEventJpaEntity> batch = List.of(outboxEvent(), outboxEvent());
+        when(outboxRepository.lockNextBatch(10)).thenReturn(batch);
+
+        // When
+        relay.poll();
+
+        // Then
+        assertEquals(2, sink.getPublished().size());
+        assertEquals(batch.get(0).getEventId(), sink.getPublished().get(0).eventId());
+        verify(outboxRepository).deleteByEventIds(List.of(batch.get(0).getEventId(), batch.get(1).getEventId()));
+        verify(outboxRepository, never()).markPublished(any(), any());
+        assertEquals(2.0, meterRegistry.counter("auth.outbox.relay.published").count());
+    }
+
+    @Test
+    @DisplayName("poll_ArchiveRetention_ShouldArchiveRelayedRows")
+    void poll_ArchiveRetention_ShouldArchiveRelayedRows() {
+        // Given
+        OutboxRelay relay = relay(sink, 10, true);
+        when(outboxRepository.lockNextBatch(10)).thenReturn(List.of(outboxEvent()));
+
+        // When
+        relay.poll();
+
+        // Then
+        verify(outboxRepository).markPublished(anyCollection(), any(Instant.class));
+        verify(outboxRepository, never()).deleteByEventIds(any());
+    }
+
+    @Test
+    @DisplayName("poll_FullBatches_ShouldKeepDraining")
+    void poll_FullBatches_ShouldKeepDraining() {
+        // Given
+        OutboxRelay relay = relay(sink, 1, false);
+        when(outboxRepository.lockNextBatch(1))
+            .thenReturn(List.of(outboxEvent()))
+            .thenReturn(List.of(outboxEvent()))
+            .thenReturn(List.of());
+
+        // When
+        relay.poll();
+
+        // Then
+        assertEquals(2, sink.getPublished().size());
+        verify(outboxRepository, times(3)).lockNextBatch(1);
+    }
+
+    @Test
+    @DisplayName("poll_SinkThrows_ShouldRetainRowsAndCountFailure")
+    void poll_SinkThrows_ShouldRetainRowsAndCountFailure() {
+        // Given
+        OutboxSink failingSink = batch -> {
+            throw new IllegalStateException("sink unavailable");
+        };
+        OutboxRelay relay = relay(failingSink, 10, false);
+        when(outboxRepository.lockNextBatch(10)).thenReturn(List.of(outboxEvent()));
+
+        // When
+        relay.poll();
+
+        // Then
+        verify(outboxRepository, never()).deleteByEventIds(any());
+        verify(transactionManager).rollback(any());
+        assertEquals(1.0, meterRegistry.counter("auth.outbox.relay.failures").count());
+    }
+
+    @Test
+    @DisplayName("poll_PendingEvents_ShouldReportLagFromOldest")
+    void poll_PendingEvents_ShouldReportLagFromOldest() {
+        // Given
+        OutboxRelay relay = relay(sink, 10, false);
+        when(outboxRepository.lockNextBatch(10)).thenReturn(List.of());
+        when(outboxRepository.findOldestPendingCreatedAt()).thenReturn(Instant.now().minusSeconds(30));
+
+        // When
+        relay.poll();
+
+        // Then
+        double lag = meterRegistry.get("auth.outbox.relay.lag").gauge().value();
+        assertTrue(lag >= 30.0);
+    }
+
+    private OutboxRelay relay(OutboxSink outboxSink, int batchSize, boolean archive) {
+        return new OutboxRelay(outboxRepository, outboxSink, transactionManager, meterRegistry, batchSize, 10, archive);
+    }
+
+    private static OutboxEventJpaEntity outboxEvent() {
+        return OutboxEventJpaEntity.builder()
+            .eventId(UUID.randomUUID())
+            .aggregateType("User")
+            .aggregateId(UUID.randomUUID())
+            .eventType("UserChangedEvent")
+            .payload("{}")
+            .occurredAt(Instant.now())
+            .createdAt(Instant.now())
+            .build();
+    }
+}
@@ -0,0 +1,107 @@
+package me.namila.service.auth.domain.application.auth.credential;
+
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.PBEKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.Base64;
+
+/**
+ * Generation and hashing of service account client secrets.
+ * Secrets are 256 random bits, base64url. They are stored as
+ * {@code pbkdf2-sha256$<iterations>$<salt>$<hash>}, so the work factor can be raised
+ * without invalidating existing hashes. Verification is deliberately slow; callers
+ * that need to check the same secret repeatedly should compare {@link #fingerprint}s
+ * of secrets they have already verified.
+ */
+public final class ClientSecrets {
+
+    public static final int DEFAULT_ITERATIONS = 210_000;
+
+    private static final String ALGORITHM = "pbkdf2-sha256";
+    private static final String KEY_ALGORITHM = "PBKDF2WithHmacSHA256";
+    private static final SecureRandom RANDOM = new SecureRandom();
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+    private static final int SECRET_BYTES = 32;
+    private static final int SALT_BYTES = 16;
+    private static final int HASH_BITS = 256;
+
+    private ClientSecrets() {
+        // Utility class, prevent instantiation
+    }
+
+    /**
+     * Generate a new client secret.
+     * @return The secret to hand to the client once
+     */
+    public static String generate() {
+        byte[] secret = new byte[SECRET_BYTES];
+        RANDOM.nextBytes(secret);
+        return ENCODER.encodeToString(secret);
+    }
+
+    /**
+     * Hash a secret for storage.
+     * @param secret The plain secret
+     * @param iterations The PBKDF2 iteration count
+     * @return The encoded hash
+     */
+    public static String hash(String secret, int iterations) {
+        byte[] salt = new byte[SALT_BYTES];
+        RANDOM.nextBytes(salt);
+        return ALGORITHM + "$" + iterations + "$" + ENCODER.encodeToString(salt) + "$"
+            + ENCODER.encodeToString(derive(secret, salt, iterations));
+    }
+
+    /**
+     * Check a presented secret against a stored hash in constant time.
+     * @param secret The presented secret
+     * @param encodedHash The stored hash
+     * @return true if the secret matches; false for a mismatch or an unreadable hash
+     */
+    public static boolean verify(String secret, String encodedHash) {
+        if (secret == null || encodedHash == null) {
+            return false;
+        }
+        String[] parts = encodedHash.split("\\$");
+        if (parts.length != 4 || !ALGORITHM.equals(parts[0])) {
+            return false;
+        }
+        try {
+            int iterations = Integer.parseInt(parts[1]);
+            byte[] expected = DECODER.decode(parts[3]);
+            return MessageDigest.isEqual(expected, derive(secret, DECODER.decode(parts[2]), iterations));
+        } catch (IllegalArgumentException ex) {
+            return false;
+        }
+    }
+
+    /**
+     * A fast digest of a secret, for recognising a secret that was already verified.
+     * Only safe because client secrets are high-entropy; never use this for passwords.
+     * @param secret The secret
+     * @return The SHA-256 of the secret
+     */
+    public static byte[] fingerprint(String secret) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(secret.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 not available", ex);
+        }
+    }
+
+    private static byte[] derive(String secret, byte[] salt, int iterations) {
+        PBEKeySpec spec = new PBEKeySpec(secret.toCharArray(), salt, iterations, HASH_BITS);
+        try {
+            return SecretKeyFactory.getInstance(KEY_ALGORITHM).generateSecret(spec).getEncoded();
+        } catch (GeneralSecurityException ex) {
+            throw new IllegalStateException(KEY_ALGORITHM + " not available", ex);
+        } finally {
+            spec.clearPassword();
+        }
+    }
+}
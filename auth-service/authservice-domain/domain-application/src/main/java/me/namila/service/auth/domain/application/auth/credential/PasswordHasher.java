@@ -0,0 +1,128 @@
+package me.namila.service.auth.domain.application.auth.credential;
+
+import me.namila.service.auth.domain.core.exception.ServiceOverloadedException;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs Argon2id password hashing on its own small, bounded pool.
+ * Each hash holds its memory cost for tens of milliseconds, so a login flood run on
+ * request threads would starve the threads that only validate tokens; here a full
+ * queue or a slow hash is shed with an overload error instead. Both the pool and
+ * the cost are configured per deployment; tune the cost with the JMH benchmark.
+ */
+@Component
+public class PasswordHasher implements DisposableBean {
+
+    private static final String RESOURCE = "password hashing";
+
+    private final PasswordHashes.Cost cost;
+    private final Duration timeout;
+    private final ExecutorService executor;
+    private final String decoyHash;
+
+    @Autowired
+    public PasswordHasher(
+            @Value("${auth.credentials.password.argon2.memory-kib:19456}") int memoryKib,
+            @Value("${auth.credentials.password.argon2.iterations:2}") int iterations,
+            @Value("${auth.credentials.password.argon2.parallelism:1}") int parallelism,
+            @Value("${auth.credentials.password.hashing.threads:2}") int threads,
+            @Value("${auth.credentials.password.hashing.queue-capacity:16}") int queueCapacity,
+            @Value("${auth.credentials.password.hashing.timeout:3s}") Duration timeout) {
+        this(new PasswordHashes.Cost(memoryKib, iterations, parallelism), timeout,
+            boundedExecutor(threads, queueCapacity));
+    }
+
+    /**
+     * @param cost The Argon2id cost new hashes are computed at
+     * @param timeout How long a caller waits for a queued hash before it is shed
+     * @param executor The pool hashes run on; bound its queue, since a rejected hash is shed
+     */
+    public PasswordHasher(PasswordHashes.Cost cost, Duration timeout, ExecutorService executor) {
+        this.cost = cost;
+        this.timeout = timeout;
+        this.executor = executor;
+        // Verified against when the user is unknown, so a miss costs as much as a wrong password
+        this.decoyHash = PasswordHashes.hash(ClientSecrets.generate(), cost);
+    }
+
+    /**
+     * Hash a password at the current cost.
+     * @param password The plain password
+     * @return The encoded hash
+     * @throws ServiceOverloadedException if hashing is saturated
+     */
+    public String hash(String password) {
+        return run(() -> PasswordHashes.hash(password, cost));
+    }
+
+    /**
+     * Check a password against a stored hash, or against a decoy hash when there is none.
+     * @param password The presented password
+     * @param encodedHash The stored hash, or null if the user has no password
+     * @return true if the password matches a stored hash
+     * @throws ServiceOverloadedException if hashing is saturated
+     */
+    public boolean verify(String password, String encodedHash) {
+        String target = encodedHash != null ? encodedHash : decoyHash;
+        return run(() -> PasswordHashes.verify(password, target)) && encodedHash != null;
+    }
+
+    /**
+     * @param encodedHash The stored hash
+     * @return true if the hash was computed at another cost than the current one
+     */
+    public boolean needsRehash(String encodedHash) {
+        return PasswordHashes.needsRehash(encodedHash, cost);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    private <T> T run(Callable<T> task) {
+        Future<T> result;
+        try {
+            result = executor.submit(task);
+        } catch (RejectedExecutionException ex) {
+            throw new ServiceOverloadedException(RESOURCE);
+        }
+        try {
+            return result.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException ex) {
+            result.cancel(true);
+            throw new ServiceOverloadedException(RESOURCE);
+        } catch (InterruptedException ex) {
+            result.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new ServiceOverloadedException(RESOURCE);
+        } catch (ExecutionException ex) {
+            throw new IllegalStateException("Password hashing failed", ex.getCause());
+        }
+    }
+
+    private static ExecutorService boundedExecutor(int threads, int queueCapacity) {
+        AtomicInteger sequence = new AtomicInteger();
+        return new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                Thread thread = new Thread(runnable, "password-hasher-" + sequence.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }, new ThreadPoolExecutor.AbortPolicy());
+    }
+}
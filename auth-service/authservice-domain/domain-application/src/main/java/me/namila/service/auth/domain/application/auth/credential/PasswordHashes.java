@@ -0,0 +1,162 @@
+package me.namila.service.auth.domain.application.auth.credential;
+
+import org.bouncycastle.crypto.generators.Argon2BytesGenerator;
+import org.bouncycastle.crypto.params.Argon2Parameters;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.Base64;
+
+/**
+ * Argon2id hashing of local passwords.
+ * Hashes are stored in the PHC string format,
+ * {@code $argon2id$v=19$m=<memory KiB>,t=<iterations>,p=<parallelism>$<salt>$<hash>},
+ * so each hash carries the cost it was computed with; {@link #needsRehash} tells a hash
+ * computed at an older cost from a current one, and either still verifies.
+ */
+public final class PasswordHashes {
+
+    /** OWASP's minimum recommended Argon2id cost: 19 MiB, two passes, one lane. */
+    public static final Cost DEFAULT_COST = new Cost(19_456, 2, 1);
+
+    private static final String ALGORITHM = "argon2id";
+    private static final int VERSION = Argon2Parameters.ARGON2_VERSION_13;
+    private static final SecureRandom RANDOM = new SecureRandom();
+    private static final Base64.Encoder ENCODER = Base64.getEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getDecoder();
+    private static final int SALT_BYTES = 16;
+    private static final int HASH_BYTES = 32;
+
+    private PasswordHashes() {
+        // Utility class, prevent instantiation
+    }
+
+    /**
+     * Argon2id cost parameters.
+     * @param memoryKib Memory per hash in KiB
+     * @param iterations Passes over the memory
+     * @param parallelism Lanes computed in parallel
+     */
+    public record Cost(int memoryKib, int iterations, int parallelism) {
+
+        public Cost {
+            if (parallelism < 1 || iterations < 1 || memoryKib < 8 * parallelism) {
+                throw new IllegalArgumentException("Invalid Argon2id cost: m=" + memoryKib + ", t=" + iterations
+                    + ", p=" + parallelism);
+            }
+        }
+    }
+
+    /**
+     * Hash a password for storage.
+     * @param password The plain password
+     * @param cost The cost to hash at
+     * @return The encoded hash
+     */
+    public static String hash(String password, Cost cost) {
+        byte[] salt = new byte[SALT_BYTES];
+        RANDOM.nextBytes(salt);
+        byte[] hash = derive(password, salt, cost, HASH_BYTES);
+        return "$" + ALGORITHM + "$v=" + VERSION + "$m=" + cost.memoryKib() + ",t=" + cost.iterations()
+            + ",p=" + cost.parallelism() + "$" + ENCODER.encodeToString(salt) + "$" + ENCODER.encodeToString(hash);
+    }
+
+    /**
+     * Check a presented password against a stored hash in constant time.
+     * @param password The presented password
+     * @param encodedHash The stored hash
+     * @return true if the password matches; false for a mismatch or an unreadable hash
+     */
+    public static boolean verify(String password, String encodedHash) {
+        if (password == null) {
+            return false;
+        }
+        Decoded decoded = decode(encodedHash);
+        if (decoded == null) {
+            return false;
+        }
+        byte[] actual = derive(password, decoded.salt(), decoded.cost(), decoded.hash().length);
+        return MessageDigest.isEqual(decoded.hash(), actual);
+    }
+
+    /**
+     * Check whether a stored hash was computed at a different cost than the given one.
+     * @param encodedHash The stored hash
+     * @param cost The current cost
+     * @return true if the hash should be recomputed the next time the password is known
+     */
+    public static boolean needsRehash(String encodedHash, Cost cost) {
+        Decoded decoded = decode(encodedHash);
+        return decoded == null || !decoded.cost().equals(cost);
+    }
+
+    /**
+     * @param encodedHash The stored hash
+     * @return The cost the hash was computed at, or null if it is unreadable
+     */
+    public static Cost costOf(String encodedHash) {
+        Decoded decoded = decode(encodedHash);
+        return decoded != null ? decoded.cost() : null;
+    }
+
+    private static byte[] derive(String password, byte[] salt, Cost cost, int length) {
+        Argon2Parameters parameters = new Argon2Parameters.Builder(Argon2Parameters.ARGON2_id)
+            .withVersion(VERSION)
+            .withMemoryAsKB(cost.memoryKib())
+            .withIterations(cost.iterations())
+            .withParallelism(cost.parallelism())
+            .withSalt(salt)
+            .build();
+        Argon2BytesGenerator generator = new Argon2BytesGenerator();
+        generator.init(parameters);
+        byte[] passwordBytes = password.getBytes(StandardCharsets.UTF_8);
+        byte[] out = new byte[length];
+        try {
+            generator.generateBytes(passwordBytes, out);
+        } finally {
+            Arrays.fill(passwordBytes, (byte) 0);
+        }
+        return out;
+    }
+
+    private static Decoded decode(String encodedHash) {
+        if (encodedHash == null) {
+            return null;
+        }
+        // "", "argon2id", "v=19", "m=..,t=..,p=..", salt, hash
+        String[] parts = encodedHash.split("\\$");
+        if (parts.length != 6 || !parts[0].isEmpty() || !ALGORITHM.equals(parts[1])
+                || !("v=" + VERSION).equals(parts[2])) {
+            return null;
+        }
+        try {
+            int memoryKib = -1;
+            int iterations = -1;
+            int parallelism = -1;
+            for (String parameter : parts[3].split(",")) {
+                int separator = parameter.indexOf('=');
+                int value = Integer.parseInt(parameter.substring(separator + 1));
+                switch (parameter.substring(0, Math.max(separator, 0))) {
+                    case "m" -> memoryKib = value;
+                    case "t" -> iterations = value;
+                    case "p" -> parallelism = value;
+                    default -> {
+                        return null;
+                    }
+                }
+            }
+            byte[] hash = DECODER.decode(parts[5]);
+            if (hash.length < 16) {
+                return null;
+            }
+            return new Decoded(new Cost(memoryKib, iterations, parallelism), DECODER.decode(parts[4]), hash);
+        } catch (IllegalArgumentException | StringIndexOutOfBoundsException ex) {
+            return null;
+        }
+    }
+
+    private record Decoded(Cost cost, byte[] salt, byte[] hash) {
+    }
+}
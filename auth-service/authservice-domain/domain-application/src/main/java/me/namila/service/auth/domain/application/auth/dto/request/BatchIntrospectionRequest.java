@@ -0,0 +1,14 @@
+package me.namila.service.auth.domain.application.auth.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Builder;
+
+import java.util.List;
+
+@Builder
+public record BatchIntrospectionRequest(
+        @NotEmpty(message = "At least one token is required")
+        @Size(max = 100, message = "At most 100 tokens can be introspected per batch")
+        List<String> tokens) {
+}
@@ -0,0 +1,18 @@
+package me.namila.service.auth.domain.application.auth.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.Builder;
+
+@Builder
+public record PasswordLoginRequest(
+        @NotBlank(message = "Username is required") String username,
+
+        @NotBlank(message = "Password is required")
+        @Size(max = 128, message = "Password must be at most 128 characters") String password) {
+
+    @Override
+    public String toString() {
+        return "PasswordLoginRequest[username=" + username + ", password=****]";
+    }
+}
@@ -0,0 +1,9 @@
+package me.namila.service.auth.domain.application.auth.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.Builder;
+
+@Builder
+public record RevokeTokenRequest(
+        @NotBlank(message = "Token is required") String token) {
+}
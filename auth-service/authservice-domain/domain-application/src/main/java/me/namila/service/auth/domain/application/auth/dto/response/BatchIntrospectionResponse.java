@@ -0,0 +1,13 @@
+package me.namila.service.auth.domain.application.auth.dto.response;
+
+import lombok.Builder;
+
+import java.util.List;
+
+/**
+ * Introspection results in the order the tokens were submitted.
+ */
+@Builder
+public record BatchIntrospectionResponse(
+        List<IntrospectionResponse> results) {
+}
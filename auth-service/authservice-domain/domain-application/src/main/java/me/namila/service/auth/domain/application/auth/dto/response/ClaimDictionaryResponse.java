@@ -0,0 +1,16 @@
+package me.namila.service.auth.domain.application.auth.dto.response;
+
+import lombok.Builder;
+
+import java.util.List;
+
+/**
+ * A published claim dictionary. Bit {@code i} of a compact entitlement claim is
+ * {@code roles[i]} for {@code i < roles.size()}, otherwise {@code permissions[i - roles.size()]}.
+ */
+@Builder
+public record ClaimDictionaryResponse(
+        String version,
+        List<String> roles,
+        List<String> permissions) {
+}
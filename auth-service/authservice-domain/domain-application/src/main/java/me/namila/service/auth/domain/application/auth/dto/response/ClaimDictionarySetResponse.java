@@ -0,0 +1,14 @@
+package me.namila.service.auth.domain.application.auth.dto.response;
+
+import lombok.Builder;
+
+import java.util.List;
+
+/**
+ * The claim dictionaries tokens may currently be encoded with, newest first.
+ */
+@Builder
+public record ClaimDictionarySetResponse(
+        String currentVersion,
+        List<ClaimDictionaryResponse> dictionaries) {
+}
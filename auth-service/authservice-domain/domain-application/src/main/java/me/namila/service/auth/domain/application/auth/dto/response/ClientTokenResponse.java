@@ -0,0 +1,15 @@
+package me.namila.service.auth.domain.application.auth.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Builder;
+
+/**
+ * RFC 6749 access token response for the client credentials grant; no refresh token is issued.
+ */
+@Builder
+public record ClientTokenResponse(
+        @JsonProperty("access_token") String accessToken,
+        @JsonProperty("token_type") String tokenType,
+        @JsonProperty("expires_in") long expiresIn,
+        String scope) {
+}
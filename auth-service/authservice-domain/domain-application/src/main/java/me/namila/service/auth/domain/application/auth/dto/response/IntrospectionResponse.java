@@ -0,0 +1,39 @@
+package me.namila.service.auth.domain.application.auth.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Builder;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * RFC 7662 introspection response. An inactive token is answered with {@code active} alone.
+ */
+@Builder(toBuilder = true)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record IntrospectionResponse(
+        boolean active,
+        String sub,
+        String username,
+        String email,
+        List<String> roles,
+        @JsonProperty("client_id") String clientId,
+        String scope,
+        @JsonProperty("token_type") String tokenType,
+        Long exp,
+        Long iat,
+        String iss,
+        Set<String> aud,
+        String jti,
+        String sid,
+        @JsonProperty("auth_time") Long authTime,
+        Map<String, String> cnf) {
+    
+    private static final IntrospectionResponse INACTIVE = IntrospectionResponse.builder().active(false).build();
+    
+    public static IntrospectionResponse inactive() {
+        return INACTIVE;
+    }
+}
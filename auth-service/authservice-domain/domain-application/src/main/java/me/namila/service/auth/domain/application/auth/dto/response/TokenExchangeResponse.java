@@ -0,0 +1,16 @@
+package me.namila.service.auth.domain.application.auth.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Builder;
+
+/**
+ * RFC 8693 token exchange response.
+ */
+@Builder
+public record TokenExchangeResponse(
+        @JsonProperty("access_token") String accessToken,
+        @JsonProperty("issued_token_type") String issuedTokenType,
+        @JsonProperty("token_type") String tokenType,
+        @JsonProperty("expires_in") long expiresIn,
+        String scope) {
+}
@@ -0,0 +1,11 @@
+package me.namila.service.auth.domain.application.auth.dto.response;
+
+import lombok.Builder;
+
+@Builder
+public record TokenResponse(
+        String accessToken,
+        String refreshToken,
+        String tokenType,
+        Integer expiresIn) {
+}
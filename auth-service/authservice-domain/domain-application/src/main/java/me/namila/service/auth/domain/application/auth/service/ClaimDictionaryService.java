@@ -0,0 +1,196 @@
+package me.namila.service.auth.domain.application.auth.service;
+
+import lombok.extern.slf4j.Slf4j;
+import me.namila.service.auth.domain.application.auth.dto.response.ClaimDictionaryResponse;
+import me.namila.service.auth.domain.application.auth.dto.response.ClaimDictionarySetResponse;
+import me.namila.service.auth.domain.application.auth.token.ClaimDictionary;
+import me.namila.service.auth.domain.application.auth.token.CompactClaims;
+import me.namila.service.auth.domain.application.auth.token.CompactEntitlements;
+import me.namila.service.auth.domain.application.auth.token.DecodedEntitlements;
+import me.namila.service.auth.domain.application.port.authorization.PermissionRepositoryPort;
+import me.namila.service.auth.domain.application.port.authorization.RoleRepositoryPort;
+import me.namila.service.auth.domain.core.authorization.model.PermissionEntity;
+import me.namila.service.auth.domain.core.authorization.model.RoleAggregate;
+import me.namila.service.auth.domain.core.authorization.service.RoleHierarchyService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps the versioned role/permission dictionary used by compact entitlement claims.
+ * The dictionary is rebuilt from the role catalogue at most once per refresh interval,
+ * or sooner when a token names a role or version this node has not seen. The last few
+ * versions are retained so tokens minted before a catalogue change still decode.
+ */
+@Service
+@Slf4j
+public class ClaimDictionaryService {
+
+    private static final int RETAINED_VERSIONS = 8;
+
+    private final RoleRepositoryPort roleRepository;
+    private final PermissionRepositoryPort permissionRepository;
+    private final RoleHierarchyService roleHierarchyService = new RoleHierarchyService();
+    private final Duration refreshInterval;
+    private final Duration minReloadInterval;
+    private final Clock clock;
+    private final Map<String, ClaimDictionary> versions = new LinkedHashMap<>();
+    private volatile ClaimDictionary current;
+    private volatile Instant loadedAt = Instant.EPOCH;
+
+    public ClaimDictionaryService(
+            RoleRepositoryPort roleRepository,
+            PermissionRepositoryPort permissionRepository,
+            @Value("${auth.tokens.compact-claims.dictionary-refresh:5m}") Duration refreshInterval,
+            @Value("${auth.tokens.compact-claims.min-reload-interval:10s}") Duration minReloadInterval) {
+        this(roleRepository, permissionRepository, refreshInterval, minReloadInterval, Clock.systemUTC());
+    }
+
+    ClaimDictionaryService(RoleRepositoryPort roleRepository, PermissionRepositoryPort permissionRepository,
+                           Duration refreshInterval, Duration minReloadInterval, Clock clock) {
+        this.roleRepository = roleRepository;
+        this.permissionRepository = permissionRepository;
+        this.refreshInterval = refreshInterval;
+        this.minReloadInterval = minReloadInterval;
+        this.clock = clock;
+    }
+
+    /**
+     * Get the dictionary new tokens are encoded with.
+     * @return The current dictionary, at most the refresh interval old
+     */
+    public ClaimDictionary current() {
+        ClaimDictionary dictionary = current;
+        if (dictionary == null || loadedAt.plus(refreshInterval).isBefore(clock.instant())) {
+            dictionary = reload();
+        }
+        return dictionary;
+    }
+
+    /**
+     * Encode a set of roles with the current dictionary.
+     * @param roleNames The role names
+     * @return The compact claim, or empty if a role is unknown even after reloading
+     */
+    public Optional<CompactEntitlements> encode(Collection<String> roleNames) {
+        ClaimDictionary dictionary = current();
+        Optional<BitSet> bits = dictionary.encode(roleNames);
+        if (bits.isEmpty() && reloadAllowed()) {
+            dictionary = reload();
+            bits = dictionary.encode(roleNames);
+        }
+        if (bits.isEmpty()) {
+            log.debug("Roles {} are not in claim dictionary {}", roleNames, dictionary.getVersion());
+            return Optional.empty();
+        }
+        return Optional.of(new CompactEntitlements(dictionary.getVersion(), CompactClaims.encode(bits.get())));
+    }
+
+    /**
+     * Decode a compact claim.
+     * @param dictionaryVersion The dictionary version named by the token
+     * @param value The encoded bitmap
+     * @return The decoded entitlements, or empty if the version is unknown
+     * @throws IllegalArgumentException if the value is malformed
+     */
+    public Optional<DecodedEntitlements> decode(String dictionaryVersion, String value) {
+        Optional<ClaimDictionary> dictionary = find(dictionaryVersion);
+        if (dictionary.isEmpty()) {
+            return Optional.empty();
+        }
+        BitSet bits = CompactClaims.decode(value);
+        return Optional.of(new DecodedEntitlements(
+            dictionary.get().roleNames(bits), dictionary.get().permissionNames(bits)));
+    }
+
+    /**
+     * Get the retained dictionaries for publication to downstream decoders.
+     * @return The dictionaries, newest first
+     */
+    public ClaimDictionarySetResponse getDictionaries() {
+        ClaimDictionary latest = current();
+        List<ClaimDictionaryResponse> dictionaries = new ArrayList<>();
+        synchronized (versions) {
+            versions.values().forEach(dictionary -> dictionaries.addFirst(ClaimDictionaryResponse.builder()
+                .version(dictionary.getVersion())
+                .roles(dictionary.getRoles())
+                .permissions(dictionary.getPermissions())
+                .build()));
+        }
+        return ClaimDictionarySetResponse.builder()
+            .currentVersion(latest.getVersion())
+            .dictionaries(dictionaries)
+            .build();
+    }
+
+    private Optional<ClaimDictionary> find(String dictionaryVersion) {
+        ClaimDictionary dictionary;
+        synchronized (versions) {
+            dictionary = versions.get(dictionaryVersion);
+        }
+        if (dictionary == null && reloadAllowed()) {
+            // Another node may have minted the token from a newer catalogue
+            ClaimDictionary reloaded = reload();
+            dictionary = reloaded.getVersion().equals(dictionaryVersion) ? reloaded : null;
+        }
+        return Optional.ofNullable(dictionary);
+    }
+
+    private boolean reloadAllowed() {
+        return loadedAt.plus(minReloadInterval).isBefore(clock.instant());
+    }
+
+    private synchronized ClaimDictionary reload() {
+        Map<String, Set<String>> rolePermissions = new HashMap<>();
+        for (RoleAggregate role : roleRepository.findAll()) {
+            if (role.getRoleName() != null) {
+                rolePermissions.put(role.getRoleName(), roleHierarchyService.getEffectivePermissions(role).stream()
+                    .map(ClaimDictionaryService::permissionName)
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toSet()));
+            }
+        }
+        List<String> permissions = permissionRepository.findAll().stream()
+            .map(ClaimDictionaryService::permissionName)
+            .filter(Objects::nonNull)
+            .toList();
+
+        ClaimDictionary dictionary = ClaimDictionary.of(rolePermissions, permissions);
+        synchronized (versions) {
+            versions.remove(dictionary.getVersion());
+            versions.put(dictionary.getVersion(), dictionary);
+            while (versions.size() > RETAINED_VERSIONS) {
+                versions.remove(versions.keySet().iterator().next());
+            }
+        }
+        if (current == null || !current.getVersion().equals(dictionary.getVersion())) {
+            log.info("Claim dictionary {} loaded with {} roles and {} permissions",
+                dictionary.getVersion(), dictionary.getRoles().size(), dictionary.getPermissions().size());
+        }
+        current = dictionary;
+        loadedAt = clock.instant();
+        return dictionary;
+    }
+
+    private static String permissionName(PermissionEntity permission) {
+        if (permission.getResource() == null || permission.getAction() == null) {
+            return null;
+        }
+        String name = permission.getResource() + ":" + permission.getAction();
+        return permission.getScope() != null ? name + ":" + permission.getScope() : name;
+    }
+}
@@ -0,0 +1,269 @@
+package me.namila.service.auth.domain.application.auth.service;
+
+import lombok.extern.slf4j.Slf4j;
+import me.namila.service.auth.domain.application.auth.credential.ClientSecrets;
+import me.namila.service.auth.domain.application.auth.dto.response.ClientTokenResponse;
+import me.namila.service.auth.domain.application.common.LruCache;
+import me.namila.service.auth.domain.application.port.auth.AccessTokenIssuerPort;
+import me.namila.service.auth.domain.application.port.auth.TokenRevocationPort;
+import me.namila.service.auth.domain.application.port.identity.ServiceAccountRepositoryPort;
+import me.namila.service.auth.domain.core.exception.DomainException;
+import me.namila.service.auth.domain.core.exception.InvalidClientException;
+import me.namila.service.auth.domain.core.exception.ServiceOverloadedException;
+import me.namila.service.auth.domain.core.identity.model.ServiceAccountAggregate;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.security.MessageDigest;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * OAuth 2.0 client credentials grant for service accounts.
+ * Client secrets are verified on a small bounded pool, so a burst of slow PBKDF2
+ * checks is shed with an overload error instead of tying up request threads; once a
+ * secret has been verified its fingerprint is remembered against the stored hash, and
+ * later requests with the same secret skip the slow check until the secret is rotated.
+ * Minted tokens are cached per client and scope set and handed out again until they
+ * enter the refresh-ahead window, so clients that ask for a token on every call do not
+ * cause a signature per call. Concurrent misses for the same key mint a single token.
+ * Tokens bound to a DPoP key are cached under that key as well. Both caches are bounded
+ * and drop their least recently used entries, so a busy client keeps its entries.
+ */
+@Service
+@Slf4j
+public class ClientCredentialsService implements DisposableBean {
+
+    private static final String TOKEN_TYPE = "Bearer";
+    private static final String DPOP_TOKEN_TYPE = "DPoP";
+
+    private final ServiceAccountRepositoryPort serviceAccountRepository;
+    private final AccessTokenIssuerPort accessTokenIssuer;
+    private final TokenRevocationPort revocationPort;
+    private final Duration tokenTtl;
+    private final Duration refreshAhead;
+    private final Duration verificationTimeout;
+    private final ExecutorService verifier;
+    private final Clock clock;
+    private final LruCache<String, VerifiedSecret> verifiedSecrets;
+    private final LruCache<String, CachedClientToken> tokens;
+
+    @Autowired
+    public ClientCredentialsService(
+            ServiceAccountRepositoryPort serviceAccountRepository,
+            AccessTokenIssuerPort accessTokenIssuer,
+            TokenRevocationPort revocationPort,
+            @Value("${auth.tokens.client-credentials.ttl:1h}") Duration tokenTtl,
+            @Value("${auth.tokens.client-credentials.refresh-ahead:5m}") Duration refreshAhead,
+            @Value("${auth.tokens.client-credentials.cache-size:10000}") int maxEntries,
+            @Value("${auth.service-accounts.secret-verification.threads:2}") int verifierThreads,
+            @Value("${auth.service-accounts.secret-verification.queue-capacity:32}") int queueCapacity,
+            @Value("${auth.service-accounts.secret-verification.timeout:2s}") Duration verificationTimeout) {
+        this(serviceAccountRepository, accessTokenIssuer, revocationPort, tokenTtl, refreshAhead, maxEntries,
+            verificationTimeout, boundedExecutor(verifierThreads, queueCapacity), Clock.systemUTC());
+    }
+
+    ClientCredentialsService(
+            ServiceAccountRepositoryPort serviceAccountRepository,
+            AccessTokenIssuerPort accessTokenIssuer,
+            TokenRevocationPort revocationPort,
+            Duration tokenTtl,
+            Duration refreshAhead,
+            int maxEntries,
+            Duration verificationTimeout,
+            ExecutorService verifier,
+            Clock clock) {
+        if (refreshAhead.compareTo(tokenTtl) >= 0) {
+            throw new IllegalArgumentException("Refresh-ahead window must be shorter than the token TTL");
+        }
+        this.serviceAccountRepository = serviceAccountRepository;
+        this.accessTokenIssuer = accessTokenIssuer;
+        this.revocationPort = revocationPort;
+        this.tokenTtl = tokenTtl;
+        this.refreshAhead = refreshAhead;
+        this.verifiedSecrets = new LruCache<>(maxEntries);
+        this.tokens = new LruCache<>(maxEntries);
+        this.verificationTimeout = verificationTimeout;
+        this.verifier = verifier;
+        this.clock = clock;
+    }
+
+    /**
+     * Authenticate a client and hand out an access token for the requested scopes.
+     * @param clientId The client ID
+     * @param clientSecret The client secret
+     * @param scope The requested scopes, space separated; all of the account's scopes if blank
+     * @return The access token response
+     * @throws InvalidClientException if the client is unknown, disabled or the secret is wrong
+     * @throws DomainException if a requested scope is not assigned to the client
+     * @throws ServiceOverloadedException if secret verification is saturated
+     */
+    public ClientTokenResponse issueToken(String clientId, String clientSecret, String scope) {
+        return issueToken(clientId, clientSecret, scope, null);
+    }
+
+    /**
+     * Authenticate a client and hand out an access token for the requested scopes,
+     * optionally bound to the client's DPoP key.
+     * @param clientId The client ID
+     * @param clientSecret The client secret
+     * @param scope The requested scopes, space separated; all of the account's scopes if blank
+     * @param confirmationKey The JWK thumbprint of the client's DPoP key, or null for a bearer token
+     * @return The access token response
+     * @throws InvalidClientException if the client is unknown, disabled or the secret is wrong
+     * @throws DomainException if a requested scope is not assigned to the client
+     * @throws ServiceOverloadedException if secret verification is saturated
+     */
+    public ClientTokenResponse issueToken(String clientId, String clientSecret, String scope, String confirmationKey) {
+        ServiceAccountAggregate account = authenticateClient(clientId, clientSecret);
+
+        SortedSet<String> scopes = grantedScopes(account, scope);
+        String key = clientId + " " + (confirmationKey != null ? confirmationKey : "-") + " " + String.join(" ", scopes);
+        UUID accountId = account.getId().getValue();
+        Instant now = clock.instant();
+
+        CachedClientToken cached = tokens.get(key);
+        if (cached == null || !isFresh(cached, accountId, now)) {
+            // compute() holds the key's stripe, so concurrent misses wait for one mint
+            cached = tokens.compute(key, (k, existing) -> existing != null && isFresh(existing, accountId, now)
+                ? existing
+                : mint(accountId, clientId, scopes, confirmationKey, now));
+        }
+        return ClientTokenResponse.builder()
+            .accessToken(cached.accessToken())
+            .tokenType(confirmationKey != null ? DPOP_TOKEN_TYPE : TOKEN_TYPE)
+            .expiresIn(Math.max(0, Duration.between(now, cached.expiresAt()).toSeconds()))
+            .scope(String.join(" ", scopes))
+            .build();
+    }
+
+    /**
+     * Authenticate a client by its credentials, for this grant and for any other grant that
+     * requires client authentication. A secret verified before is accepted without the slow check.
+     * @param clientId The client ID
+     * @param clientSecret The client secret
+     * @return The enabled service account
+     * @throws InvalidClientException if the client is unknown, disabled or the secret is wrong
+     * @throws ServiceOverloadedException if secret verification is saturated
+     */
+    public ServiceAccountAggregate authenticateClient(String clientId, String clientSecret) {
+        if (clientId == null || clientSecret == null) {
+            throw new InvalidClientException();
+        }
+        ServiceAccountAggregate account = serviceAccountRepository.findByClientId(clientId)
+            .filter(ServiceAccountAggregate::isEnabled)
+            .orElseThrow(InvalidClientException::new);
+        authenticate(account, clientSecret);
+        return account;
+    }
+
+    /**
+     * Forget the cached tokens and verified secret of a client.
+     * @param clientId The client ID
+     */
+    public void evict(String clientId) {
+        verifiedSecrets.remove(clientId);
+        String prefix = clientId + " ";
+        tokens.removeIf((key, token) -> key.startsWith(prefix));
+    }
+
+    @Override
+    public void destroy() {
+        verifier.shutdownNow();
+    }
+
+    private void authenticate(ServiceAccountAggregate account, String clientSecret) {
+        String storedHash = account.getClientSecretHash();
+        byte[] fingerprint = ClientSecrets.fingerprint(clientSecret);
+        VerifiedSecret verified = verifiedSecrets.get(account.getClientId());
+        if (verified != null && verified.secretHash().equals(storedHash)
+                && MessageDigest.isEqual(verified.fingerprint(), fingerprint)) {
+            return;
+        }
+
+        if (!verifySlowly(clientSecret, storedHash)) {
+            log.debug("Rejected client secret for {}", account.getClientId());
+            throw new InvalidClientException();
+        }
+        verifiedSecrets.put(account.getClientId(), new VerifiedSecret(storedHash, fingerprint));
+    }
+
+    private boolean verifySlowly(String clientSecret, String storedHash) {
+        Future<Boolean> result;
+        try {
+            result = verifier.submit(() -> ClientSecrets.verify(clientSecret, storedHash));
+        } catch (RejectedExecutionException ex) {
+            throw new ServiceOverloadedException("client authentication");
+        }
+        try {
+            return result.get(verificationTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException ex) {
+            result.cancel(true);
+            throw new ServiceOverloadedException("client authentication");
+        } catch (InterruptedException ex) {
+            result.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new ServiceOverloadedException("client authentication");
+        } catch (ExecutionException ex) {
+            throw new IllegalStateException("Client secret verification failed", ex.getCause());
+        }
+    }
+
+    private SortedSet<String> grantedScopes(ServiceAccountAggregate account, String scope) {
+        if (scope == null || scope.isBlank()) {
+            return new TreeSet<>(account.getScopes());
+        }
+        SortedSet<String> requested = new TreeSet<>(Arrays.asList(scope.trim().split("\\s+")));
+        if (!account.allowsScopes(requested)) {
+            throw new DomainException("INVALID_SCOPE", "Requested scope is not granted to this client");
+        }
+        return requested;
+    }
+
+    /**
+     * A cached token is handed out until it enters the refresh-ahead window, unless it was revoked.
+     */
+    private boolean isFresh(CachedClientToken cached, UUID accountId, Instant now) {
+        return now.isBefore(cached.expiresAt().minus(refreshAhead))
+            && !revocationPort.isRevokedForUser(accountId, cached.issuedAt());
+    }
+
+    private CachedClientToken mint(UUID accountId, String clientId, SortedSet<String> scopes,
+                                   String confirmationKey, Instant now) {
+        String accessToken = accessTokenIssuer.issueClientToken(accountId, clientId, scopes, tokenTtl, confirmationKey);
+        // The token's own iat/exp are taken a moment later, so these bounds are conservative
+        return new CachedClientToken(accessToken, now, now.plus(tokenTtl));
+    }
+
+    private static ExecutorService boundedExecutor(int threads, int queueCapacity) {
+        AtomicInteger sequence = new AtomicInteger();
+        return new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                Thread thread = new Thread(runnable, "client-secret-verifier-" + sequence.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    private record VerifiedSecret(String secretHash, byte[] fingerprint) {
+    }
+
+    private record CachedClientToken(String accessToken, Instant issuedAt, Instant expiresAt) {
+    }
+}
@@ -0,0 +1,120 @@
+package me.namila.service.auth.domain.application.auth.service;
+
+import me.namila.service.auth.domain.application.common.LruCache;
+import me.namila.service.auth.domain.application.port.auth.EntitlementEpochPort;
+import me.namila.service.auth.domain.application.port.authorization.RoleRepositoryPort;
+import me.namila.service.auth.domain.application.port.authorization.UserRoleAssignmentRepositoryPort;
+import me.namila.service.auth.domain.core.authorization.model.RoleAggregate;
+import me.namila.service.auth.domain.core.authorization.model.UserRoleAssignmentAggregate;
+import me.namila.service.auth.domain.core.identity.model.id.UserId;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Resolves a user's active role names and tells whether the entitlements stamped into a
+ * token are still current. Tokens carry the entitlement epoch they were minted at; as long
+ * as the user's epoch has not moved the token's roles are used as-is, and only tokens
+ * older than the latest change fall back to a fresh resolution, cached per epoch for the
+ * most recently seen users. Tokens are stamped no lower than the wall clock at minting,
+ * since epochs are wall-clock millis that only a later change can pass; a token minted once
+ * every node has been up for longer than the tolerated clock skew is current on every node.
+ */
+@Service
+public class EntitlementService {
+
+    private final UserRoleAssignmentRepositoryPort assignmentRepository;
+    private final RoleRepositoryPort roleRepository;
+    private final EntitlementEpochPort epochPort;
+    private final Clock clock;
+    private final LruCache<UUID, ResolvedRoles> resolved;
+
+    @Autowired
+    public EntitlementService(
+            UserRoleAssignmentRepositoryPort assignmentRepository,
+            RoleRepositoryPort roleRepository,
+            EntitlementEpochPort epochPort,
+            @Value("${auth.tokens.entitlement-epoch.cache-size:10000}") int maxCachedUsers) {
+        this(assignmentRepository, roleRepository, epochPort, maxCachedUsers, Clock.systemUTC());
+    }
+
+    EntitlementService(
+            UserRoleAssignmentRepositoryPort assignmentRepository,
+            RoleRepositoryPort roleRepository,
+            EntitlementEpochPort epochPort,
+            int maxCachedUsers,
+            Clock clock) {
+        this.assignmentRepository = assignmentRepository;
+        this.roleRepository = roleRepository;
+        this.epochPort = epochPort;
+        this.clock = clock;
+        this.resolved = new LruCache<>(maxCachedUsers);
+    }
+
+    /**
+     * Get the entitlement epoch to stamp into a token: the user's current epoch, raised to the wall clock.
+     * Read it before resolving roles, so a change racing the resolution moves the epoch past the stamp.
+     * @param userId The user ID
+     * @return The epoch to stamp
+     */
+    public long currentEpoch(UUID userId) {
+        return Math.max(epochPort.currentEpoch(userId), clock.millis());
+    }
+
+    /**
+     * Check whether entitlements stamped with an epoch are still current.
+     * @param userId The user ID
+     * @param tokenEpoch The epoch stamped into the token
+     * @return true if nothing feeding the user's entitlements changed since the stamp
+     */
+    public boolean isCurrent(UUID userId, long tokenEpoch) {
+        return epochPort.currentEpoch(userId) <= tokenEpoch;
+    }
+
+    /**
+     * Resolve the user's active role names, reusing the last resolution while the epoch has not moved.
+     * Read-write on purpose: the repositories' read-only lookups would otherwise be routed to a
+     * replica, and a resolution triggered by a fresh change must not be served by a lagging one.
+     * @param userId The user ID
+     * @return The role names, sorted
+     */
+    @Transactional
+    public List<String> resolveRoleNames(UUID userId) {
+        long epoch = epochPort.currentEpoch(userId);
+        ResolvedRoles cached = resolved.get(userId);
+        if (cached != null && cached.epoch() >= epoch) {
+            return cached.roleNames();
+        }
+        List<String> roleNames = activeRoleNames(UserId.of(userId));
+        ResolvedRoles fresh = new ResolvedRoles(epoch, roleNames);
+        resolved.compute(userId, (id, existing) -> existing != null && existing.epoch() >= epoch ? existing : fresh);
+        return roleNames;
+    }
+
+    /**
+     * Load the user's active role names from the assignment and role repositories.
+     * @param userId The user ID
+     * @return The role names, sorted
+     */
+    public List<String> activeRoleNames(UserId userId) {
+        return assignmentRepository.findActiveByUserId(userId).stream()
+            .map(UserRoleAssignmentAggregate::getRoleId)
+            .distinct()
+            .map(roleRepository::findById)
+            .flatMap(Optional::stream)
+            .map(RoleAggregate::getRoleName)
+            .filter(Objects::nonNull)
+            .sorted()
+            .toList();
+    }
+
+    private record ResolvedRoles(long epoch, List<String> roleNames) {
+    }
+}
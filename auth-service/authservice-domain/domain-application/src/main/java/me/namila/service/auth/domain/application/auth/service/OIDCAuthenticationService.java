@@ -9,6 +9,7 @@ import lombok.RequiredArgsConstructor;
 import me.namila.service.auth.domain.application.auth.dto.request.OIDCCallbackRequest;
 import me.namila.service.auth.domain.application.auth.dto.request.OIDCInitiateRequest;
 import me.namila.service.auth.domain.application.auth.dto.response.AuthenticationResponse;
+import me.namila.service.auth.domain.application.auth.dto.response.TokenResponse;
 import me.namila.service.auth.domain.application.configuration.service.OIDCProviderConfigApplicationService;
 import me.namila.service.auth.domain.application.identity.mapper.UserDtoMapper;
 import me.namila.service.auth.domain.application.port.auth.OIDCIdentityProviderPort;
@@ -24,6 +25,7 @@ public class OIDCAuthenticationService {
     private final OIDCIdentityProviderPort identityProviderPort;
     private final JITProvisioningService jitProvisioningService;
     private final UserDtoMapper userDtoMapper;
+    private final TokenService tokenService;
 
     public String initiateAuthentication(OIDCInitiateRequest request) {
         OIDCProviderConfigAggregate provider = providerConfigService.getProviderAggregate(request.providerId());
@@ -36,6 +38,16 @@ public class OIDCAuthenticationService {
     }
 
     public AuthenticationResponse handleCallback(OIDCCallbackRequest request) {
+        return handleCallback(request, null);
+    }
+
+    /**
+     * Complete an OIDC login and issue tokens.
+     * @param request The callback request
+     * @param confirmationKey The thumbprint of the caller's DPoP key to bind the tokens to, or null for bearer tokens
+     * @return The tokens and the authenticated user
+     */
+    public AuthenticationResponse handleCallback(OIDCCallbackRequest request, String confirmationKey) {
         OIDCProviderConfigAggregate provider = providerConfigService.getProviderAggregate(request.providerId());
 
         // 1. Exchange code for tokens
@@ -52,15 +64,14 @@ public class OIDCAuthenticationService {
         // 3. JIT Provisioning
         UserAggregate user = jitProvisioningService.provisionUser(provider, userInfo);
 
-        // 4. Generate Internal Tokens (TODO: Implement JWT generation)
-        String internalAccessToken = "mock-access-token";
-        String internalRefreshToken = "mock-refresh-token";
+        // 4. Generate Internal Tokens
+        TokenResponse tokens = tokenService.issueTokens(user, confirmationKey);
 
         return AuthenticationResponse.builder()
-                .accessToken(internalAccessToken)
-                .refreshToken(internalRefreshToken)
-                .tokenType("Bearer")
-                .expiresIn(3600)
+                .accessToken(tokens.accessToken())
+                .refreshToken(tokens.refreshToken())
+                .tokenType(tokens.tokenType())
+                .expiresIn(tokens.expiresIn())
                 .user(userDtoMapper.toResponse(user))
                 .build();
     }
@@ -0,0 +1,93 @@
+package me.namila.service.auth.domain.application.auth.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import me.namila.service.auth.domain.application.auth.credential.PasswordHasher;
+import me.namila.service.auth.domain.application.auth.dto.request.PasswordLoginRequest;
+import me.namila.service.auth.domain.application.auth.dto.response.AuthenticationResponse;
+import me.namila.service.auth.domain.application.auth.dto.response.TokenResponse;
+import me.namila.service.auth.domain.application.identity.mapper.UserDtoMapper;
+import me.namila.service.auth.domain.application.port.identity.PasswordCredentialRepositoryPort;
+import me.namila.service.auth.domain.application.port.identity.UserRepositoryPort;
+import me.namila.service.auth.domain.core.exception.InvalidCredentialsException;
+import me.namila.service.auth.domain.core.exception.ServiceOverloadedException;
+import me.namila.service.auth.domain.core.identity.model.PasswordCredentialAggregate;
+import me.namila.service.auth.domain.core.identity.model.UserAggregate;
+import me.namila.service.auth.domain.core.identity.valueobject.UsernameValue;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+
+/**
+ * Username and password login for users with a local password credential.
+ * Passwords are checked on the {@link PasswordHasher} pool; an unknown user, a user without
+ * a password and a blocked user are all answered only after a full hash, so a response
+ * neither says which case applied nor arrives faster for it. A hash computed at an older
+ * cost is upgraded while the password is at hand. Not transactional: a login must not
+ * hold a database connection while it waits for the hashing pool.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PasswordAuthenticationService {
+
+    private final UserRepositoryPort userRepository;
+    private final PasswordCredentialRepositoryPort credentialRepository;
+    private final PasswordHasher passwordHasher;
+    private final UserDtoMapper userDtoMapper;
+    private final TokenService tokenService;
+
+    /**
+     * Authenticate a user by username and password and issue tokens.
+     * @param request The login request
+     * @param confirmationKey The thumbprint of the caller's DPoP key to bind the tokens to, or null for bearer tokens
+     * @return The tokens and the authenticated user
+     * @throws InvalidCredentialsException if the user is unknown, blocked, has no password or the password is wrong
+     * @throws ServiceOverloadedException if password hashing is saturated
+     */
+    public AuthenticationResponse login(PasswordLoginRequest request, String confirmationKey) {
+        Optional<UserAggregate> user = findUser(request.username());
+        Optional<PasswordCredentialAggregate> credential = user
+            .flatMap(found -> credentialRepository.findByUserId(found.getId()));
+        String storedHash = credential.map(PasswordCredentialAggregate::getPasswordHash).orElse(null);
+
+        if (!passwordHasher.verify(request.password(), storedHash)
+                || !user.get().getStatus().canAuthenticate()) {
+            log.debug("Rejected password login for {}", request.username());
+            throw new InvalidCredentialsException();
+        }
+        if (passwordHasher.needsRehash(storedHash)) {
+            upgradeHash(credential.get(), request.password());
+        }
+
+        TokenResponse tokens = tokenService.issueTokens(user.get(), confirmationKey);
+        return AuthenticationResponse.builder()
+            .accessToken(tokens.accessToken())
+            .refreshToken(tokens.refreshToken())
+            .tokenType(tokens.tokenType())
+            .expiresIn(tokens.expiresIn())
+            .user(userDtoMapper.toResponse(user.get()))
+            .build();
+    }
+
+    private Optional<UserAggregate> findUser(String username) {
+        try {
+            return userRepository.findByUsername(UsernameValue.of(username));
+        } catch (IllegalArgumentException ex) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Rehash at the current cost; skipped under load, since the next login tries again.
+     */
+    private void upgradeHash(PasswordCredentialAggregate credential, String password) {
+        try {
+            credential.upgradeHash(passwordHasher.hash(password));
+            credentialRepository.save(credential);
+            log.info("Upgraded password hash of user {}", credential.getUserId());
+        } catch (ServiceOverloadedException ex) {
+            log.debug("Deferred password hash upgrade of user {}", credential.getUserId());
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package me.namila.service.auth.domain.application.auth.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import me.namila.service.auth.domain.application.port.auth.TokenRevocationPort;
+import me.namila.service.auth.domain.application.port.governance.AuditLogRepositoryPort;
+import me.namila.service.auth.domain.core.governance.model.AuditLogEntity;
+import me.namila.service.auth.domain.core.governance.valueobject.ActorType;
+import me.namila.service.auth.domain.core.governance.valueobject.AuditEventType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Revokes access tokens and records each revocation in the audit log.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TokenRevocationService {
+    
+    private final TokenRevocationPort revocationPort;
+    private final AuditLogRepositoryPort auditLogRepository;
+    
+    /**
+     * Revoke a single access token.
+     * @param jti The token ID
+     * @param userId The token's user
+     * @param expiresAt When the token expires
+     * @param actorId Who revoked it, or null for the token holder itself
+     */
+    @Transactional
+    public void revokeToken(UUID jti, UUID userId, Instant expiresAt, UUID actorId) {
+        if (expiresAt.isAfter(Instant.now())) {
+            revocationPort.revokeToken(jti, expiresAt);
+        }
+        audit(userId, actorId, "revoke", Map.of("jti", jti.toString()));
+    }
+    
+    /**
+     * Revoke every access token and refresh token family a user holds now.
+     * @param userId The user ID
+     * @param actorId Who revoked them
+     * @return The cut-off; tokens issued before it are rejected
+     */
+    @Transactional
+    public Instant revokeAllForUser(UUID userId, UUID actorId) {
+        // Token iat claims are whole seconds, so is the cut-off
+        Instant before = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+        revocationPort.revokeAllForUser(userId, before);
+        audit(userId, actorId, "revoke-all", Map.of("before", before.toString()));
+        log.info("Revoked all tokens of user {} issued before {}", userId, before);
+        return before;
+    }
+    
+    private void audit(UUID userId, UUID actorId, String action, Map<String, Object> context) {
+        auditLogRepository.save(AuditLogEntity.builder()
+            .eventType(AuditEventType.TOKEN_REVOKED)
+            .actorId(actorId != null ? actorId : userId)
+            .actorType(ActorType.USER)
+            .subjectId(userId)
+            .resource("token")
+            .action(action)
+            .context(context)
+            .build());
+    }
+}
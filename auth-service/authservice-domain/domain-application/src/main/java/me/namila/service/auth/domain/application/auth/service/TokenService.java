@@ -0,0 +1,183 @@
+package me.namila.service.auth.domain.application.auth.service;
+
+import lombok.extern.slf4j.Slf4j;
+import me.namila.service.auth.domain.application.auth.dto.response.TokenResponse;
+import me.namila.service.auth.domain.application.auth.token.RefreshTokenRotation;
+import me.namila.service.auth.domain.application.auth.token.RefreshTokens;
+import me.namila.service.auth.domain.application.auth.token.TokenSubject;
+import me.namila.service.auth.domain.application.port.auth.AccessTokenIssuerPort;
+import me.namila.service.auth.domain.application.port.auth.RefreshTokenStorePort;
+import me.namila.service.auth.domain.application.port.auth.TokenRevocationPort;
+import me.namila.service.auth.domain.application.port.identity.UserStatusGatePort;
+import me.namila.service.auth.domain.core.exception.InvalidTokenException;
+import me.namila.service.auth.domain.core.identity.model.UserAggregate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Issues access and refresh tokens, and rotates and revokes refresh tokens.
+ * Refresh and logout only talk to the refresh token store: the claims for the
+ * new access token come from the snapshot stored with the token family, the user's
+ * account status is checked against the in-memory status gate, and the roles are
+ * only reloaded when the user's entitlement epoch has moved past the snapshot.
+ */
+@Service
+@Slf4j
+public class TokenService {
+    
+    private static final String TOKEN_TYPE = "Bearer";
+    private static final String DPOP_TOKEN_TYPE = "DPoP";
+    private static final String REFRESH_TOKEN = "refresh token";
+    
+    private final AccessTokenIssuerPort accessTokenIssuer;
+    private final RefreshTokenStorePort refreshTokenStore;
+    private final TokenRevocationPort revocationPort;
+    private final EntitlementService entitlementService;
+    private final UserStatusGatePort userStatusGate;
+    private final Duration refreshTokenTtl;
+    
+    public TokenService(
+            AccessTokenIssuerPort accessTokenIssuer,
+            RefreshTokenStorePort refreshTokenStore,
+            TokenRevocationPort revocationPort,
+            EntitlementService entitlementService,
+            UserStatusGatePort userStatusGate,
+            @Value("${auth.tokens.refresh.ttl:30d}") Duration refreshTokenTtl) {
+        this.accessTokenIssuer = accessTokenIssuer;
+        this.refreshTokenStore = refreshTokenStore;
+        this.revocationPort = revocationPort;
+        this.entitlementService = entitlementService;
+        this.userStatusGate = userStatusGate;
+        this.refreshTokenTtl = refreshTokenTtl;
+    }
+    
+    /**
+     * Issue a token pair for a freshly authenticated user, starting a new refresh token family.
+     * @param user The authenticated user
+     * @return The access and refresh tokens
+     */
+    public TokenResponse issueTokens(UserAggregate user) {
+        return issueTokens(user, null);
+    }
+    
+    /**
+     * Issue a token pair for a freshly authenticated user, optionally bound to a DPoP key.
+     * The binding is kept with the refresh token family, so every refreshed token is bound too.
+     * @param user The authenticated user
+     * @param confirmationKey The JWK thumbprint of the client's DPoP key, or null for bearer tokens
+     * @return The access and refresh tokens
+     */
+    public TokenResponse issueTokens(UserAggregate user, String confirmationKey) {
+        long entitlementEpoch = entitlementService.currentEpoch(user.getId().getValue());
+        TokenSubject subject = new TokenSubject(
+            user.getId().getValue(),
+            user.getUsername() != null ? user.getUsername().getValue() : null,
+            user.getEmail() != null ? user.getEmail().getValue() : null,
+            entitlementService.activeRoleNames(user.getId()),
+            Instant.now(),
+            entitlementEpoch,
+            confirmationKey);
+        
+        UUID familyId = UUID.randomUUID();
+        String refreshToken = RefreshTokens.generate(familyId);
+        refreshTokenStore.createFamily(familyId, subject, RefreshTokens.hash(refreshToken), refreshTokenTtl);
+        return toResponse(accessTokenIssuer.issueAccessToken(subject, familyId), refreshToken, confirmationKey);
+    }
+    
+    /**
+     * Exchange a refresh token for a new token pair; the presented token is spent.
+     * @param refreshToken The presented refresh token
+     * @return The new access and refresh tokens
+     * @throws InvalidTokenException if the token is unknown, expired, revoked or already spent,
+     * or all of the user's sessions were revoked after this one started
+     */
+    public TokenResponse refresh(String refreshToken) {
+        return refresh(refreshToken, null);
+    }
+    
+    /**
+     * Exchange a refresh token for a new token pair; the presented token is spent.
+     * A family bound to a DPoP key can only be refreshed with a proof for that key; a
+     * refresh without it means the token leaked, so the whole family is revoked.
+     * @param refreshToken The presented refresh token
+     * @param confirmationKey The JWK thumbprint of the DPoP proof sent with the request, or null
+     * @return The new access and refresh tokens
+     * @throws InvalidTokenException if the token is unknown, expired, revoked or already spent,
+     * the user's account is blocked, all of the user's sessions were revoked after this one
+     * started, or the DPoP key does not match
+     */
+    public TokenResponse refresh(String refreshToken, String confirmationKey) {
+        UUID familyId = RefreshTokens.familyIdOf(refreshToken)
+            .orElseThrow(() -> new InvalidTokenException(REFRESH_TOKEN));
+        
+        String nextToken = RefreshTokens.generate(familyId);
+        RefreshTokenRotation rotation = refreshTokenStore.rotate(
+            familyId, RefreshTokens.hash(refreshToken), RefreshTokens.hash(nextToken), refreshTokenTtl);
+        
+        return switch (rotation.outcome()) {
+            case ROTATED -> {
+                // The family's user is only known once the store has spent the token; a refused
+                // refresh revokes the family, since its next token is never handed out anyway
+                TokenSubject stored = rotation.subject();
+                if (stored.confirmationKey() != null && !stored.confirmationKey().equals(confirmationKey)) {
+                    log.warn("Refresh without the bound DPoP key; revoked token family {}", familyId);
+                    refreshTokenStore.revokeFamily(familyId, RefreshTokens.hash(nextToken));
+                    throw new InvalidTokenException(REFRESH_TOKEN);
+                }
+                if (userStatusGate.isBlocked(stored.userId())
+                        || revocationPort.isRevokedForUser(stored.userId(), stored.authenticatedAt())) {
+                    refreshTokenStore.revokeFamily(familyId, RefreshTokens.hash(nextToken));
+                    throw new InvalidTokenException(REFRESH_TOKEN);
+                }
+                TokenSubject subject = withCurrentEntitlements(stored);
+                yield toResponse(accessTokenIssuer.issueAccessToken(subject, familyId), nextToken,
+                    subject.confirmationKey());
+            }
+            case REUSE_DETECTED -> {
+                log.warn("Refresh token reuse detected; revoked token family {}", familyId);
+                throw new InvalidTokenException(REFRESH_TOKEN);
+            }
+            case INVALID -> throw new InvalidTokenException(REFRESH_TOKEN);
+        };
+    }
+    
+    /**
+     * Revoke the refresh token family the token belongs to. Unknown tokens are ignored,
+     * so logging out twice is harmless.
+     * @param refreshToken The presented refresh token
+     */
+    public void logout(String refreshToken) {
+        Optional<UUID> familyId = RefreshTokens.familyIdOf(refreshToken);
+        if (familyId.isPresent() && refreshTokenStore.revokeFamily(familyId.get(), RefreshTokens.hash(refreshToken))) {
+            log.debug("Revoked token family {} on logout", familyId.get());
+        }
+    }
+    
+    /**
+     * Re-resolve the snapshot's roles if the user's entitlements changed since it was taken.
+     * The stored snapshot is left as-is; the next refresh repeats the cheap epoch check.
+     */
+    private TokenSubject withCurrentEntitlements(TokenSubject subject) {
+        if (entitlementService.isCurrent(subject.userId(), subject.entitlementEpoch())) {
+            return subject;
+        }
+        long entitlementEpoch = entitlementService.currentEpoch(subject.userId());
+        return new TokenSubject(subject.userId(), subject.username(), subject.email(),
+            entitlementService.resolveRoleNames(subject.userId()), subject.authenticatedAt(), entitlementEpoch,
+            subject.confirmationKey());
+    }
+    
+    private TokenResponse toResponse(String accessToken, String refreshToken, String confirmationKey) {
+        return TokenResponse.builder()
+            .accessToken(accessToken)
+            .refreshToken(refreshToken)
+            .tokenType(confirmationKey != null ? DPOP_TOKEN_TYPE : TOKEN_TYPE)
+            .expiresIn((int) accessTokenIssuer.getAccessTokenTtl().toSeconds())
+            .build();
+    }
+}
@@ -0,0 +1,142 @@
+package me.namila.service.auth.domain.application.auth.token;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Versioned dictionary that maps role and permission names to bit ordinals for compact
+ * entitlement claims. Roles take bits {@code [0, roles.size())} and permissions follow
+ * at {@code roles.size() + ordinal}; both lists are sorted by name. The version is a hash
+ * of the two lists, so every node loading the same catalogue arrives at the same version.
+ */
+public final class ClaimDictionary {
+
+    private static final int VERSION_BYTES = 8;
+
+    private final String version;
+    private final List<String> roles;
+    private final List<String> permissions;
+    private final Map<String, Integer> roleOrdinals;
+    private final Map<String, Integer> permissionOrdinals;
+    private final Map<String, BitSet> rolePermissionBits;
+
+    private ClaimDictionary(List<String> roles, List<String> permissions, Map<String, Set<String>> rolePermissions) {
+        this.roles = List.copyOf(roles);
+        this.permissions = List.copyOf(permissions);
+        this.roleOrdinals = ordinals(this.roles);
+        this.permissionOrdinals = ordinals(this.permissions);
+        this.rolePermissionBits = new HashMap<>();
+        rolePermissions.forEach((role, granted) -> {
+            BitSet bits = new BitSet();
+            for (String permission : granted) {
+                Integer ordinal = permissionOrdinals.get(permission);
+                if (ordinal != null) {
+                    bits.set(this.roles.size() + ordinal);
+                }
+            }
+            rolePermissionBits.put(role, bits);
+        });
+        this.version = computeVersion(this.roles, this.permissions);
+    }
+
+    /**
+     * Build a dictionary from the role catalogue.
+     * @param rolePermissions Effective permission names of every role, keyed by role name
+     * @param permissions All permission names
+     * @return The dictionary
+     */
+    public static ClaimDictionary of(Map<String, Set<String>> rolePermissions, Collection<String> permissions) {
+        TreeSet<String> allPermissions = new TreeSet<>(permissions);
+        rolePermissions.values().forEach(allPermissions::addAll);
+        return new ClaimDictionary(new ArrayList<>(new TreeSet<>(rolePermissions.keySet())),
+            new ArrayList<>(allPermissions), rolePermissions);
+    }
+
+    public String getVersion() {
+        return version;
+    }
+
+    public List<String> getRoles() {
+        return roles;
+    }
+
+    public List<String> getPermissions() {
+        return permissions;
+    }
+
+    /**
+     * Encode a set of role names together with the permissions those roles grant.
+     * @param roleNames The role names
+     * @return The entitlement bitmap, or empty if a role is not in this dictionary
+     */
+    public Optional<BitSet> encode(Collection<String> roleNames) {
+        BitSet bits = new BitSet();
+        for (String roleName : roleNames) {
+            Integer ordinal = roleOrdinals.get(roleName);
+            if (ordinal == null) {
+                return Optional.empty();
+            }
+            bits.set(ordinal);
+            bits.or(rolePermissionBits.getOrDefault(roleName, new BitSet()));
+        }
+        return Optional.of(bits);
+    }
+
+    /**
+     * Decode the role names in an entitlement bitmap.
+     * @param bits The entitlement bitmap
+     * @return The role names, in dictionary order
+     */
+    public List<String> roleNames(BitSet bits) {
+        List<String> names = new ArrayList<>();
+        for (int bit = bits.nextSetBit(0); bit >= 0 && bit < roles.size(); bit = bits.nextSetBit(bit + 1)) {
+            names.add(roles.get(bit));
+        }
+        return names;
+    }
+
+    /**
+     * Decode the permission names in an entitlement bitmap.
+     * @param bits The entitlement bitmap
+     * @return The permission names, in dictionary order
+     */
+    public List<String> permissionNames(BitSet bits) {
+        List<String> names = new ArrayList<>();
+        int limit = roles.size() + permissions.size();
+        for (int bit = bits.nextSetBit(roles.size()); bit >= 0 && bit < limit; bit = bits.nextSetBit(bit + 1)) {
+            names.add(permissions.get(bit - roles.size()));
+        }
+        return names;
+    }
+
+    private static Map<String, Integer> ordinals(List<String> names) {
+        Map<String, Integer> ordinals = new HashMap<>();
+        for (int i = 0; i < names.size(); i++) {
+            ordinals.put(names.get(i), i);
+        }
+        return ordinals;
+    }
+
+    private static String computeVersion(List<String> roles, List<String> permissions) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            roles.forEach(role -> digest.update(("r:" + role + "\n").getBytes(StandardCharsets.UTF_8)));
+            permissions.forEach(permission -> digest.update(("p:" + permission + "\n").getBytes(StandardCharsets.UTF_8)));
+            byte[] hash = digest.digest();
+            return HexFormat.of().formatHex(hash, 0, VERSION_BYTES);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 not available", ex);
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package me.namila.service.auth.domain.application.auth.token;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.BitSet;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Wire format of the compact entitlement claim.
+ * The value is base64url (no padding) of a one-byte format marker followed by the
+ * little-endian bytes of the bitmap ({@link BitSet#toByteArray()}). Bitmaps above a
+ * small threshold are deflated when that makes them shorter, which pays off for large,
+ * sparse dictionaries.
+ */
+public final class CompactClaims {
+
+    /** Claim holding the encoded entitlement bitmap. */
+    public static final String ENTITLEMENTS_CLAIM = "ent";
+    /** Claim holding the dictionary version the bitmap was encoded with. */
+    public static final String DICTIONARY_VERSION_CLAIM = "ent_ver";
+
+    private static final byte RAW = 0;
+    private static final byte DEFLATED = 1;
+    private static final int DEFLATE_THRESHOLD = 32;
+    private static final int MAX_INFLATED_BYTES = 64 * 1024;
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private CompactClaims() {
+        // Utility class, prevent instantiation
+    }
+
+    /**
+     * Encode an entitlement bitmap.
+     * @param bits The bitmap
+     * @return The claim value
+     */
+    public static String encode(BitSet bits) {
+        byte[] raw = bits.toByteArray();
+        if (raw.length > DEFLATE_THRESHOLD) {
+            byte[] deflated = deflate(raw);
+            if (deflated.length < raw.length) {
+                return ENCODER.encodeToString(withMarker(DEFLATED, deflated));
+            }
+        }
+        return ENCODER.encodeToString(withMarker(RAW, raw));
+    }
+
+    /**
+     * Decode a claim value.
+     * @param value The claim value
+     * @return The bitmap
+     * @throws IllegalArgumentException if the value is malformed
+     */
+    public static BitSet decode(String value) {
+        byte[] bytes = DECODER.decode(value);
+        if (bytes.length == 0) {
+            throw new IllegalArgumentException("Empty entitlement claim");
+        }
+        byte[] payload = Arrays.copyOfRange(bytes, 1, bytes.length);
+        return switch (bytes[0]) {
+            case RAW -> BitSet.valueOf(payload);
+            case DEFLATED -> BitSet.valueOf(inflate(payload));
+            default -> throw new IllegalArgumentException("Unknown entitlement claim format " + bytes[0]);
+        };
+    }
+
+    private static byte[] withMarker(byte marker, byte[] payload) {
+        byte[] bytes = new byte[payload.length + 1];
+        bytes[0] = marker;
+        System.arraycopy(payload, 0, bytes, 1, payload.length);
+        return bytes;
+    }
+
+    private static byte[] deflate(byte[] raw) {
+        Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION, true);
+        try {
+            deflater.setInput(raw);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(raw.length);
+            byte[] buffer = new byte[256];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] inflate(byte[] deflated) {
+        Inflater inflater = new Inflater(true);
+        try {
+            inflater.setInput(deflated);
+            ByteArrayOutputStream out = new ByteArrayOutputStream(deflated.length * 4);
+            byte[] buffer = new byte[256];
+            while (!inflater.finished()) {
+                int count = inflater.inflate(buffer);
+                if (count == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new IllegalArgumentException("Truncated entitlement claim");
+                }
+                out.write(buffer, 0, count);
+                if (out.size() > MAX_INFLATED_BYTES) {
+                    throw new IllegalArgumentException("Entitlement claim too large");
+                }
+            }
+            return out.toByteArray();
+        } catch (DataFormatException ex) {
+            throw new IllegalArgumentException("Malformed entitlement claim", ex);
+        } finally {
+            inflater.end();
+        }
+    }
+}
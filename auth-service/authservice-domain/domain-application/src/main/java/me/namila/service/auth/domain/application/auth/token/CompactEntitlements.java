@@ -0,0 +1,10 @@
+package me.namila.service.auth.domain.application.auth.token;
+
+/**
+ * An entitlement bitmap encoded for an access token.
+ *
+ * @param dictionaryVersion Version of the dictionary the bitmap was encoded with
+ * @param value The encoded bitmap, see {@link CompactClaims}
+ */
+public record CompactEntitlements(String dictionaryVersion, String value) {
+}
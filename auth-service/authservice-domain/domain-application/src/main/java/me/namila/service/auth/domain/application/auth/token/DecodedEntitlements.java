@@ -0,0 +1,17 @@
+package me.namila.service.auth.domain.application.auth.token;
+
+import java.util.List;
+
+/**
+ * Role and permission names decoded from a compact entitlement claim.
+ *
+ * @param roles The role names
+ * @param permissions The permission names granted by those roles
+ */
+public record DecodedEntitlements(List<String> roles, List<String> permissions) {
+    
+    public DecodedEntitlements {
+        roles = roles != null ? List.copyOf(roles) : List.of();
+        permissions = permissions != null ? List.copyOf(permissions) : List.of();
+    }
+}
@@ -0,0 +1,31 @@
+package me.namila.service.auth.domain.application.auth.token;
+
+/**
+ * Result of presenting a refresh token for rotation.
+ *
+ * @param outcome What the store did with the presented token
+ * @param subject The family's subject when rotated, otherwise null
+ */
+public record RefreshTokenRotation(Outcome outcome, TokenSubject subject) {
+    
+    public enum Outcome {
+        /** The presented token was current; it is now spent and the next token is current. */
+        ROTATED,
+        /** The presented token was already spent; the whole family has been revoked. */
+        REUSE_DETECTED,
+        /** The token or its family is unknown, expired or revoked. */
+        INVALID
+    }
+    
+    public static RefreshTokenRotation rotated(TokenSubject subject) {
+        return new RefreshTokenRotation(Outcome.ROTATED, subject);
+    }
+    
+    public static RefreshTokenRotation reuseDetected() {
+        return new RefreshTokenRotation(Outcome.REUSE_DETECTED, null);
+    }
+    
+    public static RefreshTokenRotation invalid() {
+        return new RefreshTokenRotation(Outcome.INVALID, null);
+    }
+}
@@ -0,0 +1,71 @@
+package me.namila.service.auth.domain.application.auth.token;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Format and hashing of opaque refresh tokens.
+ * A token is {@code <familyId>.<256 random bits, base64url>}; the family ID lets the
+ * store go straight to the family without an index, and the random part makes the
+ * token unguessable. Only the SHA-256 of the whole token is ever stored.
+ */
+public final class RefreshTokens {
+    
+    private static final SecureRandom RANDOM = new SecureRandom();
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final int SECRET_BYTES = 32;
+    
+    private RefreshTokens() {
+        // Utility class, prevent instantiation
+    }
+    
+    /**
+     * Generate a new token for a family.
+     * @param familyId The token family
+     * @return The opaque token to hand to the client
+     */
+    public static String generate(UUID familyId) {
+        byte[] secret = new byte[SECRET_BYTES];
+        RANDOM.nextBytes(secret);
+        return familyId + "." + ENCODER.encodeToString(secret);
+    }
+    
+    /**
+     * Extract the family ID from a presented token.
+     * @param token The presented token
+     * @return The family ID, or empty if the token is malformed
+     */
+    public static Optional<UUID> familyIdOf(String token) {
+        if (token == null) {
+            return Optional.empty();
+        }
+        int separator = token.indexOf('.');
+        if (separator <= 0 || separator == token.length() - 1) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(UUID.fromString(token.substring(0, separator)));
+        } catch (IllegalArgumentException ex) {
+            return Optional.empty();
+        }
+    }
+    
+    /**
+     * Hash a token for storage and lookup.
+     * @param token The token
+     * @return The base64url SHA-256 of the token
+     */
+    public static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return ENCODER.encodeToString(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 not available", ex);
+        }
+    }
+}
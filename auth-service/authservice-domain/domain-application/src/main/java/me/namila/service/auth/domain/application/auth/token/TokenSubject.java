@@ -0,0 +1,30 @@
+package me.namila.service.auth.domain.application.auth.token;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * The user claims an access token is minted from.
+ * A snapshot is kept with each refresh token family so refreshing never reloads the user.
+ *
+ * @param authenticatedAt When the user logged in; carried as auth_time and unchanged by refreshes
+ * @param entitlementEpoch The user's entitlement epoch when the roles were resolved
+ * @param confirmationKey The JWK thumbprint of the DPoP key the tokens are bound to, or null for bearer tokens
+ */
+public record TokenSubject(UUID userId, String username, String email, List<String> roles, Instant authenticatedAt,
+                           long entitlementEpoch, String confirmationKey) {
+    
+    public TokenSubject {
+        roles = roles != null ? List.copyOf(roles) : List.of();
+    }
+    
+    public TokenSubject(UUID userId, String username, String email, List<String> roles, Instant authenticatedAt,
+                        long entitlementEpoch) {
+        this(userId, username, email, roles, authenticatedAt, entitlementEpoch, null);
+    }
+    
+    public TokenSubject(UUID userId, String username, String email, List<String> roles, Instant authenticatedAt) {
+        this(userId, username, email, roles, authenticatedAt, 0L);
+    }
+}
@@ -0,0 +1,156 @@
+package me.namila.service.auth.domain.application.common;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiFunction;
+import java.util.function.BiPredicate;
+
+/**
+ * A size-bounded in-memory cache that evicts its least recently used entries.
+ * Entries are held in lock-striped, access-ordered maps that each take an equal share of
+ * the capacity; a key's stripe is picked by its hash, so callers only contend when their
+ * keys share a stripe, and a full stripe drops its least recently used entry to make room.
+ *
+ * @param <K> the key type
+ * @param <V> the value type
+ */
+public final class LruCache<K, V> {
+
+    private static final int MAX_STRIPES = 16;
+    private static final int MIN_ENTRIES_PER_STRIPE = 64;
+
+    private final Stripe<K, V>[] stripes;
+
+    /**
+     * Create a cache holding at most about {@code maxEntries} entries.
+     * @param maxEntries The capacity, shared evenly between the stripes
+     */
+    @SuppressWarnings("unchecked")
+    public LruCache(int maxEntries) {
+        if (maxEntries < 1) {
+            throw new IllegalArgumentException("Cache capacity must be positive");
+        }
+        // Small caches get fewer stripes, so an uneven spread of keys does not evict early
+        int stripeCount = Integer.highestOneBit(
+            Math.min(Math.max(maxEntries / MIN_ENTRIES_PER_STRIPE, 1), MAX_STRIPES));
+        int perStripe = (maxEntries + stripeCount - 1) / stripeCount;
+        this.stripes = new Stripe[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            this.stripes[i] = new Stripe<>(perStripe);
+        }
+    }
+
+    /**
+     * Look up an entry and mark it as recently used.
+     * @param key The key
+     * @return The value, or null if absent
+     */
+    public V get(K key) {
+        Stripe<K, V> stripe = stripeOf(key);
+        stripe.lock.lock();
+        try {
+            return stripe.entries.get(key);
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    /**
+     * Store an entry, evicting the stripe's least recently used entry if it is full.
+     * @param key The key
+     * @param value The value
+     */
+    public void put(K key, V value) {
+        Stripe<K, V> stripe = stripeOf(key);
+        stripe.lock.lock();
+        try {
+            stripe.entries.put(key, value);
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    /**
+     * Compute an entry atomically; concurrent callers for keys in the same stripe wait,
+     * so the function runs at most once at a time per key.
+     * @param key The key
+     * @param remapping Maps the key and current value (null if absent) to the new value, or null to remove it
+     * @return The new value, or null if the entry was removed
+     */
+    public V compute(K key, BiFunction<? super K, ? super V, ? extends V> remapping) {
+        Stripe<K, V> stripe = stripeOf(key);
+        stripe.lock.lock();
+        try {
+            return stripe.entries.compute(key, remapping);
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    /**
+     * Remove an entry.
+     * @param key The key
+     * @return The removed value, or null if absent
+     */
+    public V remove(K key) {
+        Stripe<K, V> stripe = stripeOf(key);
+        stripe.lock.lock();
+        try {
+            return stripe.entries.remove(key);
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    /**
+     * Remove every entry matching a filter, one stripe at a time.
+     * @param filter Tests the key and value of each entry
+     */
+    public void removeIf(BiPredicate<? super K, ? super V> filter) {
+        for (Stripe<K, V> stripe : stripes) {
+            stripe.lock.lock();
+            try {
+                stripe.entries.entrySet().removeIf(entry -> filter.test(entry.getKey(), entry.getValue()));
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * @return The number of entries held across all stripes
+     */
+    public int size() {
+        int size = 0;
+        for (Stripe<K, V> stripe : stripes) {
+            stripe.lock.lock();
+            try {
+                size += stripe.entries.size();
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+        return size;
+    }
+
+    private Stripe<K, V> stripeOf(K key) {
+        int hash = key.hashCode();
+        return stripes[(hash ^ (hash >>> 16)) & (stripes.length - 1)];
+    }
+
+    private static final class Stripe<K, V> {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private final LinkedHashMap<K, V> entries;
+
+        private Stripe(int maxEntries) {
+            this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                    return size() > maxEntries;
+                }
+            };
+        }
+    }
+}
@@ -1,11 +1,21 @@
 package me.namila.service.auth.domain.application.common;
 
+import me.namila.service.auth.common.dto.CountMode;
+import me.namila.service.auth.common.dto.PageMapper;
 import me.namila.service.auth.common.dto.PageRequest;
+import me.namila.service.auth.domain.application.dto.response.PagedResponse;
+import me.namila.service.auth.domain.core.exception.DomainException;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
 /**
- * Mapper for converting PageRequest to Spring Data Pageable.
+ * Mapper for converting PageRequest to Spring Data Pageable, and
+ * Spring Data slices back to PagedResponse according to the requested count mode.
  */
 public final class PageableMapper {
     
@@ -60,6 +70,67 @@ public final class PageableMapper {
         );
     }
     
+    /**
+     * Parse a count mode request parameter.
+     * 
+     * @param value the mode name (exact, estimated or none), case-insensitive; EXACT when blank
+     * @return the count mode
+     * @throws DomainException if the value names no mode
+     */
+    public static CountMode toCountMode(String value) {
+        try {
+            return CountMode.from(value);
+        } catch (IllegalArgumentException ex) {
+            throw new DomainException("INVALID_PAGINATION", ex.getMessage());
+        }
+    }
+    
+    /**
+     * Convert a Spring Data Slice to PagedResponse, reporting the total according to the count mode.
+     * Repositories return a Slice, which fetches one extra row to detect a next page instead of
+     * counting; the total is resolved by {@link PageMapper#resolveTotal}.
+     * 
+     * @param <S> the source type (domain)
+     * @param <T> the target type (DTO)
+     * @param slice the fetched slice
+     * @param mapper the function to map each item
+     * @param countMode how the total is reported
+     * @param exactCount supplies the exact total, used for EXACT
+     * @param estimatedCount supplies the planner's estimate, used for ESTIMATED
+     * @return a PagedResponse with mapped content
+     */
+    public static <S, T> PagedResponse<T> toPagedResponse(
+            Slice<S> slice,
+            Function<S, T> mapper,
+            CountMode countMode,
+            LongSupplier exactCount,
+            LongSupplier estimatedCount) {
+        List<T> content = slice.getContent().stream()
+                .map(mapper)
+                .toList();
+        
+        CountMode mode = countMode != null ? countMode : CountMode.EXACT;
+        long total = PageMapper.resolveTotal(slice.getNumber(), slice.getSize(), content.size(),
+                slice.hasNext(), mode, exactCount, estimatedCount);
+        int totalPages = mode == CountMode.NONE
+                ? PagedResponse.UNKNOWN_TOTAL
+                : slice.getSize() > 0 ? (int) Math.ceil((double) total / slice.getSize()) : 1;
+        
+        PagedResponse<T> response = new PagedResponse<>();
+        response.setContent(content);
+        response.setPage(slice.getNumber());
+        response.setSize(slice.getSize());
+        response.setTotalElements(total);
+        response.setTotalPages(totalPages);
+        response.setFirst(slice.isFirst());
+        response.setLast(!slice.hasNext());
+        response.setHasNext(slice.hasNext());
+        response.setHasPrevious(slice.hasPrevious());
+        response.setEmpty(content.isEmpty());
+        response.setCountMode(mode);
+        return response;
+    }
+    
     /**
      * Parse sort string to Spring Data Sort object.
      * Format: "property,direction" or "property1,direction1;property2,direction2"
@@ -159,6 +159,7 @@ public class OIDCProviderConfigApplicationService {
 
         // Update fields (mapper handles null values)
         mapper.updateDomainFromRequest(request, config);
+        config.markChanged();
 
         // Save
         OIDCProviderConfigAggregate updated = configRepository.save(config);
@@ -3,6 +3,7 @@ package me.namila.service.auth.domain.application.dto.response;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import me.namila.service.auth.common.dto.CountMode;
 import org.springframework.data.domain.Page;
 
 import java.util.List;
@@ -18,6 +19,11 @@ import java.util.List;
 @AllArgsConstructor
 public class PagedResponse<T> {
     
+    /**
+     * Value of totalElements and totalPages when the page was fetched without counting.
+     */
+    public static final int UNKNOWN_TOTAL = -1;
+    
     /**
      * The list of items in the current page.
      */
@@ -34,7 +40,8 @@ public class PagedResponse<T> {
     private int size;
     
     /**
-     * The total number of items across all pages.
+     * The total number of items across all pages; an estimate when countMode is ESTIMATED
+     * and {@link #UNKNOWN_TOTAL} when it is NONE.
      */
     private long totalElements;
     
@@ -68,6 +75,11 @@ public class PagedResponse<T> {
      */
     private boolean empty;
     
+    /**
+     * How totalElements and totalPages were obtained.
+     */
+    private CountMode countMode = CountMode.EXACT;
+    
     /**
      * Constructor that creates a PagedResponse from a Spring Data Page object.
      * 
@@ -84,6 +96,7 @@ public class PagedResponse<T> {
         this.hasNext = page.hasNext();
         this.hasPrevious = page.hasPrevious();
         this.empty = page.isEmpty();
+        this.countMode = CountMode.EXACT;
     }
     
     /**
@@ -0,0 +1,26 @@
+package me.namila.service.auth.domain.application.identity.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Request DTO for resolving many users by ID in one call.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchGetUsersRequest {
+    
+    @NotEmpty(message = "At least one user ID is required")
+    @Size(max = 500, message = "At most 500 user IDs can be requested at once")
+    private List<@NotNull UUID> userIds;
+}
@@ -0,0 +1,38 @@
+package me.namila.service.auth.domain.application.identity.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Set;
+
+/**
+ * Request DTO for registering a new service account.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CreateServiceAccountRequest {
+    
+    @NotBlank(message = "Client ID is required")
+    @Size(min = 3, max = 100, message = "Client ID must be between 3 and 100 characters")
+    @Pattern(regexp = "[A-Za-z0-9._-]+", message = "Client ID may only contain letters, digits, '.', '_' and '-'")
+    private String clientId;
+    
+    @NotBlank(message = "Display name is required")
+    private String displayName;
+    
+    @NotEmpty(message = "At least one scope is required")
+    private Set<@Pattern(regexp = "[\\x21\\x23-\\x5B\\x5D-\\x7E]+", message = "Invalid scope") String> scopes;
+    
+    /**
+     * Audiences the account may exchange tokens for; token exchange is refused when empty.
+     */
+    private Set<@Pattern(regexp = "[\\x21\\x23-\\x5B\\x5D-\\x7E]+", message = "Invalid audience") String> audiences;
+}
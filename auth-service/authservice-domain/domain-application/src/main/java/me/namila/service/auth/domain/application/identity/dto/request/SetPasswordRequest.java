@@ -0,0 +1,29 @@
+package me.namila.service.auth.domain.application.identity.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * Request DTO for setting a user's local password.
+ * Users changing their own password must also present their current one.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SetPasswordRequest {
+    
+    @NotBlank(message = "Password is required")
+    @Size(min = 12, max = 128, message = "Password must be between 12 and 128 characters")
+    @ToString.Exclude
+    private String password;
+    
+    @Size(max = 128, message = "Current password must be at most 128 characters")
+    @ToString.Exclude
+    private String currentPassword;
+}
@@ -0,0 +1,23 @@
+package me.namila.service.auth.domain.application.identity.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Response DTO for a batched user lookup.
+ * Users are returned in request order; IDs that do not exist are listed in notFound.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchGetUsersResponse {
+    
+    private List<UserSummaryResponse> users;
+    private List<UUID> notFound;
+}
@@ -0,0 +1,29 @@
+package me.namila.service.auth.domain.application.identity.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Response DTO for service account information.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ServiceAccountResponse {
+    
+    private UUID accountId;
+    private String clientId;
+    private String displayName;
+    private Set<String> scopes;
+    private Set<String> audiences;
+    private boolean enabled;
+    private Instant createdAt;
+    private Instant lastModifiedAt;
+}
@@ -0,0 +1,19 @@
+package me.namila.service.auth.domain.application.identity.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Response DTO carrying a newly generated client secret. The secret is only ever returned here.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ServiceAccountSecretResponse {
+    
+    private ServiceAccountResponse account;
+    private String clientSecret;
+}
@@ -0,0 +1,31 @@
+package me.namila.service.auth.domain.application.identity.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * Response DTO summarising a bulk user import.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserImportResponse {
+    
+    private UUID importId;
+    private long totalRows;
+    private long imported;
+    private long duplicates;
+    private long invalid;
+    private long durationMillis;
+    private double rowsPerSecond;
+    
+    /**
+     * Path of the per-row error report, null when every row was imported.
+     */
+    private String errorReportUrl;
+}
@@ -0,0 +1,30 @@
+package me.namila.service.auth.domain.application.identity.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * Response DTO with the number of users in each status.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserStatusCountsResponse {
+    
+    /**
+     * Count per UserStatus name; every status is present, zero when unused.
+     */
+    private Map<String, Long> counts;
+    private long total;
+    
+    /**
+     * When the counts were read; responses may be served from a short-lived cache.
+     */
+    private Instant computedAt;
+}
@@ -0,0 +1,72 @@
+package me.namila.service.auth.domain.application.identity.exporter;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Writes RFC 4180 CSV with a header row.
+ * Multi-valued columns are joined with ';'; a federated identity is written
+ * as providerId|subjectId|issuer.
+ */
+class CsvUserExportWriter implements UserExportWriter {
+    
+    private static final String HEADER = "user_id,username,email,status,created_at,last_modified_at,"
+        + "first_name,last_name,display_name,federated_identities,roles";
+    
+    private final BufferedWriter writer;
+    private final StringBuilder joined = new StringBuilder();
+    
+    CsvUserExportWriter(OutputStream output) throws IOException {
+        this.writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+        writer.write(HEADER);
+        writer.write("\r\n");
+    }
+    
+    @Override
+    public void write(UserExportRecord user) throws IOException {
+        writer.write(user.userId().toString());
+        writeField(user.username());
+        writeField(user.email());
+        writeField(user.status());
+        writeField(user.createdAt() != null ? user.createdAt().toString() : null);
+        writeField(user.lastModifiedAt() != null ? user.lastModifiedAt().toString() : null);
+        writeField(user.firstName());
+        writeField(user.lastName());
+        writeField(user.displayName());
+        
+        joined.setLength(0);
+        for (UserExportRecord.FederatedIdentity identity : user.federatedIdentities()) {
+            if (!joined.isEmpty()) {
+                joined.append(';');
+            }
+            joined.append(identity.providerId()).append('|').append(identity.subjectId())
+                .append('|').append(identity.issuer());
+        }
+        writeField(joined.toString());
+        writeField(String.join(";", user.roles()));
+        writer.write("\r\n");
+    }
+    
+    @Override
+    public void close() throws IOException {
+        // Flush only; the caller owns the underlying stream
+        writer.flush();
+    }
+    
+    private void writeField(String value) throws IOException {
+        writer.write(',');
+        if (value == null || value.isEmpty()) {
+            return;
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            writer.write(value);
+        } else {
+            writer.write('"');
+            writer.write(value.replace("\"", "\"\""));
+            writer.write('"');
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package me.namila.service.auth.domain.application.identity.exporter;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Instant;
+
+/**
+ * Writes one JSON object per line with a single streaming generator,
+ * so no per-user object tree or string is built.
+ */
+class NdjsonUserExportWriter implements UserExportWriter {
+    
+    private static final JsonFactory JSON_FACTORY = JsonFactory.builder()
+        .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+        .build();
+    
+    private final JsonGenerator generator;
+    
+    NdjsonUserExportWriter(OutputStream output) throws IOException {
+        this.generator = JSON_FACTORY.createGenerator(output, JsonEncoding.UTF8);
+    }
+    
+    @Override
+    public void write(UserExportRecord user) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("userId", user.userId().toString());
+        generator.writeStringField("username", user.username());
+        generator.writeStringField("email", user.email());
+        generator.writeStringField("status", user.status());
+        writeInstant("createdAt", user.createdAt());
+        writeInstant("lastModifiedAt", user.lastModifiedAt());
+        
+        if (user.firstName() != null || user.lastName() != null || user.displayName() != null) {
+            generator.writeObjectFieldStart("profile");
+            generator.writeStringField("firstName", user.firstName());
+            generator.writeStringField("lastName", user.lastName());
+            generator.writeStringField("displayName", user.displayName());
+            generator.writeEndObject();
+        }
+        
+        generator.writeArrayFieldStart("federatedIdentities");
+        for (UserExportRecord.FederatedIdentity identity : user.federatedIdentities()) {
+            generator.writeStartObject();
+            generator.writeStringField("providerId", identity.providerId().toString());
+            generator.writeStringField("subjectId", identity.subjectId());
+            generator.writeStringField("issuer", identity.issuer());
+            generator.writeEndObject();
+        }
+        generator.writeEndArray();
+        
+        generator.writeArrayFieldStart("roles");
+        for (String role : user.roles()) {
+            generator.writeString(role);
+        }
+        generator.writeEndArray();
+        
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+    }
+    
+    @Override
+    public void close() throws IOException {
+        generator.close();
+    }
+    
+    private void writeInstant(String field, Instant value) throws IOException {
+        if (value != null) {
+            generator.writeStringField(field, value.toString());
+        } else {
+            generator.writeNullField(field);
+        }
+    }
+}
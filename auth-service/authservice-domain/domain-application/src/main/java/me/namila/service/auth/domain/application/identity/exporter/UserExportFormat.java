@@ -0,0 +1,43 @@
+package me.namila.service.auth.domain.application.identity.exporter;
+
+import me.namila.service.auth.domain.core.exception.DomainException;
+
+import java.util.Locale;
+
+/**
+ * Supported user export formats.
+ */
+public enum UserExportFormat {
+    
+    NDJSON("application/x-ndjson", "ndjson"),
+    CSV("text/csv", "csv");
+    
+    private final String contentType;
+    private final String fileExtension;
+    
+    UserExportFormat(String contentType, String fileExtension) {
+        this.contentType = contentType;
+        this.fileExtension = fileExtension;
+    }
+    
+    public String getContentType() {
+        return contentType;
+    }
+    
+    public String getFileExtension() {
+        return fileExtension;
+    }
+    
+    /**
+     * @param name The format name, case-insensitive (ndjson or csv)
+     * @return The matching format
+     * @throws DomainException if the format is not supported
+     */
+    public static UserExportFormat fromName(String name) {
+        try {
+            return valueOf(name.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException | NullPointerException ex) {
+            throw new DomainException("INVALID_EXPORT", "Unsupported export format: " + name);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package me.namila.service.auth.domain.application.identity.exporter;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * One user in a compliance export: the user, its profile, linked federated
+ * identities and the names of its currently active roles.
+ */
+public record UserExportRecord(
+    UUID userId,
+    String username,
+    String email,
+    String status,
+    Instant createdAt,
+    Instant lastModifiedAt,
+    String firstName,
+    String lastName,
+    String displayName,
+    List<FederatedIdentity> federatedIdentities,
+    List<String> roles
+) {
+    
+    public UserExportRecord {
+        federatedIdentities = federatedIdentities != null ? federatedIdentities : List.of();
+        roles = roles != null ? roles : List.of();
+    }
+    
+    /**
+     * A federated identity linked to the exported user.
+     */
+    public record FederatedIdentity(UUID providerId, String subjectId, String issuer) {
+    }
+}
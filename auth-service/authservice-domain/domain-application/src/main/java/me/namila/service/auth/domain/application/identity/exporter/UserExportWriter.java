@@ -0,0 +1,28 @@
+package me.namila.service.auth.domain.application.identity.exporter;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Writes exported users to a stream one record at a time.
+ * Closing the writer flushes it but leaves the underlying stream open.
+ */
+public interface UserExportWriter extends Closeable {
+    
+    void write(UserExportRecord user) throws IOException;
+    
+    /**
+     * Open a writer for the given format.
+     * @param format The export format
+     * @param output The stream to write to
+     * @return A writer that has already written any header
+     * @throws IOException if the header cannot be written
+     */
+    static UserExportWriter open(UserExportFormat format, OutputStream output) throws IOException {
+        return switch (format) {
+            case NDJSON -> new NdjsonUserExportWriter(output);
+            case CSV -> new CsvUserExportWriter(output);
+        };
+    }
+}
@@ -0,0 +1,154 @@
+package me.namila.service.auth.domain.application.identity.importer;
+
+import me.namila.service.auth.domain.application.identity.dto.request.CreateUserRequest;
+import me.namila.service.auth.domain.application.identity.dto.request.UserProfileRequest;
+import me.namila.service.auth.domain.core.exception.DomainException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Reads RFC 4180 CSV with a header row.
+ * Recognised columns (case-insensitive, underscores ignored): username, email,
+ * first_name, last_name and display_name. Other columns are ignored. Quoted
+ * fields may contain commas, doubled quotes and line breaks.
+ */
+class CsvUserImportReader implements UserImportReader {
+    
+    private final BufferedReader input;
+    private final int usernameColumn;
+    private final int emailColumn;
+    private final int firstNameColumn;
+    private final int lastNameColumn;
+    private final int displayNameColumn;
+    private long recordNumber;
+    
+    CsvUserImportReader(Reader input) throws IOException {
+        this.input = input instanceof BufferedReader buffered ? buffered : new BufferedReader(input);
+        
+        List<String> header = readRecord();
+        if (header == null) {
+            throw new DomainException("INVALID_IMPORT", "CSV import is empty; a header row is required");
+        }
+        recordNumber = 1;
+        
+        List<String> columns = header.stream()
+            .map(column -> column.replace("_", "").trim().toLowerCase(Locale.ROOT))
+            .toList();
+        // Strip a UTF-8 byte order mark left on the first column by spreadsheet exports
+        if (!columns.isEmpty() && columns.get(0).startsWith("\uFEFF")) {
+            columns = new ArrayList<>(columns);
+            columns.set(0, columns.get(0).substring(1));
+        }
+        this.usernameColumn = columns.indexOf("username");
+        this.emailColumn = columns.indexOf("email");
+        this.firstNameColumn = columns.indexOf("firstname");
+        this.lastNameColumn = columns.indexOf("lastname");
+        this.displayNameColumn = columns.indexOf("displayname");
+        
+        if (usernameColumn < 0 || emailColumn < 0) {
+            throw new DomainException("INVALID_IMPORT", "CSV header must contain username and email columns");
+        }
+    }
+    
+    @Override
+    public UserImportRow next() throws IOException {
+        List<String> fields;
+        do {
+            fields = readRecord();
+            if (fields == null) {
+                return null;
+            }
+            recordNumber++;
+        } while (fields.size() == 1 && fields.get(0).isEmpty());
+        
+        if (fields.size() <= Math.max(usernameColumn, emailColumn)) {
+            return UserImportRow.malformed(recordNumber,
+                "Expected at least " + (Math.max(usernameColumn, emailColumn) + 1) + " columns, found " + fields.size());
+        }
+        
+        String firstName = field(fields, firstNameColumn);
+        String lastName = field(fields, lastNameColumn);
+        String displayName = field(fields, displayNameColumn);
+        UserProfileRequest profile = firstName == null && lastName == null && displayName == null ? null
+            : UserProfileRequest.builder()
+                .firstName(firstName)
+                .lastName(lastName)
+                .displayName(displayName)
+                .build();
+        
+        return UserImportRow.of(recordNumber, CreateUserRequest.builder()
+            .username(field(fields, usernameColumn))
+            .email(field(fields, emailColumn))
+            .profile(profile)
+            .build());
+    }
+    
+    @Override
+    public void close() throws IOException {
+        input.close();
+    }
+    
+    private static String field(List<String> fields, int column) {
+        if (column < 0 || column >= fields.size()) {
+            return null;
+        }
+        String value = fields.get(column);
+        return value.isEmpty() ? null : value;
+    }
+    
+    /**
+     * Read one record, which may span several lines when a quoted field contains line breaks.
+     * @return The fields of the record, or null at the end of the input
+     */
+    private List<String> readRecord() throws IOException {
+        int ch = input.read();
+        if (ch == -1) {
+            return null;
+        }
+        
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        
+        while (ch != -1) {
+            if (quoted) {
+                if (ch == '"') {
+                    input.mark(1);
+                    int nextCh = input.read();
+                    if (nextCh == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        input.reset();
+                    }
+                } else {
+                    field.append((char) ch);
+                }
+            } else if (ch == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (ch == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (ch == '\n') {
+                break;
+            } else if (ch == '\r') {
+                input.mark(1);
+                if (input.read() != '\n') {
+                    input.reset();
+                }
+                break;
+            } else {
+                field.append((char) ch);
+            }
+            ch = input.read();
+        }
+        
+        fields.add(field.toString());
+        return fields;
+    }
+}
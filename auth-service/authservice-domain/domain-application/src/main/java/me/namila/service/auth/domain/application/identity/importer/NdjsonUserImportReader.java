@@ -0,0 +1,56 @@
+package me.namila.service.auth.domain.application.identity.importer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import me.namila.service.auth.domain.application.identity.dto.request.CreateUserRequest;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * Reads newline-delimited JSON, one CreateUserRequest-shaped object per line.
+ * Each line is parsed on its own so a malformed line only rejects that row.
+ * Blank lines are skipped; unknown properties are ignored.
+ */
+class NdjsonUserImportReader implements UserImportReader {
+    
+    private static final ObjectReader ROW_READER = new ObjectMapper()
+        .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
+        .readerFor(CreateUserRequest.class);
+    
+    private final BufferedReader input;
+    private long lineNumber;
+    
+    NdjsonUserImportReader(Reader input) {
+        this.input = input instanceof BufferedReader buffered ? buffered : new BufferedReader(input);
+    }
+    
+    @Override
+    public UserImportRow next() throws IOException {
+        String line;
+        do {
+            line = input.readLine();
+            if (line == null) {
+                return null;
+            }
+            lineNumber++;
+        } while (line.isBlank());
+        
+        try {
+            CreateUserRequest request = ROW_READER.readValue(line);
+            return request != null
+                ? UserImportRow.of(lineNumber, request)
+                : UserImportRow.malformed(lineNumber, "Line is not a JSON object");
+        } catch (JsonProcessingException ex) {
+            return UserImportRow.malformed(lineNumber, "Invalid JSON: " + ex.getOriginalMessage());
+        }
+    }
+    
+    @Override
+    public void close() throws IOException {
+        input.close();
+    }
+}
@@ -0,0 +1,26 @@
+package me.namila.service.auth.domain.application.identity.importer;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Outcome of writing one import batch.
+ *
+ * @param inserted          IDs of the users that were created
+ * @param conflictingFields For each candidate that was not created, the field that collided
+ *                          with an existing user ("username" or "email")
+ */
+public record UserBulkInsertResult(Set<UUID> inserted, Map<UUID, String> conflictingFields) {
+    
+    public static final String USERNAME = "username";
+    public static final String EMAIL = "email";
+    
+    /**
+     * @param userId A candidate's user ID
+     * @return The field that kept the candidate from being created; username if unknown
+     */
+    public String conflictingField(UUID userId) {
+        return conflictingFields.getOrDefault(userId, USERNAME);
+    }
+}
@@ -0,0 +1,12 @@
+package me.namila.service.auth.domain.application.identity.importer;
+
+import me.namila.service.auth.domain.core.identity.model.UserAggregate;
+
+/**
+ * A validated import row ready to be written.
+ *
+ * @param rowNumber The source row, used to report rows rejected by the store
+ * @param user      The user to create, including its profile
+ */
+public record UserImportCandidate(long rowNumber, UserAggregate user) {
+}
@@ -0,0 +1,12 @@
+package me.namila.service.auth.domain.application.identity.importer;
+
+/**
+ * A rejected row in a bulk user import, written to the downloadable error report.
+ *
+ * @param rowNumber Line number for NDJSON, record number (header = 1) for CSV
+ * @param field     The offending field, or "row" when the whole row is unusable
+ * @param value     The rejected value, may be null
+ * @param message   Why the row was rejected
+ */
+public record UserImportError(long rowNumber, String field, String value, String message) {
+}
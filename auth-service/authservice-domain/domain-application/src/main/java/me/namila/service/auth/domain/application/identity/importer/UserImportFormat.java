@@ -0,0 +1,45 @@
+package me.namila.service.auth.domain.application.identity.importer;
+
+import me.namila.service.auth.domain.core.exception.DomainException;
+
+import java.util.Locale;
+
+/**
+ * Supported bulk user import formats.
+ */
+public enum UserImportFormat {
+    
+    /** One JSON object per line, shaped like CreateUserRequest. */
+    NDJSON("application/x-ndjson"),
+    
+    /** RFC 4180 CSV with a header row. */
+    CSV("text/csv");
+    
+    private final String contentType;
+    
+    UserImportFormat(String contentType) {
+        this.contentType = contentType;
+    }
+    
+    public String getContentType() {
+        return contentType;
+    }
+    
+    /**
+     * Resolve the format from a request content type, ignoring parameters such as charset.
+     * @param contentType The request content type
+     * @return The matching format
+     * @throws DomainException if the content type is not supported
+     */
+    public static UserImportFormat fromContentType(String contentType) {
+        if (contentType != null) {
+            String mediaType = contentType.split(";", 2)[0].trim().toLowerCase(Locale.ROOT);
+            for (UserImportFormat format : values()) {
+                if (format.contentType.equals(mediaType)) {
+                    return format;
+                }
+            }
+        }
+        throw new DomainException("INVALID_IMPORT", "Unsupported import content type: " + contentType);
+    }
+}
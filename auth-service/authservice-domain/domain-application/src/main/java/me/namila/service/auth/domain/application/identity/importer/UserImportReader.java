@@ -0,0 +1,33 @@
+package me.namila.service.auth.domain.application.identity.importer;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * Streams rows from a bulk user import without buffering the whole document.
+ * A malformed row is returned as such and does not stop the import.
+ */
+public interface UserImportReader extends Closeable {
+    
+    /**
+     * Read the next row.
+     * @return The next row, or null at the end of the input
+     * @throws IOException if the input cannot be read
+     */
+    UserImportRow next() throws IOException;
+    
+    /**
+     * Open a reader for the given format.
+     * @param format The import format
+     * @param input  The character stream to read from
+     * @return A reader positioned at the first data row
+     * @throws IOException if the input cannot be read
+     */
+    static UserImportReader open(UserImportFormat format, Reader input) throws IOException {
+        return switch (format) {
+            case NDJSON -> new NdjsonUserImportReader(input);
+            case CSV -> new CsvUserImportReader(input);
+        };
+    }
+}
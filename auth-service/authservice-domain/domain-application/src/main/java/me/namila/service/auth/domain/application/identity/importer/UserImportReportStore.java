@@ -0,0 +1,133 @@
+package me.namila.service.auth.domain.application.identity.importer;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Stores per-row error reports of bulk user imports as CSV files.
+ * Reports are kept on the local disk of the node that ran the import and are
+ * removed once older than the retention period.
+ */
+@Component
+@Slf4j
+public class UserImportReportStore {
+    
+    private static final String HEADER = "row,field,value,message";
+    
+    @Value("${auth.import.report.directory:${java.io.tmpdir}/auth-user-imports}")
+    private Path directory;
+    
+    @Value("${auth.import.report.retention:24h}")
+    private Duration retention;
+    
+    /**
+     * Start a report for an import. The file is only created once the first error is written.
+     * @param importId The import ID
+     * @return A writer for the report
+     */
+    public ReportWriter open(UUID importId) {
+        purgeExpired();
+        return new ReportWriter(reportPath(importId));
+    }
+    
+    /**
+     * Find the report of an import.
+     * @param importId The import ID
+     * @return The report file if the import had errors and the report has not expired
+     */
+    public Optional<Path> find(UUID importId) {
+        Path report = reportPath(importId);
+        return Files.isRegularFile(report) ? Optional.of(report) : Optional.empty();
+    }
+    
+    private Path reportPath(UUID importId) {
+        return directory.resolve(importId + ".csv");
+    }
+    
+    private void purgeExpired() {
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+        Instant cutoff = Instant.now().minus(retention);
+        try (DirectoryStream<Path> reports = Files.newDirectoryStream(directory, "*.csv")) {
+            for (Path report : reports) {
+                if (Files.getLastModifiedTime(report).toInstant().isBefore(cutoff)) {
+                    Files.deleteIfExists(report);
+                }
+            }
+        } catch (IOException ex) {
+            log.warn("Failed to purge expired import reports in {}", directory, ex);
+        }
+    }
+    
+    /**
+     * Appends errors to a report file, creating it on the first error.
+     */
+    public static final class ReportWriter implements Closeable {
+        
+        private final Path path;
+        private BufferedWriter writer;
+        private long errorCount;
+        
+        private ReportWriter(Path path) {
+            this.path = path;
+        }
+        
+        public void append(UserImportError error) {
+            try {
+                if (writer == null) {
+                    Files.createDirectories(path.getParent());
+                    writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8);
+                    writer.write(HEADER);
+                    writer.newLine();
+                }
+                writer.write(Long.toString(error.rowNumber()));
+                writer.write(',');
+                writer.write(escape(error.field()));
+                writer.write(',');
+                writer.write(escape(error.value()));
+                writer.write(',');
+                writer.write(escape(error.message()));
+                writer.newLine();
+                errorCount++;
+            } catch (IOException ex) {
+                throw new UncheckedIOException("Failed to write import report " + path, ex);
+            }
+        }
+        
+        public long getErrorCount() {
+            return errorCount;
+        }
+        
+        @Override
+        public void close() throws IOException {
+            if (writer != null) {
+                writer.close();
+            }
+        }
+        
+        private static String escape(String value) {
+            if (value == null) {
+                return "";
+            }
+            if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+                return value;
+            }
+            return '"' + value.replace("\"", "\"\"") + '"';
+        }
+    }
+}
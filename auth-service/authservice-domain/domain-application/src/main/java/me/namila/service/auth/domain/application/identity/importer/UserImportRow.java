@@ -0,0 +1,26 @@
+package me.namila.service.auth.domain.application.identity.importer;
+
+import me.namila.service.auth.domain.application.identity.dto.request.CreateUserRequest;
+
+/**
+ * A single parsed row of a bulk user import.
+ * Rows that could not be parsed carry a parse error instead of a request.
+ *
+ * @param rowNumber  Line number for NDJSON, record number (header = 1) for CSV
+ * @param request    The parsed user, null if the row is malformed
+ * @param parseError Why the row could not be parsed, null if it was parsed
+ */
+public record UserImportRow(long rowNumber, CreateUserRequest request, String parseError) {
+    
+    public static UserImportRow of(long rowNumber, CreateUserRequest request) {
+        return new UserImportRow(rowNumber, request, null);
+    }
+    
+    public static UserImportRow malformed(long rowNumber, String parseError) {
+        return new UserImportRow(rowNumber, null, parseError);
+    }
+    
+    public boolean isMalformed() {
+        return parseError != null;
+    }
+}
@@ -0,0 +1,29 @@
+package me.namila.service.auth.domain.application.identity.mapper;
+
+import me.namila.service.auth.domain.application.identity.dto.response.ServiceAccountResponse;
+import me.namila.service.auth.domain.core.identity.model.ServiceAccountAggregate;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.Named;
+import org.mapstruct.ReportingPolicy;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * MapStruct mapper for ServiceAccount DTO-Domain conversion. The secret hash is never mapped out.
+ */
+@Mapper(componentModel = "spring", unmappedTargetPolicy = ReportingPolicy.IGNORE)
+public interface ServiceAccountDtoMapper {
+
+    @Mapping(target = "accountId", source = "id.value")
+    @Mapping(target = "createdAt", source = "createdAt", qualifiedByName = "localDateTimeToInstant")
+    @Mapping(target = "lastModifiedAt", source = "updatedAt", qualifiedByName = "localDateTimeToInstant")
+    ServiceAccountResponse toResponse(ServiceAccountAggregate domain);
+
+    @Named("localDateTimeToInstant")
+    default Instant localDateTimeToInstant(LocalDateTime localDateTime) {
+        return localDateTime != null ? localDateTime.toInstant(ZoneOffset.UTC) : null;
+    }
+}
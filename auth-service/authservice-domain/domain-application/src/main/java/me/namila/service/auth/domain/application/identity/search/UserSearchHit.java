@@ -0,0 +1,23 @@
+package me.namila.service.auth.domain.application.identity.search;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * One user matched by a search, with the fields shown in result lists.
+ * The score only orders results within one search; higher is a better match.
+ */
+public record UserSearchHit(
+    UUID userId,
+    String username,
+    String email,
+    String status,
+    String displayName,
+    Instant createdAt,
+    double score
+) {
+    
+    public UserSearchHit withScore(double newScore) {
+        return new UserSearchHit(userId, username, email, status, displayName, createdAt, newScore);
+    }
+}
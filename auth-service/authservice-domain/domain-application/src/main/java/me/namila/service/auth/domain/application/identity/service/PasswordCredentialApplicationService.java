@@ -0,0 +1,132 @@
+package me.namila.service.auth.domain.application.identity.service;
+
+import lombok.extern.slf4j.Slf4j;
+import me.namila.service.auth.domain.application.auth.credential.PasswordHasher;
+import me.namila.service.auth.domain.application.identity.dto.request.SetPasswordRequest;
+import me.namila.service.auth.domain.application.port.auth.TokenRevocationPort;
+import me.namila.service.auth.domain.application.port.identity.PasswordCredentialRepositoryPort;
+import me.namila.service.auth.domain.application.port.identity.UserRepositoryPort;
+import me.namila.service.auth.domain.core.exception.InvalidCredentialsException;
+import me.namila.service.auth.domain.core.exception.ServiceOverloadedException;
+import me.namila.service.auth.domain.core.exception.UserNotFoundException;
+import me.namila.service.auth.domain.core.identity.model.PasswordCredentialAggregate;
+import me.namila.service.auth.domain.core.identity.model.id.UserId;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Application service for users' local password credentials.
+ * Changing or removing a password revokes the user's existing sessions. Passwords are
+ * hashed and checked before the write transaction starts, so a write never holds a
+ * database connection while it waits for the hashing pool.
+ */
+@Service
+@Slf4j
+public class PasswordCredentialApplicationService {
+
+    private final UserRepositoryPort userRepository;
+    private final PasswordCredentialRepositoryPort credentialRepository;
+    private final PasswordHasher passwordHasher;
+    private final TokenRevocationPort revocationPort;
+    private final TransactionTemplate transactionTemplate;
+
+    public PasswordCredentialApplicationService(UserRepositoryPort userRepository,
+                                                PasswordCredentialRepositoryPort credentialRepository,
+                                                PasswordHasher passwordHasher,
+                                                TokenRevocationPort revocationPort,
+                                                PlatformTransactionManager transactionManager) {
+        this.userRepository = userRepository;
+        this.credentialRepository = credentialRepository;
+        this.passwordHasher = passwordHasher;
+        this.revocationPort = revocationPort;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Set or replace a user's local password on an administrator's behalf.
+     * @param userId The user ID
+     * @param request The new password
+     * @throws UserNotFoundException if the user is not found
+     * @throws ServiceOverloadedException if password hashing is saturated
+     */
+    public void setPassword(UUID userId, SetPasswordRequest request) {
+        UserId id = requireUser(userId);
+        String passwordHash = passwordHasher.hash(request.getPassword());
+        transactionTemplate.executeWithoutResult(status -> storePassword(id, passwordHash, null));
+    }
+
+    /**
+     * Replace a user's own local password once their current password checks out.
+     * @param userId The user ID
+     * @param request The current and the new password
+     * @throws UserNotFoundException if the user is not found
+     * @throws InvalidCredentialsException if the user has no password, the current password is wrong,
+     *         or the password changed while this one was checked
+     * @throws ServiceOverloadedException if password hashing is saturated
+     */
+    public void changeOwnPassword(UUID userId, SetPasswordRequest request) {
+        UserId id = requireUser(userId);
+        String currentHash = credentialRepository.findByUserId(id)
+            .map(PasswordCredentialAggregate::getPasswordHash)
+            .orElse(null);
+        // A missing current password is still checked against the decoy hash, so it is not answered faster
+        if (!passwordHasher.verify(Objects.requireNonNullElse(request.getCurrentPassword(), ""), currentHash)) {
+            log.debug("Rejected password change of user {}", userId);
+            throw new InvalidCredentialsException();
+        }
+        String passwordHash = passwordHasher.hash(request.getPassword());
+        transactionTemplate.executeWithoutResult(status -> storePassword(id, passwordHash, currentHash));
+    }
+
+    /**
+     * Remove a user's local password; the user can then only sign in through an identity provider.
+     * @param userId The user ID
+     * @throws UserNotFoundException if the user is not found
+     */
+    public void removePassword(UUID userId) {
+        UserId id = requireUser(userId);
+        transactionTemplate.executeWithoutResult(status -> {
+            credentialRepository.deleteByUserId(id);
+            revocationPort.revokeAllForUser(userId, Instant.now());
+        });
+        log.info("Removed local password of user {}", userId);
+    }
+
+    /**
+     * Store a computed hash; when {@code expectedHash} is given the stored password must
+     * still be the one that was checked.
+     */
+    private void storePassword(UserId id, String passwordHash, String expectedHash) {
+        PasswordCredentialAggregate credential = credentialRepository.findByUserId(id).orElse(null);
+        if (expectedHash != null && (credential == null || !expectedHash.equals(credential.getPasswordHash()))) {
+            throw new InvalidCredentialsException();
+        }
+        if (credential != null) {
+            credential.changePassword(passwordHash);
+            credentialRepository.save(credential);
+            revocationPort.revokeAllForUser(id.getValue(), Instant.now());
+            log.info("Changed local password of user {}", id.getValue());
+        } else {
+            credential = PasswordCredentialAggregate.builder()
+                .userId(id)
+                .passwordHash(passwordHash)
+                .build();
+            credential.markCreated();
+            credentialRepository.save(credential);
+            log.info("Set local password of user {}", id.getValue());
+        }
+    }
+
+    private UserId requireUser(UUID userId) {
+        UserId id = UserId.of(userId);
+        if (userRepository.findById(id).isEmpty()) {
+            throw new UserNotFoundException(userId);
+        }
+        return id;
+    }
+}
@@ -0,0 +1,135 @@
+package me.namila.service.auth.domain.application.identity.service;
+
+import lombok.extern.slf4j.Slf4j;
+import me.namila.service.auth.domain.application.auth.credential.ClientSecrets;
+import me.namila.service.auth.domain.application.auth.service.ClientCredentialsService;
+import me.namila.service.auth.domain.application.identity.dto.request.CreateServiceAccountRequest;
+import me.namila.service.auth.domain.application.identity.dto.response.ServiceAccountResponse;
+import me.namila.service.auth.domain.application.identity.dto.response.ServiceAccountSecretResponse;
+import me.namila.service.auth.domain.application.identity.mapper.ServiceAccountDtoMapper;
+import me.namila.service.auth.domain.application.port.auth.TokenRevocationPort;
+import me.namila.service.auth.domain.application.port.identity.ServiceAccountRepositoryPort;
+import me.namila.service.auth.domain.core.exception.DuplicateEntityException;
+import me.namila.service.auth.domain.core.exception.ResourceNotFoundException;
+import me.namila.service.auth.domain.core.identity.model.ServiceAccountAggregate;
+import me.namila.service.auth.domain.core.identity.model.id.ServiceAccountId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Application service for service account management.
+ * Client secrets are generated here and returned exactly once; only their hash is stored.
+ */
+@Service
+@Transactional
+@Slf4j
+public class ServiceAccountApplicationService {
+
+    private static final String SERVICE_ACCOUNT = "ServiceAccount";
+
+    private final ServiceAccountRepositoryPort serviceAccountRepository;
+    private final ServiceAccountDtoMapper mapper;
+    private final TokenRevocationPort revocationPort;
+    private final ClientCredentialsService clientCredentialsService;
+    private final int secretHashIterations;
+
+    public ServiceAccountApplicationService(
+            ServiceAccountRepositoryPort serviceAccountRepository,
+            ServiceAccountDtoMapper mapper,
+            TokenRevocationPort revocationPort,
+            ClientCredentialsService clientCredentialsService,
+            @Value("${auth.service-accounts.secret-hash-iterations:" + ClientSecrets.DEFAULT_ITERATIONS + "}")
+            int secretHashIterations) {
+        this.serviceAccountRepository = serviceAccountRepository;
+        this.mapper = mapper;
+        this.revocationPort = revocationPort;
+        this.clientCredentialsService = clientCredentialsService;
+        this.secretHashIterations = secretHashIterations;
+    }
+
+    /**
+     * Register a new service account.
+     * @param request The creation request
+     * @return The created account and its client secret
+     * @throws DuplicateEntityException if the client ID already exists
+     */
+    public ServiceAccountSecretResponse createServiceAccount(CreateServiceAccountRequest request) {
+        if (serviceAccountRepository.existsByClientId(request.getClientId())) {
+            throw new DuplicateEntityException(SERVICE_ACCOUNT, "clientId", request.getClientId());
+        }
+        String clientSecret = ClientSecrets.generate();
+        ServiceAccountAggregate account = ServiceAccountAggregate.builder()
+            .clientId(request.getClientId())
+            .displayName(request.getDisplayName())
+            .clientSecretHash(ClientSecrets.hash(clientSecret, secretHashIterations))
+            .scopes(request.getScopes())
+            .audiences(request.getAudiences())
+            .build();
+        account.markCreated();
+
+        ServiceAccountAggregate saved = serviceAccountRepository.save(account);
+        log.info("Registered service account {} with ID: {}", saved.getClientId(), saved.getId().getValue());
+        return toSecretResponse(saved, clientSecret);
+    }
+
+    /**
+     * Get a service account by ID.
+     * @param accountId The service account ID
+     * @return The service account
+     * @throws ResourceNotFoundException if the account is not found
+     */
+    @Transactional(readOnly = true)
+    public ServiceAccountResponse getServiceAccount(UUID accountId) {
+        return mapper.toResponse(getAccount(accountId));
+    }
+
+    /**
+     * Replace a service account's client secret. Tokens already issued stay valid until they expire.
+     * @param accountId The service account ID
+     * @return The account and its new client secret
+     * @throws ResourceNotFoundException if the account is not found
+     */
+    public ServiceAccountSecretResponse rotateSecret(UUID accountId) {
+        ServiceAccountAggregate account = getAccount(accountId);
+        String clientSecret = ClientSecrets.generate();
+        account.rotateSecret(ClientSecrets.hash(clientSecret, secretHashIterations));
+
+        ServiceAccountAggregate saved = serviceAccountRepository.save(account);
+        clientCredentialsService.evict(saved.getClientId());
+        log.info("Rotated client secret of service account {}", saved.getClientId());
+        return toSecretResponse(saved, clientSecret);
+    }
+
+    /**
+     * Disable a service account and revoke every token issued to it.
+     * @param accountId The service account ID
+     * @return The disabled account
+     * @throws ResourceNotFoundException if the account is not found
+     */
+    public ServiceAccountResponse disableServiceAccount(UUID accountId) {
+        ServiceAccountAggregate account = getAccount(accountId);
+        account.disable();
+
+        ServiceAccountAggregate saved = serviceAccountRepository.save(account);
+        revocationPort.revokeAllForUser(accountId, Instant.now());
+        clientCredentialsService.evict(saved.getClientId());
+        log.info("Disabled service account {}", saved.getClientId());
+        return mapper.toResponse(saved);
+    }
+
+    private ServiceAccountAggregate getAccount(UUID accountId) {
+        return serviceAccountRepository.findById(ServiceAccountId.of(accountId))
+            .orElseThrow(() -> new ResourceNotFoundException(SERVICE_ACCOUNT, accountId));
+    }
+
+    private ServiceAccountSecretResponse toSecretResponse(ServiceAccountAggregate account, String clientSecret) {
+        return ServiceAccountSecretResponse.builder()
+            .account(mapper.toResponse(account))
+            .clientSecret(clientSecret)
+            .build();
+    }
+}
@@ -0,0 +1,36 @@
+package me.namila.service.auth.domain.application.identity.service;
+
+import me.namila.service.auth.domain.application.port.identity.UserRepositoryPort;
+import me.namila.service.auth.domain.core.identity.model.UserAggregate;
+import me.namila.service.auth.domain.core.identity.model.id.UserId;
+import me.namila.service.auth.domain.core.identity.valueobject.UserStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.UUID;
+
+/**
+ * Answers whether a user's account currently allows its tokens to be used.
+ */
+@Service
+public class UserAccessApplicationService {
+    
+    private final UserRepositoryPort userRepository;
+    
+    public UserAccessApplicationService(UserRepositoryPort userRepository) {
+        this.userRepository = userRepository;
+    }
+    
+    /**
+     * Check whether the user exists and is in a status that may authenticate.
+     * @param userId The user ID
+     * @return true if the user's tokens may be used
+     */
+    @Transactional(readOnly = true)
+    public boolean canAuthenticate(UUID userId) {
+        return userRepository.findById(UserId.of(userId))
+            .map(UserAggregate::getStatus)
+            .map(UserStatus::canAuthenticate)
+            .orElse(false);
+    }
+}
@@ -1,12 +1,15 @@
 package me.namila.service.auth.domain.application.identity.service;
 
 import lombok.RequiredArgsConstructor;
+import me.namila.service.auth.common.dto.CountMode;
+import me.namila.service.auth.domain.application.common.PageableMapper;
 import me.namila.service.auth.domain.application.dto.response.PagedResponse;
 import me.namila.service.auth.domain.application.identity.dto.request.CreateUserRequest;
 import me.namila.service.auth.domain.application.identity.dto.request.UpdateUserRequest;
 import me.namila.service.auth.domain.application.identity.dto.response.*;
 import me.namila.service.auth.domain.application.identity.mapper.UserDtoMapper;
 import me.namila.service.auth.domain.application.port.identity.UserRepositoryPort;
+import me.namila.service.auth.domain.application.port.identity.UserSummaryCachePort;
 import me.namila.service.auth.domain.core.exception.DuplicateEntityException;
 import me.namila.service.auth.domain.core.exception.UserNotFoundException;
 import me.namila.service.auth.domain.core.identity.model.UserAggregate;
@@ -19,6 +22,11 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 /**
@@ -32,6 +40,7 @@ public class UserApplicationService {
     
     private final UserRepositoryPort userRepository;
     private final UserDtoMapper userDtoMapper;
+    private final UserSummaryCachePort userSummaryCache;
     
     /**
      * Create a new user.
@@ -55,6 +64,7 @@ public class UserApplicationService {
         // Map request to domain model
         UserAggregate user = userDtoMapper.toDomain(request);
         user.setStatus(UserStatus.ACTIVE); // Default to active
+        user.markCreated();
         
         // Save user
         UserAggregate savedUser = userRepository.save(user);
@@ -70,12 +80,51 @@ public class UserApplicationService {
      */
     @Transactional(readOnly = true)
     public UserDetailResponse getUserById(UUID userId) {
-        UserAggregate user = userRepository.findById(UserId.of(userId))
+        UserAggregate user = userRepository.findDetailById(UserId.of(userId))
             .orElseThrow(() -> new UserNotFoundException(userId));
         
         return userDtoMapper.toDetailResponse(user);
     }
     
+    /**
+     * Get many users by ID, from the shared summary cache first and with a single
+     * repository query for the rest.
+     * @param userIds The user IDs; duplicates are collapsed
+     * @return The users found, in request order, and the IDs that were not found
+     */
+    @Transactional(readOnly = true)
+    public BatchGetUsersResponse batchGetUsers(List<UUID> userIds) {
+        var requested = new LinkedHashSet<>(userIds);
+        Map<UUID, UserSummaryResponse> found = new HashMap<>(userSummaryCache.getAll(requested));
+        
+        List<UserId> misses = requested.stream()
+            .filter(userId -> !found.containsKey(userId))
+            .map(UserId::of)
+            .toList();
+        if (!misses.isEmpty()) {
+            List<UserSummaryResponse> loaded = userRepository.findAllById(misses).stream()
+                .map(userDtoMapper::toSummaryResponse)
+                .toList();
+            loaded.forEach(summary -> found.put(summary.getUserId(), summary));
+            userSummaryCache.putAll(loaded);
+        }
+        
+        List<UserSummaryResponse> users = new ArrayList<>(found.size());
+        List<UUID> notFound = new ArrayList<>();
+        for (UUID userId : requested) {
+            UserSummaryResponse user = found.get(userId);
+            if (user != null) {
+                users.add(user);
+            } else {
+                notFound.add(userId);
+            }
+        }
+        return BatchGetUsersResponse.builder()
+            .users(users)
+            .notFound(notFound)
+            .build();
+    }
+    
     /**
      * Update user.
      * @param userId The user ID
@@ -116,41 +165,42 @@ public class UserApplicationService {
     }
     
     /**
-     * List users with pagination.
+     * List users with pagination and an exact total.
      * @param pageable Pagination parameters
      * @return Paged response with user summaries
      */
     @Transactional(readOnly = true)
     public PagedResponse<UserSummaryResponse> listUsers(Pageable pageable) {
-        // Note: This is a simplified implementation
-        // In a real scenario, you would use Spring Data JPA's Pageable support
-        // For now, we'll fetch all and paginate in memory (not ideal for production)
-        var allUsers = userRepository.findAll();
-        
-        // Simple pagination (should be done at repository level in production)
-        int start = (int) pageable.getOffset();
-        int end = Math.min((start + pageable.getPageSize()), allUsers.size());
-        var pagedUsers = allUsers.subList(start, end);
-        
-        var summaries = pagedUsers.stream()
-            .map(userDtoMapper::toSummaryResponse)
-            .toList();
-        
-        // Create a simple page response
-        // In production, use Spring Data's Page implementation
-        PagedResponse<UserSummaryResponse> response = new PagedResponse<>();
-        response.setContent(summaries);
-        response.setPage(pageable.getPageNumber());
-        response.setSize(pageable.getPageSize());
-        response.setTotalElements(allUsers.size());
-        response.setTotalPages((int) Math.ceil((double) allUsers.size() / pageable.getPageSize()));
-        response.setFirst(pageable.getPageNumber() == 0);
-        response.setLast(end >= allUsers.size());
-        response.setHasNext(end < allUsers.size());
-        response.setHasPrevious(pageable.getPageNumber() > 0);
-        response.setEmpty(summaries.isEmpty());
-        
-        return response;
+        return listUsers(pageable, CountMode.EXACT);
+    }
+    
+    /**
+     * List users with pagination.
+     * @param pageable Pagination parameters
+     * @param countMode How the total is reported; ESTIMATED and NONE avoid a COUNT(*) per page
+     * @return Paged response with user summaries
+     */
+    @Transactional(readOnly = true)
+    public PagedResponse<UserSummaryResponse> listUsers(Pageable pageable, CountMode countMode) {
+        return PageableMapper.toPagedResponse(userRepository.findAll(pageable),
+            userDtoMapper::toSummaryResponse, countMode,
+            userRepository::count, userRepository::estimateCount);
+    }
+    
+    /**
+     * List users in the given status with pagination.
+     * Filtering and paging run in the database on the status index.
+     * @param status The user status
+     * @param pageable Pagination parameters
+     * @param countMode How the total is reported; ESTIMATED and NONE avoid a COUNT(*) per page
+     * @return Paged response with user summaries
+     */
+    @Transactional(readOnly = true)
+    public PagedResponse<UserSummaryResponse> listUsersByStatus(UserStatus status, Pageable pageable,
+                                                                CountMode countMode) {
+        return PageableMapper.toPagedResponse(userRepository.findByStatus(status, pageable),
+            userDtoMapper::toSummaryResponse, countMode,
+            () -> userRepository.countByStatus(status), () -> userRepository.estimateCountByStatus(status));
     }
     
     /**
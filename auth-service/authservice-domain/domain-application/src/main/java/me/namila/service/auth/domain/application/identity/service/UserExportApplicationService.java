@@ -0,0 +1,68 @@
+package me.namila.service.auth.domain.application.identity.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import me.namila.service.auth.domain.application.identity.exporter.UserExportFormat;
+import me.namila.service.auth.domain.application.identity.exporter.UserExportWriter;
+import me.namila.service.auth.domain.application.port.identity.UserExportPort;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Application service for full user exports.
+ * Users are written to the response as they are read from the database
+ * cursor, so memory use does not grow with the number of users.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class UserExportApplicationService {
+    
+    private static final int BUFFER_SIZE = 64 * 1024;
+    
+    private final UserExportPort userExportPort;
+    
+    /**
+     * Stream every user to the output.
+     * @param output The response stream; left open for the caller
+     * @param format The export format
+     * @param gzip Whether to gzip the output on the fly
+     * @return The number of users exported
+     * @throws IOException if the output cannot be written
+     */
+    public long exportUsers(OutputStream output, UserExportFormat format, boolean gzip) throws IOException {
+        long started = System.nanoTime();
+        
+        GZIPOutputStream gzipOutput = gzip ? new GZIPOutputStream(output, BUFFER_SIZE) : null;
+        OutputStream target = new BufferedOutputStream(gzipOutput != null ? gzipOutput : output, BUFFER_SIZE);
+        
+        long exported;
+        try (UserExportWriter writer = UserExportWriter.open(format, target)) {
+            exported = userExportPort.forEachUser(user -> {
+                try {
+                    writer.write(user);
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+            });
+        } catch (UncheckedIOException ex) {
+            throw ex.getCause();
+        }
+        target.flush();
+        if (gzipOutput != null) {
+            // finish() writes the trailer without closing the servlet stream
+            gzipOutput.finish();
+        }
+        output.flush();
+        
+        long durationMillis = Math.max(1L, (System.nanoTime() - started) / 1_000_000L);
+        log.info("User export ({}{}) finished: {} users in {} ms ({} users/s)",
+            format, gzip ? ", gzip" : "", exported, durationMillis, exported * 1000L / durationMillis);
+        return exported;
+    }
+}
@@ -0,0 +1,252 @@
+package me.namila.service.auth.domain.application.identity.service;
+
+import lombok.extern.slf4j.Slf4j;
+import me.namila.service.auth.domain.application.identity.dto.request.CreateUserRequest;
+import me.namila.service.auth.domain.application.identity.dto.request.UserProfileRequest;
+import me.namila.service.auth.domain.application.identity.dto.response.UserImportResponse;
+import me.namila.service.auth.domain.application.identity.importer.UserBulkInsertResult;
+import me.namila.service.auth.domain.application.identity.importer.UserImportCandidate;
+import me.namila.service.auth.domain.application.identity.importer.UserImportError;
+import me.namila.service.auth.domain.application.identity.importer.UserImportFormat;
+import me.namila.service.auth.domain.application.identity.importer.UserImportReader;
+import me.namila.service.auth.domain.application.identity.importer.UserImportReportStore;
+import me.namila.service.auth.domain.application.identity.importer.UserImportRow;
+import me.namila.service.auth.domain.application.port.identity.UserBulkImportPort;
+import me.namila.service.auth.domain.core.exception.ResourceNotFoundException;
+import me.namila.service.auth.domain.core.identity.model.UserAggregate;
+import me.namila.service.auth.domain.core.identity.model.UserProfileEntity;
+import me.namila.service.auth.domain.core.identity.valueobject.EmailValue;
+import me.namila.service.auth.domain.core.identity.valueobject.UserStatus;
+import me.namila.service.auth.domain.core.identity.valueobject.UsernameValue;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Application service for bulk user import.
+ * Streams the upload in batches: rows are validated on a bounded worker pool,
+ * de-duplicated within the batch, and written through a set-based bulk port
+ * that skips users whose username or email already exists. Each batch commits
+ * on its own, so a large import never holds one long transaction.
+ */
+@Service
+@Slf4j
+public class UserImportApplicationService implements DisposableBean {
+    
+    private final UserBulkImportPort bulkImportPort;
+    private final UserImportReportStore reportStore;
+    private final int batchSize;
+    private final ForkJoinPool validationPool;
+    
+    public UserImportApplicationService(
+            UserBulkImportPort bulkImportPort,
+            UserImportReportStore reportStore,
+            @Value("${auth.import.batch-size:5000}") int batchSize,
+            @Value("${auth.import.validation-workers:0}") int validationWorkers) {
+        this.bulkImportPort = bulkImportPort;
+        this.reportStore = reportStore;
+        this.batchSize = Math.max(1, batchSize);
+        this.validationPool = new ForkJoinPool(
+            validationWorkers > 0 ? validationWorkers : Runtime.getRuntime().availableProcessors());
+    }
+    
+    /**
+     * Import users from an NDJSON or CSV stream.
+     * Invalid and duplicate rows are skipped and recorded in the error report.
+     * @param body The request body
+     * @param contentType The request content type, selects the format
+     * @return Import totals and throughput
+     */
+    public UserImportResponse importUsers(InputStream body, String contentType) {
+        UserImportFormat format = UserImportFormat.fromContentType(contentType);
+        UUID importId = UUID.randomUUID();
+        ImportTotals totals = new ImportTotals();
+        long started = System.nanoTime();
+        
+        try (UserImportReader reader = UserImportReader.open(format,
+                 new InputStreamReader(body, StandardCharsets.UTF_8));
+             UserImportReportStore.ReportWriter report = reportStore.open(importId)) {
+            
+            List<UserImportRow> batch = new ArrayList<>(batchSize);
+            UserImportRow row;
+            while ((row = reader.next()) != null) {
+                batch.add(row);
+                if (batch.size() == batchSize) {
+                    importBatch(batch, totals, report);
+                    batch.clear();
+                }
+            }
+            if (!batch.isEmpty()) {
+                importBatch(batch, totals, report);
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to read user import " + importId, ex);
+        }
+        
+        long durationMillis = Math.max(1L, (System.nanoTime() - started) / 1_000_000L);
+        double rowsPerSecond = totals.total * 1000.0 / durationMillis;
+        log.info("User import {} finished: {} rows, {} imported, {} duplicates, {} invalid in {} ms ({} rows/s)",
+            importId, totals.total, totals.imported, totals.duplicates, totals.invalid, durationMillis,
+            Math.round(rowsPerSecond));
+        
+        return UserImportResponse.builder()
+            .importId(importId)
+            .totalRows(totals.total)
+            .imported(totals.imported)
+            .duplicates(totals.duplicates)
+            .invalid(totals.invalid)
+            .durationMillis(durationMillis)
+            .rowsPerSecond(rowsPerSecond)
+            .build();
+    }
+    
+    /**
+     * Get the per-row error report of an import.
+     * @param importId The import ID
+     * @return Path of the CSV report
+     */
+    public Path getErrorReport(UUID importId) {
+        return reportStore.find(importId)
+            .orElseThrow(() -> new ResourceNotFoundException("User import report", importId));
+    }
+    
+    @Override
+    public void destroy() {
+        validationPool.shutdown();
+    }
+    
+    private void importBatch(List<UserImportRow> batch, ImportTotals totals, UserImportReportStore.ReportWriter report) {
+        totals.total += batch.size();
+        LocalDateTime now = LocalDateTime.now();
+        
+        // Value-object validation is CPU bound (regexes), so spread it across the workers
+        List<RowValidation> validations = validationPool
+            .submit(() -> batch.parallelStream().map(row -> validate(row, now)).toList())
+            .join();
+        
+        Set<String> usernames = new HashSet<>();
+        Set<String> emails = new HashSet<>();
+        List<UserImportCandidate> candidates = new ArrayList<>(validations.size());
+        
+        for (RowValidation validation : validations) {
+            if (validation.error() != null) {
+                report.append(validation.error());
+                totals.invalid++;
+                continue;
+            }
+            UserImportCandidate candidate = validation.candidate();
+            String username = candidate.user().getUsername().getValue();
+            String email = candidate.user().getEmail().getValue();
+            if (usernames.contains(username) || emails.contains(email)) {
+                boolean usernameTaken = usernames.contains(username);
+                report.append(new UserImportError(candidate.rowNumber(),
+                    usernameTaken ? UserBulkInsertResult.USERNAME : UserBulkInsertResult.EMAIL,
+                    usernameTaken ? username : email, "Duplicate of an earlier row in this import"));
+                totals.duplicates++;
+                continue;
+            }
+            usernames.add(username);
+            emails.add(email);
+            candidates.add(candidate);
+        }
+        
+        if (candidates.isEmpty()) {
+            return;
+        }
+        
+        UserBulkInsertResult result = bulkImportPort.insertAbsent(candidates);
+        totals.imported += result.inserted().size();
+        for (UserImportCandidate candidate : candidates) {
+            UUID userId = candidate.user().getId().getValue();
+            if (!result.inserted().contains(userId)) {
+                String field = result.conflictingField(userId);
+                String value = UserBulkInsertResult.EMAIL.equals(field)
+                    ? candidate.user().getEmail().getValue()
+                    : candidate.user().getUsername().getValue();
+                report.append(new UserImportError(candidate.rowNumber(), field, value,
+                    "A user with this " + field + " already exists"));
+                totals.duplicates++;
+            }
+        }
+    }
+    
+    private RowValidation validate(UserImportRow row, LocalDateTime now) {
+        if (row.isMalformed()) {
+            return RowValidation.rejected(new UserImportError(row.rowNumber(), "row", null, row.parseError()));
+        }
+        CreateUserRequest request = row.request();
+        
+        UsernameValue username;
+        try {
+            username = UsernameValue.of(request.getUsername());
+        } catch (IllegalArgumentException ex) {
+            return RowValidation.rejected(
+                new UserImportError(row.rowNumber(), "username", request.getUsername(), ex.getMessage()));
+        }
+        
+        EmailValue email;
+        try {
+            email = EmailValue.of(request.getEmail());
+        } catch (IllegalArgumentException ex) {
+            return RowValidation.rejected(
+                new UserImportError(row.rowNumber(), "email", request.getEmail(), ex.getMessage()));
+        }
+        
+        UserAggregate user = UserAggregate.builder()
+            .username(username)
+            .email(email)
+            .status(UserStatus.ACTIVE)
+            .profile(toProfile(request.getProfile(), now))
+            .metadata(request.getMetadata() != null ? request.getMetadata() : new HashMap<>())
+            .createdAt(now)
+            .updatedAt(now)
+            .build();
+        return RowValidation.accepted(new UserImportCandidate(row.rowNumber(), user));
+    }
+    
+    private static UserProfileEntity toProfile(UserProfileRequest profile, LocalDateTime now) {
+        if (profile == null) {
+            return null;
+        }
+        return UserProfileEntity.builder()
+            .firstName(profile.getFirstName())
+            .lastName(profile.getLastName())
+            .displayName(profile.getDisplayName())
+            .attributes(profile.getAttributes() != null ? profile.getAttributes() : new HashMap<>())
+            .createdAt(now)
+            .build();
+    }
+    
+    private record RowValidation(UserImportCandidate candidate, UserImportError error) {
+        
+        static RowValidation accepted(UserImportCandidate candidate) {
+            return new RowValidation(candidate, null);
+        }
+        
+        static RowValidation rejected(UserImportError error) {
+            return new RowValidation(null, error);
+        }
+    }
+    
+    private static final class ImportTotals {
+        private long total;
+        private long imported;
+        private long duplicates;
+        private long invalid;
+    }
+}
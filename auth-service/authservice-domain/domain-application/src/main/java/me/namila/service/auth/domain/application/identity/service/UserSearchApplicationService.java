@@ -0,0 +1,69 @@
+package me.namila.service.auth.domain.application.identity.service;
+
+import lombok.RequiredArgsConstructor;
+import me.namila.service.auth.common.dto.CountMode;
+import me.namila.service.auth.domain.application.common.PageableMapper;
+import me.namila.service.auth.domain.application.dto.response.PagedResponse;
+import me.namila.service.auth.domain.application.identity.dto.response.UserSummaryResponse;
+import me.namila.service.auth.domain.application.identity.search.UserSearchHit;
+import me.namila.service.auth.domain.application.port.identity.UserSearchPort;
+import me.namila.service.auth.domain.core.exception.DomainException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Locale;
+
+/**
+ * Application service for typeahead user search.
+ * Results are ranked by relevance and paged without a count, since
+ * counting fuzzy matches costs as much as producing them.
+ */
+@Service
+@RequiredArgsConstructor
+public class UserSearchApplicationService {
+    
+    static final int MAX_QUERY_LENGTH = 100;
+    static final int MAX_PAGE_SIZE = 100;
+    
+    private final UserSearchPort userSearchPort;
+    
+    /**
+     * Search users by username, email or display name.
+     * @param query Search text; matched as a prefix and, from three characters, fuzzily
+     * @param page Page number (0-based)
+     * @param size Page size, at most {@value #MAX_PAGE_SIZE}
+     * @return Paged matches, best first
+     */
+    @Transactional(readOnly = true)
+    public PagedResponse<UserSummaryResponse> searchUsers(String query, int page, int size) {
+        String normalized = query != null ? query.strip().toLowerCase(Locale.ROOT) : "";
+        if (normalized.isEmpty()) {
+            throw new DomainException("INVALID_SEARCH", "Search query must not be blank");
+        }
+        if (normalized.length() > MAX_QUERY_LENGTH) {
+            throw new DomainException("INVALID_SEARCH",
+                "Search query must be at most " + MAX_QUERY_LENGTH + " characters");
+        }
+        if (page < 0 || size < 1 || size > MAX_PAGE_SIZE) {
+            throw new DomainException("INVALID_PAGINATION",
+                "Page must be >= 0 and size between 1 and " + MAX_PAGE_SIZE);
+        }
+        
+        Pageable pageable = PageRequest.of(page, size);
+        return PageableMapper.toPagedResponse(userSearchPort.search(normalized, pageable),
+            this::toSummaryResponse, CountMode.NONE, null, null);
+    }
+    
+    private UserSummaryResponse toSummaryResponse(UserSearchHit hit) {
+        return UserSummaryResponse.builder()
+            .userId(hit.userId())
+            .username(hit.username())
+            .email(hit.email())
+            .status(hit.status())
+            .displayName(hit.displayName())
+            .createdAt(hit.createdAt())
+            .build();
+    }
+}
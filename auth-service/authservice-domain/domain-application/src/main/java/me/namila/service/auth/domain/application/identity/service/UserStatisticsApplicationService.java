@@ -0,0 +1,68 @@
+package me.namila.service.auth.domain.application.identity.service;
+
+import me.namila.service.auth.domain.application.identity.dto.response.UserStatusCountsResponse;
+import me.namila.service.auth.domain.application.port.identity.UserRepositoryPort;
+import me.namila.service.auth.domain.core.identity.valueobject.UserStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Application service for user statistics used by dashboards.
+ * Counts come from one grouped query and are kept for a short TTL, so
+ * dashboards polling the endpoint do not each scan the users table.
+ */
+@Service
+public class UserStatisticsApplicationService {
+    
+    private final UserRepositoryPort userRepository;
+    private final Duration countsTtl;
+    private final Clock clock;
+    private volatile UserStatusCountsResponse cachedCounts;
+    
+    public UserStatisticsApplicationService(
+            UserRepositoryPort userRepository,
+            @Value("${auth.users.status-counts.ttl:10s}") Duration countsTtl) {
+        this(userRepository, countsTtl, Clock.systemUTC());
+    }
+    
+    UserStatisticsApplicationService(UserRepositoryPort userRepository, Duration countsTtl, Clock clock) {
+        this.userRepository = userRepository;
+        this.countsTtl = countsTtl;
+        this.clock = clock;
+    }
+    
+    /**
+     * Get the number of users in each status.
+     * @return The per-status counts, at most the configured TTL old
+     */
+    @Transactional(readOnly = true)
+    public UserStatusCountsResponse getStatusCounts() {
+        UserStatusCountsResponse cached = cachedCounts;
+        Instant now = clock.instant();
+        if (cached != null && cached.getComputedAt().plus(countsTtl).isAfter(now)) {
+            return cached;
+        }
+        
+        Map<String, Long> counts = new LinkedHashMap<>();
+        long total = 0;
+        for (Map.Entry<UserStatus, Long> entry : userRepository.countByStatus().entrySet()) {
+            counts.put(entry.getKey().name(), entry.getValue());
+            total += entry.getValue();
+        }
+        UserStatusCountsResponse fresh = UserStatusCountsResponse.builder()
+            .counts(Collections.unmodifiableMap(counts))
+            .total(total)
+            .computedAt(now)
+            .build();
+        cachedCounts = fresh;
+        return fresh;
+    }
+}
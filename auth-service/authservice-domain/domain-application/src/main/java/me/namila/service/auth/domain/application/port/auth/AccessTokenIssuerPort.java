@@ -0,0 +1,39 @@
+package me.namila.service.auth.domain.application.port.auth;
+
+import me.namila.service.auth.domain.application.auth.token.TokenSubject;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * Port for minting signed access tokens.
+ * This is a port interface in the domain-application layer.
+ */
+public interface AccessTokenIssuerPort {
+    
+    /**
+     * Mint an access token for a subject.
+     * @param subject The user claims
+     * @param sessionId The refresh token family the token belongs to, carried as the sid claim
+     * @return The signed token
+     */
+    String issueAccessToken(TokenSubject subject, UUID sessionId);
+    
+    /**
+     * Mint an access token for a service account authenticated with the client credentials grant.
+     * @param accountId The service account ID, carried as the subject
+     * @param clientId The client ID
+     * @param scopes The granted scopes
+     * @param ttl How long the token is valid
+     * @param confirmationKey The JWK thumbprint of the client's DPoP key, carried as cnf.jkt; null for a bearer token
+     * @return The signed token
+     */
+    String issueClientToken(UUID accountId, String clientId, Collection<String> scopes, Duration ttl,
+                            String confirmationKey);
+    
+    /**
+     * @return How long minted access tokens are valid
+     */
+    Duration getAccessTokenTtl();
+}
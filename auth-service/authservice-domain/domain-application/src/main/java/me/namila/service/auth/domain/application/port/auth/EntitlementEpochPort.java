@@ -0,0 +1,19 @@
+package me.namila.service.auth.domain.application.port.auth;
+
+import java.util.UUID;
+
+/**
+ * Port for per-user entitlement epochs.
+ * An epoch only ever moves forward and does so whenever something that feeds the user's
+ * entitlements changes, so a token stamped with an epoch is current for as long as the
+ * user's epoch has not moved past it. Lookups are local and never make a network call.
+ */
+public interface EntitlementEpochPort {
+    
+    /**
+     * Get the user's current entitlement epoch.
+     * @param userId The user ID
+     * @return The epoch; tokens stamped with a lower epoch carry stale entitlements
+     */
+    long currentEpoch(UUID userId);
+}
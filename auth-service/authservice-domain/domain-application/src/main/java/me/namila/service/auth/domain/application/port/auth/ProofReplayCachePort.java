@@ -0,0 +1,20 @@
+package me.namila.service.auth.domain.application.port.auth;
+
+import java.time.Instant;
+
+/**
+ * Port for detecting replayed DPoP proofs.
+ * A proof is only accepted within a short window around its issue time, so a proof ID
+ * needs to be remembered for that window and no longer.
+ * This is a port interface in the domain-application layer.
+ */
+public interface ProofReplayCachePort {
+    
+    /**
+     * Record a proof ID as used.
+     * @param jti The proof ID, qualified by the key that signed it
+     * @param issuedAt The proof's iat
+     * @return true the first time the ID is seen; false if it was used before or is too old to track
+     */
+    boolean markUsed(String jti, Instant issuedAt);
+}
@@ -0,0 +1,19 @@
+package me.namila.service.auth.domain.application.port.auth;
+
+import java.time.Duration;
+
+/**
+ * Port for throttling requests per key, such as a client IP, an identity provider or a login subject.
+ * This is a port interface in the domain-application layer.
+ */
+public interface RateLimiterPort {
+    
+    /**
+     * Take one permit for a key, allowing at most {@code limit} permits per {@code window}.
+     * @param key The throttled key, qualified by what it identifies (e.g. "ip:203.0.113.7")
+     * @param limit The permits allowed per window
+     * @param window The window the limit applies to
+     * @return 0 if the permit was granted; otherwise how many milliseconds until one is available
+     */
+    long tryAcquire(String key, int limit, Duration window);
+}
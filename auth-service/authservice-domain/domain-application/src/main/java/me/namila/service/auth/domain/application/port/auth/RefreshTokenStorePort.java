@@ -0,0 +1,47 @@
+package me.namila.service.auth.domain.application.port.auth;
+
+import me.namila.service.auth.domain.application.auth.token.RefreshTokenRotation;
+import me.namila.service.auth.domain.application.auth.token.TokenSubject;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * Port for refresh token families with rotation and reuse detection.
+ * A family is the chain of refresh tokens descending from one login. Exactly one token
+ * per family is current; presenting a spent token revokes the family, since either the
+ * client or an attacker holds a stolen copy. Implementations store token hashes only
+ * and must make rotation atomic.
+ * This is a port interface in the domain-application layer.
+ */
+public interface RefreshTokenStorePort {
+    
+    /**
+     * Start a family whose first token is current.
+     * @param familyId The new family ID
+     * @param subject Claims to mint access tokens from on refresh
+     * @param tokenHash Hash of the first token
+     * @param ttl How long the family lives without a refresh
+     */
+    void createFamily(UUID familyId, TokenSubject subject, String tokenHash, Duration ttl);
+    
+    /**
+     * Spend the presented token and make the next one current, in one atomic step.
+     * A successful rotation extends the family's life by the TTL, up to the store's
+     * absolute family lifetime; a family past that deadline is invalid.
+     * @param familyId The family the presented token claims to belong to
+     * @param presentedHash Hash of the presented token
+     * @param nextHash Hash of the token replacing it
+     * @param ttl How long the family lives without a further refresh
+     * @return The outcome, with the family's subject when rotated
+     */
+    RefreshTokenRotation rotate(UUID familyId, String presentedHash, String nextHash, Duration ttl);
+    
+    /**
+     * Revoke a whole family in O(1), provided the presented token was issued to it.
+     * @param familyId The family ID
+     * @param presentedHash Hash of a current or spent token of the family
+     * @return true if the family existed and was revoked
+     */
+    boolean revokeFamily(UUID familyId, String presentedHash);
+}
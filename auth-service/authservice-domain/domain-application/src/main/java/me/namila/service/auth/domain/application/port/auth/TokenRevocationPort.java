@@ -0,0 +1,44 @@
+package me.namila.service.auth.domain.application.port.auth;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Port for revoking issued access tokens before they expire.
+ * Revocations are recorded centrally and mirrored on every node, so
+ * {@link #isRevoked} is answered from local memory on the request path.
+ * This is a port interface in the domain-application layer.
+ */
+public interface TokenRevocationPort {
+    
+    /**
+     * Revoke one token by its ID.
+     * @param jti The token ID
+     * @param expiresAt When the token expires; the revocation is forgotten after that
+     */
+    void revokeToken(UUID jti, Instant expiresAt);
+    
+    /**
+     * Revoke every token of a user issued before a point in time.
+     * @param userId The user ID
+     * @param before Tokens issued (or sessions authenticated) before this instant are revoked
+     */
+    void revokeAllForUser(UUID userId, Instant before);
+    
+    /**
+     * Check a token against the local revocation state.
+     * @param jti The token ID, or null if the token has none
+     * @param userId The token's user
+     * @param issuedAt When the token was issued
+     * @return true if the token has been revoked
+     */
+    boolean isRevoked(UUID jti, UUID userId, Instant issuedAt);
+    
+    /**
+     * Check whether a user's sessions authenticated at a point in time have been revoked.
+     * @param userId The user ID
+     * @param authenticatedAt When the session was authenticated
+     * @return true if all of the user's tokens from that time have been revoked
+     */
+    boolean isRevokedForUser(UUID userId, Instant authenticatedAt);
+}
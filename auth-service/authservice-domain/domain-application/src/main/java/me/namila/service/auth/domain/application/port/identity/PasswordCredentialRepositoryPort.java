@@ -0,0 +1,32 @@
+package me.namila.service.auth.domain.application.port.identity;
+
+import me.namila.service.auth.domain.core.identity.model.PasswordCredentialAggregate;
+import me.namila.service.auth.domain.core.identity.model.id.UserId;
+
+import java.util.Optional;
+
+/**
+ * Repository port for PasswordCredential aggregate root.
+ */
+public interface PasswordCredentialRepositoryPort {
+    
+    /**
+     * Save or update a password credential.
+     * @param credential The credential to save
+     * @return The saved credential
+     */
+    PasswordCredentialAggregate save(PasswordCredentialAggregate credential);
+    
+    /**
+     * Find the password credential of a user.
+     * @param userId The user ID
+     * @return Optional containing the credential if the user has a local password
+     */
+    Optional<PasswordCredentialAggregate> findByUserId(UserId userId);
+    
+    /**
+     * Remove the password credential of a user, if any.
+     * @param userId The user ID
+     */
+    void deleteByUserId(UserId userId);
+}
@@ -0,0 +1,40 @@
+package me.namila.service.auth.domain.application.port.identity;
+
+import me.namila.service.auth.domain.core.identity.model.ServiceAccountAggregate;
+import me.namila.service.auth.domain.core.identity.model.id.ServiceAccountId;
+
+import java.util.Optional;
+
+/**
+ * Repository port for ServiceAccount aggregate root.
+ */
+public interface ServiceAccountRepositoryPort {
+    
+    /**
+     * Save or update a service account.
+     * @param account The service account to save
+     * @return The saved service account
+     */
+    ServiceAccountAggregate save(ServiceAccountAggregate account);
+    
+    /**
+     * Find a service account by ID.
+     * @param accountId The service account ID
+     * @return Optional containing the service account if found
+     */
+    Optional<ServiceAccountAggregate> findById(ServiceAccountId accountId);
+    
+    /**
+     * Find a service account by client ID; served from the second-level cache when warm.
+     * @param clientId The client ID
+     * @return Optional containing the service account if found
+     */
+    Optional<ServiceAccountAggregate> findByClientId(String clientId);
+    
+    /**
+     * Check if a client ID exists.
+     * @param clientId The client ID
+     * @return true if the client ID exists
+     */
+    boolean existsByClientId(String clientId);
+}
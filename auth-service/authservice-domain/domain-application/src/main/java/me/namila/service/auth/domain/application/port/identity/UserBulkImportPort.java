@@ -0,0 +1,25 @@
+package me.namila.service.auth.domain.application.port.identity;
+
+import me.namila.service.auth.domain.application.identity.importer.UserBulkInsertResult;
+import me.namila.service.auth.domain.application.identity.importer.UserImportCandidate;
+
+import java.util.List;
+
+/**
+ * Port for set-based bulk user creation.
+ * This is a port interface in the domain-application layer.
+ */
+public interface UserBulkImportPort {
+    
+    /**
+     * Insert the users (and their profiles) that do not collide with an existing
+     * username or email, in a single transaction.
+     * Candidates must already be unique by username and email among themselves.
+     * A created event is dispatched for every inserted user, so caches, indexes and the
+     * outbox see imported users just like users created one at a time.
+     *
+     * @param candidates Validated users to create
+     * @return The IDs of the users that were inserted, and the colliding field of the rest
+     */
+    UserBulkInsertResult insertAbsent(List<UserImportCandidate> candidates);
+}
@@ -0,0 +1,20 @@
+package me.namila.service.auth.domain.application.port.identity;
+
+import me.namila.service.auth.domain.application.identity.exporter.UserExportRecord;
+
+import java.util.function.Consumer;
+
+/**
+ * Port for streaming every user for export.
+ * This is a port interface in the domain-application layer.
+ */
+public interface UserExportPort {
+    
+    /**
+     * Stream all users in user ID order, one record at a time.
+     * Implementations must not hold more than one fetch batch in memory.
+     * @param consumer Receives each user; an exception aborts the export
+     * @return The number of users streamed
+     */
+    long forEachUser(Consumer<UserExportRecord> consumer);
+}
@@ -3,9 +3,14 @@ package me.namila.service.auth.domain.application.port.identity;
 import me.namila.service.auth.domain.core.identity.model.UserAggregate;
 import me.namila.service.auth.domain.core.identity.model.id.UserId;
 import me.namila.service.auth.domain.core.identity.valueobject.EmailValue;
+import me.namila.service.auth.domain.core.identity.valueobject.UserStatus;
 import me.namila.service.auth.domain.core.identity.valueobject.UsernameValue;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -28,6 +33,22 @@ public interface UserRepositoryPort {
      */
     Optional<UserAggregate> findById(UserId userId);
     
+    /**
+     * Find a user by ID together with its profile and federated identities.
+     * Implementations load the whole graph in a single query.
+     * @param userId The user ID
+     * @return Optional containing the fully populated user if found
+     */
+    Optional<UserAggregate> findDetailById(UserId userId);
+    
+    /**
+     * Find many users by ID in a single query.
+     * IDs that do not exist are skipped; the result order is unspecified.
+     * @param userIds The user IDs
+     * @return List of the users found
+     */
+    List<UserAggregate> findAllById(Collection<UserId> userIds);
+    
     /**
      * Find a user by username.
      * @param username The username
@@ -62,6 +83,25 @@ public interface UserRepositoryPort {
      */
     List<UserAggregate> findAll();
     
+    /**
+     * Find users one page at a time, without counting.
+     * @param pageable Pagination information
+     * @return Slice of users
+     */
+    Slice<UserAggregate> findAll(Pageable pageable);
+    
+    /**
+     * Count all users exactly.
+     * @return The number of users
+     */
+    long count();
+    
+    /**
+     * Estimate the number of users from planner statistics.
+     * @return The estimated number of users
+     */
+    long estimateCount();
+    
     /**
      * Delete a user by ID.
      * @param userId The user ID
@@ -73,6 +113,34 @@ public interface UserRepositoryPort {
      * @param status The user status
      * @return List of users with the given status
      */
-    List<UserAggregate> findByStatus(me.namila.service.auth.domain.core.identity.valueobject.UserStatus status);
+    List<UserAggregate> findByStatus(UserStatus status);
+    
+    /**
+     * Find users by status, one page at a time, without counting.
+     * @param status The user status
+     * @param pageable Pagination information
+     * @return Slice of users with the given status
+     */
+    Slice<UserAggregate> findByStatus(UserStatus status, Pageable pageable);
+    
+    /**
+     * Count users in a status exactly.
+     * @param status The user status
+     * @return The number of users with the given status
+     */
+    long countByStatus(UserStatus status);
+    
+    /**
+     * Estimate the number of users in a status from planner statistics.
+     * @param status The user status
+     * @return The estimated number of users with the given status
+     */
+    long estimateCountByStatus(UserStatus status);
+    
+    /**
+     * Count users per status.
+     * @return Count for every status, zero for statuses without users
+     */
+    Map<UserStatus, Long> countByStatus();
 }
 
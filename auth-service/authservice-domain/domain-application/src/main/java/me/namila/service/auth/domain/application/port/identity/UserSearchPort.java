@@ -0,0 +1,21 @@
+package me.namila.service.auth.domain.application.port.identity;
+
+import me.namila.service.auth.domain.application.identity.search.UserSearchHit;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+/**
+ * Port for ranked prefix and fuzzy search over username, email and display name.
+ * This is a port interface in the domain-application layer.
+ */
+public interface UserSearchPort {
+    
+    /**
+     * Search users, best matches first.
+     * The pageable's sort is ignored; results are always ordered by relevance.
+     * @param query Normalized (trimmed, lower-case) search text
+     * @param pageable Pagination information
+     * @return Slice of matching users
+     */
+    Slice<UserSearchHit> search(String query, Pageable pageable);
+}
@@ -0,0 +1,19 @@
+package me.namila.service.auth.domain.application.port.identity;
+
+import java.util.UUID;
+
+/**
+ * Port for checking a user's account status on the request path without a database read.
+ * This is a port interface in the domain-application layer.
+ */
+public interface UserStatusGatePort {
+    
+    /**
+     * Check whether a user's account is in a status that may not authenticate.
+     * Answered from memory; a status change reaches every node within the
+     * cache invalidation delay.
+     * @param userId The user ID
+     * @return true if the user is known to be inactive, suspended or locked
+     */
+    boolean isBlocked(UUID userId);
+}
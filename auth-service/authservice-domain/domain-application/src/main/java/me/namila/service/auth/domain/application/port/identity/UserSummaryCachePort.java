@@ -0,0 +1,29 @@
+package me.namila.service.auth.domain.application.port.identity;
+
+import me.namila.service.auth.domain.application.identity.dto.response.UserSummaryResponse;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Port for a cache of user summaries shared by every node.
+ * This is a port interface in the domain-application layer.
+ * The cache is best-effort: an unavailable cache answers with misses, and entries of a
+ * changed user are evicted once the change's cache invalidation is received.
+ */
+public interface UserSummaryCachePort {
+    
+    /**
+     * Look up cached summaries.
+     * @param userIds The user IDs
+     * @return The cached summaries by user ID; IDs without an entry are absent
+     */
+    Map<UUID, UserSummaryResponse> getAll(Collection<UUID> userIds);
+    
+    /**
+     * Cache summaries read from the repository.
+     * @param summaries The summaries
+     */
+    void putAll(Collection<UserSummaryResponse> summaries);
+}
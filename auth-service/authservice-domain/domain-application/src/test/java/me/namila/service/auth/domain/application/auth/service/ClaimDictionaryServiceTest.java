@@ -0,0 +1,155 @@
+package me.namila.service.auth.domain.application.auth.service;
+
+import me.namila.service.auth.domain.application.auth.token.CompactEntitlements;
+import me.namila.service.auth.domain.application.auth.token.DecodedEntitlements;
+import me.namila.service.auth.domain.application.port.authorization.PermissionRepositoryPort;
+import me.namila.service.auth.domain.application.port.authorization.RoleRepositoryPort;
+import me.namila.service.auth.domain.core.authorization.model.PermissionEntity;
+import me.namila.service.auth.domain.core.authorization.model.RoleAggregate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ClaimDictionaryService.
+ */
+@DisplayName("ClaimDictionaryService Unit Tests")
+class ClaimDictionaryServiceTest {
+
+    private static final Instant NOW = Instant.parse("2025-01-01T00:00:00Z");
+
+    private RoleRepositoryPort roleRepository;
+    private PermissionRepositoryPort permissionRepository;
+    private Clock clock;
+    private ClaimDictionaryService service;
+
+    @BeforeEach
+    void setUp() {
+        roleRepository = mock(RoleRepositoryPort.class);
+        permissionRepository = mock(PermissionRepositoryPort.class);
+        clock = mock(Clock.class);
+        when(clock.getZone()).thenReturn(ZoneOffset.UTC);
+        when(clock.instant()).thenReturn(NOW);
+        service = new ClaimDictionaryService(roleRepository, permissionRepository,
+            Duration.ofMinutes(5), Duration.ofSeconds(10), clock);
+
+        PermissionEntity readUsers = permission("users", "read");
+        PermissionEntity writeUsers = permission("users", "write");
+        when(roleRepository.findAll()).thenReturn(List.of(
+            role("platform:administrator", readUsers, writeUsers),
+            role("platform:viewer", readUsers)));
+        when(permissionRepository.findAll()).thenReturn(List.of(readUsers, writeUsers));
+    }
+
+    @Test
+    @DisplayName("decode_EncodedRoles_ShouldRoundTripRolesAndPermissions")
+    void decode_EncodedRoles_ShouldRoundTripRolesAndPermissions() {
+        // When
+        CompactEntitlements encoded = service.encode(List.of("platform:viewer")).orElseThrow();
+        DecodedEntitlements decoded = service.decode(encoded.dictionaryVersion(), encoded.value()).orElseThrow();
+
+        // Then
+        assertEquals(List.of("platform:viewer"), decoded.roles());
+        assertEquals(List.of("users:read"), decoded.permissions());
+        assertTrue(encoded.value().length() < "[\"platform:viewer\"]".length());
+    }
+
+    @Test
+    @DisplayName("current_SameCatalogue_ShouldDeriveSameVersion")
+    void current_SameCatalogue_ShouldDeriveSameVersion() {
+        // Given
+        String version = service.current().getVersion();
+        ClaimDictionaryService otherNode = new ClaimDictionaryService(roleRepository, permissionRepository,
+            Duration.ofMinutes(5), Duration.ofSeconds(10), clock);
+
+        // When & Then
+        assertEquals(version, otherNode.current().getVersion());
+    }
+
+    @Test
+    @DisplayName("encode_UnknownRole_ShouldReturnEmpty")
+    void encode_UnknownRole_ShouldReturnEmpty() {
+        assertTrue(service.encode(List.of("platform:unknown")).isEmpty());
+    }
+
+    @Test
+    @DisplayName("decode_RetainedOlderDictionary_ShouldStillDecode")
+    void decode_RetainedOlderDictionary_ShouldStillDecode() {
+        // Given
+        CompactEntitlements encoded = service.encode(List.of("platform:administrator")).orElseThrow();
+        when(roleRepository.findAll()).thenReturn(List.of(
+            role("platform:administrator", permission("users", "read"), permission("users", "write")),
+            role("platform:auditor"),
+            role("platform:viewer", permission("users", "read"))));
+        when(clock.instant()).thenReturn(NOW.plus(Duration.ofMinutes(6)));
+
+        // When
+        String newVersion = service.current().getVersion();
+        DecodedEntitlements decoded = service.decode(encoded.dictionaryVersion(), encoded.value()).orElseThrow();
+
+        // Then
+        assertNotEquals(encoded.dictionaryVersion(), newVersion);
+        assertEquals(List.of("platform:administrator"), decoded.roles());
+        assertEquals(List.of("users:read", "users:write"), decoded.permissions());
+        assertEquals(2, service.getDictionaries().dictionaries().size());
+        assertEquals(newVersion, service.getDictionaries().dictionaries().getFirst().version());
+    }
+
+    @Test
+    @DisplayName("encode_LargeSparseBitmap_ShouldCompress")
+    void encode_LargeSparseBitmap_ShouldCompress() {
+        // Given
+        List<RoleAggregate> roles = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            roles.add(role(String.format("tenant:%04d", i)));
+        }
+        when(roleRepository.findAll()).thenReturn(roles);
+        when(permissionRepository.findAll()).thenReturn(List.of());
+
+        // When
+        CompactEntitlements encoded = service.encode(List.of("tenant:1999")).orElseThrow();
+        DecodedEntitlements decoded = service.decode(encoded.dictionaryVersion(), encoded.value()).orElseThrow();
+
+        // Then
+        assertTrue(encoded.value().length() < 40);
+        assertEquals(List.of("tenant:1999"), decoded.roles());
+    }
+
+    @Test
+    @DisplayName("decode_UnknownVersions_ShouldReloadAtMostOncePerInterval")
+    void decode_UnknownVersions_ShouldReloadAtMostOncePerInterval() {
+        // Given
+        service.current();
+        when(clock.instant()).thenReturn(NOW.plus(Duration.ofSeconds(11)));
+
+        // When
+        assertTrue(service.decode("0000000000000000", "AAE").isEmpty());
+        assertTrue(service.decode("1111111111111111", "AAE").isEmpty());
+
+        // Then
+        verify(roleRepository, times(2)).findAll();
+    }
+
+    private RoleAggregate role(String roleName, PermissionEntity... permissions) {
+        return RoleAggregate.builder()
+            .roleName(roleName)
+            .permissions(new HashSet<>(Set.of(permissions)))
+            .build();
+    }
+
+    private PermissionEntity permission(String resource, String action) {
+        return PermissionEntity.builder().resource(resource).action(action).build();
+    }
+}
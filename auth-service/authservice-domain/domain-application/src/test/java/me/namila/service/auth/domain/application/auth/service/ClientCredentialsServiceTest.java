@@ -0,0 +1,227 @@
+package me.namila.service.auth.domain.application.auth.service;
+
+import me.namila.service.auth.domain.application.auth.credential.ClientSecrets;
+import me.namila.service.auth.domain.application.auth.dto.response.ClientTokenResponse;
+import me.namila.service.auth.domain.application.port.auth.AccessTokenIssuerPort;
+import me.namila.service.auth.domain.application.port.auth.TokenRevocationPort;
+import me.namila.service.auth.domain.application.port.identity.ServiceAccountRepositoryPort;
+import me.namila.service.auth.domain.core.exception.DomainException;
+import me.namila.service.auth.domain.core.exception.InvalidClientException;
+import me.namila.service.auth.domain.core.exception.ServiceOverloadedException;
+import me.namila.service.auth.domain.core.identity.model.ServiceAccountAggregate;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ClientCredentialsService.
+ */
+@DisplayName("ClientCredentialsService Unit Tests")
+class ClientCredentialsServiceTest {
+
+    private static final Instant NOW = Instant.parse("2025-01-01T00:00:00Z");
+    private static final Duration TOKEN_TTL = Duration.ofHours(1);
+    private static final Duration REFRESH_AHEAD = Duration.ofMinutes(5);
+    private static final String CLIENT_ID = "billing-worker";
+    private static final String SECRET = ClientSecrets.generate();
+
+    private ServiceAccountRepositoryPort serviceAccountRepository;
+    private AccessTokenIssuerPort accessTokenIssuer;
+    private TokenRevocationPort revocationPort;
+    private Clock clock;
+    private ExecutorService verifier;
+    private ServiceAccountAggregate account;
+    private ClientCredentialsService service;
+
+    @BeforeEach
+    void setUp() {
+        serviceAccountRepository = mock(ServiceAccountRepositoryPort.class);
+        accessTokenIssuer = mock(AccessTokenIssuerPort.class);
+        revocationPort = mock(TokenRevocationPort.class);
+        clock = mock(Clock.class);
+        when(clock.instant()).thenReturn(NOW);
+        verifier = Executors.newSingleThreadExecutor();
+        account = ServiceAccountAggregate.builder()
+            .clientId(CLIENT_ID)
+            .displayName("Billing worker")
+            .clientSecretHash(ClientSecrets.hash(SECRET, 1_000))
+            .scopes(Set.of("invoices:read", "invoices:write"))
+            .build();
+        when(serviceAccountRepository.findByClientId(CLIENT_ID)).thenReturn(Optional.of(account));
+        when(accessTokenIssuer.issueClientToken(any(), anyString(), anyCollection(), any(), any()))
+            .thenReturn("token-1", "token-2", "token-3");
+        service = newService(verifier);
+    }
+
+    @AfterEach
+    void tearDown() {
+        verifier.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("issueToken_RepeatRequest_ShouldServeCachedToken")
+    void issueToken_RepeatRequest_ShouldServeCachedToken() {
+        // When
+        ClientTokenResponse first = service.issueToken(CLIENT_ID, SECRET, null);
+        when(clock.instant()).thenReturn(NOW.plus(Duration.ofMinutes(30)));
+        ClientTokenResponse second = service.issueToken(CLIENT_ID, SECRET, "invoices:write invoices:read");
+
+        // Then
+        assertEquals("token-1", first.accessToken());
+        assertEquals("token-1", second.accessToken());
+        assertEquals("invoices:read invoices:write", second.scope());
+        assertEquals(Duration.ofMinutes(30).toSeconds(), second.expiresIn());
+        verify(accessTokenIssuer, times(1)).issueClientToken(
+            eq(account.getId().getValue()), eq(CLIENT_ID), anyCollection(), eq(TOKEN_TTL), isNull());
+    }
+
+    @Test
+    @DisplayName("issueToken_DifferentConfirmationKeys_ShouldNotShareCachedToken")
+    void issueToken_DifferentConfirmationKeys_ShouldNotShareCachedToken() {
+        // When
+        ClientTokenResponse bound = service.issueToken(CLIENT_ID, SECRET, null, "jkt-1");
+        ClientTokenResponse bearer = service.issueToken(CLIENT_ID, SECRET, null);
+
+        // Then
+        assertEquals("token-1", bound.accessToken());
+        assertEquals("DPoP", bound.tokenType());
+        assertEquals("token-2", bearer.accessToken());
+        assertEquals("Bearer", bearer.tokenType());
+        verify(accessTokenIssuer).issueClientToken(any(), eq(CLIENT_ID), anyCollection(), eq(TOKEN_TTL), eq("jkt-1"));
+    }
+
+    @Test
+    @DisplayName("issueToken_CachedTokenInRefreshAheadWindow_ShouldMintNewToken")
+    void issueToken_CachedTokenInRefreshAheadWindow_ShouldMintNewToken() {
+        // Given
+        service.issueToken(CLIENT_ID, SECRET, null);
+        when(clock.instant()).thenReturn(NOW.plus(TOKEN_TTL).minus(REFRESH_AHEAD));
+
+        // When
+        ClientTokenResponse refreshed = service.issueToken(CLIENT_ID, SECRET, null);
+
+        // Then
+        assertEquals("token-2", refreshed.accessToken());
+        assertEquals(TOKEN_TTL.toSeconds(), refreshed.expiresIn());
+    }
+
+    @Test
+    @DisplayName("issueToken_DifferentScopeSets_ShouldCacheSeparately")
+    void issueToken_DifferentScopeSets_ShouldCacheSeparately() {
+        // When
+        ClientTokenResponse narrow = service.issueToken(CLIENT_ID, SECRET, "invoices:read");
+        ClientTokenResponse wide = service.issueToken(CLIENT_ID, SECRET, null);
+
+        // Then
+        assertEquals("token-1", narrow.accessToken());
+        assertEquals("token-2", wide.accessToken());
+    }
+
+    @Test
+    @DisplayName("issueToken_CacheFull_ShouldEvictLeastRecentlyUsedToken")
+    void issueToken_CacheFull_ShouldEvictLeastRecentlyUsedToken() {
+        // Given: room for two tokens, the narrow one used most recently
+        ClientCredentialsService small = newService(verifier, 2);
+        small.issueToken(CLIENT_ID, SECRET, "invoices:read");
+        small.issueToken(CLIENT_ID, SECRET, null);
+        small.issueToken(CLIENT_ID, SECRET, "invoices:read");
+
+        // When
+        ClientTokenResponse third = small.issueToken(CLIENT_ID, SECRET, "invoices:write");
+
+        // Then: only the least recently used wide token was dropped
+        assertEquals("token-3", third.accessToken());
+        assertEquals("token-1", small.issueToken(CLIENT_ID, SECRET, "invoices:read").accessToken());
+        verify(accessTokenIssuer, times(3)).issueClientToken(any(), anyString(), anyCollection(), any(), any());
+    }
+
+    @Test
+    @DisplayName("issueToken_AccountTokensRevoked_ShouldMintNewToken")
+    void issueToken_AccountTokensRevoked_ShouldMintNewToken() {
+        // Given
+        service.issueToken(CLIENT_ID, SECRET, null);
+        when(revocationPort.isRevokedForUser(eq(account.getId().getValue()), any())).thenReturn(true);
+
+        // When
+        ClientTokenResponse response = service.issueToken(CLIENT_ID, SECRET, null);
+
+        // Then
+        assertEquals("token-2", response.accessToken());
+    }
+
+    @Test
+    @DisplayName("issueToken_InvalidClient_ShouldThrowInvalidClientException")
+    void issueToken_InvalidClient_ShouldThrowInvalidClientException() {
+        // Given
+        service.issueToken(CLIENT_ID, SECRET, null);
+        when(serviceAccountRepository.findByClientId("unknown")).thenReturn(Optional.empty());
+
+        // When / Then: a previously verified secret does not vouch for a different one
+        assertThrows(InvalidClientException.class, () -> service.issueToken(CLIENT_ID, "wrong-secret", null));
+        assertThrows(InvalidClientException.class, () -> service.issueToken("unknown", SECRET, null));
+        account.disable();
+        assertThrows(InvalidClientException.class, () -> service.issueToken(CLIENT_ID, SECRET, null));
+    }
+
+    @Test
+    @DisplayName("issueToken_RotatedSecret_ShouldRejectOldSecret")
+    void issueToken_RotatedSecret_ShouldRejectOldSecret() {
+        // Given
+        service.issueToken(CLIENT_ID, SECRET, null);
+        String newSecret = ClientSecrets.generate();
+        account.rotateSecret(ClientSecrets.hash(newSecret, 1_000));
+
+        // When / Then
+        assertThrows(InvalidClientException.class, () -> service.issueToken(CLIENT_ID, SECRET, null));
+        assertEquals("token-1", service.issueToken(CLIENT_ID, newSecret, null).accessToken());
+    }
+
+    @Test
+    @DisplayName("issueToken_UngrantedScope_ShouldThrowInvalidScope")
+    void issueToken_UngrantedScope_ShouldThrowInvalidScope() {
+        DomainException ex = assertThrows(DomainException.class,
+            () -> service.issueToken(CLIENT_ID, SECRET, "invoices:read users:admin"));
+
+        assertEquals("INVALID_SCOPE", ex.getErrorCode());
+        verifyNoInteractions(accessTokenIssuer);
+    }
+
+    @Test
+    @DisplayName("issueToken_VerifierSaturated_ShouldThrowServiceOverloaded")
+    void issueToken_VerifierSaturated_ShouldThrowServiceOverloaded() {
+        // Given
+        ExecutorService saturated = Executors.newSingleThreadExecutor();
+        saturated.shutdown();
+        ClientCredentialsService shedding = newService(saturated);
+
+        // When / Then
+        assertThrows(ServiceOverloadedException.class, () -> shedding.issueToken(CLIENT_ID, SECRET, null));
+    }
+
+    private ClientCredentialsService newService(ExecutorService executor) {
+        return newService(executor, 100);
+    }
+
+    private ClientCredentialsService newService(ExecutorService executor, int maxEntries) {
+        return new ClientCredentialsService(serviceAccountRepository, accessTokenIssuer, revocationPort,
+            TOKEN_TTL, REFRESH_AHEAD, maxEntries, Duration.ofSeconds(5), executor, clock);
+    }
+}
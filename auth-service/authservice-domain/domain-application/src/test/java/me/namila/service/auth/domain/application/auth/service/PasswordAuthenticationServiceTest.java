@@ -0,0 +1,138 @@
+package me.namila.service.auth.domain.application.auth.service;
+
+import me.namila.service.auth.domain.application.auth.credential.PasswordHasher;
+import me.namila.service.auth.domain.application.auth.credential.PasswordHashes;
+import me.namila.service.auth.domain.application.auth.dto.request.PasswordLoginRequest;
+import me.namila.service.auth.domain.application.auth.dto.response.AuthenticationResponse;
+import me.namila.service.auth.domain.application.auth.dto.response.TokenResponse;
+import me.namila.service.auth.domain.application.identity.mapper.UserDtoMapper;
+import me.namila.service.auth.domain.application.port.identity.PasswordCredentialRepositoryPort;
+import me.namila.service.auth.domain.application.port.identity.UserRepositoryPort;
+import me.namila.service.auth.domain.core.exception.InvalidCredentialsException;
+import me.namila.service.auth.domain.core.exception.ServiceOverloadedException;
+import me.namila.service.auth.domain.core.identity.model.PasswordCredentialAggregate;
+import me.namila.service.auth.domain.core.identity.model.UserAggregate;
+import me.namila.service.auth.domain.core.identity.model.id.UserId;
+import me.namila.service.auth.domain.core.identity.valueobject.EmailValue;
+import me.namila.service.auth.domain.core.identity.valueobject.UsernameValue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for PasswordAuthenticationService.
+ */
+@DisplayName("PasswordAuthenticationService Unit Tests")
+class PasswordAuthenticationServiceTest {
+
+    private static final PasswordHashes.Cost COST = new PasswordHashes.Cost(64, 1, 1);
+    private static final String PASSWORD = "correct horse battery staple";
+
+    private UserRepositoryPort userRepository;
+    private PasswordCredentialRepositoryPort credentialRepository;
+    private TokenService tokenService;
+    private ExecutorService hashingPool;
+    private UserAggregate user;
+    private PasswordCredentialAggregate credential;
+    private PasswordAuthenticationService service;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(UserRepositoryPort.class);
+        credentialRepository = mock(PasswordCredentialRepositoryPort.class);
+        tokenService = mock(TokenService.class);
+        hashingPool = Executors.newSingleThreadExecutor();
+        user = UserAggregate.builder().id(UserId.generate()).username(UsernameValue.of("breakglass"))
+            .email(EmailValue.of("breakglass@example.com")).build();
+        credential = PasswordCredentialAggregate.builder()
+            .userId(user.getId())
+            .passwordHash(PasswordHashes.hash(PASSWORD, COST))
+            .build();
+        when(userRepository.findByUsername(UsernameValue.of("breakglass"))).thenReturn(Optional.of(user));
+        when(credentialRepository.findByUserId(user.getId())).thenReturn(Optional.of(credential));
+        when(tokenService.issueTokens(any(), any())).thenReturn(TokenResponse.builder()
+            .accessToken("signed-jwt").refreshToken("refresh").tokenType("Bearer").expiresIn(1800).build());
+        service = newService(hashingPool);
+    }
+
+    @AfterEach
+    void tearDown() {
+        hashingPool.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("login_CorrectPassword_ShouldIssueTokensWithoutRehash")
+    void login_CorrectPassword_ShouldIssueTokensWithoutRehash() {
+        // When
+        AuthenticationResponse response = service.login(new PasswordLoginRequest("breakglass", PASSWORD), null);
+
+        // Then
+        assertEquals("signed-jwt", response.accessToken());
+        verify(tokenService).issueTokens(user, null);
+        verify(credentialRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("login_WrongPasswordUnknownOrBlockedUser_ShouldThrowInvalidCredentials")
+    void login_WrongPasswordUnknownOrBlockedUser_ShouldThrowInvalidCredentials() {
+        // Given
+        when(userRepository.findByUsername(UsernameValue.of("nobody"))).thenReturn(Optional.empty());
+
+        // When / Then
+        assertThrows(InvalidCredentialsException.class,
+            () -> service.login(new PasswordLoginRequest("breakglass", "wrong password"), null));
+        assertThrows(InvalidCredentialsException.class,
+            () -> service.login(new PasswordLoginRequest("nobody", PASSWORD), null));
+        user.suspend();
+        assertThrows(InvalidCredentialsException.class,
+            () -> service.login(new PasswordLoginRequest("breakglass", PASSWORD), null));
+        verify(tokenService, never()).issueTokens(any(), any());
+    }
+
+    @Test
+    @DisplayName("login_HashAtOlderCost_ShouldRehashAtCurrentCost")
+    void login_HashAtOlderCost_ShouldRehashAtCurrentCost() {
+        // Given
+        credential.setPasswordHash(PasswordHashes.hash(PASSWORD, new PasswordHashes.Cost(32, 1, 1)));
+
+        // When
+        service.login(new PasswordLoginRequest("breakglass", PASSWORD), "jkt");
+
+        // Then
+        ArgumentCaptor<PasswordCredentialAggregate> saved = ArgumentCaptor.forClass(PasswordCredentialAggregate.class);
+        verify(credentialRepository).save(saved.capture());
+        assertEquals(COST, PasswordHashes.costOf(saved.getValue().getPasswordHash()));
+        assertTrue(PasswordHashes.verify(PASSWORD, saved.getValue().getPasswordHash()));
+        verify(tokenService).issueTokens(eq(user), eq("jkt"));
+    }
+
+    @Test
+    @DisplayName("login_HashingSaturated_ShouldThrowServiceOverloaded")
+    void login_HashingSaturated_ShouldThrowServiceOverloaded() {
+        // Given
+        ExecutorService saturated = Executors.newSingleThreadExecutor();
+        saturated.shutdown();
+        PasswordAuthenticationService shedding = newService(saturated);
+
+        // When / Then
+        assertThrows(ServiceOverloadedException.class,
+            () -> shedding.login(new PasswordLoginRequest("breakglass", PASSWORD), null));
+    }
+
+    private PasswordAuthenticationService newService(ExecutorService executor) {
+        return new PasswordAuthenticationService(userRepository, credentialRepository,
+            new PasswordHasher(COST, Duration.ofSeconds(5), executor), mock(UserDtoMapper.class), tokenService);
+    }
+}
@@ -0,0 +1,230 @@
+package me.namila.service.auth.domain.application.auth.service;
+
+import me.namila.service.auth.domain.application.auth.dto.response.TokenResponse;
+import me.namila.service.auth.domain.application.auth.token.RefreshTokenRotation;
+import me.namila.service.auth.domain.application.auth.token.RefreshTokens;
+import me.namila.service.auth.domain.application.auth.token.TokenSubject;
+import me.namila.service.auth.domain.application.port.auth.AccessTokenIssuerPort;
+import me.namila.service.auth.domain.application.port.auth.EntitlementEpochPort;
+import me.namila.service.auth.domain.application.port.auth.RefreshTokenStorePort;
+import me.namila.service.auth.domain.application.port.auth.TokenRevocationPort;
+import me.namila.service.auth.domain.application.port.authorization.RoleRepositoryPort;
+import me.namila.service.auth.domain.application.port.authorization.UserRoleAssignmentRepositoryPort;
+import me.namila.service.auth.domain.application.port.identity.UserStatusGatePort;
+import me.namila.service.auth.domain.core.authorization.model.RoleAggregate;
+import me.namila.service.auth.domain.core.authorization.model.UserRoleAssignmentAggregate;
+import me.namila.service.auth.domain.core.authorization.model.id.RoleId;
+import me.namila.service.auth.domain.core.exception.InvalidTokenException;
+import me.namila.service.auth.domain.core.identity.model.UserAggregate;
+import me.namila.service.auth.domain.core.identity.model.id.UserId;
+import me.namila.service.auth.domain.core.identity.valueobject.EmailValue;
+import me.namila.service.auth.domain.core.identity.valueobject.UsernameValue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for TokenService.
+ */
+@DisplayName("TokenService Unit Tests")
+class TokenServiceTest {
+    
+    private static final Duration REFRESH_TTL = Duration.ofDays(30);
+    
+    private AccessTokenIssuerPort accessTokenIssuer;
+    private RefreshTokenStorePort refreshTokenStore;
+    private TokenRevocationPort revocationPort;
+    private UserRoleAssignmentRepositoryPort assignmentRepository;
+    private RoleRepositoryPort roleRepository;
+    private EntitlementEpochPort epochPort;
+    private UserStatusGatePort userStatusGate;
+    private Clock clock;
+    private TokenService tokenService;
+    
+    @BeforeEach
+    void setUp() {
+        accessTokenIssuer = mock(AccessTokenIssuerPort.class);
+        refreshTokenStore = mock(RefreshTokenStorePort.class);
+        revocationPort = mock(TokenRevocationPort.class);
+        assignmentRepository = mock(UserRoleAssignmentRepositoryPort.class);
+        roleRepository = mock(RoleRepositoryPort.class);
+        epochPort = mock(EntitlementEpochPort.class);
+        userStatusGate = mock(UserStatusGatePort.class);
+        clock = mock(Clock.class);
+        when(accessTokenIssuer.getAccessTokenTtl()).thenReturn(Duration.ofMinutes(30));
+        when(accessTokenIssuer.issueAccessToken(any(), any())).thenReturn("signed-jwt");
+        tokenService = new TokenService(accessTokenIssuer, refreshTokenStore, revocationPort,
+            new EntitlementService(assignmentRepository, roleRepository, epochPort, 100, clock), userStatusGate,
+            REFRESH_TTL);
+    }
+    
+    @Test
+    @DisplayName("issueTokens_AuthenticatedUser_ShouldStoreOnlyRefreshTokenHash")
+    void issueTokens_AuthenticatedUser_ShouldStoreOnlyRefreshTokenHash() {
+        // Given
+        UserId userId = UserId.generate();
+        UserAggregate user = UserAggregate.builder().id(userId).username(UsernameValue.of("alice"))
+            .email(EmailValue.of("alice@example.com")).build();
+        RoleId roleId = RoleId.generate();
+        when(epochPort.currentEpoch(userId.getValue())).thenReturn(42L);
+        when(assignmentRepository.findActiveByUserId(userId)).thenReturn(List.of(
+            UserRoleAssignmentAggregate.builder().userId(userId).roleId(roleId).build()));
+        when(roleRepository.findById(roleId)).thenReturn(Optional.of(
+            RoleAggregate.builder().id(roleId).roleName("platform:user").build()));
+        
+        // When
+        TokenResponse response = tokenService.issueTokens(user);
+        
+        // Then
+        assertEquals("signed-jwt", response.accessToken());
+        assertEquals("Bearer", response.tokenType());
+        assertEquals(1800, response.expiresIn());
+        UUID familyId = RefreshTokens.familyIdOf(response.refreshToken()).orElseThrow();
+        ArgumentCaptor<TokenSubject> subject = ArgumentCaptor.forClass(TokenSubject.class);
+        verify(refreshTokenStore).createFamily(eq(familyId), subject.capture(),
+            eq(RefreshTokens.hash(response.refreshToken())), eq(REFRESH_TTL));
+        assertEquals(List.of("platform:user"), subject.getValue().roles());
+        assertEquals(42L, subject.getValue().entitlementEpoch());
+        verify(accessTokenIssuer).issueAccessToken(subject.getValue(), familyId);
+    }
+    
+    @Test
+    @DisplayName("issueTokens_EpochBehindClock_ShouldStampMintTime")
+    void issueTokens_EpochBehindClock_ShouldStampMintTime() {
+        // Given: the node-local epoch is this node's start-up time, older than the mint
+        UserId userId = UserId.generate();
+        UserAggregate user = UserAggregate.builder().id(userId).username(UsernameValue.of("alice")).build();
+        when(epochPort.currentEpoch(userId.getValue())).thenReturn(1_000L);
+        when(clock.millis()).thenReturn(5_000L);
+        
+        // When
+        TokenResponse response = tokenService.issueTokens(user);
+        
+        // Then: nodes that started later than this one still see the token as current
+        UUID familyId = RefreshTokens.familyIdOf(response.refreshToken()).orElseThrow();
+        ArgumentCaptor<TokenSubject> subject = ArgumentCaptor.forClass(TokenSubject.class);
+        verify(refreshTokenStore).createFamily(eq(familyId), subject.capture(), anyString(), eq(REFRESH_TTL));
+        assertEquals(5_000L, subject.getValue().entitlementEpoch());
+    }
+    
+    @Test
+    @DisplayName("refresh_RotatedFamily_ShouldMintFromStoredSubject")
+    void refresh_RotatedFamily_ShouldMintFromStoredSubject() {
+        // Given
+        UUID familyId = UUID.randomUUID();
+        String presented = RefreshTokens.generate(familyId);
+        TokenSubject subject = new TokenSubject(UUID.randomUUID(), "alice", "alice@example.com", List.of(),
+            Instant.now());
+        when(refreshTokenStore.rotate(eq(familyId), eq(RefreshTokens.hash(presented)), anyString(), eq(REFRESH_TTL)))
+            .thenReturn(RefreshTokenRotation.rotated(subject));
+        
+        // When
+        TokenResponse response = tokenService.refresh(presented);
+        
+        // Then
+        assertNotEquals(presented, response.refreshToken());
+        assertEquals(Optional.of(familyId), RefreshTokens.familyIdOf(response.refreshToken()));
+        verify(accessTokenIssuer).issueAccessToken(subject, familyId);
+        verifyNoInteractions(assignmentRepository, roleRepository);
+    }
+    
+    @Test
+    @DisplayName("refresh_UserSessionsRevokedAfterLogin_ShouldRevokeFamily")
+    void refresh_UserSessionsRevokedAfterLogin_ShouldRevokeFamily() {
+        // Given
+        UUID familyId = UUID.randomUUID();
+        String presented = RefreshTokens.generate(familyId);
+        TokenSubject subject = new TokenSubject(UUID.randomUUID(), "alice", "alice@example.com", List.of(),
+            Instant.now().minusSeconds(60));
+        when(refreshTokenStore.rotate(eq(familyId), anyString(), anyString(), any()))
+            .thenReturn(RefreshTokenRotation.rotated(subject));
+        when(revocationPort.isRevokedForUser(subject.userId(), subject.authenticatedAt())).thenReturn(true);
+        
+        // When & Then
+        assertThrows(InvalidTokenException.class, () -> tokenService.refresh(presented));
+        verify(refreshTokenStore).revokeFamily(eq(familyId), anyString());
+        verify(accessTokenIssuer, never()).issueAccessToken(any(), any());
+    }
+    
+    @Test
+    @DisplayName("refresh_BlockedUser_ShouldRevokeFamilyWithoutIssuing")
+    void refresh_BlockedUser_ShouldRevokeFamilyWithoutIssuing() {
+        // Given: the user was suspended after logging in
+        UUID familyId = UUID.randomUUID();
+        String presented = RefreshTokens.generate(familyId);
+        TokenSubject subject = new TokenSubject(UUID.randomUUID(), "alice", "alice@example.com", List.of(),
+            Instant.now().minusSeconds(60));
+        when(refreshTokenStore.rotate(eq(familyId), anyString(), anyString(), any()))
+            .thenReturn(RefreshTokenRotation.rotated(subject));
+        when(userStatusGate.isBlocked(subject.userId())).thenReturn(true);
+        
+        // When & Then
+        assertThrows(InvalidTokenException.class, () -> tokenService.refresh(presented));
+        verify(refreshTokenStore).revokeFamily(eq(familyId), anyString());
+        verify(accessTokenIssuer, never()).issueAccessToken(any(), any());
+        verifyNoInteractions(assignmentRepository, roleRepository);
+    }
+    
+    @Test
+    @DisplayName("refresh_DPoPBoundFamilyWithoutProof_ShouldRevokeFamily")
+    void refresh_DPoPBoundFamilyWithoutProof_ShouldRevokeFamily() {
+        // Given
+        UUID familyId = UUID.randomUUID();
+        String presented = RefreshTokens.generate(familyId);
+        TokenSubject subject = new TokenSubject(UUID.randomUUID(), "alice", "alice@example.com", List.of(),
+            Instant.now(), 0L, "bound-jkt");
+        when(refreshTokenStore.rotate(eq(familyId), anyString(), anyString(), any()))
+            .thenReturn(RefreshTokenRotation.rotated(subject));
+        
+        // When & Then
+        assertThrows(InvalidTokenException.class, () -> tokenService.refresh(presented, "other-jkt"));
+        verify(refreshTokenStore).revokeFamily(eq(familyId), anyString());
+        verify(accessTokenIssuer, never()).issueAccessToken(any(), any());
+    }
+    
+    @Test
+    @DisplayName("refresh_ReusedUnknownOrMalformedToken_ShouldThrowInvalidToken")
+    void refresh_ReusedUnknownOrMalformedToken_ShouldThrowInvalidToken() {
+        // Given
+        UUID familyId = UUID.randomUUID();
+        when(refreshTokenStore.rotate(eq(familyId), anyString(), anyString(), any()))
+            .thenReturn(RefreshTokenRotation.reuseDetected(), RefreshTokenRotation.invalid());
+        
+        // When & Then
+        assertThrows(InvalidTokenException.class, () -> tokenService.refresh(RefreshTokens.generate(familyId)));
+        assertThrows(InvalidTokenException.class, () -> tokenService.refresh(RefreshTokens.generate(familyId)));
+        assertThrows(InvalidTokenException.class, () -> tokenService.refresh("not-a-token"));
+        verify(refreshTokenStore, times(2)).rotate(any(), any(), any(), any());
+        verify(accessTokenIssuer, never()).issueAccessToken(any(), any());
+    }
+    
+    @Test
+    @DisplayName("logout_ValidToken_ShouldRevokeItsFamily")
+    void logout_ValidToken_ShouldRevokeItsFamily() {
+        // Given
+        UUID familyId = UUID.randomUUID();
+        String token = RefreshTokens.generate(familyId);
+        
+        // When
+        tokenService.logout(token);
+        tokenService.logout("garbage");
+        
+        // Then
+        verify(refreshTokenStore).revokeFamily(familyId, RefreshTokens.hash(token));
+        verifyNoMoreInteractions(refreshTokenStore);
+    }
+}
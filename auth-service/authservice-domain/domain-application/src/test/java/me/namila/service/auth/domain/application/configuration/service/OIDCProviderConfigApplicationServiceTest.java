@@ -335,6 +335,7 @@ class OIDCProviderConfigApplicationServiceTest {
         verify(mapper).updateDomainFromRequest(request, aggregate);
         verify(configRepository).save(aggregate);
         verify(mapper).toResponse(aggregate);
+        assertTrue(aggregate.hasDomainEvents());
     }
     
     @Test
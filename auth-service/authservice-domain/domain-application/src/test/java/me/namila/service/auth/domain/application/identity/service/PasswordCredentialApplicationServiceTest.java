@@ -0,0 +1,154 @@
+package me.namila.service.auth.domain.application.identity.service;
+
+import me.namila.service.auth.domain.application.auth.credential.PasswordHasher;
+import me.namila.service.auth.domain.application.auth.credential.PasswordHashes;
+import me.namila.service.auth.domain.application.identity.dto.request.SetPasswordRequest;
+import me.namila.service.auth.domain.application.port.auth.TokenRevocationPort;
+import me.namila.service.auth.domain.application.port.identity.PasswordCredentialRepositoryPort;
+import me.namila.service.auth.domain.application.port.identity.UserRepositoryPort;
+import me.namila.service.auth.domain.core.exception.InvalidCredentialsException;
+import me.namila.service.auth.domain.core.exception.ServiceOverloadedException;
+import me.namila.service.auth.domain.core.identity.model.PasswordCredentialAggregate;
+import me.namila.service.auth.domain.core.identity.model.UserAggregate;
+import me.namila.service.auth.domain.core.identity.model.id.UserId;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for PasswordCredentialApplicationService.
+ */
+@DisplayName("PasswordCredentialApplicationService Unit Tests")
+class PasswordCredentialApplicationServiceTest {
+
+    private static final PasswordHashes.Cost COST = new PasswordHashes.Cost(64, 1, 1);
+    private static final String CURRENT = "correct horse battery staple";
+    private static final String REPLACEMENT = "tr0ub4dor and then some";
+
+    private UserRepositoryPort userRepository;
+    private PasswordCredentialRepositoryPort credentialRepository;
+    private TokenRevocationPort revocationPort;
+    private PlatformTransactionManager transactionManager;
+    private ExecutorService hashingPool;
+    private UserId userId;
+    private PasswordCredentialAggregate credential;
+    private PasswordCredentialApplicationService service;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(UserRepositoryPort.class);
+        credentialRepository = mock(PasswordCredentialRepositoryPort.class);
+        revocationPort = mock(TokenRevocationPort.class);
+        transactionManager = mock(PlatformTransactionManager.class);
+        hashingPool = Executors.newSingleThreadExecutor();
+        userId = UserId.generate();
+        credential = PasswordCredentialAggregate.builder()
+            .userId(userId)
+            .passwordHash(PasswordHashes.hash(CURRENT, COST))
+            .build();
+        when(userRepository.findById(userId)).thenReturn(Optional.of(UserAggregate.builder().id(userId).build()));
+        when(credentialRepository.findByUserId(userId)).thenReturn(Optional.of(credential));
+        service = newService(hashingPool);
+    }
+
+    @AfterEach
+    void tearDown() {
+        hashingPool.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("changeOwnPassword_CorrectCurrentPassword_ShouldReplaceAndRevokeSessions")
+    void changeOwnPassword_CorrectCurrentPassword_ShouldReplaceAndRevokeSessions() {
+        // When
+        service.changeOwnPassword(userId.getValue(), request(REPLACEMENT, CURRENT));
+
+        // Then
+        ArgumentCaptor<PasswordCredentialAggregate> saved = ArgumentCaptor.forClass(PasswordCredentialAggregate.class);
+        verify(credentialRepository).save(saved.capture());
+        assertTrue(PasswordHashes.verify(REPLACEMENT, saved.getValue().getPasswordHash()));
+        verify(revocationPort).revokeAllForUser(eq(userId.getValue()), any());
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    @DisplayName("changeOwnPassword_WrongOrMissingCurrentPassword_ShouldThrowInvalidCredentials")
+    void changeOwnPassword_WrongOrMissingCurrentPassword_ShouldThrowInvalidCredentials() {
+        // When / Then
+        assertThrows(InvalidCredentialsException.class,
+            () -> service.changeOwnPassword(userId.getValue(), request(REPLACEMENT, "wrong password")));
+        assertThrows(InvalidCredentialsException.class,
+            () -> service.changeOwnPassword(userId.getValue(), request(REPLACEMENT, null)));
+        verify(credentialRepository, never()).save(any());
+        verifyNoInteractions(revocationPort, transactionManager);
+    }
+
+    @Test
+    @DisplayName("changeOwnPassword_PasswordChangedWhileChecking_ShouldThrowInvalidCredentials")
+    void changeOwnPassword_PasswordChangedWhileChecking_ShouldThrowInvalidCredentials() {
+        // Given: another change lands between the check and the write
+        PasswordCredentialAggregate changed = PasswordCredentialAggregate.builder()
+            .userId(userId)
+            .passwordHash(PasswordHashes.hash("someone else's choice", COST))
+            .build();
+        when(credentialRepository.findByUserId(userId)).thenReturn(Optional.of(credential), Optional.of(changed));
+
+        // When / Then
+        assertThrows(InvalidCredentialsException.class,
+            () -> service.changeOwnPassword(userId.getValue(), request(REPLACEMENT, CURRENT)));
+        verify(credentialRepository, never()).save(any());
+        verify(revocationPort, never()).revokeAllForUser(any(), any());
+    }
+
+    @Test
+    @DisplayName("setPassword_NoCredential_ShouldCreateWithoutCurrentPassword")
+    void setPassword_NoCredential_ShouldCreateWithoutCurrentPassword() {
+        // Given
+        when(credentialRepository.findByUserId(userId)).thenReturn(Optional.empty());
+
+        // When
+        service.setPassword(userId.getValue(), request(REPLACEMENT, null));
+
+        // Then
+        ArgumentCaptor<PasswordCredentialAggregate> saved = ArgumentCaptor.forClass(PasswordCredentialAggregate.class);
+        verify(credentialRepository).save(saved.capture());
+        assertEquals(userId, saved.getValue().getUserId());
+        assertTrue(PasswordHashes.verify(REPLACEMENT, saved.getValue().getPasswordHash()));
+        verify(revocationPort, never()).revokeAllForUser(any(), any());
+    }
+
+    @Test
+    @DisplayName("setPassword_HashingSaturated_ShouldNotStartTransaction")
+    void setPassword_HashingSaturated_ShouldNotStartTransaction() {
+        // Given
+        ExecutorService saturated = Executors.newSingleThreadExecutor();
+        saturated.shutdown();
+        PasswordCredentialApplicationService shedding = newService(saturated);
+
+        // When / Then
+        assertThrows(ServiceOverloadedException.class,
+            () -> shedding.setPassword(userId.getValue(), request(REPLACEMENT, null)));
+        verifyNoInteractions(transactionManager);
+    }
+
+    private static SetPasswordRequest request(String password, String currentPassword) {
+        return SetPasswordRequest.builder().password(password).currentPassword(currentPassword).build();
+    }
+
+    private PasswordCredentialApplicationService newService(ExecutorService executor) {
+        return new PasswordCredentialApplicationService(userRepository, credentialRepository,
+            new PasswordHasher(COST, Duration.ofSeconds(5), executor), revocationPort, transactionManager);
+    }
+}
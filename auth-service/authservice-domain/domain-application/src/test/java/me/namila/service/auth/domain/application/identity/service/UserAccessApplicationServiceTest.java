@@ -0,0 +1,54 @@
+package me.namila.service.auth.domain.application.identity.service;
+
+import me.namila.service.auth.domain.application.port.identity.UserRepositoryPort;
+import me.namila.service.auth.domain.core.identity.model.UserAggregate;
+import me.namila.service.auth.domain.core.identity.model.id.UserId;
+import me.namila.service.auth.domain.core.identity.valueobject.UserStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for UserAccessApplicationService.
+ */
+@DisplayName("UserAccessApplicationService Unit Tests")
+class UserAccessApplicationServiceTest {
+    
+    private UserRepositoryPort userRepository;
+    private UserAccessApplicationService service;
+    
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(UserRepositoryPort.class);
+        service = new UserAccessApplicationService(userRepository);
+    }
+    
+    @Test
+    @DisplayName("canAuthenticate_EachStatus_ShouldAllowOnlyActiveAndPending")
+    void canAuthenticate_EachStatus_ShouldAllowOnlyActiveAndPending() {
+        for (UserStatus status : UserStatus.values()) {
+            // Given
+            UserId userId = UserId.generate();
+            when(userRepository.findById(userId)).thenReturn(Optional.of(
+                UserAggregate.builder().id(userId).status(status).build()));
+            
+            // When & Then
+            boolean expected = status == UserStatus.ACTIVE || status == UserStatus.PENDING_VERIFICATION;
+            assertEquals(expected, service.canAuthenticate(userId.getValue()), status.name());
+        }
+    }
+    
+    @Test
+    @DisplayName("canAuthenticate_UnknownUser_ShouldReturnFalse")
+    void canAuthenticate_UnknownUser_ShouldReturnFalse() {
+        when(userRepository.findById(any())).thenReturn(Optional.empty());
+        
+        assertFalse(service.canAuthenticate(UUID.randomUUID()));
+    }
+}
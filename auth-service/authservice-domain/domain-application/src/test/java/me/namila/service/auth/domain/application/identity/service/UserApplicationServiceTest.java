@@ -5,6 +5,7 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -13,18 +14,22 @@ import static org.mockito.Mockito.when;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
+import me.namila.service.auth.common.dto.CountMode;
 import me.namila.service.auth.domain.application.dto.response.PagedResponse;
 import me.namila.service.auth.domain.application.identity.dto.request.CreateUserRequest;
 import me.namila.service.auth.domain.application.identity.dto.request.UpdateUserRequest;
 import me.namila.service.auth.domain.application.identity.dto.request.UserProfileRequest;
+import me.namila.service.auth.domain.application.identity.dto.response.BatchGetUsersResponse;
 import me.namila.service.auth.domain.application.identity.dto.response.UserDetailResponse;
 import me.namila.service.auth.domain.application.identity.dto.response.UserResponse;
 import me.namila.service.auth.domain.application.identity.dto.response.UserSummaryResponse;
 import me.namila.service.auth.domain.application.identity.mapper.UserDtoMapper;
 import me.namila.service.auth.domain.application.port.identity.UserRepositoryPort;
+import me.namila.service.auth.domain.application.port.identity.UserSummaryCachePort;
 import me.namila.service.auth.domain.core.exception.DuplicateEntityException;
 import me.namila.service.auth.domain.core.exception.UserNotFoundException;
 import me.namila.service.auth.domain.core.identity.model.UserAggregate;
@@ -42,6 +47,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
 /**
@@ -60,6 +66,9 @@ class UserApplicationServiceTest
   @Mock
   private UserDtoMapper userDtoMapper;
 
+  @Mock
+  private UserSummaryCachePort userSummaryCache;
+
   @InjectMocks
   private UserApplicationService userApplicationService;
 
@@ -161,7 +170,7 @@ class UserApplicationServiceTest
     UserDetailResponse response = UserDetailResponse.builder().userId(testUserIdUuid).username("testuser")
         .email("test@example.com").status("ACTIVE").build();
 
-    when(userRepository.findById(testUserId)).thenReturn(Optional.of(testUser));
+    when(userRepository.findDetailById(testUserId)).thenReturn(Optional.of(testUser));
     when(userDtoMapper.toDetailResponse(testUser)).thenReturn(response);
 
     // When
@@ -181,7 +190,7 @@ class UserApplicationServiceTest
   {
     // Given
     UUID nonExistingId = UUID.randomUUID();
-    when(userRepository.findById(UserId.of(nonExistingId))).thenReturn(Optional.empty());
+    when(userRepository.findDetailById(UserId.of(nonExistingId))).thenReturn(Optional.empty());
 
     // When & Then
     UserNotFoundException exception = assertThrows(UserNotFoundException.class,
@@ -309,7 +318,7 @@ class UserApplicationServiceTest
     UserSummaryResponse summary = UserSummaryResponse.builder().userId(testUserIdUuid).username("testuser")
         .email("test@example.com").build();
 
-    when(userRepository.findAll()).thenReturn(users);
+    when(userRepository.findAll(pageable)).thenReturn(new SliceImpl<>(users, pageable, false));
     when(userDtoMapper.toSummaryResponse(any(UserAggregate.class))).thenReturn(summary);
 
     // When
@@ -321,7 +330,9 @@ class UserApplicationServiceTest
     assertEquals(0, result.getPage());
     assertEquals(10, result.getSize());
     assertEquals(3, result.getTotalElements());
-    verify(userRepository).findAll();
+    verify(userRepository).findAll(pageable);
+    // The last page already gives the total, so no count query runs
+    verify(userRepository, never()).count();
     verify(userDtoMapper, times(3)).toSummaryResponse(any(UserAggregate.class));
   }
 
@@ -411,4 +422,130 @@ class UserApplicationServiceTest
     assertTrue(exception.getMessage().contains(nonExistingId.toString()));
     verify(userRepository, never()).save(any(UserAggregate.class));
   }
+
+  @Test
+  @DisplayName("batchGetUsers_MixedIds_ShouldQueryOnceAndReportMissing")
+  void batchGetUsers_MixedIds_ShouldQueryOnceAndReportMissing()
+  {
+    // Given
+    UUID missingId = UUID.randomUUID();
+    UserSummaryResponse summary = UserSummaryResponse.builder().userId(testUserIdUuid).username("testuser").build();
+
+    when(userRepository.findAllById(anyCollection())).thenReturn(List.of(testUser));
+    when(userDtoMapper.toSummaryResponse(testUser)).thenReturn(summary);
+
+    // When
+    BatchGetUsersResponse result = userApplicationService
+        .batchGetUsers(List.of(missingId, testUserIdUuid, testUserIdUuid));
+
+    // Then
+    assertEquals(List.of(summary), result.getUsers());
+    assertEquals(List.of(missingId), result.getNotFound());
+    verify(userRepository, times(1)).findAllById(List.of(UserId.of(missingId), testUserId));
+    verify(userRepository, never()).findById(any(UserId.class));
+  }
+
+  @Test
+  @DisplayName("batchGetUsers_SomeIdsCached_ShouldQueryOnlyMissesAndCacheThem")
+  void batchGetUsers_SomeIdsCached_ShouldQueryOnlyMissesAndCacheThem()
+  {
+    // Given
+    UUID cachedId = UUID.randomUUID();
+    UserSummaryResponse cached = UserSummaryResponse.builder().userId(cachedId).username("cached").build();
+    UserSummaryResponse loaded = UserSummaryResponse.builder().userId(testUserIdUuid).username("testuser").build();
+
+    when(userSummaryCache.getAll(anyCollection())).thenReturn(Map.of(cachedId, cached));
+    when(userRepository.findAllById(anyCollection())).thenReturn(List.of(testUser));
+    when(userDtoMapper.toSummaryResponse(testUser)).thenReturn(loaded);
+
+    // When
+    BatchGetUsersResponse result = userApplicationService.batchGetUsers(List.of(testUserIdUuid, cachedId));
+
+    // Then
+    assertEquals(List.of(loaded, cached), result.getUsers());
+    assertTrue(result.getNotFound().isEmpty());
+    verify(userRepository, times(1)).findAllById(List.of(testUserId));
+    verify(userSummaryCache).putAll(List.of(loaded));
+  }
+
+  @Test
+  @DisplayName("batchGetUsers_AllIdsCached_ShouldNotQueryRepository")
+  void batchGetUsers_AllIdsCached_ShouldNotQueryRepository()
+  {
+    // Given
+    UserSummaryResponse cached = UserSummaryResponse.builder().userId(testUserIdUuid).username("testuser").build();
+    when(userSummaryCache.getAll(anyCollection())).thenReturn(Map.of(testUserIdUuid, cached));
+
+    // When
+    BatchGetUsersResponse result = userApplicationService.batchGetUsers(List.of(testUserIdUuid));
+
+    // Then
+    assertEquals(List.of(cached), result.getUsers());
+    verify(userRepository, never()).findAllById(anyCollection());
+  }
+
+  @Test
+  @DisplayName("listUsersByStatus_ExactCount_ShouldPageInRepositoryWithoutLoadingAllUsers")
+  void listUsersByStatus_ExactCount_ShouldPageInRepositoryWithoutLoadingAllUsers()
+  {
+    // Given
+    Pageable pageable = PageRequest.of(0, 20);
+    UserSummaryResponse summary = UserSummaryResponse.builder().userId(testUserIdUuid).status("LOCKED").build();
+
+    when(userRepository.findByStatus(UserStatus.LOCKED, pageable))
+        .thenReturn(new SliceImpl<>(List.of(testUser), pageable, true));
+    when(userRepository.countByStatus(UserStatus.LOCKED)).thenReturn(41L);
+    when(userDtoMapper.toSummaryResponse(testUser)).thenReturn(summary);
+
+    // When
+    PagedResponse<UserSummaryResponse> result = userApplicationService
+        .listUsersByStatus(UserStatus.LOCKED, pageable, CountMode.EXACT);
+
+    // Then
+    assertEquals(List.of(summary), result.getContent());
+    assertEquals(41, result.getTotalElements());
+    assertEquals(3, result.getTotalPages());
+    assertTrue(result.isHasNext());
+    verify(userRepository, never()).findAll();
+    verify(userRepository, never()).estimateCountByStatus(any(UserStatus.class));
+  }
+
+  @Test
+  @DisplayName("listUsers_EstimatedCount_ShouldUsePlannerEstimateInsteadOfCount")
+  void listUsers_EstimatedCount_ShouldUsePlannerEstimateInsteadOfCount()
+  {
+    // Given
+    Pageable pageable = PageRequest.of(1, 2);
+    when(userRepository.findAll(pageable)).thenReturn(new SliceImpl<>(List.of(testUser, testUser), pageable, true));
+    when(userRepository.estimateCount()).thenReturn(1000L);
+
+    // When
+    PagedResponse<UserSummaryResponse> result = userApplicationService.listUsers(pageable, CountMode.ESTIMATED);
+
+    // Then
+    assertEquals(CountMode.ESTIMATED, result.getCountMode());
+    assertEquals(1000, result.getTotalElements());
+    assertEquals(500, result.getTotalPages());
+    verify(userRepository, never()).count();
+  }
+
+  @Test
+  @DisplayName("listUsers_NoCount_ShouldReportHasNextWithoutAnyCount")
+  void listUsers_NoCount_ShouldReportHasNextWithoutAnyCount()
+  {
+    // Given
+    Pageable pageable = PageRequest.of(0, 1);
+    when(userRepository.findAll(pageable)).thenReturn(new SliceImpl<>(List.of(testUser), pageable, true));
+
+    // When
+    PagedResponse<UserSummaryResponse> result = userApplicationService.listUsers(pageable, CountMode.NONE);
+
+    // Then
+    assertEquals(CountMode.NONE, result.getCountMode());
+    assertTrue(result.isHasNext());
+    assertEquals(PagedResponse.UNKNOWN_TOTAL, result.getTotalElements());
+    assertEquals(PagedResponse.UNKNOWN_TOTAL, result.getTotalPages());
+    verify(userRepository, never()).count();
+    verify(userRepository, never()).estimateCount();
+  }
 }
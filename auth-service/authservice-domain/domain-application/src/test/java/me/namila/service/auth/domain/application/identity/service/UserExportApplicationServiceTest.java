@@ -0,0 +1,127 @@
+package me.namila.service.auth.domain.application.identity.service;
+
+import me.namila.service.auth.domain.application.identity.exporter.UserExportFormat;
+import me.namila.service.auth.domain.application.identity.exporter.UserExportRecord;
+import me.namila.service.auth.domain.application.port.identity.UserExportPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for UserExportApplicationService.
+ */
+@DisplayName("UserExportApplicationService Unit Tests")
+class UserExportApplicationServiceTest {
+    
+    private static final UUID USER_ID = UUID.fromString("00000000-0000-0000-0000-000000000001");
+    private static final UUID PROVIDER_ID = UUID.fromString("00000000-0000-0000-0000-0000000000aa");
+    private static final Instant CREATED_AT = Instant.parse("2025-01-01T00:00:00Z");
+    
+    private UserExportPort userExportPort;
+    private UserExportApplicationService service;
+    
+    @BeforeEach
+    void setUp() {
+        userExportPort = mock(UserExportPort.class);
+        service = new UserExportApplicationService(userExportPort);
+        
+        List<UserExportRecord> users = List.of(
+            new UserExportRecord(USER_ID, "alice", "alice@example.com", "ACTIVE", CREATED_AT, CREATED_AT,
+                "Alice", null, "Smith, \"Al\"",
+                List.of(new UserExportRecord.FederatedIdentity(PROVIDER_ID, "sub-1", "https://idp.example.com")),
+                List.of("admin", "viewer")),
+            new UserExportRecord(UUID.fromString("00000000-0000-0000-0000-000000000002"), "bob", "bob@example.com",
+                "SUSPENDED", CREATED_AT, CREATED_AT, null, null, null, null, null));
+        
+        when(userExportPort.forEachUser(any())).thenAnswer(invocation -> {
+            Consumer<UserExportRecord> consumer = invocation.getArgument(0);
+            users.forEach(consumer);
+            return (long) users.size();
+        });
+    }
+    
+    @Test
+    @DisplayName("exportUsers_NdjsonFormat_ShouldStreamOneObjectPerUser")
+    void exportUsers_NdjsonFormat_ShouldStreamOneObjectPerUser() throws IOException {
+        // Given
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        
+        // When
+        long exported = service.exportUsers(output, UserExportFormat.NDJSON, false);
+        
+        // Then
+        assertEquals(2, exported);
+        String[] lines = output.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].startsWith("{\"userId\":\"" + USER_ID + "\",\"username\":\"alice\""));
+        assertTrue(lines[0].contains("\"federatedIdentities\":[{\"providerId\":\"" + PROVIDER_ID + "\""));
+        assertTrue(lines[0].endsWith("\"roles\":[\"admin\",\"viewer\"]}"));
+        assertFalse(lines[1].contains("\"profile\""));
+        assertTrue(lines[1].endsWith("\"federatedIdentities\":[],\"roles\":[]}"));
+    }
+    
+    @Test
+    @DisplayName("exportUsers_CsvFormat_ShouldWriteHeaderQuotingAndJoinedColumns")
+    void exportUsers_CsvFormat_ShouldWriteHeaderQuotingAndJoinedColumns() throws IOException {
+        // Given
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        
+        // When
+        service.exportUsers(output, UserExportFormat.CSV, false);
+        
+        // Then
+        String[] lines = output.toString(StandardCharsets.UTF_8).split("\r\n");
+        assertEquals(3, lines.length);
+        assertTrue(lines[0].startsWith("user_id,username,email"));
+        assertEquals(USER_ID + ",alice,alice@example.com,ACTIVE,2025-01-01T00:00:00Z,2025-01-01T00:00:00Z,"
+            + "Alice,,\"Smith, \"\"Al\"\"\"," + PROVIDER_ID + "|sub-1|https://idp.example.com,admin;viewer", lines[1]);
+    }
+    
+    @Test
+    @DisplayName("exportUsers_GzipRequested_ShouldCompressOnTheFly")
+    void exportUsers_GzipRequested_ShouldCompressOnTheFly() throws IOException {
+        // Given
+        ByteArrayOutputStream plain = new ByteArrayOutputStream();
+        ByteArrayOutputStream gzipped = new ByteArrayOutputStream();
+        service.exportUsers(plain, UserExportFormat.NDJSON, false);
+        
+        // When
+        service.exportUsers(gzipped, UserExportFormat.NDJSON, true);
+        
+        // Then
+        try (GZIPInputStream input = new GZIPInputStream(new ByteArrayInputStream(gzipped.toByteArray()))) {
+            assertArrayEquals(plain.toByteArray(), input.readAllBytes());
+        }
+    }
+    
+    @Test
+    @DisplayName("exportUsers_ClientDisconnects_ShouldThrowIOException")
+    void exportUsers_ClientDisconnects_ShouldThrowIOException() {
+        // Given
+        OutputStream broken = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("Broken pipe");
+            }
+        };
+        
+        // When & Then
+        assertThrows(IOException.class, () -> service.exportUsers(broken, UserExportFormat.CSV, false));
+    }
+}
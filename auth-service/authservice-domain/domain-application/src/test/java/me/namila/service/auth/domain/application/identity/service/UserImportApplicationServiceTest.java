@@ -0,0 +1,188 @@
+package me.namila.service.auth.domain.application.identity.service;
+
+import me.namila.service.auth.domain.application.identity.dto.response.UserImportResponse;
+import me.namila.service.auth.domain.application.identity.importer.UserBulkInsertResult;
+import me.namila.service.auth.domain.application.identity.importer.UserImportCandidate;
+import me.namila.service.auth.domain.application.identity.importer.UserImportReportStore;
+import me.namila.service.auth.domain.application.port.identity.UserBulkImportPort;
+import me.namila.service.auth.domain.core.exception.DomainException;
+import me.namila.service.auth.domain.core.exception.ResourceNotFoundException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for UserImportApplicationService.
+ */
+@DisplayName("UserImportApplicationService Unit Tests")
+class UserImportApplicationServiceTest {
+    
+    @TempDir
+    Path reportDirectory;
+    
+    private UserBulkImportPort bulkImportPort;
+    private UserImportApplicationService service;
+    
+    @BeforeEach
+    void setUp() {
+        bulkImportPort = mock(UserBulkImportPort.class);
+        // Every candidate is inserted unless a test says otherwise
+        when(bulkImportPort.insertAbsent(anyList())).thenAnswer(invocation -> {
+            List<UserImportCandidate> candidates = invocation.getArgument(0);
+            return new UserBulkInsertResult(candidates.stream()
+                .map(candidate -> candidate.user().getId().getValue())
+                .collect(Collectors.toSet()), Map.of());
+        });
+        
+        service = new UserImportApplicationService(bulkImportPort, reportStoreFor(reportDirectory), 2, 2);
+    }
+    
+    @AfterEach
+    void tearDown() {
+        service.destroy();
+    }
+    
+    @Test
+    @DisplayName("importUsers_NdjsonWithBadRows_ShouldImportInBatchesAndReportErrors")
+    void importUsers_NdjsonWithBadRows_ShouldImportInBatchesAndReportErrors() throws Exception {
+        // Given
+        String ndjson = """
+            {"username":"alice","email":"alice@example.com","profile":{"firstName":"Alice"}}
+            {"username":"bob","email":"bob@example.com"}
+            not json
+            
+            {"username":"x","email":"carol@example.com"}
+            {"username":"dave","email":"dave@example.com"}
+            """;
+        
+        // When
+        UserImportResponse response = service.importUsers(stream(ndjson), "application/x-ndjson; charset=utf-8");
+        
+        // Then
+        assertEquals(5, response.getTotalRows());
+        assertEquals(3, response.getImported());
+        assertEquals(2, response.getInvalid());
+        assertEquals(0, response.getDuplicates());
+        assertTrue(response.getRowsPerSecond() > 0);
+        // The second batch has no valid rows, so only two batches reach the port
+        verify(bulkImportPort, times(2)).insertAbsent(anyList());
+        
+        List<String> report = Files.readAllLines(service.getErrorReport(response.getImportId()));
+        assertEquals("row,field,value,message", report.get(0));
+        assertTrue(report.get(1).startsWith("3,row,,"));
+        assertTrue(report.get(2).startsWith("5,username,x,"));
+    }
+    
+    @Test
+    @DisplayName("importUsers_CsvWithQuotedFields_ShouldMapProfileColumns")
+    void importUsers_CsvWithQuotedFields_ShouldMapProfileColumns() {
+        // Given
+        String csv = "Username,Email,First_Name,Display_Name\r\n"
+            + "alice,alice@example.com,Alice,\"Smith, \"\"Al\"\"\"\r\n"
+            + "bob,BOB@example.com,,\r\n";
+        
+        // When
+        UserImportResponse response = service.importUsers(stream(csv), "text/csv");
+        
+        // Then
+        assertEquals(2, response.getImported());
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<UserImportCandidate>> captor = ArgumentCaptor.forClass(List.class);
+        verify(bulkImportPort).insertAbsent(captor.capture());
+        List<UserImportCandidate> candidates = captor.getValue();
+        assertEquals("Smith, \"Al\"", candidates.get(0).user().getProfile().getDisplayName());
+        assertEquals(2, candidates.get(0).rowNumber());
+        assertEquals("bob@example.com", candidates.get(1).user().getEmail().getValue());
+        assertNull(candidates.get(1).user().getProfile());
+    }
+    
+    @Test
+    @DisplayName("importUsers_DuplicateUsers_ShouldReportInBatchAndExisting")
+    void importUsers_DuplicateUsers_ShouldReportInBatchAndExisting() throws Exception {
+        // Given
+        service.destroy();
+        service = new UserImportApplicationService(bulkImportPort, reportStoreFor(reportDirectory), 10, 2);
+        when(bulkImportPort.insertAbsent(anyList())).thenAnswer(invocation -> {
+            List<UserImportCandidate> candidates = invocation.getArgument(0);
+            return new UserBulkInsertResult(Set.of(candidates.get(0).user().getId().getValue()), Map.of(
+                candidates.get(1).user().getId().getValue(), UserBulkInsertResult.USERNAME,
+                candidates.get(2).user().getId().getValue(), UserBulkInsertResult.EMAIL));
+        });
+        String csv = """
+            username,email
+            alice,alice@example.com
+            alice,other@example.com
+            bob,alice@example.com
+            existing,existing@example.com
+            carol,taken@example.com
+            """;
+        
+        // When
+        UserImportResponse response = service.importUsers(stream(csv), "text/csv");
+        
+        // Then: each rejection names the field that actually collided
+        assertEquals(1, response.getImported());
+        assertEquals(4, response.getDuplicates());
+        List<String> report = Files.readAllLines(service.getErrorReport(response.getImportId()));
+        assertEquals(5, report.size());
+        assertTrue(report.get(1).startsWith("3,username,alice,Duplicate"));
+        assertTrue(report.get(2).startsWith("4,email,alice@example.com,Duplicate"));
+        assertTrue(report.get(3).startsWith("5,username,existing,A user with this username"));
+        assertTrue(report.get(4).startsWith("6,email,taken@example.com,A user with this email"));
+    }
+    
+    @Test
+    @DisplayName("importUsers_AllRowsImported_ShouldNotKeepReport")
+    void importUsers_AllRowsImported_ShouldNotKeepReport() {
+        // When
+        UserImportResponse response = service.importUsers(
+            stream("{\"username\":\"alice\",\"email\":\"alice@example.com\"}\n"), "application/x-ndjson");
+        
+        // Then
+        assertEquals(1, response.getImported());
+        UUID importId = response.getImportId();
+        assertThrows(ResourceNotFoundException.class, () -> service.getErrorReport(importId));
+    }
+    
+    @Test
+    @DisplayName("importUsers_CsvMissingRequiredColumns_ShouldReject")
+    void importUsers_CsvMissingRequiredColumns_ShouldReject() {
+        // Given
+        InputStream body = stream("name,mail\nalice,alice@example.com\n");
+        
+        // When & Then
+        assertThrows(DomainException.class, () -> service.importUsers(body, "text/csv"));
+        verifyNoInteractions(bulkImportPort);
+    }
+    
+    private static UserImportReportStore reportStoreFor(Path directory) {
+        UserImportReportStore reportStore = new UserImportReportStore();
+        ReflectionTestUtils.setField(reportStore, "directory", directory);
+        ReflectionTestUtils.setField(reportStore, "retention", Duration.ofHours(1));
+        return reportStore;
+    }
+    
+    private static InputStream stream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
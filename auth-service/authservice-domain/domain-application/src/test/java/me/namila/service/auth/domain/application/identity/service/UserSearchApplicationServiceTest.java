@@ -0,0 +1,68 @@
+package me.namila.service.auth.domain.application.identity.service;
+
+import me.namila.service.auth.common.dto.CountMode;
+import me.namila.service.auth.domain.application.dto.response.PagedResponse;
+import me.namila.service.auth.domain.application.identity.dto.response.UserSummaryResponse;
+import me.namila.service.auth.domain.application.identity.search.UserSearchHit;
+import me.namila.service.auth.domain.application.port.identity.UserSearchPort;
+import me.namila.service.auth.domain.core.exception.DomainException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for UserSearchApplicationService.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UserSearchApplicationService Unit Tests")
+class UserSearchApplicationServiceTest {
+    
+    @Mock
+    private UserSearchPort userSearchPort;
+    
+    @InjectMocks
+    private UserSearchApplicationService service;
+    
+    @Test
+    @DisplayName("searchUsers_PaddedMixedCaseQuery_ShouldNormalizeAndPageWithoutCount")
+    void searchUsers_PaddedMixedCaseQuery_ShouldNormalizeAndPageWithoutCount() {
+        // Given
+        UserSearchHit hit = new UserSearchHit(UUID.randomUUID(), "alice", "alice@example.com", "ACTIVE",
+            "Alice", Instant.now(), 2.0);
+        when(userSearchPort.search("alice", PageRequest.of(0, 10)))
+            .thenReturn(new SliceImpl<>(List.of(hit), PageRequest.of(0, 10), true));
+        
+        // When
+        PagedResponse<UserSummaryResponse> response = service.searchUsers("  Alice ", 0, 10);
+        
+        // Then
+        assertEquals(1, response.getContent().size());
+        assertEquals("alice", response.getContent().getFirst().getUsername());
+        assertEquals("Alice", response.getContent().getFirst().getDisplayName());
+        assertTrue(response.isHasNext());
+        assertEquals(CountMode.NONE, response.getCountMode());
+        assertEquals(PagedResponse.UNKNOWN_TOTAL, response.getTotalElements());
+    }
+    
+    @Test
+    @DisplayName("searchUsers_BlankQueryOrOversizedPage_ShouldThrowDomainException")
+    void searchUsers_BlankQueryOrOversizedPage_ShouldThrowDomainException() {
+        assertThrows(DomainException.class, () -> service.searchUsers("   ", 0, 10));
+        assertThrows(DomainException.class, () -> service.searchUsers("a".repeat(101), 0, 10));
+        assertThrows(DomainException.class, () -> service.searchUsers("alice", 0, 101));
+        verify(userSearchPort, never()).search(any(), any());
+    }
+}
@@ -0,0 +1,81 @@
+package me.namila.service.auth.domain.application.identity.service;
+
+import me.namila.service.auth.domain.application.identity.dto.response.UserStatusCountsResponse;
+import me.namila.service.auth.domain.application.port.identity.UserRepositoryPort;
+import me.namila.service.auth.domain.core.identity.valueobject.UserStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.EnumMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for UserStatisticsApplicationService.
+ */
+@DisplayName("UserStatisticsApplicationService Unit Tests")
+class UserStatisticsApplicationServiceTest {
+    
+    private static final Instant NOW = Instant.parse("2025-01-01T00:00:00Z");
+    
+    private UserRepositoryPort userRepository;
+    private Clock clock;
+    private UserStatisticsApplicationService service;
+    
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(UserRepositoryPort.class);
+        clock = mock(Clock.class);
+        when(clock.getZone()).thenReturn(ZoneOffset.UTC);
+        when(clock.instant()).thenReturn(NOW);
+        service = new UserStatisticsApplicationService(userRepository, Duration.ofSeconds(10), clock);
+        
+        Map<UserStatus, Long> counts = new EnumMap<>(UserStatus.class);
+        for (UserStatus status : UserStatus.values()) {
+            counts.put(status, 0L);
+        }
+        counts.put(UserStatus.ACTIVE, 120L);
+        counts.put(UserStatus.LOCKED, 40L);
+        when(userRepository.countByStatus()).thenReturn(counts);
+    }
+    
+    @Test
+    @DisplayName("getStatusCounts_CountsPerStatus_ShouldReportEveryStatusAndTotal")
+    void getStatusCounts_CountsPerStatus_ShouldReportEveryStatusAndTotal() {
+        // When
+        UserStatusCountsResponse response = service.getStatusCounts();
+        
+        // Then
+        assertEquals(UserStatus.values().length, response.getCounts().size());
+        assertEquals(40L, response.getCounts().get("LOCKED"));
+        assertEquals(0L, response.getCounts().get("SUSPENDED"));
+        assertEquals(160L, response.getTotal());
+        assertEquals(NOW, response.getComputedAt());
+    }
+    
+    @Test
+    @DisplayName("getStatusCounts_WithinTtl_ShouldServeCachedCounts")
+    void getStatusCounts_WithinTtl_ShouldServeCachedCounts() {
+        // Given
+        UserStatusCountsResponse first = service.getStatusCounts();
+        when(clock.instant()).thenReturn(NOW.plusSeconds(9));
+        
+        // When
+        UserStatusCountsResponse cached = service.getStatusCounts();
+        when(clock.instant()).thenReturn(NOW.plusSeconds(10));
+        UserStatusCountsResponse refreshed = service.getStatusCounts();
+        
+        // Then
+        assertSame(first, cached);
+        assertNotSame(first, refreshed);
+        assertEquals(NOW.plusSeconds(10), refreshed.getComputedAt());
+        verify(userRepository, times(2)).countByStatus();
+    }
+}
@@ -0,0 +1,123 @@
+package me.namila.service.auth.domain.core.authorization.model.view;
+
+import me.namila.service.auth.domain.core.authorization.model.PermissionEntity;
+import me.namila.service.auth.domain.core.authorization.model.PolicyAggregate;
+import me.namila.service.auth.domain.core.authorization.model.RoleAggregate;
+import me.namila.service.auth.domain.core.authorization.service.RoleHierarchyService;
+import me.namila.service.auth.domain.core.authorization.valueobject.Effect;
+import me.namila.service.auth.domain.core.authorization.valueobject.PolicyType;
+import me.namila.service.auth.domain.core.authorization.valueobject.RoleType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares read paths over mutable aggregates (defensive copy per getter) with frozen views.
+ * Run with {@code ./gradlew :authservice-domain:domain-core:jmh}; the gc profiler reports
+ * gc.alloc.rate.norm, the bytes allocated per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FrozenViewBenchmark {
+    
+    @Param({"3", "5"})
+    private int depth;
+    
+    private RoleHierarchyService roleHierarchyService;
+    private RoleAggregate role;
+    private RoleView roleView;
+    private PolicyAggregate policy;
+    private PolicyView policyView;
+    
+    @Setup(Level.Trial)
+    public void setUp() {
+        roleHierarchyService = new RoleHierarchyService();
+        role = hierarchy(depth);
+        roleView = role.freeze();
+        policy = policy();
+        policyView = policy.freeze();
+    }
+    
+    @Benchmark
+    public Object effectivePermissionsAggregate() {
+        return roleHierarchyService.getEffectivePermissions(role);
+    }
+    
+    @Benchmark
+    public Object effectivePermissionsView() {
+        return roleHierarchyService.getEffectivePermissions(roleView);
+    }
+    
+    @Benchmark
+    public void policyReadsAggregate(Blackhole blackhole) {
+        blackhole.consume(policy.getSubjects().get("role"));
+        blackhole.consume(policy.getResources().get("type"));
+        blackhole.consume(policy.getActions().contains("write"));
+        blackhole.consume(policy.getConditions().get("ipRange"));
+    }
+    
+    @Benchmark
+    public void policyReadsView(Blackhole blackhole) {
+        blackhole.consume(policyView.subjects().get("role"));
+        blackhole.consume(policyView.resources().get("type"));
+        blackhole.consume(policyView.actions().contains("write"));
+        blackhole.consume(policyView.conditions().get("ipRange"));
+    }
+    
+    // Two parents per level, each contributing four permissions
+    private static RoleAggregate hierarchy(int depth) {
+        RoleAggregate role = role("level-" + depth);
+        if (depth > 0) {
+            role.setParentRoles(Set.of(hierarchy(depth - 1), hierarchy(depth - 1)));
+        }
+        return role;
+    }
+    
+    private static RoleAggregate role(String name) {
+        Set<PermissionEntity> permissions = new HashSet<>();
+        for (String action : List.of("read", "write", "delete", "share")) {
+            permissions.add(PermissionEntity.builder().resource(name).action(action).build());
+        }
+        return RoleAggregate.builder()
+            .roleName(name)
+            .roleType(RoleType.CUSTOM)
+            .permissions(permissions)
+            .build();
+    }
+    
+    private static PolicyAggregate policy() {
+        Map<String, Object> subjects = new HashMap<>(Map.of("role", "editor", "department", "eng"));
+        Map<String, Object> resources = new HashMap<>(Map.of("type", "document", "owner", "self"));
+        Map<String, Object> conditions = new HashMap<>(Map.of("ipRange", "10.0.0.0/8", "mfa", true));
+        return PolicyAggregate.builder()
+            .policyName("editor-documents")
+            .policyType(PolicyType.ABAC)
+            .effect(Effect.PERMIT)
+            .subjects(subjects)
+            .resources(resources)
+            .actions(new HashSet<>(Set.of("read", "write", "share")))
+            .conditions(conditions)
+            .build();
+    }
+}
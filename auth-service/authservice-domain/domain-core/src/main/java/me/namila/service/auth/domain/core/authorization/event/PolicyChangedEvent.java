@@ -0,0 +1,29 @@
+package me.namila.service.auth.domain.core.authorization.event;
+
+import me.namila.service.auth.common.domain.ChangeType;
+import me.namila.service.auth.common.domain.DomainEvent;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Raised when a policy is enabled, disabled or revised.
+ */
+public record PolicyChangedEvent(UUID policyId, ChangeType changeType, Instant occurredAt) implements DomainEvent {
+    
+    public static final String AGGREGATE_TYPE = "Policy";
+    
+    public static PolicyChangedEvent of(UUID policyId, ChangeType changeType) {
+        return new PolicyChangedEvent(policyId, changeType, Instant.now());
+    }
+    
+    @Override
+    public String aggregateType() {
+        return AGGREGATE_TYPE;
+    }
+    
+    @Override
+    public UUID aggregateId() {
+        return policyId;
+    }
+}
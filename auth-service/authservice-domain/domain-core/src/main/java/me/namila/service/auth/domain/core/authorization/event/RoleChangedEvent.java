@@ -0,0 +1,29 @@
+package me.namila.service.auth.domain.core.authorization.event;
+
+import me.namila.service.auth.common.domain.ChangeType;
+import me.namila.service.auth.common.domain.DomainEvent;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Raised when a role, its permissions or its parent roles change.
+ */
+public record RoleChangedEvent(UUID roleId, ChangeType changeType, Instant occurredAt) implements DomainEvent {
+    
+    public static final String AGGREGATE_TYPE = "Role";
+    
+    public static RoleChangedEvent of(UUID roleId, ChangeType changeType) {
+        return new RoleChangedEvent(roleId, changeType, Instant.now());
+    }
+    
+    @Override
+    public String aggregateType() {
+        return AGGREGATE_TYPE;
+    }
+    
+    @Override
+    public UUID aggregateId() {
+        return roleId;
+    }
+}
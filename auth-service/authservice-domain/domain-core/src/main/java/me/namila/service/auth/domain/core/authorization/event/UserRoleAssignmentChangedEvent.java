@@ -0,0 +1,32 @@
+package me.namila.service.auth.domain.core.authorization.event;
+
+import me.namila.service.auth.common.domain.ChangeType;
+import me.namila.service.auth.common.domain.DomainEvent;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Raised when a role assignment is created, revoked, expired or deleted.
+ * Carries the user and role so consumers can invalidate per-user entitlements.
+ */
+public record UserRoleAssignmentChangedEvent(UUID assignmentId, UUID userId, UUID roleId, ChangeType changeType,
+                                             Instant occurredAt) implements DomainEvent {
+    
+    public static final String AGGREGATE_TYPE = "UserRoleAssignment";
+    
+    public static UserRoleAssignmentChangedEvent of(UUID assignmentId, UUID userId, UUID roleId,
+                                                    ChangeType changeType) {
+        return new UserRoleAssignmentChangedEvent(assignmentId, userId, roleId, changeType, Instant.now());
+    }
+    
+    @Override
+    public String aggregateType() {
+        return AGGREGATE_TYPE;
+    }
+    
+    @Override
+    public UUID aggregateId() {
+        return assignmentId;
+    }
+}
@@ -3,9 +3,10 @@ package me.namila.service.auth.domain.core.authorization.model;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
 import me.namila.service.auth.common.domain.BaseEntity;
+import me.namila.service.auth.common.json.LazyJsonMap;
 import me.namila.service.auth.domain.core.authorization.model.id.PermissionId;
+import me.namila.service.auth.domain.core.authorization.model.view.PermissionView;
 
-import java.util.HashMap;
 import java.util.Map;
 
 /**
@@ -28,16 +29,24 @@ public class PermissionEntity extends BaseEntity<PermissionId> {
     private String scope;
     
     @Builder.Default
-    private Map<String, Object> conditions = new HashMap<>();
+    private Map<String, Object> conditions = Map.of();
     
     private String description;
     
     public Map<String, Object> getConditions() {
-        return conditions != null ? new HashMap<>(conditions) : new HashMap<>();
+        return LazyJsonMap.copyOf(conditions);
     }
     
     public void setConditions(Map<String, Object> conditions) {
-        this.conditions = conditions != null ? new HashMap<>(conditions) : new HashMap<>();
+        this.conditions = LazyJsonMap.copyOf(conditions);
+    }
+    
+    /**
+     * Create an immutable read view of this permission.
+     * @return The frozen view
+     */
+    public PermissionView freeze() {
+        return new PermissionView(id, resource, action, scope, conditions, description);
     }
 }
 
@@ -3,11 +3,14 @@ package me.namila.service.auth.domain.core.authorization.model;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
 import me.namila.service.auth.common.domain.BaseAggregate;
+import me.namila.service.auth.common.domain.ChangeType;
+import me.namila.service.auth.common.json.LazyJsonMap;
+import me.namila.service.auth.domain.core.authorization.event.PolicyChangedEvent;
 import me.namila.service.auth.domain.core.authorization.model.id.PolicyId;
+import me.namila.service.auth.domain.core.authorization.model.view.PolicyView;
 import me.namila.service.auth.domain.core.authorization.valueobject.Effect;
 import me.namila.service.auth.domain.core.authorization.valueobject.PolicyType;
 
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
@@ -34,16 +37,16 @@ public class PolicyAggregate extends BaseAggregate<PolicyId> {
     private Effect effect = Effect.DENY; // Default deny
     
     @Builder.Default
-    private Map<String, Object> subjects = new HashMap<>(); // Subject matcher (user, role, group conditions)
+    private Map<String, Object> subjects = Map.of(); // Subject matcher (user, role, group conditions)
     
     @Builder.Default
-    private Map<String, Object> resources = new HashMap<>(); // Resource matcher (resource type, attributes)
+    private Map<String, Object> resources = Map.of(); // Resource matcher (resource type, attributes)
     
     @Builder.Default
     private Set<String> actions = new HashSet<>();
     
     @Builder.Default
-    private Map<String, Object> conditions = new HashMap<>(); // Attribute expressions
+    private Map<String, Object> conditions = Map.of(); // Attribute expressions
     
     @Builder.Default
     private Integer priority = 0;
@@ -57,32 +60,35 @@ public class PolicyAggregate extends BaseAggregate<PolicyId> {
     public void enable() {
         this.enabled = true;
         markAsUpdated();
+        registerDomainEvent(PolicyChangedEvent.of(id.getValue(), ChangeType.UPDATED));
     }
     
     public void disable() {
         this.enabled = false;
         markAsUpdated();
+        registerDomainEvent(PolicyChangedEvent.of(id.getValue(), ChangeType.UPDATED));
     }
     
     public void incrementVersion() {
         this.version = (this.version == null ? 1 : this.version) + 1;
         markAsUpdated();
+        registerDomainEvent(PolicyChangedEvent.of(id.getValue(), ChangeType.UPDATED));
     }
     
     public Map<String, Object> getSubjects() {
-        return subjects != null ? new HashMap<>(subjects) : new HashMap<>();
+        return LazyJsonMap.copyOf(subjects);
     }
     
     public void setSubjects(Map<String, Object> subjects) {
-        this.subjects = subjects != null ? new HashMap<>(subjects) : new HashMap<>();
+        this.subjects = LazyJsonMap.copyOf(subjects);
     }
     
     public Map<String, Object> getResources() {
-        return resources != null ? new HashMap<>(resources) : new HashMap<>();
+        return LazyJsonMap.copyOf(resources);
     }
     
     public void setResources(Map<String, Object> resources) {
-        this.resources = resources != null ? new HashMap<>(resources) : new HashMap<>();
+        this.resources = LazyJsonMap.copyOf(resources);
     }
     
     public Set<String> getActions() {
@@ -94,11 +100,20 @@ public class PolicyAggregate extends BaseAggregate<PolicyId> {
     }
     
     public Map<String, Object> getConditions() {
-        return conditions != null ? new HashMap<>(conditions) : new HashMap<>();
+        return LazyJsonMap.copyOf(conditions);
     }
     
     public void setConditions(Map<String, Object> conditions) {
-        this.conditions = conditions != null ? new HashMap<>(conditions) : new HashMap<>();
+        this.conditions = LazyJsonMap.copyOf(conditions);
+    }
+    
+    /**
+     * Create an immutable read view of this policy for evaluation paths.
+     * @return The frozen view
+     */
+    public PolicyView freeze() {
+        return new PolicyView(id, policyName, policyType, effect, subjects, resources, actions, conditions,
+            priority != null ? priority : 0, Boolean.TRUE.equals(enabled), version);
     }
 }
 
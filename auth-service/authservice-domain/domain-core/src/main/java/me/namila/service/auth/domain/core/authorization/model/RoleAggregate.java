@@ -3,11 +3,17 @@ package me.namila.service.auth.domain.core.authorization.model;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
 import me.namila.service.auth.common.domain.BaseAggregate;
+import me.namila.service.auth.common.domain.ChangeType;
+import me.namila.service.auth.common.json.LazyJsonMap;
+import me.namila.service.auth.domain.core.authorization.event.RoleChangedEvent;
 import me.namila.service.auth.domain.core.authorization.model.id.RoleId;
+import me.namila.service.auth.domain.core.authorization.model.view.PermissionView;
+import me.namila.service.auth.domain.core.authorization.model.view.RoleView;
 import me.namila.service.auth.domain.core.authorization.valueobject.RoleType;
 
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -38,7 +44,7 @@ public class RoleAggregate extends BaseAggregate<RoleId> {
     private Set<RoleAggregate> parentRoles = new HashSet<>(); // For hierarchical RBAC
     
     @Builder.Default
-    private Map<String, Object> metadata = new HashMap<>();
+    private Map<String, Object> metadata = Map.of();
     
     @Builder.Default
     private Long version = 0L;
@@ -50,6 +56,7 @@ public class RoleAggregate extends BaseAggregate<RoleId> {
         this.permissions.add(permission);
         markAsUpdated();
         incrementVersion();
+        registerDomainEvent(RoleChangedEvent.of(id.getValue(), ChangeType.UPDATED));
     }
     
     public void removePermission(PermissionEntity permission) {
@@ -57,6 +64,7 @@ public class RoleAggregate extends BaseAggregate<RoleId> {
             this.permissions.remove(permission);
             markAsUpdated();
             incrementVersion();
+            registerDomainEvent(RoleChangedEvent.of(id.getValue(), ChangeType.UPDATED));
         }
     }
     
@@ -73,6 +81,7 @@ public class RoleAggregate extends BaseAggregate<RoleId> {
         this.parentRoles.add(parentRole);
         markAsUpdated();
         incrementVersion();
+        registerDomainEvent(RoleChangedEvent.of(id.getValue(), ChangeType.UPDATED));
     }
     
     public void removeParentRole(RoleAggregate parentRole) {
@@ -80,6 +89,7 @@ public class RoleAggregate extends BaseAggregate<RoleId> {
             this.parentRoles.remove(parentRole);
             markAsUpdated();
             incrementVersion();
+            registerDomainEvent(RoleChangedEvent.of(id.getValue(), ChangeType.UPDATED));
         }
     }
     
@@ -100,11 +110,42 @@ public class RoleAggregate extends BaseAggregate<RoleId> {
     }
     
     public Map<String, Object> getMetadata() {
-        return metadata != null ? new HashMap<>(metadata) : new HashMap<>();
+        return LazyJsonMap.copyOf(metadata);
     }
     
     public void setMetadata(Map<String, Object> metadata) {
-        this.metadata = metadata != null ? new HashMap<>(metadata) : new HashMap<>();
+        this.metadata = LazyJsonMap.copyOf(metadata);
+    }
+    
+    /**
+     * Create an immutable read view of this role and its parent hierarchy.
+     * Roles reachable through more than one path are frozen once and shared.
+     * @return The frozen view
+     * @throws IllegalStateException if the hierarchy contains a cycle
+     */
+    public RoleView freeze() {
+        return freeze(new HashMap<>(), new HashSet<>());
+    }
+    
+    private RoleView freeze(Map<RoleId, RoleView> frozen, Set<RoleId> inProgress) {
+        RoleView existing = frozen.get(id);
+        if (existing != null) {
+            return existing;
+        }
+        if (!inProgress.add(id)) {
+            throw new IllegalStateException("Role hierarchy contains a cycle at role " + roleName);
+        }
+        
+        List<PermissionView> permissionViews = permissions == null ? List.of()
+            : permissions.stream().map(PermissionEntity::freeze).toList();
+        List<RoleView> parentViews = parentRoles == null ? List.of()
+            : parentRoles.stream().map(parent -> parent.freeze(frozen, inProgress)).toList();
+        
+        RoleView view = new RoleView(id, roleName, displayName, description, roleType,
+            Set.copyOf(permissionViews), Set.copyOf(parentViews), metadata, version);
+        inProgress.remove(id);
+        frozen.put(id, view);
+        return view;
     }
     
     public void incrementVersion() {
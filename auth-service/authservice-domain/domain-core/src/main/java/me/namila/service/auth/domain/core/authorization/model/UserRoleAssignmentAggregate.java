@@ -3,6 +3,8 @@ package me.namila.service.auth.domain.core.authorization.model;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
 import me.namila.service.auth.common.domain.BaseAggregate;
+import me.namila.service.auth.common.domain.ChangeType;
+import me.namila.service.auth.domain.core.authorization.event.UserRoleAssignmentChangedEvent;
 import me.namila.service.auth.domain.core.authorization.model.id.RoleId;
 import me.namila.service.auth.domain.core.authorization.model.id.UserRoleAssignmentId;
 import me.namila.service.auth.domain.core.authorization.valueobject.AssignmentScope;
@@ -46,6 +48,35 @@ public class UserRoleAssignmentAggregate extends BaseAggregate<UserRoleAssignmen
     @Builder.Default
     private Long version = 0L;
     
+    /**
+     * Assign a role to a user, effective immediately and until revoked.
+     * @param userId The user receiving the role
+     * @param roleId The role
+     * @param scope The assignment scope
+     * @param scopeContext The scope context (e.g., tenantId), or null
+     * @param assignedBy The admin making the assignment
+     * @return The new assignment, with its creation event registered
+     */
+    public static UserRoleAssignmentAggregate assign(UserId userId, RoleId roleId, AssignmentScope scope,
+                                                     String scopeContext, UserId assignedBy) {
+        UserRoleAssignmentAggregate assignment = UserRoleAssignmentAggregate.builder()
+            .userId(userId)
+            .roleId(roleId)
+            .scope(scope)
+            .scopeContext(scopeContext)
+            .assignedBy(assignedBy)
+            .build();
+        assignment.markCreated();
+        return assignment;
+    }
+    
+    /**
+     * Record that this assignment has just been made, so the user's cached entitlements are evicted.
+     */
+    public void markCreated() {
+        registerChange(ChangeType.CREATED);
+    }
+    
     public void revoke(UserId revokedBy) {
         if (this.status == AssignmentStatus.REVOKED) {
             throw new IllegalStateException("Assignment is already revoked");
@@ -55,6 +86,7 @@ public class UserRoleAssignmentAggregate extends BaseAggregate<UserRoleAssignmen
         this.assignedAt = Instant.now();
         markAsUpdated();
         incrementVersion();
+        registerChange(ChangeType.UPDATED);
     }
     
     public void expire() {
@@ -64,6 +96,7 @@ public class UserRoleAssignmentAggregate extends BaseAggregate<UserRoleAssignmen
         this.status = AssignmentStatus.EXPIRED;
         markAsUpdated();
         incrementVersion();
+        registerChange(ChangeType.UPDATED);
     }
     
     public boolean isActive() {
@@ -80,6 +113,18 @@ public class UserRoleAssignmentAggregate extends BaseAggregate<UserRoleAssignmen
         return true;
     }
     
+    /**
+     * Register a change event carrying the affected user and role.
+     * @param changeType The kind of change
+     */
+    public void registerChange(ChangeType changeType) {
+        registerDomainEvent(UserRoleAssignmentChangedEvent.of(
+            id.getValue(),
+            userId != null ? userId.getValue() : null,
+            roleId != null ? roleId.getValue() : null,
+            changeType));
+    }
+    
     public void incrementVersion() {
         this.version = (this.version == null ? 0L : this.version) + 1L;
     }
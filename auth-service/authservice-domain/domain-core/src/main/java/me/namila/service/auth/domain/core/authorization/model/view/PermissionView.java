@@ -0,0 +1,44 @@
+package me.namila.service.auth.domain.core.authorization.model.view;
+
+import me.namila.service.auth.common.domain.FrozenCollections;
+import me.namila.service.auth.domain.core.authorization.model.id.PermissionId;
+
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Immutable read view of a permission.
+ * Accessors return the frozen collections directly, so reads do not allocate.
+ */
+public record PermissionView(
+    PermissionId id,
+    String resource,
+    String action,
+    String scope,
+    Map<String, Object> conditions,
+    String description
+) {
+    
+    public PermissionView {
+        Objects.requireNonNull(id, "id");
+        conditions = FrozenCollections.map(conditions);
+    }
+    
+    /**
+     * @return true if this permission grants the given action on the given resource
+     */
+    public boolean grants(String resource, String action) {
+        return Objects.equals(this.resource, resource) && Objects.equals(this.action, action);
+    }
+    
+    // Identity semantics, matching PermissionEntity
+    @Override
+    public boolean equals(Object other) {
+        return this == other || (other instanceof PermissionView view && id.equals(view.id));
+    }
+    
+    @Override
+    public int hashCode() {
+        return id.hashCode();
+    }
+}
@@ -0,0 +1,55 @@
+package me.namila.service.auth.domain.core.authorization.model.view;
+
+import me.namila.service.auth.common.domain.FrozenCollections;
+import me.namila.service.auth.domain.core.authorization.model.id.PolicyId;
+import me.namila.service.auth.domain.core.authorization.valueobject.Effect;
+import me.namila.service.auth.domain.core.authorization.valueobject.PolicyType;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Immutable read view of a policy for evaluation paths.
+ * Accessors return the frozen collections directly, so reads do not allocate.
+ */
+public record PolicyView(
+    PolicyId id,
+    String policyName,
+    PolicyType policyType,
+    Effect effect,
+    Map<String, Object> subjects,
+    Map<String, Object> resources,
+    Set<String> actions,
+    Map<String, Object> conditions,
+    int priority,
+    boolean enabled,
+    Integer version
+) {
+    
+    public PolicyView {
+        Objects.requireNonNull(id, "id");
+        subjects = FrozenCollections.map(subjects);
+        resources = FrozenCollections.map(resources);
+        actions = FrozenCollections.set(actions);
+        conditions = FrozenCollections.map(conditions);
+    }
+    
+    /**
+     * @return true if the policy is enabled and covers the given action
+     */
+    public boolean appliesTo(String action) {
+        return enabled && action != null && actions.contains(action);
+    }
+    
+    // Identity semantics, matching PolicyAggregate
+    @Override
+    public boolean equals(Object other) {
+        return this == other || (other instanceof PolicyView view && id.equals(view.id));
+    }
+    
+    @Override
+    public int hashCode() {
+        return id.hashCode();
+    }
+}
@@ -0,0 +1,52 @@
+package me.namila.service.auth.domain.core.authorization.model.view;
+
+import me.namila.service.auth.common.domain.FrozenCollections;
+import me.namila.service.auth.domain.core.authorization.model.id.RoleId;
+import me.namila.service.auth.domain.core.authorization.valueobject.RoleType;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Immutable read view of a role and its parent hierarchy.
+ * Built once via {@code RoleAggregate.freeze()} for hierarchy walks and permission
+ * checks; accessors return the frozen collections directly, so reads do not allocate.
+ * Command paths keep using the mutable aggregate.
+ */
+public record RoleView(
+    RoleId id,
+    String roleName,
+    String displayName,
+    String description,
+    RoleType roleType,
+    Set<PermissionView> permissions,
+    Set<RoleView> parentRoles,
+    Map<String, Object> metadata,
+    Long version
+) {
+    
+    public RoleView {
+        Objects.requireNonNull(id, "id");
+        permissions = FrozenCollections.set(permissions);
+        parentRoles = FrozenCollections.set(parentRoles);
+        metadata = FrozenCollections.map(metadata);
+    }
+    
+    // Identity semantics, matching RoleAggregate; also keeps hashing shallow for nested hierarchies
+    @Override
+    public boolean equals(Object other) {
+        return this == other || (other instanceof RoleView view && id.equals(view.id));
+    }
+    
+    @Override
+    public int hashCode() {
+        return id.hashCode();
+    }
+    
+    @Override
+    public String toString() {
+        return "RoleView[id=" + id + ", roleName=" + roleName + ", permissions=" + permissions.size()
+            + ", parentRoles=" + parentRoles.size() + "]";
+    }
+}
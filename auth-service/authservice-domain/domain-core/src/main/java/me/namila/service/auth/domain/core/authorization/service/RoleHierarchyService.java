@@ -2,7 +2,11 @@ package me.namila.service.auth.domain.core.authorization.service;
 
 import me.namila.service.auth.domain.core.authorization.model.PermissionEntity;
 import me.namila.service.auth.domain.core.authorization.model.RoleAggregate;
+import me.namila.service.auth.domain.core.authorization.model.view.PermissionView;
+import me.namila.service.auth.domain.core.authorization.model.view.RoleView;
 
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.HashSet;
 import java.util.Set;
 
@@ -57,6 +61,33 @@ public class RoleHierarchyService {
         return effectivePermissions;
     }
     
+    /**
+     * Gets all effective permissions for a frozen role (direct + inherited).
+     * Walks the shared immutable collections of the view, so the only allocation
+     * is the result set; roles reachable through several parents are visited once.
+     * @param role The frozen role to get effective permissions for
+     * @return Set of all effective permissions
+     */
+    public Set<PermissionView> getEffectivePermissions(RoleView role) {
+        if (role == null) {
+            throw new IllegalArgumentException("Role cannot be null");
+        }
+        
+        Set<PermissionView> effectivePermissions = new HashSet<>(role.permissions());
+        Set<RoleView> visited = new HashSet<>();
+        Deque<RoleView> pending = new ArrayDeque<>(role.parentRoles());
+        
+        while (!pending.isEmpty()) {
+            RoleView parentRole = pending.pop();
+            if (visited.add(parentRole)) {
+                effectivePermissions.addAll(parentRole.permissions());
+                pending.addAll(parentRole.parentRoles());
+            }
+        }
+        
+        return effectivePermissions;
+    }
+    
     /**
      * Validates role hierarchy to prevent circular dependencies.
      * @param role The role to validate
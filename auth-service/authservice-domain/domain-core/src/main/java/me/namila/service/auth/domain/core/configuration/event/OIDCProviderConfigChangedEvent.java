@@ -0,0 +1,30 @@
+package me.namila.service.auth.domain.core.configuration.event;
+
+import me.namila.service.auth.common.domain.ChangeType;
+import me.namila.service.auth.common.domain.DomainEvent;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Raised when an OIDC provider configuration is changed, enabled, disabled or deleted.
+ */
+public record OIDCProviderConfigChangedEvent(UUID providerId, ChangeType changeType,
+                                             Instant occurredAt) implements DomainEvent {
+    
+    public static final String AGGREGATE_TYPE = "OIDCProviderConfig";
+    
+    public static OIDCProviderConfigChangedEvent of(UUID providerId, ChangeType changeType) {
+        return new OIDCProviderConfigChangedEvent(providerId, changeType, Instant.now());
+    }
+    
+    @Override
+    public String aggregateType() {
+        return AGGREGATE_TYPE;
+    }
+    
+    @Override
+    public UUID aggregateId() {
+        return providerId;
+    }
+}
@@ -3,10 +3,12 @@ package me.namila.service.auth.domain.core.configuration.model;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
 import me.namila.service.auth.common.domain.BaseAggregate;
+import me.namila.service.auth.common.domain.ChangeType;
+import me.namila.service.auth.common.json.LazyJsonMap;
+import me.namila.service.auth.domain.core.configuration.event.OIDCProviderConfigChangedEvent;
 import me.namila.service.auth.domain.core.configuration.model.id.OIDCProviderConfigId;
 import me.namila.service.auth.domain.core.configuration.valueobject.ProviderType;
 
-import java.util.HashMap;
 import java.util.Map;
 
 /**
@@ -37,7 +39,7 @@ public class OIDCProviderConfigAggregate extends BaseAggregate<OIDCProviderConfi
     private JITProvisioningConfig jitProvisioning;
     
     @Builder.Default
-    private Map<String, Object> metadata = new HashMap<>();
+    private Map<String, Object> metadata = Map.of();
     
     @Builder.Default
     private Long version = 0L;
@@ -46,12 +48,22 @@ public class OIDCProviderConfigAggregate extends BaseAggregate<OIDCProviderConfi
         this.enabled = true;
         markAsUpdated();
         incrementVersion();
+        registerDomainEvent(OIDCProviderConfigChangedEvent.of(id.getValue(), ChangeType.UPDATED));
     }
     
     public void disable() {
         this.enabled = false;
         markAsUpdated();
         incrementVersion();
+        registerDomainEvent(OIDCProviderConfigChangedEvent.of(id.getValue(), ChangeType.UPDATED));
+    }
+    
+    /**
+     * Record that the configuration was changed through a bulk update.
+     */
+    public void markChanged() {
+        markAsUpdated();
+        registerDomainEvent(OIDCProviderConfigChangedEvent.of(id.getValue(), ChangeType.UPDATED));
     }
     
     public void incrementVersion() {
@@ -59,11 +71,11 @@ public class OIDCProviderConfigAggregate extends BaseAggregate<OIDCProviderConfi
     }
     
     public Map<String, Object> getMetadata() {
-        return metadata != null ? new HashMap<>(metadata) : new HashMap<>();
+        return LazyJsonMap.copyOf(metadata);
     }
     
     public void setMetadata(Map<String, Object> metadata) {
-        this.metadata = metadata != null ? new HashMap<>(metadata) : new HashMap<>();
+        this.metadata = LazyJsonMap.copyOf(metadata);
     }
 }
 
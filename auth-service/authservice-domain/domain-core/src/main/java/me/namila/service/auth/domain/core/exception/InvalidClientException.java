@@ -0,0 +1,12 @@
+package me.namila.service.auth.domain.core.exception;
+
+/**
+ * Exception thrown when a client can not be authenticated.
+ * The message never says whether the client is unknown, disabled or presented the wrong secret.
+ */
+public class InvalidClientException extends DomainException {
+    
+    public InvalidClientException() {
+        super("INVALID_CLIENT", "Invalid client credentials");
+    }
+}
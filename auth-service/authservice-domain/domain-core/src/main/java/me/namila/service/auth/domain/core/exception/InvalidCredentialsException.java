@@ -0,0 +1,12 @@
+package me.namila.service.auth.domain.core.exception;
+
+/**
+ * Exception thrown when a user can not be authenticated with a username and password.
+ * The message never says whether the user is unknown, has no password, is blocked or presented the wrong one.
+ */
+public class InvalidCredentialsException extends DomainException {
+    
+    public InvalidCredentialsException() {
+        super("INVALID_CREDENTIALS", "Invalid username or password");
+    }
+}
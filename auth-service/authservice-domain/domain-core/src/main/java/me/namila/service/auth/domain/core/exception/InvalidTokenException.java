@@ -0,0 +1,12 @@
+package me.namila.service.auth.domain.core.exception;
+
+/**
+ * Exception thrown when a presented token is unknown, expired, revoked or reused.
+ * The message never says which, so callers cannot probe token state.
+ */
+public class InvalidTokenException extends DomainException {
+    
+    public InvalidTokenException(String tokenType) {
+        super("INVALID_TOKEN", "Invalid or expired " + tokenType);
+    }
+}
@@ -0,0 +1,12 @@
+package me.namila.service.auth.domain.core.exception;
+
+/**
+ * Exception thrown when a bounded resource is saturated and the request is shed
+ * instead of queued; the caller should retry later.
+ */
+public class ServiceOverloadedException extends DomainException {
+    
+    public ServiceOverloadedException(String resource) {
+        super("SERVICE_OVERLOADED", "Too many concurrent " + resource + " requests, retry later");
+    }
+}
@@ -3,13 +3,13 @@ package me.namila.service.auth.domain.core.governance.model;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
 import me.namila.service.auth.common.domain.BaseEntity;
+import me.namila.service.auth.common.json.LazyJsonMap;
 import me.namila.service.auth.domain.core.governance.model.id.AuditLogId;
 import me.namila.service.auth.domain.core.governance.valueobject.ActorType;
 import me.namila.service.auth.domain.core.governance.valueobject.AuditEventType;
 import me.namila.service.auth.domain.core.governance.valueobject.Decision;
 
 import java.time.Instant;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
 
@@ -41,18 +41,18 @@ public class AuditLogEntity extends BaseEntity<AuditLogId> {
     private String policyVersion;
     
     @Builder.Default
-    private Map<String, Object> context = new HashMap<>();
+    private Map<String, Object> context = Map.of();
     
     private String ipAddress;
     private String userAgent;
     private String correlationId; // For PDP/PEP correlation
     
     public Map<String, Object> getContext() {
-        return context != null ? new HashMap<>(context) : new HashMap<>();
+        return LazyJsonMap.copyOf(context);
     }
     
     public void setContext(Map<String, Object> context) {
-        this.context = context != null ? new HashMap<>(context) : new HashMap<>();
+        this.context = LazyJsonMap.copyOf(context);
     }
 }
 
@@ -0,0 +1,30 @@
+package me.namila.service.auth.domain.core.identity.event;
+
+import me.namila.service.auth.common.domain.ChangeType;
+import me.namila.service.auth.common.domain.DomainEvent;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Raised when a user's local password is set or changed. Hash upgrades on login are not announced.
+ */
+public record PasswordCredentialChangedEvent(UUID credentialId, UUID userId, ChangeType changeType, Instant occurredAt)
+        implements DomainEvent {
+    
+    public static final String AGGREGATE_TYPE = "PasswordCredential";
+    
+    public static PasswordCredentialChangedEvent of(UUID credentialId, UUID userId, ChangeType changeType) {
+        return new PasswordCredentialChangedEvent(credentialId, userId, changeType, Instant.now());
+    }
+    
+    @Override
+    public String aggregateType() {
+        return AGGREGATE_TYPE;
+    }
+    
+    @Override
+    public UUID aggregateId() {
+        return credentialId;
+    }
+}
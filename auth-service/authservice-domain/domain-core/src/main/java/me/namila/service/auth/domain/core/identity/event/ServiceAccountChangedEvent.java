@@ -0,0 +1,29 @@
+package me.namila.service.auth.domain.core.identity.event;
+
+import me.namila.service.auth.common.domain.ChangeType;
+import me.namila.service.auth.common.domain.DomainEvent;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Raised when a service account is registered, its secret is rotated or it is disabled.
+ */
+public record ServiceAccountChangedEvent(UUID accountId, ChangeType changeType, Instant occurredAt) implements DomainEvent {
+    
+    public static final String AGGREGATE_TYPE = "ServiceAccount";
+    
+    public static ServiceAccountChangedEvent of(UUID accountId, ChangeType changeType) {
+        return new ServiceAccountChangedEvent(accountId, changeType, Instant.now());
+    }
+    
+    @Override
+    public String aggregateType() {
+        return AGGREGATE_TYPE;
+    }
+    
+    @Override
+    public UUID aggregateId() {
+        return accountId;
+    }
+}
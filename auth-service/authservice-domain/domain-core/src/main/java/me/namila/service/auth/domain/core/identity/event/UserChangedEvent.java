@@ -0,0 +1,29 @@
+package me.namila.service.auth.domain.core.identity.event;
+
+import me.namila.service.auth.common.domain.ChangeType;
+import me.namila.service.auth.common.domain.DomainEvent;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Raised when a user's attributes, profile or federated identities change.
+ */
+public record UserChangedEvent(UUID userId, ChangeType changeType, Instant occurredAt) implements DomainEvent {
+    
+    public static final String AGGREGATE_TYPE = "User";
+    
+    public static UserChangedEvent of(UUID userId, ChangeType changeType) {
+        return new UserChangedEvent(userId, changeType, Instant.now());
+    }
+    
+    @Override
+    public String aggregateType() {
+        return AGGREGATE_TYPE;
+    }
+    
+    @Override
+    public UUID aggregateId() {
+        return userId;
+    }
+}
@@ -0,0 +1,28 @@
+package me.namila.service.auth.domain.core.identity.event;
+
+import me.namila.service.auth.common.domain.DomainEvent;
+import me.namila.service.auth.domain.core.identity.valueobject.UserStatus;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Raised when a user's account status changes (activate, suspend, lock, unlock).
+ */
+public record UserStatusChangedEvent(UUID userId, UserStatus previousStatus, UserStatus newStatus,
+                                     Instant occurredAt) implements DomainEvent {
+    
+    public static UserStatusChangedEvent of(UUID userId, UserStatus previousStatus, UserStatus newStatus) {
+        return new UserStatusChangedEvent(userId, previousStatus, newStatus, Instant.now());
+    }
+    
+    @Override
+    public String aggregateType() {
+        return UserChangedEvent.AGGREGATE_TYPE;
+    }
+    
+    @Override
+    public UUID aggregateId() {
+        return userId;
+    }
+}
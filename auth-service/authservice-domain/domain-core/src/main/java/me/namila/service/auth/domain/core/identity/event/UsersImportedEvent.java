@@ -0,0 +1,32 @@
+package me.namila.service.auth.domain.core.identity.event;
+
+import me.namila.service.auth.common.domain.DomainEvent;
+
+import java.time.Instant;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Raised once per bulk import batch for the users it created, in place of a
+ * created {@link UserChangedEvent} per user. The batch ID stands in as the aggregate ID.
+ */
+public record UsersImportedEvent(UUID batchId, Set<UUID> userIds, Instant occurredAt) implements DomainEvent {
+    
+    public UsersImportedEvent {
+        userIds = Set.copyOf(userIds);
+    }
+    
+    public static UsersImportedEvent of(Set<UUID> userIds) {
+        return new UsersImportedEvent(UUID.randomUUID(), userIds, Instant.now());
+    }
+    
+    @Override
+    public String aggregateType() {
+        return UserChangedEvent.AGGREGATE_TYPE;
+    }
+    
+    @Override
+    public UUID aggregateId() {
+        return batchId;
+    }
+}
@@ -0,0 +1,83 @@
+package me.namila.service.auth.domain.core.identity.model;
+
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+import me.namila.service.auth.common.domain.BaseAggregate;
+import me.namila.service.auth.common.domain.ChangeType;
+import me.namila.service.auth.domain.core.identity.event.PasswordCredentialChangedEvent;
+import me.namila.service.auth.domain.core.identity.model.id.PasswordCredentialId;
+import me.namila.service.auth.domain.core.identity.model.id.UserId;
+
+import java.time.LocalDateTime;
+
+/**
+ * Password credential aggregate root - a local password held for a user apart from the account itself,
+ * for break-glass and service users that do not sign in through an identity provider.
+ * Only the encoded hash is held, with the cost parameters it was computed with.
+ */
+@Getter
+@Setter
+@SuperBuilder
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(onlyExplicitlyIncluded = true, callSuper = false)
+public class PasswordCredentialAggregate extends BaseAggregate<PasswordCredentialId> {
+    
+    @EqualsAndHashCode.Include
+    @Builder.Default
+    private PasswordCredentialId id = PasswordCredentialId.generate();
+    
+    private UserId userId;
+    private String passwordHash;
+    private LocalDateTime passwordChangedAt;
+    
+    @Builder.Default
+    private Long version = 0L;
+    
+    /**
+     * Record that this credential has just been set up.
+     */
+    public void markCreated() {
+        if (getCreatedAt() == null) {
+            LocalDateTime now = LocalDateTime.now();
+            setCreatedAt(now);
+            setUpdatedAt(now);
+        }
+        if (passwordChangedAt == null) {
+            passwordChangedAt = getCreatedAt();
+        }
+        registerDomainEvent(PasswordCredentialChangedEvent.of(id.getValue(), userId.getValue(), ChangeType.CREATED));
+    }
+    
+    /**
+     * Replace the password.
+     * @param newPasswordHash The hash of the new password
+     */
+    public void changePassword(String newPasswordHash) {
+        requireHash(newPasswordHash);
+        this.passwordHash = newPasswordHash;
+        this.passwordChangedAt = LocalDateTime.now();
+        markAsUpdated();
+        registerDomainEvent(PasswordCredentialChangedEvent.of(id.getValue(), userId.getValue(), ChangeType.UPDATED));
+    }
+    
+    /**
+     * Replace the hash of the unchanged password with one computed at the current cost.
+     * @param upgradedHash The new hash of the same password
+     */
+    public void upgradeHash(String upgradedHash) {
+        requireHash(upgradedHash);
+        this.passwordHash = upgradedHash;
+        markAsUpdated();
+    }
+    
+    public void incrementVersion() {
+        this.version = (this.version == null ? 0L : this.version) + 1L;
+    }
+    
+    private static void requireHash(String hash) {
+        if (hash == null || hash.isBlank()) {
+            throw new IllegalArgumentException("Password hash cannot be empty");
+        }
+    }
+}
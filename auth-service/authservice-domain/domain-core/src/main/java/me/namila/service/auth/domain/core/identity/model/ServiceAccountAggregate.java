@@ -0,0 +1,118 @@
+package me.namila.service.auth.domain.core.identity.model;
+
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+import me.namila.service.auth.common.domain.BaseAggregate;
+import me.namila.service.auth.common.domain.ChangeType;
+import me.namila.service.auth.domain.core.identity.event.ServiceAccountChangedEvent;
+import me.namila.service.auth.domain.core.identity.model.id.ServiceAccountId;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Service account aggregate root - a machine client that authenticates with a client ID and secret.
+ * Only a hash of the secret is held; the plain secret is shown once when it is generated.
+ * The account may only exchange tokens for the audiences it is explicitly allowed; none by default.
+ */
+@Getter
+@Setter
+@SuperBuilder
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(onlyExplicitlyIncluded = true, callSuper = false)
+public class ServiceAccountAggregate extends BaseAggregate<ServiceAccountId> {
+
+    @EqualsAndHashCode.Include
+    @Builder.Default
+    private ServiceAccountId id = ServiceAccountId.generate();
+
+    private String clientId;
+    private String displayName;
+    private String clientSecretHash;
+
+    @Builder.Default
+    private Set<String> scopes = new HashSet<>();
+
+    @Builder.Default
+    private Set<String> audiences = new HashSet<>();
+
+    @Builder.Default
+    private boolean enabled = true;
+
+    @Builder.Default
+    private Long version = 0L;
+
+    /**
+     * Record that this service account has just been registered.
+     */
+    public void markCreated() {
+        if (getCreatedAt() == null) {
+            LocalDateTime now = LocalDateTime.now();
+            setCreatedAt(now);
+            setUpdatedAt(now);
+        }
+        registerDomainEvent(ServiceAccountChangedEvent.of(id.getValue(), ChangeType.CREATED));
+    }
+
+    /**
+     * Replace the client secret; the previous secret stops working.
+     * @param newSecretHash The hash of the new secret
+     */
+    public void rotateSecret(String newSecretHash) {
+        if (newSecretHash == null || newSecretHash.isBlank()) {
+            throw new IllegalArgumentException("Client secret hash cannot be empty");
+        }
+        this.clientSecretHash = newSecretHash;
+        markAsUpdated();
+        registerDomainEvent(ServiceAccountChangedEvent.of(id.getValue(), ChangeType.UPDATED));
+    }
+
+    public void disable() {
+        if (this.enabled) {
+            this.enabled = false;
+            markAsUpdated();
+            registerDomainEvent(ServiceAccountChangedEvent.of(id.getValue(), ChangeType.UPDATED));
+        }
+    }
+
+    /**
+     * Check whether this account may be granted the requested scopes.
+     * @param requested The requested scopes
+     * @return true if every requested scope is assigned to the account
+     */
+    public boolean allowsScopes(Collection<String> requested) {
+        return scopes != null && scopes.containsAll(requested);
+    }
+
+    /**
+     * Check whether this account may exchange tokens for the given audience.
+     * @param audience The requested audience
+     * @return true if the audience is on the account's allowlist
+     */
+    public boolean allowsAudience(String audience) {
+        return audiences != null && audiences.contains(audience);
+    }
+
+    public Set<String> getScopes() {
+        return scopes != null ? Set.copyOf(scopes) : Set.of();
+    }
+
+    public void setScopes(Set<String> scopes) {
+        this.scopes = scopes != null ? new HashSet<>(scopes) : new HashSet<>();
+    }
+
+    public Set<String> getAudiences() {
+        return audiences != null ? Set.copyOf(audiences) : Set.of();
+    }
+
+    public void setAudiences(Set<String> audiences) {
+        this.audiences = audiences != null ? new HashSet<>(audiences) : new HashSet<>();
+    }
+
+    public void incrementVersion() {
+        this.version = (this.version == null ? 0L : this.version) + 1L;
+    }
+}
@@ -3,7 +3,12 @@ package me.namila.service.auth.domain.core.identity.model;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
 import me.namila.service.auth.common.domain.BaseAggregate;
+import me.namila.service.auth.common.domain.ChangeType;
+import me.namila.service.auth.common.json.LazyJsonMap;
+import me.namila.service.auth.domain.core.identity.event.UserChangedEvent;
+import me.namila.service.auth.domain.core.identity.event.UserStatusChangedEvent;
 import me.namila.service.auth.domain.core.identity.model.id.UserId;
+import me.namila.service.auth.domain.core.identity.model.view.UserView;
 import me.namila.service.auth.domain.core.identity.valueobject.EmailValue;
 import me.namila.service.auth.domain.core.identity.valueobject.UsernameValue;
 import me.namila.service.auth.domain.core.identity.valueobject.UserStatus;
@@ -12,7 +17,6 @@ import me.namila.service.auth.domain.core.identity.model.entity.FederatedIdentit
 import me.namila.service.auth.domain.core.identity.model.UserProfileEntity;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -44,33 +48,45 @@ public class UserAggregate extends BaseAggregate<UserId> {
     private List<FederatedIdentityEntity> federatedIdentities = new ArrayList<>();
 
     @Builder.Default
-    private Map<String, Object> metadata = new HashMap<>();
+    private Map<String, Object> metadata = Map.of();
 
     @Builder.Default
     private Long version = 0L;
 
+    /**
+     * Record that this user has just been registered.
+     */
+    public void markCreated() {
+        registerDomainEvent(UserChangedEvent.of(id.getValue(), ChangeType.CREATED));
+    }
+
     public void activate() {
         if (this.status == UserStatus.SUSPENDED) {
             throw new IllegalStateException("Cannot activate a suspended user");
         }
-        this.status = UserStatus.ACTIVE;
-        markAsUpdated();
+        changeStatus(UserStatus.ACTIVE);
     }
 
     public void suspend() {
-        this.status = UserStatus.SUSPENDED;
-        markAsUpdated();
+        changeStatus(UserStatus.SUSPENDED);
     }
 
     public void lock() {
-        this.status = UserStatus.LOCKED;
-        markAsUpdated();
+        changeStatus(UserStatus.LOCKED);
     }
 
     public void unlock() {
         if (this.status == UserStatus.LOCKED) {
-            this.status = UserStatus.ACTIVE;
-            markAsUpdated();
+            changeStatus(UserStatus.ACTIVE);
+        }
+    }
+
+    private void changeStatus(UserStatus newStatus) {
+        UserStatus previousStatus = this.status;
+        this.status = newStatus;
+        markAsUpdated();
+        if (previousStatus != newStatus) {
+            registerDomainEvent(UserStatusChangedEvent.of(id.getValue(), previousStatus, newStatus));
         }
     }
 
@@ -92,18 +108,21 @@ public class UserAggregate extends BaseAggregate<UserId> {
 
         this.federatedIdentities.add(federatedIdentity);
         markAsUpdated();
+        registerDomainEvent(UserChangedEvent.of(id.getValue(), ChangeType.UPDATED));
     }
 
     public void updateEmail(EmailValue newEmail) {
         if (!this.email.equals(newEmail)) {
             this.email = newEmail;
             markAsUpdated();
+            registerDomainEvent(UserChangedEvent.of(id.getValue(), ChangeType.UPDATED));
         }
     }
 
     public void updateProfile(UserProfileEntity profile) {
         this.profile = profile;
         markAsUpdated();
+        registerDomainEvent(UserChangedEvent.of(id.getValue(), ChangeType.UPDATED));
     }
 
     public List<FederatedIdentityEntity> getFederatedIdentities() {
@@ -116,11 +135,19 @@ public class UserAggregate extends BaseAggregate<UserId> {
     }
 
     public Map<String, Object> getMetadata() {
-        return metadata != null ? new HashMap<>(metadata) : new HashMap<>();
+        return LazyJsonMap.copyOf(metadata);
     }
 
     public void setMetadata(Map<String, Object> metadata) {
-        this.metadata = metadata != null ? new HashMap<>(metadata) : new HashMap<>();
+        this.metadata = LazyJsonMap.copyOf(metadata);
+    }
+
+    /**
+     * Create an immutable read view of this user.
+     * @return The frozen view
+     */
+    public UserView freeze() {
+        return new UserView(id, username, email, status, profile, federatedIdentities, metadata, version);
     }
 
     public void incrementVersion() {
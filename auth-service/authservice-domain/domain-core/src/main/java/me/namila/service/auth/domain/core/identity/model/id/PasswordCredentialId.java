@@ -0,0 +1,72 @@
+package me.namila.service.auth.domain.core.identity.model.id;
+
+import com.github.f4b6a3.uuid.UuidCreator;
+import lombok.EqualsAndHashCode;
+import me.namila.service.auth.common.domain.BaseId;
+
+import java.util.UUID;
+
+/**
+ * Password credential identifier implementing BaseId with UUIDv7 generation.
+ */
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+public class PasswordCredentialId implements BaseId<UUID> {
+    
+    @EqualsAndHashCode.Include
+    private UUID value;
+    
+    private PasswordCredentialId(UUID value) {
+        if (value == null) {
+            throw new IllegalArgumentException("Password credential ID cannot be null");
+        }
+        this.value = value;
+    }
+    
+    /**
+     * Create PasswordCredentialId from string representation.
+     * 
+     * @param id the UUID string
+     * @return PasswordCredentialId instance
+     */
+    public static PasswordCredentialId of(String id) {
+        return new PasswordCredentialId(UUID.fromString(id));
+    }
+    
+    /**
+     * Create PasswordCredentialId from UUID.
+     * 
+     * @param id the UUID
+     * @return PasswordCredentialId instance
+     */
+    public static PasswordCredentialId of(UUID id) {
+        return new PasswordCredentialId(id);
+    }
+    
+    /**
+     * Generate a new PasswordCredentialId using UUIDv7 (time-ordered).
+     * 
+     * @return new PasswordCredentialId instance
+     */
+    public static PasswordCredentialId generate() {
+        return new PasswordCredentialId(UuidCreator.getTimeOrderedEpoch());
+    }
+    
+    @Override
+    public UUID getValue() {
+        return value;
+    }
+    
+    @Override
+    public void setValue(UUID value) {
+        if (value == null) {
+            throw new IllegalArgumentException("Password credential ID cannot be null");
+        }
+        this.value = value;
+    }
+    
+    @Override
+    public String toString() {
+        return value.toString();
+    }
+}
+
@@ -0,0 +1,72 @@
+package me.namila.service.auth.domain.core.identity.model.id;
+
+import com.github.f4b6a3.uuid.UuidCreator;
+import lombok.EqualsAndHashCode;
+import me.namila.service.auth.common.domain.BaseId;
+
+import java.util.UUID;
+
+/**
+ * Service account identifier implementing BaseId with UUIDv7 generation.
+ */
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+public class ServiceAccountId implements BaseId<UUID> {
+    
+    @EqualsAndHashCode.Include
+    private UUID value;
+    
+    private ServiceAccountId(UUID value) {
+        if (value == null) {
+            throw new IllegalArgumentException("Service account ID cannot be null");
+        }
+        this.value = value;
+    }
+    
+    /**
+     * Create ServiceAccountId from string representation.
+     * 
+     * @param id the UUID string
+     * @return ServiceAccountId instance
+     */
+    public static ServiceAccountId of(String id) {
+        return new ServiceAccountId(UUID.fromString(id));
+    }
+    
+    /**
+     * Create ServiceAccountId from UUID.
+     * 
+     * @param id the UUID
+     * @return ServiceAccountId instance
+     */
+    public static ServiceAccountId of(UUID id) {
+        return new ServiceAccountId(id);
+    }
+    
+    /**
+     * Generate a new ServiceAccountId using UUIDv7 (time-ordered).
+     * 
+     * @return new ServiceAccountId instance
+     */
+    public static ServiceAccountId generate() {
+        return new ServiceAccountId(UuidCreator.getTimeOrderedEpoch());
+    }
+    
+    @Override
+    public UUID getValue() {
+        return value;
+    }
+    
+    @Override
+    public void setValue(UUID value) {
+        if (value == null) {
+            throw new IllegalArgumentException("Service account ID cannot be null");
+        }
+        this.value = value;
+    }
+    
+    @Override
+    public String toString() {
+        return value.toString();
+    }
+}
+
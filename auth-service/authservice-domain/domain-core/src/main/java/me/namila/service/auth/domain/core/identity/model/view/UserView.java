@@ -0,0 +1,52 @@
+package me.namila.service.auth.domain.core.identity.model.view;
+
+import me.namila.service.auth.common.domain.FrozenCollections;
+import me.namila.service.auth.domain.core.identity.model.UserProfileEntity;
+import me.namila.service.auth.domain.core.identity.model.entity.FederatedIdentityEntity;
+import me.namila.service.auth.domain.core.identity.model.id.UserId;
+import me.namila.service.auth.domain.core.identity.valueobject.EmailValue;
+import me.namila.service.auth.domain.core.identity.valueobject.UserStatus;
+import me.namila.service.auth.domain.core.identity.valueobject.UsernameValue;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Immutable read view of a user.
+ * Accessors return the frozen collections directly, so reads do not allocate.
+ * The profile and federated identity entities are shared with the source
+ * aggregate and must not be modified through the view.
+ */
+public record UserView(
+    UserId id,
+    UsernameValue username,
+    EmailValue email,
+    UserStatus status,
+    UserProfileEntity profile,
+    List<FederatedIdentityEntity> federatedIdentities,
+    Map<String, Object> metadata,
+    Long version
+) {
+    
+    public UserView {
+        Objects.requireNonNull(id, "id");
+        federatedIdentities = FrozenCollections.list(federatedIdentities);
+        metadata = FrozenCollections.map(metadata);
+    }
+    
+    public boolean isActive() {
+        return status == UserStatus.ACTIVE;
+    }
+    
+    // Identity semantics, matching UserAggregate
+    @Override
+    public boolean equals(Object other) {
+        return this == other || (other instanceof UserView view && id.equals(view.id));
+    }
+    
+    @Override
+    public int hashCode() {
+        return id.hashCode();
+    }
+}
@@ -8,6 +8,15 @@ public enum UserStatus {
     INACTIVE,
     SUSPENDED,
     LOCKED,
-    PENDING_VERIFICATION
+    PENDING_VERIFICATION;
+    
+    /**
+     * Whether tokens issued to a user in this status may be used.
+     * Users provisioned just-in-time stay pending verification and can still sign in.
+     * @return true unless the account is inactive, suspended or locked
+     */
+    public boolean canAuthenticate() {
+        return this == ACTIVE || this == PENDING_VERIFICATION;
+    }
 }
 
@@ -0,0 +1,59 @@
+package me.namila.service.auth.domain.core.authorization.model;
+
+import me.namila.service.auth.common.domain.ChangeType;
+import me.namila.service.auth.domain.core.authorization.event.UserRoleAssignmentChangedEvent;
+import me.namila.service.auth.domain.core.authorization.model.id.RoleId;
+import me.namila.service.auth.domain.core.authorization.valueobject.AssignmentScope;
+import me.namila.service.auth.domain.core.identity.model.id.UserId;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for UserRoleAssignmentAggregate.
+ * Tests the change events that drive entitlement invalidation.
+ */
+@DisplayName("UserRoleAssignmentAggregate Unit Tests")
+class UserRoleAssignmentAggregateTest {
+    
+    private final UserId userId = UserId.generate();
+    private final RoleId roleId = RoleId.generate();
+    
+    @Test
+    @DisplayName("assign_NewAssignment_ShouldRegisterCreatedEvent")
+    void assign_NewAssignment_ShouldRegisterCreatedEvent() {
+        // When
+        UserRoleAssignmentAggregate assignment = UserRoleAssignmentAggregate.assign(
+            userId, roleId, AssignmentScope.GLOBAL, null, UserId.generate());
+        
+        // Then
+        assertTrue(assignment.isActive());
+        List<Object> events = assignment.getDomainEvents();
+        assertEquals(1, events.size());
+        UserRoleAssignmentChangedEvent event = (UserRoleAssignmentChangedEvent) events.get(0);
+        assertEquals(ChangeType.CREATED, event.changeType());
+        assertEquals(userId.getValue(), event.userId());
+        assertEquals(roleId.getValue(), event.roleId());
+        assertEquals(assignment.getId().getValue(), event.assignmentId());
+    }
+    
+    @Test
+    @DisplayName("revoke_ActiveAssignment_ShouldRegisterUpdatedEvent")
+    void revoke_ActiveAssignment_ShouldRegisterUpdatedEvent() {
+        // Given
+        UserRoleAssignmentAggregate assignment = UserRoleAssignmentAggregate.assign(
+            userId, roleId, AssignmentScope.GLOBAL, null, UserId.generate());
+        assignment.clearDomainEvents();
+        
+        // When
+        assignment.revoke(UserId.generate());
+        
+        // Then
+        assertFalse(assignment.isActive());
+        assertEquals(ChangeType.UPDATED,
+            ((UserRoleAssignmentChangedEvent) assignment.getDomainEvents().get(0)).changeType());
+    }
+}
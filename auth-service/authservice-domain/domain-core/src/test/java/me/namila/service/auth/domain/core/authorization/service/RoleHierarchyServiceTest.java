@@ -4,6 +4,8 @@ import me.namila.service.auth.domain.core.authorization.model.PermissionEntity;
 import me.namila.service.auth.domain.core.authorization.model.RoleAggregate;
 import me.namila.service.auth.domain.core.authorization.model.id.PermissionId;
 import me.namila.service.auth.domain.core.authorization.model.id.RoleId;
+import me.namila.service.auth.domain.core.authorization.model.view.PermissionView;
+import me.namila.service.auth.domain.core.authorization.model.view.RoleView;
 import me.namila.service.auth.domain.core.authorization.valueobject.RoleType;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -341,5 +343,86 @@ class RoleHierarchyServiceTest {
         
         assertEquals("Cannot add parent role: would create circular dependency", exception.getMessage());
     }
+    
+    @Test
+    @DisplayName("getEffectivePermissions_FrozenDiamondHierarchy_ShouldShareParentAndCollectAll")
+    void getEffectivePermissions_FrozenDiamondHierarchy_ShouldShareParentAndCollectAll() {
+        // Given
+        PermissionEntity basePermission = PermissionEntity.builder()
+            .id(PermissionId.generate())
+            .resource("document")
+            .action("read")
+            .build();
+        
+        PermissionEntity editorPermission = PermissionEntity.builder()
+            .id(PermissionId.generate())
+            .resource("document")
+            .action("write")
+            .build();
+        
+        RoleAggregate baseRole = RoleAggregate.builder()
+            .id(RoleId.generate())
+            .roleName("base-role")
+            .roleType(RoleType.CUSTOM)
+            .permissions(Set.of(basePermission))
+            .build();
+        
+        RoleAggregate editorRole = RoleAggregate.builder()
+            .id(RoleId.generate())
+            .roleName("editor-role")
+            .roleType(RoleType.CUSTOM)
+            .permissions(Set.of(editorPermission))
+            .parentRoles(Set.of(baseRole))
+            .build();
+        
+        RoleAggregate reviewerRole = RoleAggregate.builder()
+            .id(RoleId.generate())
+            .roleName("reviewer-role")
+            .roleType(RoleType.CUSTOM)
+            .parentRoles(Set.of(baseRole))
+            .build();
+        
+        RoleAggregate childRole = RoleAggregate.builder()
+            .id(RoleId.generate())
+            .roleName("child-role")
+            .roleType(RoleType.CUSTOM)
+            .parentRoles(Set.of(editorRole, reviewerRole))
+            .build();
+        
+        // When
+        RoleView frozen = childRole.freeze();
+        Set<PermissionView> result = roleHierarchyService.getEffectivePermissions(frozen);
+        
+        // Then
+        assertEquals(2, result.size());
+        assertTrue(result.contains(basePermission.freeze()));
+        assertTrue(result.contains(editorPermission.freeze()));
+        
+        RoleView[] parents = frozen.parentRoles().toArray(RoleView[]::new);
+        assertSame(parents[0].parentRoles().iterator().next(), parents[1].parentRoles().iterator().next());
+        assertSame(frozen.permissions(), frozen.permissions());
+        assertThrows(UnsupportedOperationException.class, () -> frozen.parentRoles().clear());
+    }
+    
+    @Test
+    @DisplayName("freeze_CyclicHierarchy_ShouldThrowException")
+    void freeze_CyclicHierarchy_ShouldThrowException() {
+        // Given
+        RoleAggregate roleA = RoleAggregate.builder()
+            .id(RoleId.generate())
+            .roleName("role-a")
+            .roleType(RoleType.CUSTOM)
+            .build();
+        
+        RoleAggregate roleB = RoleAggregate.builder()
+            .id(RoleId.generate())
+            .roleName("role-b")
+            .roleType(RoleType.CUSTOM)
+            .parentRoles(Set.of(roleA))
+            .build();
+        roleA.setParentRoles(Set.of(roleB));
+        
+        // When & Then
+        assertThrows(IllegalStateException.class, roleA::freeze);
+    }
 }
-